@@ -0,0 +1,65 @@
+package com.mylittleshop.backend.model;
+
+import com.mylittleshop.backend.service.CartService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문/장바구니 금액 계산 비용 (BigDecimal 누적)
+ * - orderAddItems: Order.addOrderItem 으로 항목을 추가할 때마다 총액/최종 금액을 다시 계산
+ * - cartTotal: CartService.totalOf (calculateCartTotal 의 단가 x 수량 합계)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderTotalsBenchmark {
+
+    @Param({"5", "50"})
+    private int items;
+
+    private List<BigDecimal> unitPrices;
+    private List<CartItem> cartItems;
+
+    @Setup
+    public void setUp() {
+        unitPrices = new ArrayList<>(items);
+        cartItems = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            BigDecimal unitPrice = BigDecimal.valueOf(1000L + i * 150L);
+            unitPrices.add(unitPrice);
+            CartItem cartItem = new CartItem();
+            cartItem.setQuantity(1 + i % 3);
+            cartItem.setUnitPrice(unitPrice);
+            cartItems.add(cartItem);
+        }
+    }
+
+    @Benchmark
+    public Order orderAddItems() {
+        Order order = new Order();
+        for (int i = 0; i < items; i++) {
+            OrderItem orderItem = new OrderItem();
+            orderItem.setQuantity(1 + i % 3);
+            orderItem.setUnitPrice(unitPrices.get(i));
+            order.addOrderItem(orderItem);
+        }
+        return order;
+    }
+
+    @Benchmark
+    public BigDecimal cartTotal() {
+        return CartService.totalOf(cartItems);
+    }
+}
@@ -0,0 +1,91 @@
+package com.mylittleshop.backend.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import javax.crypto.SecretKey;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 파싱/서명 검증 처리량 비교
+ * - perCallParser: 키 교체 도입 전 JwtTokenProvider 방식 (요청마다 parserBuilder().build())
+ * - keyRingParser: JwtKeyRing 의 재사용 파서 (kid 헤더로 검증 키 선택)
+ * - validateToken / getUsername: 인증 필터 외 경로에서 쓰는 JwtTokenProvider 메서드
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-parse-0123456789";
+
+    private SecretKey legacyKey;
+    private String legacyToken;
+    private JwtKeyRing keyRing;
+    private String keyRingToken;
+    private JwtTokenProvider tokenProvider;
+
+    @Setup
+    public void setUp() {
+        legacyKey = Keys.hmacShaKeyFor(Base64.getEncoder().encode(SECRET.getBytes()));
+        legacyToken = token(null, legacyKey);
+
+        keyRing = new JwtKeyRing(SECRET, "k2", "k1:previous-benchmark-secret-key-0123456789");
+        keyRing.init();
+        keyRingToken = token(keyRing.getActiveKeyId(), keyRing.getSigningKey());
+        tokenProvider = new JwtTokenProvider(keyRing);
+    }
+
+    @Benchmark
+    public Claims perCallParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(legacyKey)
+                .build()
+                .parseClaimsJws(legacyToken)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims keyRingParser() {
+        return keyRing.getParser().parseClaimsJws(keyRingToken).getBody();
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(keyRingToken);
+    }
+
+    @Benchmark
+    public String getUsername() {
+        return tokenProvider.getUsername(keyRingToken);
+    }
+
+    private static String token(String kid, SecretKey key) {
+        Claims claims = Jwts.claims().setSubject("benchmark-user");
+        claims.put("uid", 1L);
+        claims.put("roles", "ROLE_USER");
+        claims.put("tv", 0L);
+        Date now = new Date();
+        return Jwts.builder()
+                .setHeaderParam("kid", kid)
+                .setClaims(claims)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,117 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.model.Order;
+import com.mylittleshop.backend.model.OrderItem;
+import com.mylittleshop.backend.model.Product;
+import com.mylittleshop.backend.model.ProductCategory;
+import com.mylittleshop.backend.model.Promotion;
+import com.mylittleshop.backend.model.User;
+import com.mylittleshop.backend.repository.PromotionRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로모션 할인 계산 비용 (주문마다 실행되는 PromotionService.calculateDiscount)
+ * - Spring 없이 스텁 PromotionRepository 로 PromotionEngine 규칙 집합을 구성합니다. (첫 호출 때 한 번 구성)
+ * - ruleHit: 규칙 집합에 있는 상품 대상 프로모션 (규칙 하나만 평가)
+ * - entityFallback: 규칙 집합에 없는 프로모션 (엔티티 값으로 판단)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PromotionDiscountBenchmark {
+
+    @Param({"10", "500"})
+    private int promotions;
+
+    @Param({"5", "50"})
+    private int items;
+
+    private PromotionService promotionService;
+    private Promotion indexed;
+    private Promotion outsideRules;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        List<Promotion> live = new ArrayList<>(promotions);
+        List<Object[]> productRows = new ArrayList<>(promotions);
+        for (int i = 0; i < promotions; i++) {
+            Promotion promotion = promotion((long) i + 1, "상품 할인 " + i);
+            live.add(promotion);
+            productRows.add(new Object[]{promotion.getId(), String.valueOf(1000L + i)});
+        }
+        indexed = live.get(live.size() / 2);
+        outsideRules = promotion(promotions + 1L, "규칙 구성 이후 추가된 할인");
+        outsideRules.setProductIds(List.of(String.valueOf(1000L + promotions / 2)));
+
+        // 카테고리 대상 프로모션이 없으므로 CategoryTreeService 는 사용되지 않음
+        PromotionEngine engine = new PromotionEngine(stubRepository(live, productRows), null);
+        promotionService = new PromotionService(stubRepository(live, productRows), engine, null, event -> { });
+
+        User user = new User();
+        user.setId(1L);
+        order = new Order();
+        order.setUser(user);
+        ProductCategory category = new ProductCategory();
+        category.setId(1L);
+        for (int i = 0; i < items; i++) {
+            Product product = new Product();
+            product.setId(1000L + promotions / 2 - items / 2 + i);
+            product.setCategory(category);
+            OrderItem orderItem = new OrderItem();
+            orderItem.setProduct(product);
+            orderItem.setQuantity(1 + i % 3);
+            orderItem.setUnitPrice(BigDecimal.valueOf(1000L + i * 150L));
+            order.addOrderItem(orderItem);
+        }
+        promotionService.calculateDiscount(indexed, order);
+    }
+
+    @Benchmark
+    public BigDecimal ruleHit() {
+        return promotionService.calculateDiscount(indexed, order);
+    }
+
+    @Benchmark
+    public BigDecimal entityFallback() {
+        return promotionService.calculateDiscount(outsideRules, order);
+    }
+
+    private static Promotion promotion(Long id, String name) {
+        Promotion promotion = new Promotion();
+        promotion.setId(id);
+        promotion.setName(name);
+        promotion.setDiscountType(PromotionEngine.DISCOUNT_PERCENT);
+        promotion.setDiscountValue(BigDecimal.TEN);
+        promotion.setStartDate(LocalDateTime.now().minusDays(1));
+        promotion.setEndDate(LocalDateTime.now().plusDays(30));
+        promotion.setActive(true);
+        return promotion;
+    }
+
+    // 규칙 구성에 쓰는 조회만 응답하는 스텁 (그 밖의 호출은 벤치마크 경로가 DB 에 닿는다는 뜻이므로 실패)
+    private static PromotionRepository stubRepository(List<Promotion> live, List<Object[]> productRows) {
+        return (PromotionRepository) Proxy.newProxyInstance(PromotionRepository.class.getClassLoader(),
+                new Class<?>[]{PromotionRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findActiveOrUpcoming" -> live;
+                    case "findProductIdRows" -> productRows;
+                    case "findCategoryIdRows", "findUserIdRows" -> List.of();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,93 @@
+package com.mylittleshop.backend.util;
+
+import com.mylittleshop.backend.dto.CartItemResponse;
+import com.mylittleshop.backend.dto.ProductImageSnapshot;
+import com.mylittleshop.backend.dto.ProductSnapshot;
+import com.mylittleshop.backend.dto.ProductSummary;
+import com.mylittleshop.backend.model.CartItem;
+import com.mylittleshop.backend.model.Product;
+import com.mylittleshop.backend.model.ProductStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 DTO 변환 비용 (요청마다 실행되는 매핑)
+ * - cartItemResponse: DtoMapper.toCartItemResponse (장바구니 조회 항목마다)
+ * - productSummary: ProductSummary.from (상품 상세/목록 응답 항목마다, 이전 ProductController.convertToDTO 대체)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMapperBenchmark {
+
+    private DtoMapper dtoMapper;
+    private CartItem cartItem;
+    private ProductSnapshot snapshot;
+
+    @Setup
+    public void setUp() {
+        dtoMapper = new DtoMapper();
+
+        Product product = new Product();
+        product.setId(1L);
+        product.setName("벤치마크 상품");
+        product.setDescription("DTO 변환 벤치마크용 상품 설명");
+        product.setGmPrice(new BigDecimal("12900"));
+        product.setGbmPrice(new BigDecimal("11900"));
+        product.setShopPrice(new BigDecimal("12900"));
+        product.setStockQuantity(100);
+        product.setStatus(ProductStatus.ACTIVE);
+        product.setSku("BENCH-001");
+        product.setBrand("MyLittleShop");
+
+        cartItem = new CartItem();
+        cartItem.setId(10L);
+        cartItem.setProduct(product);
+        cartItem.setQuantity(3);
+        cartItem.setUnitPrice(new BigDecimal("12900"));
+        cartItem.setAddedAt(LocalDateTime.now());
+
+        snapshot = ProductSnapshot.builder()
+                .id(1L)
+                .name("벤치마크 상품")
+                .description("DTO 변환 벤치마크용 상품 설명")
+                .gmPrice(new BigDecimal("12900"))
+                .gbmPrice(new BigDecimal("11900"))
+                .originalGmPrice(new BigDecimal("15900"))
+                .stockQuantity(100)
+                .status(ProductStatus.ACTIVE)
+                .isActive(true)
+                .featured(false)
+                .bestseller(true)
+                .newArrival(false)
+                .brand("MyLittleShop")
+                .sku("BENCH-001")
+                .createdAt(LocalDateTime.now())
+                .categoryId(3L)
+                .categoryName("간식")
+                .parentCategoryId(1L)
+                .parentCategoryName("식품")
+                .mainImage(ProductImageSnapshot.builder().id(7L).url("/images/bench.jpg").isMain(true).sortOrder(0).build())
+                .build();
+    }
+
+    @Benchmark
+    public CartItemResponse cartItemResponse() {
+        return dtoMapper.toCartItemResponse(cartItem);
+    }
+
+    @Benchmark
+    public ProductSummary productSummary() {
+        return ProductSummary.from(snapshot);
+    }
+}
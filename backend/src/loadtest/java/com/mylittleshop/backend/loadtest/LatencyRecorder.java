@@ -0,0 +1,63 @@
+package com.mylittleshop.backend.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 지연 분포(마이크로초)와 오류 수 기록
+ * - 워밍업이 끝나면 reset() 으로 비우고 측정 구간만 보고합니다.
+ */
+final class LatencyRecorder {
+
+    // 1us ~ 60s, 유효 숫자 3자리
+    private static final long MAX_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long startNanos, boolean success) {
+        long micros = Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos), 1), MAX_MICROS);
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+        stats.histogram.recordValue(micros);
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    void reset() {
+        endpoints.values().forEach(Endpoint::reset);
+    }
+
+    // 엔드포인트 이름 순 스냅숏
+    Map<String, Snapshot> snapshot() {
+        Map<String, Snapshot> result = new TreeMap<>();
+        endpoints.forEach((name, stats) -> result.put(name,
+                new Snapshot(stats.histogram.copy(), stats.errors.sum())));
+        return result;
+    }
+
+    static final class Snapshot {
+        final Histogram histogram;
+        final long errors;
+
+        Snapshot(Histogram histogram, long errors) {
+            this.histogram = histogram;
+            this.errors = errors;
+        }
+    }
+
+    private static final class Endpoint {
+        final ConcurrentHistogram histogram = new ConcurrentHistogram(MAX_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+
+        void reset() {
+            histogram.reset();
+            errors.reset();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.mylittleshop.backend.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 닫힌 모델(closed model) 부하 생성기
+ * - 세션 수만큼 작업 스레드를 두고, 각 스레드는 응답을 받으면 바로 다음 시나리오를 실행합니다.
+ * - 워밍업 구간이 끝나면 기록을 비우고 측정 구간만 남깁니다.
+ */
+final class LoadGenerator {
+
+    private final LoadTestConfig config;
+    private final List<ShopperSession> sessions;
+    private final LatencyRecorder recorder;
+
+    LoadGenerator(LoadTestConfig config, List<ShopperSession> sessions, LatencyRecorder recorder) {
+        this.config = config;
+        this.sessions = sessions;
+        this.recorder = recorder;
+    }
+
+    /**
+     * 워밍업 후 측정 구간 동안 부하를 걸고 실제 측정 시간(초)을 반환합니다.
+     */
+    double run() throws InterruptedException {
+        AtomicInteger threadNo = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(sessions.size(), runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-shopper-" + threadNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.warmupSeconds);
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(config.durationSeconds);
+        try {
+            List<Future<?>> workers = new ArrayList<>(sessions.size());
+            for (ShopperSession session : sessions) {
+                workers.add(executor.submit(() -> loop(session, end)));
+            }
+            System.out.printf("[loadtest] 워밍업 %d초 (세션 %d개)%n", config.warmupSeconds, sessions.size());
+            sleepUntil(warmupEnd);
+            recorder.reset();
+            long measuredFrom = System.nanoTime();
+            System.out.printf("[loadtest] 측정 %d초%n", config.durationSeconds);
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get();
+                } catch (ExecutionException e) {
+                    System.err.println("[loadtest] 작업 스레드 비정상 종료: " + e.getCause());
+                }
+            }
+            return (System.nanoTime() - measuredFrom) / 1e9;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void loop(ShopperSession session, long end) {
+        while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+            ShopperScenario scenario = ShopperScenario.pick(session.random());
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                success = scenario.run(session);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                success = false;
+            }
+            recorder.record(scenario.endpoint, start, success);
+        }
+    }
+
+    private static void sleepUntil(long deadlineNanos) throws InterruptedException {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+}
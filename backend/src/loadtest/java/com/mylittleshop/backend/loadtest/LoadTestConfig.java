@@ -0,0 +1,42 @@
+package com.mylittleshop.backend.loadtest;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 속성 loadtest.*, Gradle 에서는 -Ploadtest.*=값 으로 전달)
+ */
+final class LoadTestConfig {
+
+    // 측정 시간 / 워밍업 시간 (워밍업 구간 기록은 보고서에서 제외)
+    final int durationSeconds = intProperty("loadtest.duration-seconds", 60);
+    final int warmupSeconds = intProperty("loadtest.warmup-seconds", 15);
+    // 동시 쇼핑 세션 수 (세션마다 전용 사용자 1명)
+    final int concurrency = intProperty("loadtest.concurrency", 32);
+    // 생성할 카탈로그/사용자 규모
+    final int products = intProperty("loadtest.products", 20_000);
+    final int categories = intProperty("loadtest.categories", 40);
+    final int users = Math.max(intProperty("loadtest.users", 2_000), concurrency);
+    // 시나리오 선택 난수 시드 (같은 시드면 같은 시나리오 순서)
+    final long seed = Long.getLong("loadtest.seed", 20_240_601L);
+    final Path reportDir = Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+    // 비교 대상 이전 보고서 (없으면 비교하지 않음)
+    final String baseline = System.getProperty("loadtest.baseline");
+
+    Map<String, Object> describe() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("durationSeconds", durationSeconds);
+        values.put("warmupSeconds", warmupSeconds);
+        values.put("concurrency", concurrency);
+        values.put("products", products);
+        values.put("categories", categories);
+        values.put("users", users);
+        values.put("seed", seed);
+        return values;
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.getInteger(name, defaultValue);
+    }
+}
@@ -0,0 +1,162 @@
+package com.mylittleshop.backend.loadtest;
+
+import com.mylittleshop.backend.event.CategoryChangedEvent;
+import com.mylittleshop.backend.model.Product;
+import com.mylittleshop.backend.model.ProductCategory;
+import com.mylittleshop.backend.model.ProductStatus;
+import com.mylittleshop.backend.model.User;
+import com.mylittleshop.backend.repository.ProductCategoryRepository;
+import com.mylittleshop.backend.repository.ProductRepository;
+import com.mylittleshop.backend.repository.UserRepository;
+import com.mylittleshop.backend.service.ProductSearchIndex;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 테스트용 카탈로그/사용자 생성
+ * - 카테고리, 상품, 사용자를 청크 단위 트랜잭션으로 저장한 뒤 카테고리 트리와 검색 색인을 다시 만듭니다.
+ * - 사용자 비밀번호는 모두 같으므로 한 번만 해시합니다.
+ */
+final class LoadTestDataSeeder {
+
+    static final String PASSWORD = "loadtest-password";
+
+    // 검색 시나리오 키워드 (상품명에 섞어 넣음)
+    static final String[] KEYWORDS = {"크림", "세럼", "샴푸", "비타민", "유산균", "마스크", "토너", "오일", "캡슐", "젤"};
+    private static final String[] BRANDS = {"마이리틀", "그린랩", "데일리케어", "퓨어", "오가닉팜", "메디폼"};
+    private static final int CHUNK = 1_000;
+
+    private final ConfigurableApplicationContext context;
+    private final LoadTestConfig config;
+    private final TransactionTemplate transaction;
+    private final Random random;
+
+    LoadTestDataSeeder(ConfigurableApplicationContext context, LoadTestConfig config) {
+        this.context = context;
+        this.config = config;
+        this.transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        this.random = new Random(config.seed);
+    }
+
+    SeedData seed() {
+        long started = System.nanoTime();
+        List<ProductCategory> categories = seedCategories();
+        List<Long> productIds = seedProducts(categories);
+        List<User> users = seedUsers();
+
+        context.publishEvent(new CategoryChangedEvent(null));
+        context.getBean(ProductSearchIndex.class).rebuild();
+        System.out.printf("[loadtest] 데이터 생성 완료: 카테고리=%d, 상품=%d, 사용자=%d (%.1fs)%n",
+                categories.size(), productIds.size(), users.size(), (System.nanoTime() - started) / 1e9);
+
+        List<Long> categoryIds = new ArrayList<>(categories.size());
+        categories.forEach(category -> categoryIds.add(category.getId()));
+        List<Long> userIds = new ArrayList<>(users.size());
+        List<String> usernames = new ArrayList<>(users.size());
+        users.forEach(user -> {
+            userIds.add(user.getId());
+            usernames.add(user.getUsername());
+        });
+        return new SeedData(categoryIds, productIds, userIds, usernames);
+    }
+
+    private List<ProductCategory> seedCategories() {
+        ProductCategoryRepository repository = context.getBean(ProductCategoryRepository.class);
+        return transaction.execute(status -> {
+            List<ProductCategory> roots = new ArrayList<>();
+            int rootCount = Math.max(1, config.categories / 8);
+            for (int i = 0; i < rootCount; i++) {
+                roots.add(new ProductCategory("부하 테스트 대분류 " + i));
+            }
+            List<ProductCategory> all = new ArrayList<>(repository.saveAll(roots));
+            List<ProductCategory> children = new ArrayList<>();
+            for (int i = rootCount; i < config.categories; i++) {
+                ProductCategory child = new ProductCategory("부하 테스트 분류 " + i);
+                child.setParent(roots.get(i % rootCount));
+                children.add(child);
+            }
+            all.addAll(repository.saveAll(children));
+            return all;
+        });
+    }
+
+    private List<Long> seedProducts(List<ProductCategory> categories) {
+        ProductRepository repository = context.getBean(ProductRepository.class);
+        List<Long> ids = new ArrayList<>(config.products);
+        for (int from = 0; from < config.products; from += CHUNK) {
+            int start = from;
+            int end = Math.min(from + CHUNK, config.products);
+            transaction.executeWithoutResult(status -> {
+                List<Product> chunk = new ArrayList<>(end - start);
+                for (int i = start; i < end; i++) {
+                    chunk.add(product(i, categories.get(random.nextInt(categories.size()))));
+                }
+                repository.saveAll(chunk).forEach(product -> ids.add(product.getId()));
+            });
+        }
+        return ids;
+    }
+
+    private Product product(int index, ProductCategory category) {
+        BigDecimal price = BigDecimal.valueOf(1_000L + random.nextInt(200) * 500L);
+        Product product = new Product();
+        product.setName(BRANDS[index % BRANDS.length] + " " + KEYWORDS[random.nextInt(KEYWORDS.length)] + " " + index);
+        product.setDescription("부하 테스트 상품 " + index + " - " + KEYWORDS[random.nextInt(KEYWORDS.length)]);
+        product.setBrand(BRANDS[index % BRANDS.length]);
+        product.setSku("LT-" + index);
+        product.setCategory(category);
+        product.setGmPrice(price);
+        product.setGbmPrice(price.multiply(BigDecimal.valueOf(0.9)));
+        product.setShopPrice(price);
+        // 주문 시나리오가 재고 부족으로 실패하지 않도록 충분히
+        product.setStockQuantity(1_000_000);
+        product.setStatus(ProductStatus.ACTIVE);
+        product.setFeatured(index % 50 == 0);
+        product.setBestseller(index % 70 == 0);
+        return product;
+    }
+
+    private List<User> seedUsers() {
+        UserRepository repository = context.getBean(UserRepository.class);
+        String encoded = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        List<User> users = new ArrayList<>(config.users);
+        for (int from = 0; from < config.users; from += CHUNK) {
+            int start = from;
+            int end = Math.min(from + CHUNK, config.users);
+            transaction.executeWithoutResult(status -> {
+                List<User> chunk = new ArrayList<>(end - start);
+                for (int i = start; i < end; i++) {
+                    User user = new User();
+                    user.setUsername("loadtest-" + i);
+                    user.setEmail("loadtest-" + i + "@example.com");
+                    user.setPassword(encoded);
+                    user.setEmailVerified(true);
+                    chunk.add(user);
+                }
+                users.addAll(repository.saveAll(chunk));
+            });
+        }
+        return users;
+    }
+
+    static final class SeedData {
+        final List<Long> categoryIds;
+        final List<Long> productIds;
+        final List<Long> userIds;
+        final List<String> usernames;
+
+        SeedData(List<Long> categoryIds, List<Long> productIds, List<Long> userIds, List<String> usernames) {
+            this.categoryIds = categoryIds;
+            this.productIds = productIds;
+            this.userIds = userIds;
+            this.usernames = usernames;
+        }
+    }
+}
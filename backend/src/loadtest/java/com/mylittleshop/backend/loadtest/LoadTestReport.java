@@ -0,0 +1,107 @@
+package com.mylittleshop.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 보고서
+ * - 엔드포인트별 처리량, 오류 수, p50/p99/p99.9/최대 지연(ms)을 JSON 으로 저장하고 콘솔에 표로 출력합니다.
+ * - loadtest.baseline 으로 이전 보고서를 주면 p99 와 처리량 변화를 함께 출력합니다.
+ */
+final class LoadTestReport {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final LoadTestConfig config;
+
+    LoadTestReport(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    Path write(Map<String, LatencyRecorder.Snapshot> snapshot, double measuredSeconds) throws IOException {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        snapshot.forEach((name, stats) -> endpoints.put(name, summarize(stats, measuredSeconds)));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", LocalDateTime.now().toString());
+        report.put("config", config.describe());
+        report.put("measuredSeconds", round(measuredSeconds));
+        report.put("endpoints", endpoints);
+
+        Files.createDirectories(config.reportDir);
+        Path file = config.reportDir.resolve("loadtest-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        objectMapper.writeValue(file.toFile(), report);
+
+        print(endpoints, readBaseline());
+        System.out.println("[loadtest] 보고서: " + file.toAbsolutePath());
+        return file;
+    }
+
+    private static Map<String, Object> summarize(LatencyRecorder.Snapshot stats, double seconds) {
+        Histogram histogram = stats.histogram;
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("count", histogram.getTotalCount());
+        values.put("errors", stats.errors);
+        values.put("throughputPerSecond", round(histogram.getTotalCount() / seconds));
+        values.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+        values.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+        values.put("p999Ms", millis(histogram.getValueAtPercentile(99.9)));
+        values.put("maxMs", millis(histogram.getMaxValue()));
+        values.put("meanMs", round(histogram.getMean() / 1000.0));
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void print(Map<String, Object> endpoints, JsonNode baseline) {
+        System.out.printf("%-28s %9s %7s %9s %9s %9s %9s %9s%s%n", "endpoint", "count", "errors", "req/s",
+                "p50", "p99", "p99.9", "max", baseline == null ? "" : "   p99Δ   req/sΔ");
+        endpoints.forEach((name, raw) -> {
+            Map<String, Object> values = (Map<String, Object>) raw;
+            String delta = "";
+            if (baseline != null && baseline.path("endpoints").has(name)) {
+                JsonNode before = baseline.path("endpoints").path(name);
+                delta = String.format(" %+8.1f%% %+8.1f%%",
+                        change(before.path("p99Ms").asDouble(), (double) values.get("p99Ms")),
+                        change(before.path("throughputPerSecond").asDouble(), (double) values.get("throughputPerSecond")));
+            }
+            System.out.printf("%-28s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%s%n", name,
+                    (long) values.get("count"), (long) values.get("errors"), (double) values.get("throughputPerSecond"),
+                    (double) values.get("p50Ms"), (double) values.get("p99Ms"), (double) values.get("p999Ms"),
+                    (double) values.get("maxMs"), delta);
+        });
+    }
+
+    private JsonNode readBaseline() throws IOException {
+        if (config.baseline == null || config.baseline.isBlank()) {
+            return null;
+        }
+        Path path = Path.of(config.baseline);
+        if (!Files.exists(path)) {
+            System.err.println("[loadtest] 기준 보고서가 없어 비교하지 않습니다: " + path);
+            return null;
+        }
+        return objectMapper.readTree(path.toFile());
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
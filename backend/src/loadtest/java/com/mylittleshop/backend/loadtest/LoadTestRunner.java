@@ -0,0 +1,70 @@
+package com.mylittleshop.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mylittleshop.backend.BackendApplication;
+import com.mylittleshop.backend.service.OrderService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+/**
+ * 부하 테스트 진입점 (./gradlew loadTest)
+ * - 내장 서버를 임의 포트로 띄우고(H2 메모리 DB) 카탈로그/사용자를 생성한 뒤 쇼핑객 시나리오로 부하를 겁니다.
+ * - 주기 작업(메일 발송, 장바구니 정리, 정기 주문, 구독 청구)은 측정을 흐리지 않도록 끕니다.
+ * - 결과는 build/reports/loadtest/loadtest-*.json 으로 남습니다.
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = new LoadTestConfig();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.datasource.hikari.maximum-pool-size=" + Math.max(10, config.concurrency),
+                        "spring.flyway.enabled=false",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "jwt.secret=bG9hZHRlc3Qtc2VjcmV0LWtleS1mb3ItbXlsaXR0bGVzaG9wLWJhY2tlbmQtMDEyMzQ1Njc4OQ==",
+                        "jwt.expiration=3600000",
+                        "app.mail.outbox.enabled=false",
+                        "app.cart.abandon.enabled=false",
+                        "app.recurring-order.enabled=false",
+                        "app.subscription.billing.enabled=false")
+                .run(args);
+        try {
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            LoadTestDataSeeder.SeedData data = new LoadTestDataSeeder(context, config).seed();
+
+            HttpClient client = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(Executors.newFixedThreadPool(4))
+                    .build();
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            OrderService orderService = context.getBean(OrderService.class);
+            List<ShopperSession> sessions = new ArrayList<>(config.concurrency);
+            for (int i = 0; i < config.concurrency; i++) {
+                sessions.add(new ShopperSession(client, objectMapper, orderService, "http://localhost:" + port,
+                        data, i, config.seed));
+            }
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            double measuredSeconds = new LoadGenerator(config, sessions, recorder).run();
+            new LoadTestReport(config).write(recorder.snapshot(), measuredSeconds);
+        } finally {
+            context.close();
+        }
+        System.exit(0);
+    }
+}
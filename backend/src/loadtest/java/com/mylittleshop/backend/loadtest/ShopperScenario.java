@@ -0,0 +1,113 @@
+package com.mylittleshop.backend.loadtest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 쇼핑객 행동 시나리오와 가중치
+ * - 실제 트래픽처럼 조회가 대부분이고 장바구니/찜/로그인/주문이 섞이도록 가중치를 둡니다.
+ * - 각 시나리오의 이름이 지연 시간 히스토그램의 엔드포인트 이름이 됩니다.
+ */
+enum ShopperScenario {
+
+    BROWSE_PRODUCTS("GET /products", 25) {
+        @Override
+        boolean run(ShopperSession session) throws Exception {
+            int page = session.random().nextInt(session.productPages(20));
+            return session.get("/products?page=" + page + "&size=20") != null;
+        }
+    },
+    CATEGORY_TREE("GET /categories", 10) {
+        @Override
+        boolean run(ShopperSession session) throws Exception {
+            return session.get("/categories") != null;
+        }
+    },
+    PRODUCT_DETAIL("GET /products/{id}", 15) {
+        @Override
+        boolean run(ShopperSession session) throws Exception {
+            return session.get("/products/" + session.randomProductId()) != null;
+        }
+    },
+    SEARCH("GET /products/search", 12) {
+        @Override
+        boolean run(ShopperSession session) throws Exception {
+            String[] keywords = LoadTestDataSeeder.KEYWORDS;
+            String keyword = keywords[session.random().nextInt(keywords.length)];
+            return session.get("/products/search?keyword=" + URLEncoder.encode(keyword, StandardCharsets.UTF_8)) != null;
+        }
+    },
+    RELATED("GET /products/{id}/related", 8) {
+        @Override
+        boolean run(ShopperSession session) throws Exception {
+            return session.get("/products/" + session.randomProductId() + "/related") != null;
+        }
+    },
+    CART("cart flow", 12) {
+        @Override
+        boolean run(ShopperSession session) throws Exception {
+            return session.cartFlow();
+        }
+    },
+    WISHLIST("wishlist toggle", 8) {
+        @Override
+        boolean run(ShopperSession session) throws Exception {
+            return session.toggleWishlist();
+        }
+    },
+    LOGIN("POST /auth/login", 5) {
+        @Override
+        boolean run(ShopperSession session) throws Exception {
+            return session.post("/auth/login", Map.of(
+                    "emailOrUsername", session.username(),
+                    "password", LoadTestDataSeeder.PASSWORD)) != null;
+        }
+    },
+    PLACE_ORDER("order placement", 5) {
+        @Override
+        boolean run(ShopperSession session) {
+            return session.placeOrder();
+        }
+    };
+
+    private static final ShopperScenario[] VALUES = values();
+    private static final int TOTAL_WEIGHT;
+
+    static {
+        int total = 0;
+        for (ShopperScenario scenario : VALUES) {
+            total += scenario.weight;
+        }
+        TOTAL_WEIGHT = total;
+    }
+
+    final String endpoint;
+    final int weight;
+
+    ShopperScenario(String endpoint, int weight) {
+        this.endpoint = endpoint;
+        this.weight = weight;
+    }
+
+    /**
+     * 시나리오 한 번 실행
+     * @return 성공(2xx) 여부
+     */
+    abstract boolean run(ShopperSession session) throws Exception;
+
+    /**
+     * 가중치에 따라 다음 시나리오 선택
+     */
+    static ShopperScenario pick(SplittableRandom random) {
+        int roll = random.nextInt(TOTAL_WEIGHT);
+        for (ShopperScenario scenario : VALUES) {
+            roll -= scenario.weight;
+            if (roll < 0) {
+                return scenario;
+            }
+        }
+        return VALUES[VALUES.length - 1];
+    }
+}
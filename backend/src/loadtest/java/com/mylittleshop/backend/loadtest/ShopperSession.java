@@ -0,0 +1,182 @@
+package com.mylittleshop.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mylittleshop.backend.model.Delivery;
+import com.mylittleshop.backend.model.OrderItem;
+import com.mylittleshop.backend.model.Product;
+import com.mylittleshop.backend.service.OrderService;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 가상 쇼핑객 한 명의 상태
+ * - 작업 스레드마다 전용 사용자 하나를 배정하므로 장바구니/찜 상태가 스레드 사이에 섞이지 않습니다.
+ * - 장바구니에 담은 항목 ID 와 찜한 상품을 기억해 수정/삭제/토글 흐름을 이어 갑니다.
+ */
+final class ShopperSession {
+
+    private static final int MAX_CART_ITEMS = 10;
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final OrderService orderService;
+    private final String baseUrl;
+    private final LoadTestDataSeeder.SeedData data;
+    private final Long userId;
+    private final String username;
+    private final SplittableRandom random;
+    private final Deque<Long> cartItemIds = new ArrayDeque<>();
+    private final Set<Long> wishlisted = new HashSet<>();
+
+    ShopperSession(HttpClient client, ObjectMapper objectMapper, OrderService orderService, String baseUrl,
+                   LoadTestDataSeeder.SeedData data, int index, long seed) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.orderService = orderService;
+        this.baseUrl = baseUrl;
+        this.data = data;
+        this.userId = data.userIds.get(index);
+        this.username = data.usernames.get(index);
+        this.random = new SplittableRandom(seed + index);
+    }
+
+    SplittableRandom random() {
+        return random;
+    }
+
+    Long userId() {
+        return userId;
+    }
+
+    String username() {
+        return username;
+    }
+
+    Long randomProductId() {
+        return data.productIds.get(random.nextInt(data.productIds.size()));
+    }
+
+    int productPages(int size) {
+        return Math.max(1, Math.min(data.productIds.size() / size, 500));
+    }
+
+    /**
+     * GET 요청
+     * @return 2xx 응답이면 응답 본문, 아니면 null
+     */
+    JsonNode get(String path) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + path)).GET());
+    }
+
+    JsonNode post(String path, Object body) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(body == null ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))));
+    }
+
+    JsonNode put(String path, Object body) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))));
+    }
+
+    boolean delete(String path) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + path)).DELETE()) != null;
+    }
+
+    // 본문이 없는 2xx 응답은 빈 노드로 돌려줌
+    private JsonNode send(HttpRequest.Builder builder) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            return null;
+        }
+        byte[] body = response.body();
+        return body.length == 0 ? objectMapper.createObjectNode() : objectMapper.readTree(body);
+    }
+
+    /**
+     * 장바구니 흐름: 조회 → 담기 → (가끔) 수량 변경 → (꽉 차면) 가장 오래된 항목 삭제
+     * @return 모든 단계가 성공했는지 여부
+     */
+    boolean cartFlow() throws IOException, InterruptedException {
+        if (get("/api/cart/" + userId + "/view") == null) {
+            return false;
+        }
+        JsonNode added = post("/api/cart/" + userId + "/items",
+                Map.of("productId", randomProductId(), "quantity", 1 + random.nextInt(3)));
+        if (added == null) {
+            return false;
+        }
+        Long cartItemId = added.path("id").asLong();
+        if (!cartItemIds.contains(cartItemId)) {
+            cartItemIds.addLast(cartItemId);
+        }
+        if (random.nextInt(3) == 0
+                && put("/api/cart/items/" + cartItemId, Map.of("quantity", 1 + random.nextInt(5))) == null) {
+            return false;
+        }
+        if (cartItemIds.size() > MAX_CART_ITEMS) {
+            return delete("/api/cart/items/" + cartItemIds.pollFirst());
+        }
+        return true;
+    }
+
+    /**
+     * 찜 토글: 이미 찜한 상품이면 해제, 아니면 추가
+     */
+    boolean toggleWishlist() throws IOException, InterruptedException {
+        if (!wishlisted.isEmpty() && random.nextBoolean()) {
+            Long productId = wishlisted.iterator().next();
+            wishlisted.remove(productId);
+            return delete("/api/wishlist/" + userId + "/items/" + productId);
+        }
+        Long productId = randomProductId();
+        if (wishlisted.contains(productId)) {
+            return true;
+        }
+        boolean ok = post("/api/wishlist/" + userId + "/items/" + productId, null) != null;
+        if (ok) {
+            wishlisted.add(productId);
+        }
+        return ok;
+    }
+
+    /**
+     * 주문 생성 (HTTP 주문 API 가 없으므로 OrderService 를 프로세스 안에서 직접 호출)
+     */
+    boolean placeOrder() {
+        int lines = 1 + random.nextInt(3);
+        List<OrderItem> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            Product product = new Product();
+            product.setId(randomProductId());
+            OrderItem item = new OrderItem();
+            item.setProduct(product);
+            item.setQuantity(1 + random.nextInt(2));
+            item.setUnitPrice(BigDecimal.valueOf(10_000));
+            items.add(item);
+        }
+        Delivery delivery = new Delivery();
+        delivery.setRecipientName(username);
+        delivery.setContactNumber("010-0000-0000");
+        delivery.setAddress("서울시 부하테스트구 " + userId);
+        orderService.createOrder(userId, items, "CARD", "STANDARD", delivery,
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, null, false, null);
+        return true;
+    }
+}
@@ -0,0 +1,37 @@
+package com.mylittleshop.backend.cache;
+
+import java.io.Serializable;
+
+/**
+ * 카탈로그 2차(L2) 캐시 SPI
+ * - 인스턴스 간 공유 캐시(Redis 등) 구현을 빈으로 등록하면 CatalogService가 L1(Caffeine) 미스 시 조회합니다.
+ * - 등록된 빈이 없으면 L1만 사용합니다.
+ * - 구현체는 값을 직렬화해 보관할 수 있어야 하며, 조회 실패는 예외 대신 null로 처리하는 것을 권장합니다.
+ */
+public interface CatalogL2Cache {
+
+    /**
+     * 캐시 조회
+     * @param key 캐시 키
+     * @return 캐시된 값 (없으면 null)
+     */
+    Serializable get(String key);
+
+    /**
+     * 캐시 저장
+     * @param key 캐시 키
+     * @param value 저장할 값
+     */
+    void put(String key, Serializable value);
+
+    /**
+     * 캐시 항목 삭제
+     * @param key 캐시 키
+     */
+    void evict(String key);
+
+    /**
+     * 전체 삭제
+     */
+    void clear();
+}
@@ -0,0 +1,39 @@
+package com.mylittleshop.backend.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내 L2 캐시 구현 (Redis 대체용, 테스트/단일 인스턴스 환경)
+ * - app.catalog-cache.l2=memory 설정 시에만 등록됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.catalog-cache.l2", havingValue = "memory")
+public class InMemoryCatalogL2Cache implements CatalogL2Cache {
+
+    private final Map<String, Serializable> store = new ConcurrentHashMap<>();
+
+    @Override
+    public Serializable get(String key) {
+        return store.get(key);
+    }
+
+    @Override
+    public void put(String key, Serializable value) {
+        store.put(key, value);
+    }
+
+    @Override
+    public void evict(String key) {
+        store.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        store.clear();
+    }
+}
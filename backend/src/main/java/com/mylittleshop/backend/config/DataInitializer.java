@@ -5,6 +5,7 @@ import com.mylittleshop.backend.service.ProductService;
 import com.mylittleshop.backend.service.ProductCategoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -13,8 +14,10 @@ import java.util.List;
 
 /**
  * 애플리케이션 시작 시 테스트 데이터를 생성하는 클래스
+ * - 성능 환경(dataset 프로필)에서는 DatasetInitializer 가 대용량 데이터를 생성하므로 실행하지 않습니다.
  */
 @Component
+@Profile("!" + DatasetInitializer.PROFILE)
 @RequiredArgsConstructor
 public class DataInitializer implements CommandLineRunner {
     
@@ -23,12 +26,12 @@ public class DataInitializer implements CommandLineRunner {
 
     @Override
     public void run(String... args) throws Exception {
-        // 기존 데이터가 있는지 확인
-        if (categoryService.findAll().isEmpty()) {
+        // 기존 데이터가 있는지 확인 (존재 여부만 조회, 테이블 전체를 읽지 않음)
+        if (!categoryService.hasAnyCategory()) {
             initializeCategories();
         }
         
-        if (productService.findAll().isEmpty()) {
+        if (!productService.hasAnyProduct()) {
             initializeProducts();
         }
     }
@@ -119,10 +122,8 @@ public class DataInitializer implements CommandLineRunner {
                 new BigDecimal("120000"), new BigDecimal("108000"), new BigDecimal("96000"), lifestyle, "LST003", false, false, true));
         }
         
-        // 제품들 저장
-        for (Product product : products) {
-            productService.save(product);
-        }
+        // 제품들 저장 (한 트랜잭션)
+        productService.saveAll(products);
         
         System.out.println("상품 초기 데이터 " + products.size() + "개가 생성되었습니다.");
     }
@@ -0,0 +1,118 @@
+package com.mylittleshop.backend.config;
+
+import com.mylittleshop.backend.dto.DatasetPlan;
+import com.mylittleshop.backend.service.DatasetGenerator;
+import com.mylittleshop.backend.service.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 성능 환경용 대용량 데이터 생성 (spring.profiles.active=dataset 일 때만 실행)
+ * - 기본 규모: 상품 100만(이미지/속성 포함), 사용자 100만, 주문 800만(주문 항목 약 2천만), 찜/리뷰/장바구니/구독
+ * - 이미 상품이 있으면 건너뜁니다 (app.dataset.force=true 로 강제 추가 생성).
+ * - 시작 시 검색 색인/카테고리 트리는 ApplicationReadyEvent 에서 만들어지므로 생성된 데이터가 그대로 반영됩니다.
+ */
+@Component
+@Profile(DatasetInitializer.PROFILE)
+@RequiredArgsConstructor
+@Slf4j
+public class DatasetInitializer implements CommandLineRunner {
+
+    static final String PROFILE = "dataset";
+
+    private final DatasetGenerator datasetGenerator;
+    private final ProductService productService;
+
+    @Value("${app.dataset.force:false}")
+    private boolean force;
+
+    @Value("${app.dataset.categories:300}")
+    private int categories;
+
+    @Value("${app.dataset.products:1000000}")
+    private int products;
+
+    @Value("${app.dataset.images-per-product:3}")
+    private int imagesPerProduct;
+
+    @Value("${app.dataset.attributes:40}")
+    private int attributes;
+
+    @Value("${app.dataset.attributes-per-product:4}")
+    private int attributesPerProduct;
+
+    @Value("${app.dataset.users:1000000}")
+    private int users;
+
+    @Value("${app.dataset.user-password:dataset1234}")
+    private String userPassword;
+
+    @Value("${app.dataset.orders:8000000}")
+    private long orders;
+
+    @Value("${app.dataset.max-items-per-order:5}")
+    private int maxItemsPerOrder;
+
+    @Value("${app.dataset.wishlists-per-user:5}")
+    private double wishlistsPerUser;
+
+    @Value("${app.dataset.reviews-per-user:2}")
+    private double reviewsPerUser;
+
+    @Value("${app.dataset.cart-ratio:0.3}")
+    private double cartRatio;
+
+    @Value("${app.dataset.max-items-per-cart:8}")
+    private int maxItemsPerCart;
+
+    @Value("${app.dataset.subscription-plans:6}")
+    private int subscriptionPlans;
+
+    @Value("${app.dataset.subscriptions:200000}")
+    private int subscriptions;
+
+    @Value("${app.dataset.zipf-exponent:1.05}")
+    private double zipfExponent;
+
+    @Value("${app.dataset.seed:20240601}")
+    private long seed;
+
+    @Value("${app.dataset.threads:8}")
+    private int threads;
+
+    @Value("${app.dataset.batch-size:1000}")
+    private int batchSize;
+
+    @Override
+    public void run(String... args) {
+        if (!force && productService.hasAnyProduct()) {
+            log.info("상품 데이터가 이미 있어 대용량 데이터 생성을 건너뜁니다 (강제 생성: app.dataset.force=true)");
+            return;
+        }
+        datasetGenerator.generate(DatasetPlan.builder()
+                .categories(categories)
+                .products(products)
+                .imagesPerProduct(imagesPerProduct)
+                .attributes(attributes)
+                .attributesPerProduct(attributesPerProduct)
+                .users(users)
+                .userPassword(userPassword)
+                .orders(orders)
+                .maxItemsPerOrder(maxItemsPerOrder)
+                .wishlistsPerUser(wishlistsPerUser)
+                .reviewsPerUser(reviewsPerUser)
+                .cartRatio(cartRatio)
+                .maxItemsPerCart(maxItemsPerCart)
+                .subscriptionPlans(subscriptionPlans)
+                .subscriptions(subscriptions)
+                .zipfExponent(zipfExponent)
+                .seed(seed)
+                .threads(threads)
+                .batchSize(batchSize)
+                .build());
+    }
+}
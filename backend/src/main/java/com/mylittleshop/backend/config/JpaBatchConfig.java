@@ -0,0 +1,27 @@
+package com.mylittleshop.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate JDBC 배치 설정 클래스입니다.
+ * - 풀링 ID 를 사용하는 엔티티(주문/주문 항목/상태 이력)의 INSERT 를 배치로 묶습니다.
+ * - application 설정에 같은 키가 있으면 그 값을 우선합니다.
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    @Value("${app.jpa.batch-size:50}")
+    private int batchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchPropertiesCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+        };
+    }
+}
@@ -26,6 +26,16 @@ public class MailConfig {
     @Value("${spring.mail.password:Pmhck487bNk2ZTtKz8}")
     private String password;
 
+    // 로컬/테스트 SMTP 대역(인증/TLS 미지원)에서는 false 로 설정
+    @Value("${app.mail.smtp-auth:true}")
+    private boolean smtpAuth;
+
+    @Value("${app.mail.starttls:true}")
+    private boolean starttls;
+
+    @Value("${app.mail.debug:false}")
+    private boolean debug;
+
     @Bean
     public JavaMailSender javaMailSender() {
         JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
@@ -37,13 +47,13 @@ public class MailConfig {
 
         Properties props = mailSender.getJavaMailProperties();
         props.put("mail.transport.protocol", "smtp");
-        props.put("mail.smtp.auth", "true");
-        props.put("mail.smtp.starttls.enable", "true");
-        props.put("mail.smtp.starttls.required", "true");
+        props.put("mail.smtp.auth", String.valueOf(smtpAuth));
+        props.put("mail.smtp.starttls.enable", String.valueOf(starttls));
+        props.put("mail.smtp.starttls.required", String.valueOf(starttls));
         props.put("mail.smtp.connectiontimeout", "5000");
         props.put("mail.smtp.timeout", "5000");
         props.put("mail.smtp.writetimeout", "5000");
-        props.put("mail.debug", "true"); // 디버그 모드
+        props.put("mail.debug", String.valueOf(debug)); // 디버그 모드
 
         return mailSender;
     }
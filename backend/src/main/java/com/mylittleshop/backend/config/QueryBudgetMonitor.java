@@ -0,0 +1,99 @@
+package com.mylittleshop.backend.config;
+
+import com.mylittleshop.backend.util.QueryCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청/트랜잭션 단위 SQL 집계 결과를 지표로 내보내고 N+1 의심 구간을 경고합니다.
+ * - 지표(히스토그램): db.request.statements / db.request.entity.loads / db.request.collection.fetches (method, uri 태그)
+ *                    db.transaction.statements / db.transaction.entity.loads / db.transaction.collection.fetches (name 태그)
+ * - 같은 SQL 이 repeat-threshold 번 이상 실행되면 db.statements.repeated 카운터를 올리고 해당 SQL 을 경고 로그로 남깁니다.
+ * - 히스토그램은 태그 조합마다 처음 한 번만 등록하고 이후에는 캐시된 미터에 기록합니다. (uri 태그는 요청 매핑 패턴)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QueryBudgetMonitor {
+
+    private final MeterRegistry meterRegistry;
+
+    // 태그 조합 -> 등록된 히스토그램 3종
+    private final Map<Tags, ScopeSummaries> requestSummaries = new ConcurrentHashMap<>();
+    private final Map<Tags, ScopeSummaries> transactionSummaries = new ConcurrentHashMap<>();
+
+    @Value("${app.query-budget.enabled:true}")
+    private boolean enabled;
+
+    // 같은 SQL 이 이 횟수 이상 실행되면 N+1 의심으로 기록
+    @Value("${app.query-budget.repeat-threshold:5}")
+    private int repeatThreshold;
+
+    // 한 요청의 SQL 수가 이 값을 넘으면 경고 로그
+    @Value("${app.query-budget.warn-statements:30}")
+    private int warnStatements;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void recordRequest(String method, String uri, QueryCounter.Scope scope) {
+        Tags tags = Tags.of("method", method, "uri", uri);
+        record("db.request", tags, requestSummaries, scope);
+        if (scope.getStatements() > warnStatements) {
+            log.warn("요청 SQL 수 초과: {} {} - {}", method, uri, scope);
+        }
+    }
+
+    public void recordTransaction(String name, QueryCounter.Scope scope) {
+        record("db.transaction", Tags.of("name", name), transactionSummaries, scope);
+    }
+
+    private void record(String prefix, Tags tags, Map<Tags, ScopeSummaries> cache, QueryCounter.Scope scope) {
+        ScopeSummaries summaries = cache.computeIfAbsent(tags, key -> new ScopeSummaries(
+                summary(prefix + ".statements", key),
+                summary(prefix + ".entity.loads", key),
+                summary(prefix + ".collection.fetches", key)));
+        summaries.statements.record(scope.getStatements());
+        summaries.entityLoads.record(scope.getEntityLoads());
+        summaries.collectionFetches.record(scope.getCollectionFetches());
+        if (scope.getMaxRepeats() < repeatThreshold) {
+            return;
+        }
+        Map<String, Integer> repeated = scope.getStatementsRepeatedAtLeast(repeatThreshold);
+        meterRegistry.counter("db.statements.repeated", tags.and("scope", prefix.substring(3))).increment(repeated.size());
+        repeated.forEach((sql, count) -> log.warn("N+1 의심: {} 에서 같은 SQL {}회 실행 - {}", scope.getName(), count,
+                sql.length() > 300 ? sql.substring(0, 300) + "..." : sql));
+    }
+
+    private DistributionSummary summary(String name, Tags tags) {
+        return DistributionSummary.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 태그 조합 하나의 SQL 수/엔티티 로드/컬렉션 조회 히스토그램
+     */
+    private static final class ScopeSummaries {
+        private final DistributionSummary statements;
+        private final DistributionSummary entityLoads;
+        private final DistributionSummary collectionFetches;
+
+        private ScopeSummaries(DistributionSummary statements, DistributionSummary entityLoads,
+                               DistributionSummary collectionFetches) {
+            this.statements = statements;
+            this.entityLoads = entityLoads;
+            this.collectionFetches = collectionFetches;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.mylittleshop.backend.config;
+
+import com.mylittleshop.backend.util.QueryCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 요청/트랜잭션 단위 SQL 집계(쿼리 예산, N+1 탐지) 설정 클래스입니다.
+ * - SQL 수: StatementInspector 로 Hibernate 가 준비하는 모든 문장을 기록합니다.
+ * - 엔티티 로딩/컬렉션 조회 수: POST_LOAD / INIT_COLLECTION 이벤트 리스너로 기록합니다.
+ *   Hibernate Statistics 는 세션 팩토리 전체 누적 값이라 요청 단위로 나눌 수 없으므로 이벤트로 스레드별 집계합니다.
+ * - 구간: 서블릿 필터(HTTP 요청)와 트랜잭션 매니저(새 트랜잭션마다)에서 엽니다.
+ * - app.query-budget.enabled=false 면 구간을 열지 않으므로 기록 비용이 사라집니다.
+ */
+@Configuration
+public class QueryCountingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorPropertiesCustomizer() {
+        return properties -> properties.putIfAbsent("hibernate.session_factory.statement_inspector",
+                new QueryStatementInspector());
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+                                                         QueryBudgetMonitor queryBudgetMonitor,
+                                                         ObjectProvider<TransactionManagerCustomizers> customizers) {
+        QueryCountingTransactionManager transactionManager =
+                new QueryCountingTransactionManager(entityManagerFactory, queryBudgetMonitor);
+        customizers.ifAvailable(customizer -> customizer.customize(transactionManager));
+        registerLoadListeners(entityManagerFactory);
+        return transactionManager;
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryCountingFilter> queryCountingFilter(QueryBudgetMonitor queryBudgetMonitor) {
+        FilterRegistrationBean<QueryCountingFilter> registration =
+                new FilterRegistrationBean<>(new QueryCountingFilter(queryBudgetMonitor));
+        // 보안 필터 체인(JWT 인증 상태 조회 포함)까지 요청 구간에 들어가도록 앞쪽에 배치
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    private static void registerLoadListeners(EntityManagerFactory entityManagerFactory) {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event -> QueryCounter.recordEntityLoad());
+        registry.appendListeners(EventType.INIT_COLLECTION,
+                (InitializeCollectionEventListener) event -> QueryCounter.recordCollectionFetch());
+    }
+}
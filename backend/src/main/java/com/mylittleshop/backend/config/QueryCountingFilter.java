@@ -0,0 +1,45 @@
+package com.mylittleshop.backend.config;
+
+import com.mylittleshop.backend.util.QueryCounter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청 하나 동안 실행된 SQL 을 집계해 엔드포인트(매핑 패턴) 별 지표로 남깁니다.
+ * - uri 태그는 /products/{id} 처럼 매핑 패턴을 쓰므로 경로 변수 값마다 지표가 늘어나지 않습니다.
+ */
+public class QueryCountingFilter extends OncePerRequestFilter {
+
+    private final QueryBudgetMonitor monitor;
+
+    public QueryCountingFilter(QueryBudgetMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (!monitor.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        QueryCounter.Scope scope = QueryCounter.open(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            monitor.recordRequest(request.getMethod(), pattern != null ? pattern.toString() : "UNKNOWN", scope);
+        }
+    }
+}
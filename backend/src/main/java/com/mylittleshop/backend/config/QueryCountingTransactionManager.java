@@ -0,0 +1,61 @@
+package com.mylittleshop.backend.config;
+
+import com.mylittleshop.backend.util.QueryCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 새로 시작하는 트랜잭션마다 SQL 집계 구간을 여는 JpaTransactionManager
+ * - @Transactional 메서드는 트랜잭션 이름이 "클래스.메서드" 이므로 서비스 메서드별 지표가 됩니다.
+ *   이름이 없는 TransactionTemplate 트랜잭션은 "programmatic" 으로 묶습니다.
+ * - 참여(PROPAGATION_REQUIRED 안쪽 호출)는 새 트랜잭션이 아니므로 바깥 트랜잭션에 합산됩니다.
+ */
+public class QueryCountingTransactionManager extends JpaTransactionManager {
+
+    // REQUIRES_NEW 로 중첩될 수 있으므로 스택으로 관리 (시작/종료는 같은 스레드에서 역순)
+    private static final ThreadLocal<Deque<QueryCounter.Scope>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final transient QueryBudgetMonitor monitor;
+
+    public QueryCountingTransactionManager(EntityManagerFactory entityManagerFactory, QueryBudgetMonitor monitor) {
+        super(entityManagerFactory);
+        this.monitor = monitor;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+        if (monitor.isEnabled()) {
+            String name = definition.getName();
+            SCOPES.get().push(QueryCounter.open(name != null ? shortName(name) : "programmatic"));
+        }
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        try {
+            super.doCleanupAfterCompletion(transaction);
+        } finally {
+            Deque<QueryCounter.Scope> scopes = SCOPES.get();
+            if (!scopes.isEmpty()) {
+                QueryCounter.Scope scope = scopes.pop();
+                scope.close();
+                monitor.recordTransaction(scope.getName(), scope);
+            }
+            if (scopes.isEmpty()) {
+                SCOPES.remove();
+            }
+        }
+    }
+
+    // com.mylittleshop.backend.service.OrderService.createOrder -> OrderService.createOrder
+    private static String shortName(String name) {
+        int method = name.lastIndexOf('.');
+        int type = method > 0 ? name.lastIndexOf('.', method - 1) : -1;
+        return type >= 0 ? name.substring(type + 1) : name;
+    }
+}
@@ -0,0 +1,17 @@
+package com.mylittleshop.backend.config;
+
+import com.mylittleshop.backend.util.QueryCounter;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 모든 SQL 을 현재 스레드의 집계 구간(QueryCounter)에 기록합니다.
+ * - SQL 은 바꾸지 않고 그대로 돌려줍니다.
+ */
+public class QueryStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.recordStatement(sql);
+        return sql;
+    }
+}
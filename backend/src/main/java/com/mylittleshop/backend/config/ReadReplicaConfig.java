@@ -0,0 +1,105 @@
+package com.mylittleshop.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 복제본 설정 클래스입니다. (app.datasource.replicas.urls 가 있을 때만 적용)
+ * - 주 DB 풀은 spring.datasource.* / spring.datasource.hikari.* 로, 복제본 풀은 app.datasource.replicas.* 로 만듭니다.
+ *   복제본 계정/풀 크기를 지정하지 않으면 주 DB 값을 그대로 씁니다.
+ * - 빈 주소는 무시하며, 남는 복제본이 없으면(app.datasource.replicas.urls= 처럼 비워 둔 경우) 모든 연결을 주 DB 로 보냅니다.
+ * - 애플리케이션이 쓰는 DataSource 는 ReadWriteRoutingDataSource 를 LazyConnectionDataSourceProxy 로 감싼 것입니다.
+ * - Hibernate 는 트랜잭션마다 연결을 반납하도록 바꿔, OSIV 로 요청 내내 열린 세션에서도 트랜잭션별로 주/복제본을 다시 고릅니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replicas", name = "urls")
+public class ReadReplicaConfig {
+
+    @Value("${app.datasource.replicas.urls}")
+    private String[] replicaUrls;
+
+    @Value("${app.datasource.replicas.username:}")
+    private String username;
+
+    @Value("${app.datasource.replicas.password:#{null}}")
+    private String password;
+
+    // 0 이면 주 DB 풀 크기와 같게
+    @Value("${app.datasource.replicas.maximum-pool-size:0}")
+    private int maximumPoolSize;
+
+    // 복제본 연결 대기 한도 (넘으면 다음 복제본/주 DB 로 넘김)
+    @Value("${app.datasource.replicas.connection-timeout-ms:1000}")
+    private long connectionTimeoutMs;
+
+    // 쓰기 후 해당 사용자의 읽기를 주 DB 로 고정하는 시간 (복제 지연 허용치)
+    @Value("${app.datasource.replicas.sticky-seconds:5}")
+    private long stickySeconds;
+
+    @Value("${app.datasource.replicas.health-check-ms:5000}")
+    private long healthCheckMs;
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(DataSourceProperties properties, Environment environment,
+                                                                 MeterRegistry meterRegistry) {
+        MicrometerMetricsTrackerFactory metricsTrackerFactory = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (!StringUtils.hasText(primary.getPoolName())) {
+            primary.setPoolName("primary");
+        }
+        primary.setMetricsTrackerFactory(metricsTrackerFactory);
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String replicaUrl : replicaUrls) {
+            if (!StringUtils.hasText(replicaUrl)) {
+                continue;
+            }
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(replicaUrl.trim());
+            replica.setUsername(StringUtils.hasText(username) ? username : primary.getUsername());
+            replica.setPassword(password != null ? password : primary.getPassword());
+            replica.setMaximumPoolSize(maximumPoolSize > 0 ? maximumPoolSize : primary.getMaximumPoolSize());
+            replica.setConnectionTimeout(connectionTimeoutMs);
+            replica.setReadOnly(true);
+            // 복제본이 내려가 있어도 기동은 되고, 읽기는 주 DB 로 넘김
+            replica.setInitializationFailTimeout(-1);
+            replica.setMetricsTrackerFactory(metricsTrackerFactory);
+            replicas.add(replica);
+        }
+        return new ReadWriteRoutingDataSource(primary, replicas, Duration.ofSeconds(stickySeconds),
+                Duration.ofMillis(healthCheckMs), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer connectionReleasePropertiesCustomizer() {
+        return properties -> properties.put("hibernate.connection.handling_mode",
+                "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+}
@@ -0,0 +1,200 @@
+package com.mylittleshop.backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기/쓰기 분리 DataSource
+ * - 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제본 풀 중 하나(라운드 로빈)로, 그 외는 주 DB 로 보냅니다.
+ *   트랜잭션 시작 시점에는 읽기 전용 여부가 아직 동기화되지 않으므로 LazyConnectionDataSourceProxy 로 감싸
+ *   첫 SQL 실행 시점에 연결을 고릅니다 (ReadReplicaConfig).
+ * - 복제 지연 대비: 쓰기 트랜잭션을 커밋한 사용자는 sticky 시간 동안 읽기 전용 트랜잭션도 주 DB 에서 처리합니다.
+ * - 복제본 연결에 실패하면 그 복제본을 제외하고 다음 복제본, 모두 실패하면 주 DB 로 넘깁니다.
+ *   제외된 복제본은 health-check 주기마다 다시 연결해 보고 성공하면 되돌립니다.
+ * - 지표: datasource.routing{target, reason=write|read|sticky|failover} 카운터, datasource.replica.healthy{pool} 게이지
+ *   (풀별 연결 지표 hikaricp.connections.*{pool} 는 각 Hikari 풀이 내보냅니다)
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final String PRIMARY = "primary";
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    // 최근 쓰기를 커밋한 사용자 (sticky 시간이 지나면 만료)
+    private final Cache<String, Boolean> recentWriters;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+    private final Counter writeCounter;
+    private final Counter stickyCounter;
+    private final Counter failoverCounter;
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicaPools,
+                                      Duration sticky, Duration healthCheckInterval, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(sticky)
+                .maximumSize(100_000)
+                .build();
+        this.writeCounter = routingCounter(meterRegistry, PRIMARY, "write");
+        this.stickyCounter = routingCounter(meterRegistry, PRIMARY, "sticky");
+        this.failoverCounter = routingCounter(meterRegistry, PRIMARY, "failover");
+        for (HikariDataSource pool : replicaPools) {
+            Replica replica = new Replica(pool, routingCounter(meterRegistry, pool.getPoolName(), "read"));
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("pool", pool.getPoolName())
+                    .register(meterRegistry);
+            replicas.add(replica);
+        }
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = healthCheckInterval.toMillis();
+        healthChecker.scheduleWithFixedDelay(this::recheckReplicas, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWriterOnCommit();
+            writeCounter.increment();
+            return primary.getConnection();
+        }
+        String user = currentUser();
+        if (user != null && recentWriters.getIfPresent(user) != null) {
+            stickyCounter.increment();
+            return primary.getConnection();
+        }
+        int size = replicas.size();
+        if (size == 0) {
+            // 복제본 주소를 비워 둔 경우 (라운드로빈 대상 없음)
+            return primary.getConnection();
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = replica.pool.getConnection();
+                replica.reads.increment();
+                return connection;
+            } catch (SQLException e) {
+                replica.healthy = false;
+                log.warn("복제본 연결 실패 - 상태 확인 전까지 제외: 풀={}, 오류={}", replica.pool.getPoolName(), e.getMessage());
+            }
+        }
+        failoverCounter.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection(@NonNull String username, @NonNull String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("읽기/쓰기 분리 DataSource 는 풀에 설정된 계정만 사용합니다.");
+    }
+
+    /**
+     * 복제본별 사용 가능 여부 (풀 이름 순)
+     */
+    public Map<String, Boolean> replicaHealth() {
+        Map<String, Boolean> health = new LinkedHashMap<>();
+        replicas.forEach(replica -> health.put(replica.pool.getPoolName(), replica.healthy));
+        return health;
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        replicas.forEach(replica -> replica.pool.close());
+        primary.close();
+    }
+
+    // 쓰기 트랜잭션이 커밋되면 해당 사용자의 읽기를 sticky 시간 동안 주 DB 로 고정
+    private void rememberWriterOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String user = currentUser();
+        if (user == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(user, Boolean.TRUE);
+            }
+        });
+    }
+
+    private void recheckReplicas() {
+        for (Replica replica : replicas) {
+            if (replica.healthy) {
+                continue;
+            }
+            try (Connection connection = replica.pool.getConnection()) {
+                if (connection.isValid(2)) {
+                    replica.healthy = true;
+                    log.info("복제본 연결 복구 - 읽기 분산에 다시 포함: 풀={}", replica.pool.getPoolName());
+                }
+            } catch (SQLException e) {
+                log.debug("복제본 상태 확인 실패: 풀={}, 오류={}", replica.pool.getPoolName(), e.getMessage());
+            }
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return meterRegistry.counter("datasource.routing", "target", target, "reason", reason);
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource pool;
+        private final Counter reads;
+        private volatile boolean healthy = true;
+
+        private Replica(HikariDataSource pool, Counter reads) {
+            this.pool = pool;
+            this.reads = reads;
+        }
+    }
+}
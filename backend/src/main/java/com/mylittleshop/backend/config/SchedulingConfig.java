@@ -0,0 +1,12 @@
+package com.mylittleshop.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 활성화 설정 클래스입니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
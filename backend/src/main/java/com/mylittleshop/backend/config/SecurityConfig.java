@@ -1,5 +1,6 @@
 package com.mylittleshop.backend.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -11,6 +12,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import com.mylittleshop.backend.security.JwtAuthenticationFilter;
 import com.mylittleshop.backend.security.JwtAuthenticationEntryPoint;
 import com.mylittleshop.backend.security.JwtTokenProvider;
+import com.mylittleshop.backend.service.UserAuthStateService;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
@@ -28,19 +30,39 @@ public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+    private final UserAuthStateService userAuthStateService;
 
-    public SecurityConfig(JwtTokenProvider jwtTokenProvider, JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint) {
+    public SecurityConfig(JwtTokenProvider jwtTokenProvider, JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint,
+                          UserAuthStateService userAuthStateService) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.jwtAuthenticationEntryPoint = jwtAuthenticationEntryPoint;
+        this.userAuthStateService = userAuthStateService;
     }
 
     /**
      * 비밀번호 암호화를 위한 BCryptPasswordEncoder Bean을 등록합니다.
+     * - cost(strength)는 app.auth.bcrypt-strength 로 설정합니다. 0 이면 시작 시 해시 1회가
+     *   app.auth.bcrypt-target-ms 이상 걸리는 가장 낮은 cost 를 측정해 사용합니다. (10 ~ 14)
+     * - 저장된 해시의 cost 가 더 낮으면 로그인 성공 시 다시 해시합니다. (PasswordHashingService)
      * @return PasswordEncoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.auth.bcrypt-strength:10}") int strength,
+                                           @Value("${app.auth.bcrypt-target-ms:100}") long targetMs) {
+        return new BCryptPasswordEncoder(strength > 0 ? strength : calibrateBcryptStrength(targetMs));
+    }
+
+    // 해시 1회가 목표 시간 이상 걸리는 가장 낮은 cost (cost 가 1 오를 때마다 시간은 약 2배)
+    private static int calibrateBcryptStrength(long targetMs) {
+        int strength = 10;
+        for (; strength < 14; strength++) {
+            long started = System.nanoTime();
+            new BCryptPasswordEncoder(strength).encode("bcrypt-calibration");
+            if ((System.nanoTime() - started) / 1_000_000 >= targetMs) {
+                break;
+            }
+        }
+        return strength;
     }
 
     /**
@@ -75,7 +97,7 @@ public class SecurityConfig {
             .exceptionHandling(ex -> ex
                 .authenticationEntryPoint(jwtAuthenticationEntryPoint)
             )
-            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, userAuthStateService), UsernamePasswordAuthenticationFilter.class);
         return http.build();
     }
 
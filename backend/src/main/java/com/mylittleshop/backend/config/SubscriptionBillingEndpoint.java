@@ -0,0 +1,28 @@
+package com.mylittleshop.backend.config;
+
+import com.mylittleshop.backend.dto.SubscriptionBillingRunSummary;
+import com.mylittleshop.backend.service.SubscriptionBillingJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 구독 결제 일괄 처리 actuator 엔드포인트입니다. (GET /actuator/subscriptionbilling)
+ * - 최근 실행 10건의 기준일, 상태, 결제/만료/실패 건수, 구간 진행 상황을 반환합니다.
+ * - 웹 노출은 management.endpoints.web.exposure.include 에 subscriptionbilling 을 추가해야 합니다.
+ */
+@Component
+@Endpoint(id = "subscriptionbilling")
+@RequiredArgsConstructor
+public class SubscriptionBillingEndpoint {
+
+    private final SubscriptionBillingJob subscriptionBillingJob;
+
+    @ReadOperation
+    public List<SubscriptionBillingRunSummary> runs() {
+        return subscriptionBillingJob.recentRuns();
+    }
+}
@@ -25,9 +25,15 @@ import com.mylittleshop.backend.dto.UserRegistrationResponse;
 import com.mylittleshop.backend.dto.PasswordResetRequest;
 import com.mylittleshop.backend.dto.PasswordResetConfirmRequest;
 import com.mylittleshop.backend.dto.ChangePasswordRequest;
+import com.mylittleshop.backend.dto.AuthTokens;
+import com.mylittleshop.backend.dto.TokenRefreshRequest;
 import com.mylittleshop.backend.model.User;
 import com.mylittleshop.backend.model.UserProfile;
-import com.mylittleshop.backend.security.JwtTokenProvider;
+import com.mylittleshop.backend.service.AuthTokenService;
+import com.mylittleshop.backend.service.HotPathMetrics;
+import com.mylittleshop.backend.service.LoginActivityService;
+import com.mylittleshop.backend.service.PasswordHashingService;
+import com.mylittleshop.backend.exception.LoginThrottledException;
 import com.mylittleshop.backend.service.UserService;
 import com.mylittleshop.backend.service.EmailService;
 import com.mylittleshop.backend.exception.UserAlreadyExistsException;
@@ -52,9 +58,15 @@ import org.springframework.security.core.userdetails.UserDetails;
 @Tag(name = "인증/회원가입", description = "회원가입 및 인증 관련 API")
 public class AuthController {
     private final UserService userService;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final AuthTokenService authTokenService;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginActivityService loginActivityService;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
+    private final HotPathMetrics hotPathMetrics;
+
+    // 로그인 계측 이름
+    private static final String LOGIN = "auth.login";
 
     /**
      * 이메일 인증 전용 API (회원가입 전 이메일 검증)
@@ -97,10 +109,8 @@ public class AuthController {
             User savedUser = userService.save(tempUser);
             System.out.println("임시 사용자 생성 후 - name: " + savedUser.getName());
             
-            // 이메일 인증 토큰 생성 및 발송 (이메일 발송 실패 시 예외로 트랜잭션 롤백)
+            // 이메일 인증 토큰 생성 및 발송 대기 등록 (같은 트랜잭션, 실제 발송은 백그라운드)
             var emailToken = userService.createEmailVerificationTokenForUser(savedUser, 24 * 60 * 60 * 1000L);
-            
-            // 이메일 발송 - 실패 시 즉시 예외 발생으로 트랜잭션 롤백
             emailService.sendVerificationEmail(savedUser.getEmail(), emailToken.getToken());
             
             return ResponseEntity.ok(Map.of(
@@ -253,14 +263,9 @@ public class AuthController {
         UserProfile profile = null;
 
         User saved = userService.registerUser(user, profile);
-        // 이메일 인증 토큰 발급 및 메일 발송 (이메일 발송 실패 시 트랜잭션 롤백)
+        // 이메일 인증 토큰 발급 및 메일 발송 대기 등록 (실제 발송은 백그라운드)
         var emailToken = userService.createEmailVerificationTokenForUser(saved, 24 * 60 * 60 * 1000L); // 24시간 유효
-        try {
-            emailService.sendVerificationEmail(saved.getEmail(), emailToken.getToken());
-        } catch (Exception emailError) {
-            // 이메일 발송 실패 시 RuntimeException을 던져서 트랜잭션 롤백
-            throw new RuntimeException("이메일 발송에 실패했습니다: " + emailError.getMessage(), emailError);
-        }
+        emailService.sendVerificationEmail(saved.getEmail(), emailToken.getToken());
         UserRegistrationResponse response = new UserRegistrationResponse(
                 saved.getId(),
                 saved.getEmail(),
@@ -280,50 +285,103 @@ public class AuthController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "로그인 성공(JWT 토큰 반환)"),
         @ApiResponse(responseCode = "401", description = "비밀번호 불일치 또는 계정 잠김 등 인증 실패"),
-        @ApiResponse(responseCode = "404", description = "사용자 정보 없음")
+        @ApiResponse(responseCode = "404", description = "사용자 정보 없음"),
+        @ApiResponse(responseCode = "429", description = "로그인 요청 과다 (잠시 후 재시도)")
     })
     @PostMapping("/login")
     public ResponseEntity<?> login(@RequestBody UserLoginRequest request) {
-        User user = userService.findByEmailOrUsernameWithRoles(request.getEmailOrUsername())
-                .orElse(null);
-        if (user == null) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("사용자를 찾을 수 없습니다.");
-        }
-        // 비밀번호 검증
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            userService.recordFailedLogin(user.getId());
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("비밀번호가 일치하지 않습니다.");
-        }
-        if (Boolean.TRUE.equals(user.getLocked())) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("계정이 잠겨 있습니다. 관리자에게 문의하세요.");
+        // 로그인 계측: auth.login{outcome}, auth.login.phase{phase=load|verify|issue}
+        HotPathMetrics.Span login = hotPathMetrics.start(LOGIN);
+        try {
+            User user;
+            try (HotPathMetrics.Span phase = hotPathMetrics.phase(LOGIN, "load")) {
+                user = userService.findByEmailOrUsernameWithRoles(request.getEmailOrUsername())
+                        .orElse(null);
+            }
+            if (user == null) {
+                login.outcome("not_found");
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body("사용자를 찾을 수 없습니다.");
+            }
+            // 비밀번호 검증 (전용 스레드 풀, 대기열이 가득 차면 429)
+            boolean matches;
+            try (HotPathMetrics.Span phase = hotPathMetrics.phase(LOGIN, "verify")) {
+                matches = passwordHashingService.matches(request.getPassword(), user.getPassword());
+            } catch (LoginThrottledException e) {
+                login.outcome("throttled");
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header("Retry-After", "1")
+                        .body(e.getMessage());
+            }
+            if (!matches) {
+                login.outcome("rejected");
+                loginActivityService.recordFailure(user.getId());
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("비밀번호가 일치하지 않습니다.");
+            }
+            if (Boolean.TRUE.equals(user.getLocked())) {
+                login.outcome("locked");
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("계정이 잠겨 있습니다. 관리자에게 문의하세요.");
+            }
+            
+            // 이메일 인증 확인 (선택사항: 이메일 미인증 시 로그인 차단하려면 주석 해제)
+            // if (!Boolean.TRUE.equals(user.getEmailVerified())) {
+            //     return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("이메일 인증이 필요합니다. 이메일을 확인해 주세요.");
+            // }
+            // 로그인 성공 처리
+            AuthTokens tokens;
+            try (HotPathMetrics.Span phase = hotPathMetrics.phase(LOGIN, "issue")) {
+                loginActivityService.recordSuccess(user.getId());
+                passwordHashingService.upgradeIfNeeded(user.getId(), request.getPassword(), user.getPassword());
+                tokens = authTokenService.issueTokens(user);
+            }
+            UserLoginResponse response = new UserLoginResponse(
+                    tokens.getAccessToken(),
+                    "Bearer",
+                    tokens.getExpiresIn(),
+                    user.getId(),
+                    user.getEmail(),
+                    user.getUsername(),
+                    user.getName(),
+                    tokens.getRefreshToken()
+            );
+            login.success();
+            return ResponseEntity.ok(response);
+        } finally {
+            login.close();
         }
-        
-        // 이메일 인증 확인 (선택사항: 이메일 미인증 시 로그인 차단하려면 주석 해제)
-        // if (!Boolean.TRUE.equals(user.getEmailVerified())) {
-        //     return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("이메일 인증이 필요합니다. 이메일을 확인해 주세요.");
-        // }
-        // 로그인 성공 처리
-        userService.recordLogin(user.getId());
-        String token = jwtTokenProvider.generateToken(user.getUsername(),
-                String.join(",", user.getRoles().stream().map(r -> r.getName()).toList()));
-        long expiresIn = 0L;
+    }
+
+    /**
+     * 토큰 재발급 API
+     */
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 액세스 토큰을 재발급합니다. 리프레시 토큰도 새 토큰으로 교체됩니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "재발급 성공(새 액세스/리프레시 토큰 반환)"),
+        @ApiResponse(responseCode = "401", description = "유효하지 않거나 만료/폐기된 리프레시 토큰")
+    })
+    @PostMapping("/token/refresh")
+    public ResponseEntity<?> refreshToken(@Valid @RequestBody TokenRefreshRequest request) {
         try {
-            java.lang.reflect.Field field = jwtTokenProvider.getClass().getDeclaredField("validityInMilliseconds");
-            field.setAccessible(true);
-            expiresIn = ((long) field.get(jwtTokenProvider)) / 1000L;
-        } catch (Exception e) {
-            expiresIn = 3600L; // fallback
+            AuthTokens tokens = authTokenService.refresh(request.getRefreshToken());
+            return ResponseEntity.ok(Map.of(
+                    "accessToken", tokens.getAccessToken(),
+                    "tokenType", "Bearer",
+                    "expiresIn", tokens.getExpiresIn(),
+                    "userId", tokens.getUserId(),
+                    "refreshToken", tokens.getRefreshToken()
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
         }
-        UserLoginResponse response = new UserLoginResponse(
-                token,
-                "Bearer",
-                expiresIn,
-                user.getId(),
-                user.getEmail(),
-                user.getUsername(),
-                user.getName()
-        );
-        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 로그아웃 API (리프레시 토큰 폐기, 액세스 토큰은 만료 시까지 유효)
+     */
+    @Operation(summary = "로그아웃", description = "리프레시 토큰을 폐기합니다.")
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody TokenRefreshRequest request) {
+        authTokenService.revoke(request.getRefreshToken());
+        return ResponseEntity.noContent().build();
     }
 
     /**
@@ -463,12 +521,8 @@ public class AuthController {
             userService.markEmailVerificationTokenAsUsed(emailToken);
             userService.verifyEmail(user.getId());
             
-            // 환영 이메일 발송 (비동기로 처리 권장)
-            try {
-                emailService.sendWelcomeEmail(user.getEmail(), user.getName());
-            } catch (Exception e) {
-                System.out.println("환영 이메일 발송 실패: " + user.getEmail() + ", 오류: " + e.getMessage());
-            }
+            // 환영 이메일 발송 대기 등록 (실제 발송은 백그라운드)
+            emailService.sendWelcomeEmail(user.getEmail(), user.getName());
             
             return ResponseEntity.ok(createHtmlResponse(true, "이메일 인증 완료!", 
                     user.getName() + "님, 이메일 인증이 성공적으로 완료되었습니다. My Little Shop에 오신 것을 환영합니다!", 
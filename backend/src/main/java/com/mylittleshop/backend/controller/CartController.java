@@ -2,13 +2,19 @@ package com.mylittleshop.backend.controller;
 
 import com.mylittleshop.backend.dto.AddCartItemRequest;
 import com.mylittleshop.backend.dto.CartItemResponse;
+import com.mylittleshop.backend.dto.CartMutationRequest;
+import com.mylittleshop.backend.dto.CartView;
+import com.mylittleshop.backend.dto.PromotionQuote;
 import com.mylittleshop.backend.dto.UpdateQuantityRequest;
 import com.mylittleshop.backend.model.CartItem;
 import com.mylittleshop.backend.service.CartItemService;
 import com.mylittleshop.backend.service.CartService;
+import com.mylittleshop.backend.service.CartViewService;
 import com.mylittleshop.backend.util.DtoMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -26,6 +32,7 @@ public class CartController {
     
     private final CartService cartService;
     private final CartItemService cartItemService;
+    private final CartViewService cartViewService;
     private final DtoMapper dtoMapper;
     
     /**
@@ -37,8 +44,7 @@ public class CartController {
         try {
             log.info("사용자 장바구니 조회 요청: userId={}", userId);
             
-            List<CartItem> cartItems = cartService.getUserCartItems(userId);
-            List<CartItemResponse> response = dtoMapper.toCartItemResponseList(cartItems);
+            List<CartItemResponse> response = cartViewService.getCartView(userId).getItems();
             
             log.info("사용자 장바구니 조회 성공: userId={}, itemCount={}", userId, response.size());
             return ResponseEntity.ok(response);
@@ -49,6 +55,22 @@ public class CartController {
         }
     }
     
+    /**
+     * 사용자 장바구니 요약 조회 (아이템, 재고, 합계, 프로모션 적용 결과)
+     * 장바구니 배지/미니 장바구니용으로, 캐시 적중 시 DB 조회 없이 응답합니다.
+     * GET /api/cart/{userId}/view
+     */
+    @GetMapping("/{userId}/view")
+    public ResponseEntity<CartView> getUserCartView(@PathVariable Long userId) {
+        try {
+            return ResponseEntity.ok(cartViewService.getCartView(userId));
+            
+        } catch (Exception e) {
+            log.error("사용자 장바구니 요약 조회 실패: userId={}, error={}", userId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     /**
      * 장바구니에 상품 추가
      * POST /api/cart/{userId}/items
@@ -75,6 +97,44 @@ public class CartController {
         }
     }
     
+    /**
+     * 장바구니 일괄 변경 (추가/수량 지정/삭제를 한 트랜잭션으로 반영)
+     * POST /api/cart/{userId}/mutations
+     * - Idempotency-Key 헤더가 같은 재요청은 다시 적용하지 않고 현재 장바구니를 반환합니다.
+     * - expectedVersion 이 현재 버전과 다르면 409 와 함께 현재 장바구니를 반환합니다.
+     */
+    @PostMapping("/{userId}/mutations")
+    public ResponseEntity<CartView> mutateCart(
+            @PathVariable Long userId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody CartMutationRequest request) {
+        try {
+            boolean applied = cartService.applyMutations(userId, request, idempotencyKey);
+            
+            log.info("장바구니 일괄 변경 성공: userId={}, operations={}, applied={}", 
+                    userId, request.getOperations().size(), applied);
+            return ResponseEntity.ok(cartViewService.getCartView(userId));
+            
+        } catch (OptimisticLockingFailureException e) {
+            log.info("장바구니 일괄 변경 충돌 - 버전 불일치: userId={}, expectedVersion={}", 
+                    userId, request.getExpectedVersion());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(cartViewService.getCartView(userId));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 멱등성 키로 동시에 들어온 요청 (먼저 들어온 요청이 처리됨)
+            log.info("장바구니 일괄 변경 충돌 - 동시 중복 요청: userId={}, key={}", userId, idempotencyKey);
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(cartViewService.getCartView(userId));
+        } catch (IllegalArgumentException e) {
+            log.warn("장바구니 일괄 변경 실패 - 잘못된 요청: userId={}, error={}", userId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            log.warn("장바구니 일괄 변경 실패 - 재고 부족 또는 비활성 장바구니: userId={}, error={}", userId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            log.error("장바구니 일괄 변경 실패: userId={}, error={}", userId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     /**
      * 장바구니 아이템 수량 수정
      * PUT /api/cart/items/{cartItemId}
@@ -97,6 +157,10 @@ public class CartController {
             log.warn("장바구니 아이템 수량 수정 실패 - 잘못된 요청: cartItemId={}, error={}", 
                     cartItemId, e.getMessage());
             return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            log.warn("장바구니 아이템 수량 수정 실패 - 재고 부족: cartItemId={}, error={}", 
+                    cartItemId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
             log.warn("장바구니 아이템 수량 수정 실패 - 아이템을 찾을 수 없음: cartItemId={}", cartItemId);
             return ResponseEntity.notFound().build();
@@ -157,7 +221,7 @@ public class CartController {
         try {
             log.info("장바구니 아이템 수 조회 요청: userId={}", userId);
             
-            long itemCount = cartService.countUserCartItems(userId);
+            long itemCount = cartViewService.getCartView(userId).getItemCount();
             
             log.info("장바구니 아이템 수 조회 성공: userId={}, count={}", userId, itemCount);
             return ResponseEntity.ok(itemCount);
@@ -177,10 +241,7 @@ public class CartController {
         try {
             log.info("장바구니 총액 조회 요청: userId={}", userId);
             
-            List<CartItem> cartItems = cartService.getUserCartItems(userId);
-            BigDecimal totalAmount = cartItems.stream()
-                    .map(item -> item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal totalAmount = cartViewService.getCartView(userId).getSubtotal();
             
             log.info("장바구니 총액 조회 성공: userId={}, total={}", userId, totalAmount);
             return ResponseEntity.ok(totalAmount);
@@ -190,4 +251,20 @@ public class CartController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+    
+    /**
+     * 장바구니 프로모션 적용 결과 조회 (적용된 프로모션, 할인 금액, 무료 배송 여부)
+     * GET /api/cart/{userId}/promotions
+     */
+    @GetMapping("/{userId}/promotions")
+    public ResponseEntity<PromotionQuote> getCartPromotions(@PathVariable Long userId) {
+        try {
+            PromotionQuote quote = cartViewService.getCartView(userId).getPromotion();
+            return ResponseEntity.ok(quote);
+            
+        } catch (Exception e) {
+            log.error("장바구니 프로모션 조회 실패: userId={}, error={}", userId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
 }
@@ -1,7 +1,7 @@
 package com.mylittleshop.backend.controller;
 
-import com.mylittleshop.backend.model.ProductCategory;
-import com.mylittleshop.backend.service.ProductCategoryService;
+import com.mylittleshop.backend.dto.CategorySnapshot;
+import com.mylittleshop.backend.service.CategoryTreeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +15,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 
 /**
  * 상품 카테고리 관련 API를 제공하는 컨트롤러입니다.
+ * 카테고리는 인메모리 카테고리 트리(CategoryTreeService)의 스냅샷으로 응답합니다.
  */
 @RestController
 @RequestMapping("/categories")
@@ -22,7 +23,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @Tag(name = "상품 카테고리", description = "상품 카테고리 관련 API")
 public class CategoryController {
     
-    private final ProductCategoryService categoryService;
+    private final CategoryTreeService categoryTreeService;
 
     /**
      * 모든 카테고리 조회
@@ -31,7 +32,7 @@ public class CategoryController {
     @GetMapping
     public ResponseEntity<Map<String, Object>> getAllCategories() {
         try {
-            List<ProductCategory> categories = categoryService.findAll();
+            List<CategorySnapshot> categories = categoryTreeService.getCategories();
             
             return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -55,7 +56,7 @@ public class CategoryController {
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getCategory(@PathVariable Long id) {
         try {
-            Optional<ProductCategory> categoryOpt = categoryService.findById(id);
+            Optional<CategorySnapshot> categoryOpt = categoryTreeService.getCategory(id);
             
             if (categoryOpt.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -79,9 +80,7 @@ public class CategoryController {
     @GetMapping("/root")
     public ResponseEntity<Map<String, Object>> getRootCategories() {
         try {
-            List<ProductCategory> categories = categoryService.findAll().stream()
-                .filter(category -> category.getParent() == null)
-                .collect(Collectors.toList());
+            List<CategorySnapshot> categories = categoryTreeService.getRootCategories();
             
             return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -101,56 +100,63 @@ public class CategoryController {
     // Private helper methods
     
     /**
-     * ProductCategory 엔티티를 DTO로 변환
+     * 카테고리 스냅샷을 DTO로 변환
      */
-    private Map<String, Object> convertToDTO(ProductCategory category) {
+    private Map<String, Object> convertToDTO(CategorySnapshot category) {
         Map<String, Object> dto = new HashMap<>();
         dto.put("id", category.getId());
         dto.put("name", category.getName());
         
-        if (category.getParent() != null) {
-            dto.put("parentId", category.getParent().getId());
-            dto.put("parentName", category.getParent().getName());
+        if (category.getParentId() != null) {
+            dto.put("parentId", category.getParentId());
+            dto.put("parentName", category.getParentName());
         }
         
         return dto;
     }
     
     /**
-     * ProductCategory 엔티티를 상세 DTO로 변환
+     * 카테고리 스냅샷을 상세 DTO로 변환
      */
-    private Map<String, Object> convertToDetailDTO(ProductCategory category) {
+    private Map<String, Object> convertToDetailDTO(CategorySnapshot category) {
         Map<String, Object> dto = convertToDTO(category);
         
         // 하위 카테고리들
-        if (!category.getChildren().isEmpty()) {
-            dto.put("children", category.getChildren().stream()
+        if (!category.getChildIds().isEmpty()) {
+            dto.put("children", children(category).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList()));
         }
         
         // 상품 수
-        dto.put("productCount", category.getProducts().size());
+        dto.put("productCount", category.getProductCount());
         
         return dto;
     }
     
     /**
-     * ProductCategory 엔티티를 트리 구조 DTO로 변환
+     * 카테고리 스냅샷을 트리 구조 DTO로 변환
      */
-    private Map<String, Object> convertToTreeDTO(ProductCategory category) {
+    private Map<String, Object> convertToTreeDTO(CategorySnapshot category) {
         Map<String, Object> dto = new HashMap<>();
         dto.put("id", category.getId());
         dto.put("name", category.getName());
-        dto.put("productCount", category.getProducts().size());
+        dto.put("productCount", category.getProductCount());
         
         // 하위 카테고리들을 재귀적으로 포함
-        if (!category.getChildren().isEmpty()) {
-            dto.put("children", category.getChildren().stream()
+        if (!category.getChildIds().isEmpty()) {
+            dto.put("children", children(category).stream()
                 .map(this::convertToTreeDTO)
                 .collect(Collectors.toList()));
         }
         
         return dto;
     }
+    
+    /**
+     * 하위 카테고리 스냅샷 목록 (카테고리 트리에서 조회)
+     */
+    private List<CategorySnapshot> children(CategorySnapshot category) {
+        return categoryTreeService.getChildren(category.getId());
+    }
 }
\ No newline at end of file
@@ -1,18 +1,36 @@
 package com.mylittleshop.backend.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mylittleshop.backend.dto.CategorySnapshot;
+import com.mylittleshop.backend.dto.CursorPage;
+import com.mylittleshop.backend.dto.ProductDetail;
+import com.mylittleshop.backend.dto.ProductSearchQuery;
+import com.mylittleshop.backend.dto.ProductSearchResult;
+import com.mylittleshop.backend.dto.ProductSnapshot;
+import com.mylittleshop.backend.dto.ProductSummary;
 import com.mylittleshop.backend.model.*;
+import com.mylittleshop.backend.service.CatalogService;
+import com.mylittleshop.backend.service.CategoryTreeService;
+import com.mylittleshop.backend.service.HotPathMetrics;
+import com.mylittleshop.backend.service.ProductSearchIndex;
 import com.mylittleshop.backend.service.ProductService;
 import com.mylittleshop.backend.service.ProductCategoryService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -26,15 +44,30 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 
 /**
  * 상품 관련 API를 제공하는 컨트롤러입니다.
+ * 상품 응답은 카탈로그 캐시(CatalogService)의 불변 응답 객체(ProductSummary/ProductDetail)로 구성하므로
+ * 지연 로딩이 발생하지 않습니다.
  */
 @RestController
 @RequestMapping("/products")
 @RequiredArgsConstructor
+@Slf4j
 @Tag(name = "상품 관리", description = "상품 조회 및 관리 관련 API")
 public class ProductController {
     
     private final ProductService productService;
     private final ProductCategoryService categoryService;
+    private final ProductSearchIndex productSearchIndex;
+    private final CatalogService catalogService;
+    private final CategoryTreeService categoryTreeService;
+    private final ObjectMapper objectMapper;
+    private final HotPathMetrics hotPathMetrics;
+    
+    // 상품 검색 계측 이름
+    private static final String SEARCH = "product.search";
+    
+    // 목록 응답 JSON 앞부분 (상품 항목은 캐시된 JSON 바이트를 이어서 기록)
+    private static final byte[] PRODUCT_PAGE_PREFIX =
+            "{\"success\":true,\"data\":{\"products\":[".getBytes(StandardCharsets.UTF_8);
 
     /**
      * 테스트용 간단한 API
@@ -50,11 +83,12 @@ public class ProductController {
 
     /**
      * 상품 목록 조회 (페이징, 정렬, 검색, 필터링 지원)
+     * 조회 결과는 캐시된 상품별 JSON 바이트를 이어 붙여 그대로 응답합니다.
+     * cursor 파라미터를 전달하면 등록일 최신순 키셋 페이징으로 조회합니다. (전체 건수 없음, 필터 미지원)
      */
     @Operation(summary = "상품 목록 조회")
     @GetMapping
-    @Transactional(readOnly = true)
-    public ResponseEntity<Map<String, Object>> getProducts(
+    public ResponseEntity<?> getProducts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
@@ -62,54 +96,37 @@ public class ProductController {
             @RequestParam(required = false) String search,
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false) String brand,
-            @RequestParam(defaultValue = "true") boolean activeOnly
+            @RequestParam(defaultValue = "true") boolean activeOnly,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)")
+            @RequestParam(required = false) String cursor
     ) {
+        if (cursor != null) {
+            return getProductSlice(cursor, size, search, categoryId, brand, activeOnly);
+        }
         try {
-            // 실제 데이터베이스 연결 시도
-            System.out.println("데이터베이스 연결 시도...");
-            
             try {
                 Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
                 Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
                 
-                Page<Product> productPage;            
+                Page<ProductSummary> productPage;            
                 if (hasComplexFilters(search, categoryId, brand)) {
-                    productPage = getFilteredProducts(pageable, search, categoryId, brand, activeOnly);
+                    productPage = toSummaryPage(getFilteredProducts(pageable, search, categoryId, brand, activeOnly));
                 } else {
-                    if (activeOnly) {
-                        // 우선 Repository에서 직접 조회 (JOIN FETCH 없이)
-                        productPage = productService.findByStatusAndIsActive(ProductStatus.ACTIVE, true, pageable);
-                    } else {
-                        productPage = productService.findAll(pageable);
-                    }
+                    // 목록 ID/건수와 상품 목록 항목 모두 카탈로그 캐시에서 조회
+                    productPage = catalogService.getProductPage(activeOnly, pageable);
                 }
                 
-                System.out.println("데이터베이스 조회 성공! 상품 수: " + productPage.getTotalElements());
-                
                 if (productPage.getTotalElements() > 0) {
-                    Map<String, Object> response = new HashMap<>();
-                    response.put("success", true);
-                    response.put("data", Map.of(
-                        "products", productPage.getContent().stream()
-                            .map(this::convertToDTO)
-                            .collect(Collectors.toList()),
-                        "currentPage", productPage.getNumber(),
-                        "totalPages", productPage.getTotalPages(),
-                        "totalElements", productPage.getTotalElements(),
-                        "size", productPage.getSize(),
-                        "hasNext", productPage.hasNext(),
-                        "hasPrevious", productPage.hasPrevious()
-                    ));
-                    
-                    return ResponseEntity.ok(response);
+                    return ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(writeProductPage(productPage.getContent(), pagingOf(productPage)));
                 }
             } catch (Exception dbException) {
-                System.out.println("데이터베이스 조회 실패, 더미 데이터 사용: " + dbException.getMessage());
-                dbException.printStackTrace(); // 상세 에러 로그
+                log.warn("상품 목록 조회 실패, 더미 데이터 사용: {}", dbException.getMessage(), dbException);
             }
             
             // 실제 데이터가 없거나 DB 연결 실패 시 더미 데이터 반환
-            System.out.println("더미 데이터 사용");
+            log.debug("상품 데이터가 없어 더미 데이터 사용");
             List<Map<String, Object>> dummyProducts = createDummyProducts();
             
             // 응답 데이터 구성
@@ -138,17 +155,16 @@ public class ProductController {
      */
     @Operation(summary = "상품 상세 조회")
     @GetMapping("/{id}")
-    @Transactional(readOnly = true)
     public ResponseEntity<Map<String, Object>> getProduct(@PathVariable Long id) {
         try {
-            Optional<Product> productOpt = productService.findById(id);
+            Optional<ProductSnapshot> productOpt = catalogService.getProduct(id);
             
             if (productOpt.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(Map.of("success", false, "message", "상품을 찾을 수 없습니다."));
             }
             
-            Product product = productOpt.get();
+            ProductSnapshot product = productOpt.get();
             
             // 활성 상품이 아닌 경우 접근 제한
             if (!product.getIsActive() || product.getStatus() != ProductStatus.ACTIVE) {
@@ -156,11 +172,9 @@ public class ProductController {
                     .body(Map.of("success", false, "message", "해당 상품은 현재 이용할 수 없습니다."));
             }
             
-            Map<String, Object> productDetail = convertToDetailDTO(product);
-            
             return ResponseEntity.ok(Map.of(
                 "success", true,
-                "data", productDetail
+                "data", ProductDetail.from(product)
             ));
             
         } catch (Exception e) {
@@ -170,19 +184,21 @@ public class ProductController {
     }
     /**
      * 카테고리별 상품 조회
+     * includeSubcategories=true 이면 카테고리 트리의 하위 카테고리 상품까지 함께 조회합니다.
      */
     @Operation(summary = "카테고리별 상품 조회")
     @GetMapping("/category/{categoryId}")
-    @Transactional(readOnly = true)
     public ResponseEntity<Map<String, Object>> getProductsByCategory(
             @PathVariable Long categoryId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @Parameter(description = "하위 카테고리 상품 포함 여부")
+            @RequestParam(defaultValue = "false") boolean includeSubcategories
     ) {
         try {
-            Optional<ProductCategory> categoryOpt = categoryService.findById(categoryId);
+            Optional<CategorySnapshot> categoryOpt = categoryTreeService.getCategory(categoryId);
             if (categoryOpt.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(Map.of("success", false, "message", "카테고리를 찾을 수 없습니다."));
@@ -191,15 +207,15 @@ public class ProductController {
             Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
             Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
             
-            Page<Product> productPage = productService.findByCategory(categoryOpt.get(), pageable);
+            List<Long> categoryIds = includeSubcategories
+                ? categoryTreeService.getDescendantIds(categoryId) : List.of(categoryId);
+            Page<ProductSummary> productPage = catalogService.getProductPageInCategories(categoryIds, pageable);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("data", Map.of(
                 "category", convertCategoryToDTO(categoryOpt.get()),
-                "products", productPage.getContent().stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList()),
+                "products", productPage.getContent(),
                 "currentPage", productPage.getNumber(),
                 "totalPages", productPage.getTotalPages(),
                 "totalElements", productPage.getTotalElements()
@@ -214,7 +230,8 @@ public class ProductController {
     }
 
     /**
-     * 상품 검색
+     * 상품 검색 (이름/설명/브랜드/SKU 대상, 관련도 순)
+     * cursor 파라미터를 전달하면 키셋 페이징으로, 생략하면 page/size 오프셋 페이징으로 조회합니다.
      */
     @Operation(summary = "상품 검색")
     @GetMapping("/search")
@@ -222,33 +239,137 @@ public class ProductController {
     public ResponseEntity<Map<String, Object>> searchProducts(
             @RequestParam String keyword,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "false") boolean inStock,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)")
+            @RequestParam(required = false) String cursor
     ) {
+        // 검색 계측: product.search{outcome}, product.search.phase{phase=query|map}, product.search.results{mode}
+        HotPathMetrics.Span search = hotPathMetrics.start(SEARCH);
         try {
             if (keyword == null || keyword.trim().isEmpty()) {
+                search.outcome("invalid");
                 return ResponseEntity.badRequest()
                     .body(Map.of("success", false, "message", "검색 키워드를 입력해주세요."));
             }
             
-            Pageable pageable = PageRequest.of(page, size);
-            List<Product> products = productService.findByNameContaining(keyword.trim());
+            String trimmedKeyword = keyword.trim();
+            Map<String, Object> data = new HashMap<>();
+            data.put("keyword", trimmedKeyword);
+            
+            List<Product> found;
+            if (cursor != null) {
+                CursorPage<Product> slice;
+                try (HotPathMetrics.Span phase = hotPathMetrics.phase(SEARCH, "query")) {
+                    slice = productService.searchProducts(
+                        trimmedKeyword, categoryId, minPrice, maxPrice, inStock, cursor, size);
+                }
+                found = slice.getContent();
+                data.put("size", size);
+                data.put("hasNext", slice.isHasNext());
+                data.put("nextCursor", slice.getNextCursor());
+            } else {
+                Page<Product> productPage;
+                try (HotPathMetrics.Span phase = hotPathMetrics.phase(SEARCH, "query")) {
+                    productPage = productService.searchProducts(
+                        trimmedKeyword, categoryId, minPrice, maxPrice, inStock, PageRequest.of(page, size));
+                }
+                found = productPage.getContent();
+                data.put("currentPage", productPage.getNumber());
+                data.put("totalPages", productPage.getTotalPages());
+                data.put("totalElements", productPage.getTotalElements());
+                data.put("size", productPage.getSize());
+                data.put("hasNext", productPage.hasNext());
+            }
+            try (HotPathMetrics.Span phase = hotPathMetrics.phase(SEARCH, "map")) {
+                data.put("products", toSummaries(found));
+            }
+            
+            hotPathMetrics.summary(SEARCH + ".results", found.size(), "mode", cursor != null ? "cursor" : "page");
+            search.count(found.size()).success();
+            return ResponseEntity.ok(Map.of(
+                "success", true,
+                "data", data
+            ));
+            
+        } catch (IllegalArgumentException e) {
+            search.outcome("invalid");
+            return ResponseEntity.badRequest()
+                .body(Map.of("success", false, "message", e.getMessage()));
+        } catch (Exception e) {
+            log.warn("상품 검색 실패: keyword={}, 오류={}", keyword, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("success", false, "message", "상품 검색 중 오류가 발생했습니다: " + e.getMessage()));
+        } finally {
+            search.close();
+        }
+    }
+    /**
+     * 패싯 탐색 (인메모리 검색 색인 기반)
+     * 브랜드/카테고리/가격대/플래그 필터와 패싯 집계를 DB 조회 없이 색인에서 계산합니다.
+     */
+    @Operation(summary = "상품 패싯 탐색")
+    @GetMapping("/browse")
+    public ResponseEntity<Map<String, Object>> browseProducts(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String brand,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Boolean featured,
+            @RequestParam(required = false) Boolean bestseller,
+            @RequestParam(required = false) Boolean newArrival,
+            @RequestParam(required = false) Boolean subscriptionAvailable,
+            @RequestParam(defaultValue = "false") boolean inStock,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        try {
+            if (!productSearchIndex.isReady()) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("success", false, "message", "검색 색인을 준비 중입니다. 잠시 후 다시 시도해주세요."));
+            }
+            
+            ProductSearchResult result = productSearchIndex.search(ProductSearchQuery.builder()
+                .keyword(keyword)
+                .brand(brand)
+                .categoryId(categoryId)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .featured(featured)
+                .bestseller(bestseller)
+                .newArrival(newArrival)
+                .subscriptionAvailable(subscriptionAvailable)
+                .inStockOnly(inStock)
+                .offset(page * size)
+                .limit(size)
+                .build());
+            
+            List<ProductSummary> products = catalogService.getProductSummaries(result.getProductIds());
+            int totalPages = size > 0 ? (result.getTotalHits() + size - 1) / size : 0;
             
             return ResponseEntity.ok(Map.of(
                 "success", true,
                 "data", Map.of(
-                    "keyword", keyword.trim(),
-                    "products", products.stream()
-                        .map(this::convertToDTO)
-                        .collect(Collectors.toList()),
-                    "totalElements", products.size()
+                    "products", products,
+                    "facets", result.getFacets(),
+                    "currentPage", page,
+                    "totalPages", totalPages,
+                    "totalElements", result.getTotalHits(),
+                    "size", size,
+                    "hasNext", page + 1 < totalPages
                 )
             ));
             
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(Map.of("success", false, "message", "상품 검색 중 오류가 발생했습니다: " + e.getMessage()));
+                .body(Map.of("success", false, "message", "상품 탐색 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
+
     /**
      * 관련 상품 조회
      */
@@ -281,9 +402,7 @@ public class ProductController {
                 "success", true,
                 "data", Map.of(
                     "productId", id,
-                    "relatedProducts", relatedProducts.stream()
-                        .map(this::convertToDTO)
-                        .collect(Collectors.toList())
+                    "relatedProducts", toSummaries(relatedProducts)
                 )
             ));
             
@@ -303,9 +422,8 @@ public class ProductController {
                                             String brand, boolean activeOnly) {
         
         if (search != null && !search.trim().isEmpty()) {
-            List<Product> searchResults = productService.findByNameContaining(search.trim());
-            // 간단한 페이징 처리 (실제로는 Repository에서 Page를 반환하도록 구현해야 함)
-            return new org.springframework.data.domain.PageImpl<>(searchResults, pageable, searchResults.size());
+            // DB에서 페이징된 검색 결과 조회 (관련도 순)
+            return productService.searchProducts(search.trim(), categoryId, null, null, false, pageable);
         }
         
         if (categoryId != null) {
@@ -323,113 +441,97 @@ public class ProductController {
         return productService.findAll(pageable);
     }    
     /**
-     * Product 엔티티를 DTO로 변환 (목록용)
+     * 조회된 상품 엔티티 목록을 카탈로그 캐시의 목록 항목으로 대체 (순서 유지)
      */
-    private Map<String, Object> convertToDTO(Product product) {
-        Map<String, Object> dto = new HashMap<>();
-        dto.put("id", product.getId());
-        dto.put("name", product.getName());
-        dto.put("description", product.getDescription());
-        dto.put("price", product.getGmPrice());
-        dto.put("memberPrice", product.getGbmPrice());
-        dto.put("originalPrice", product.getOriginalGmPrice());
-        dto.put("stockQuantity", product.getStockQuantity());
-        dto.put("status", product.getStatus());
-        dto.put("isActive", product.getIsActive());
-        dto.put("featured", product.getFeatured());
-        dto.put("bestseller", product.getBestseller());
-        dto.put("newArrival", product.getNewArrival());
-        dto.put("brand", product.getBrand());
-        dto.put("sku", product.getSku());
-        dto.put("createdAt", product.getCreatedAt());
-        
-        // 카테고리 정보
-        if (product.getCategory() != null) {
-            dto.put("category", convertCategoryToDTO(product.getCategory()));
-        }
-        
-        // 메인 이미지
-        if (!product.getImages().isEmpty()) {
-            Optional<ProductImage> mainImage = product.getImages().stream()
-                .filter(ProductImage::getIsMain)
-                .findFirst();
-            if (mainImage.isPresent()) {
-                dto.put("mainImage", convertImageToDTO(mainImage.get()));
-            } else {
-                dto.put("mainImage", convertImageToDTO(product.getImages().get(0)));
-            }
+    private List<ProductSummary> toSummaries(List<Product> products) {
+        return catalogService.getProductSummaries(products.stream()
+            .map(Product::getId)
+            .collect(Collectors.toList()));
+    }
+    
+    private Page<ProductSummary> toSummaryPage(Page<Product> productPage) {
+        return new PageImpl<>(toSummaries(productPage.getContent()), productPage.getPageable(), productPage.getTotalElements());
+    }
+    
+    /**
+     * 상품 목록 키셋 조회 (등록일/ID 내림차순)
+     */
+    private ResponseEntity<?> getProductSlice(String cursor, int size, String search, Long categoryId,
+                                              String brand, boolean activeOnly) {
+        if (hasComplexFilters(search, categoryId, brand)) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("success", false, "message", "커서 조회는 검색/카테고리/브랜드 필터와 함께 사용할 수 없습니다."));
         }
-        
-        // 할인 정보
-        if (product.getOriginalGmPrice() != null && 
-            product.getOriginalGmPrice().compareTo(product.getGmPrice()) > 0) {
-            BigDecimal discountAmount = product.getOriginalGmPrice().subtract(product.getGmPrice());
-            BigDecimal discountRate = discountAmount.divide(product.getOriginalGmPrice(), 4, BigDecimal.ROUND_HALF_UP)
-                .multiply(BigDecimal.valueOf(100));
-            dto.put("discount", Map.of(
-                "amount", discountAmount,
-                "rate", discountRate.intValue()
-            ));
+        try {
+            CursorPage<ProductSummary> slice = catalogService.getProductSlice(activeOnly, cursor, size);
+            Map<String, Object> paging = new LinkedHashMap<>();
+            paging.put("size", slice.getSize());
+            paging.put("hasNext", slice.isHasNext());
+            paging.put("nextCursor", slice.getNextCursor());
+            return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(writeProductPage(slice.getContent(), paging));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("success", false, "message", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("success", false, "message", "상품 목록 조회 중 오류가 발생했습니다: " + e.getMessage()));
         }
-        
-        return dto;
+    }
+    
+    private static Map<String, Object> pagingOf(Page<ProductSummary> productPage) {
+        Map<String, Object> paging = new LinkedHashMap<>();
+        paging.put("currentPage", productPage.getNumber());
+        paging.put("totalPages", productPage.getTotalPages());
+        paging.put("totalElements", productPage.getTotalElements());
+        paging.put("size", productPage.getSize());
+        paging.put("hasNext", productPage.hasNext());
+        paging.put("hasPrevious", productPage.hasPrevious());
+        return paging;
     }
     
     /**
-     * Product 엔티티를 상세 DTO로 변환
+     * 목록 응답 JSON 작성
+     * 상품 항목은 카탈로그 캐시의 JSON 바이트를 그대로 이어 붙이고, 페이지 정보만 새로 직렬화합니다.
      */
-    private Map<String, Object> convertToDetailDTO(Product product) {
-        Map<String, Object> dto = convertToDTO(product);
+    private byte[] writeProductPage(List<ProductSummary> products, Map<String, Object> paging) throws JsonProcessingException {
+        byte[] pagingJson = objectMapper.writeValueAsBytes(paging);
         
-        // 추가 상세 정보
-        dto.put("manufacturer", product.getManufacturer());
-        dto.put("barcode", product.getBarcode());
-        dto.put("minimumOrderQuantity", product.getMinimumOrderQuantity());
-        dto.put("maximumOrderQuantity", product.getMaximumOrderQuantity());
-        dto.put("subscriptionAvailable", product.getSubscriptionAvailable());
-        dto.put("shippingFee", product.getShippingFee());
-        dto.put("countryOfOrigin", product.getCountryOfOrigin());
-        dto.put("weight", product.getWeight());
-        dto.put("updatedAt", product.getUpdatedAt());
-        
-        // 모든 이미지
-        dto.put("images", product.getImages().stream()
-            .map(this::convertImageToDTO)
-            .collect(Collectors.toList()));
-        
-        return dto;
-    }    
+        ByteArrayOutputStream out = new ByteArrayOutputStream(products.size() * 768 + 256);
+        out.writeBytes(PRODUCT_PAGE_PREFIX);
+        for (int i = 0; i < products.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.writeBytes(catalogService.getSummaryJson(products.get(i)));
+        }
+        out.write(']');
+        out.write(',');
+        // 페이지 정보 객체의 여는 괄호를 제외하고 기록 (닫는 괄호가 data 객체를 닫음)
+        out.write(pagingJson, 1, pagingJson.length - 1);
+        out.write('}');
+        return out.toByteArray();
+    }
+    
     /**
-     * ProductCategory 엔티티를 DTO로 변환
+     * 카테고리 스냅샷을 DTO로 변환
      */
-    private Map<String, Object> convertCategoryToDTO(ProductCategory category) {
+    private Map<String, Object> convertCategoryToDTO(CategorySnapshot category) {
         Map<String, Object> dto = new HashMap<>();
         dto.put("id", category.getId());
         dto.put("name", category.getName());
         
-        if (category.getParent() != null) {
+        if (category.getParentId() != null) {
             dto.put("parent", Map.of(
-                "id", category.getParent().getId(),
-                "name", category.getParent().getName()
+                "id", category.getParentId(),
+                "name", category.getParentName()
             ));
         }
         
         return dto;
     }
     
-    /**
-     * ProductImage 엔티티를 DTO로 변환
-     */
-    private Map<String, Object> convertImageToDTO(ProductImage image) {
-        Map<String, Object> dto = new HashMap<>();
-        dto.put("id", image.getId());
-        dto.put("url", image.getUrl());
-        dto.put("alt", "상품 이미지"); // alt 기본값
-        dto.put("isMain", image.getIsMain());
-        dto.put("sortOrder", image.getSortOrder());
-        return dto;
-    }
-    
     /**
      * 임시 더미 데이터 생성 (테스트용)
      */
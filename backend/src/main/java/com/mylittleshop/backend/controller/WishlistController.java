@@ -1,5 +1,6 @@
 package com.mylittleshop.backend.controller;
 
+import com.mylittleshop.backend.dto.CursorPage;
 import com.mylittleshop.backend.dto.WishlistResponse;
 import com.mylittleshop.backend.model.Wishlist;
 import com.mylittleshop.backend.service.WishlistService;
@@ -11,6 +12,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/wishlist")
@@ -19,6 +21,9 @@ import java.util.List;
 @CrossOrigin(origins = "http://localhost:3000")
 public class WishlistController {
     
+    // 일괄 확인 요청당 최대 상품 수
+    private static final int MAX_CHECK_PRODUCTS = 200;
+    
     private final WishlistService wishlistService;
     private final DtoMapper dtoMapper;
     
@@ -43,6 +48,28 @@ public class WishlistController {
         }
     }
     
+    /**
+     * 사용자 위시리스트 키셋(커서) 조회 - 최근 추가 순
+     * GET /api/wishlist/{userId}/items?cursor=&size=
+     */
+    @GetMapping("/{userId}/items")
+    public ResponseEntity<CursorPage<WishlistResponse>> getUserWishlistItems(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            CursorPage<Wishlist> page = wishlistService.findByUserIdOrderByCreatedAtDesc(userId, cursor, size);
+            return ResponseEntity.ok(page.map(dtoMapper::toWishlistResponseList));
+            
+        } catch (IllegalArgumentException e) {
+            log.warn("위시리스트 커서 조회 실패 - 잘못된 요청: userId={}, error={}", userId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("위시리스트 커서 조회 실패: userId={}, error={}", userId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     /**
      * 위시리스트에 상품 추가
      * POST /api/wishlist/{userId}/items/{productId}
@@ -111,7 +138,7 @@ public class WishlistController {
         try {
             log.info("위시리스트 상품 확인 요청: userId={}, productId={}", userId, productId);
             
-            boolean exists = wishlistService.findByUserIdAndProductId(userId, productId).isPresent();
+            boolean exists = wishlistService.isProductInWishlist(userId, productId);
             
             log.info("위시리스트 상품 확인 성공: userId={}, productId={}, exists={}", 
                     userId, productId, exists);
@@ -124,6 +151,27 @@ public class WishlistController {
         }
     }
     
+    /**
+     * 여러 상품의 위시리스트 포함 여부 일괄 확인 (상품 목록 화면의 찜 표시용)
+     * GET /api/wishlist/{userId}/check?productIds=1,2,3
+     */
+    @GetMapping("/{userId}/check")
+    public ResponseEntity<Map<Long, Boolean>> checkProducts(
+            @PathVariable Long userId,
+            @RequestParam List<Long> productIds) {
+        if (productIds.size() > MAX_CHECK_PRODUCTS) {
+            log.warn("위시리스트 일괄 확인 실패 - 상품 수 초과: userId={}, count={}", userId, productIds.size());
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(wishlistService.checkProducts(userId, productIds));
+            
+        } catch (Exception e) {
+            log.error("위시리스트 일괄 확인 실패: userId={}, error={}", userId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     /**
      * 위시리스트 아이템 수 조회
      * GET /api/wishlist/{userId}/count
@@ -0,0 +1,19 @@
+package com.mylittleshop.backend.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 발급된 액세스 토큰 / 리프레시 토큰
+ */
+@Value
+@Builder
+public class AuthTokens {
+
+    Long userId;
+    String accessToken;
+    // 액세스 토큰 만료 시간(초)
+    long expiresIn;
+    // 리프레시 토큰 원문 (DB 에는 해시만 저장)
+    String refreshToken;
+}
@@ -0,0 +1,29 @@
+package com.mylittleshop.backend.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 장바구니 일괄 변경 요청 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CartMutationRequest {
+
+    // 클라이언트가 마지막으로 조회한 장바구니 버전 (지정하면 현재 버전과 다를 때 409)
+    private Long expectedVersion;
+
+    @Valid
+    @NotEmpty(message = "변경 항목은 필수입니다.")
+    private List<CartOperation> operations;
+}
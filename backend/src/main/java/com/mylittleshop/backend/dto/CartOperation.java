@@ -0,0 +1,32 @@
+package com.mylittleshop.backend.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 장바구니 변경 항목
+ * - ADD: 수량만큼 추가 (없으면 새로 담음)
+ * - SET: 수량 지정 (0이면 삭제)
+ * - REMOVE: 삭제
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CartOperation {
+
+    public enum Type { ADD, SET, REMOVE }
+
+    @NotNull(message = "변경 유형은 필수입니다.")
+    private Type type;
+
+    @NotNull(message = "상품 ID는 필수입니다.")
+    private Long productId;
+
+    private Integer quantity;
+}
@@ -0,0 +1,31 @@
+package com.mylittleshop.backend.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 장바구니 조회 결과 (아이템, 상품 정보, 재고, 합계, 프로모션 적용 결과)
+ */
+@Value
+@Builder
+public class CartView {
+
+    Long userId;
+    // 활성 장바구니 ID (장바구니가 없으면 null)
+    Long cartId;
+    // 장바구니 버전 (일괄 변경 요청의 expectedVersion 으로 사용)
+    Long version;
+    List<CartItemResponse> items;
+    // 장바구니 아이템(상품) 수
+    int itemCount;
+    // 전체 수량 합계
+    int totalQuantity;
+    // 단가 x 수량 합계
+    BigDecimal subtotal;
+    // 모든 아이템이 담은 수량만큼 재고가 있는지 여부
+    boolean allInStock;
+    PromotionQuote promotion;
+}
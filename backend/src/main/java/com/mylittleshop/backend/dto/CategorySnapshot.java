@@ -0,0 +1,22 @@
+package com.mylittleshop.backend.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 상품 카테고리 스냅샷 (카탈로그 캐시용 불변 객체)
+ * - 하위 카테고리는 ID 목록으로만 보관하며, 트리 구성은 ID 맵으로 조회합니다.
+ */
+@Value
+@Builder
+public class CategorySnapshot implements Serializable {
+    Long id;
+    String name;
+    Long parentId;
+    String parentName;
+    List<Long> childIds;
+    long productCount;
+}
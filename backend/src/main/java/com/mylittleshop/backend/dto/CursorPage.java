@@ -0,0 +1,68 @@
+package com.mylittleshop.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 페이지 응답 DTO
+ * - 전체 건수(COUNT)를 조회하지 않으며, 다음 페이지는 nextCursor 로 요청합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPage<T> {
+
+    // 한 번에 조회할 수 있는 최대 건수
+    public static final int MAX_SIZE = 1000;
+
+    private List<T> content;
+
+    private int size;
+
+    private boolean hasNext;
+
+    // 다음 페이지 커서 (마지막 페이지면 null)
+    private String nextCursor;
+
+    /**
+     * 페이지 크기 검증
+     * @param size 페이지 크기
+     * @throws IllegalArgumentException 1 ~ MAX_SIZE 범위를 벗어난 경우
+     */
+    public static void checkSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_SIZE + " 사이여야 합니다.");
+        }
+    }
+
+    /**
+     * size + 1 건으로 조회한 결과에서 페이지를 구성합니다.
+     * @param rows 조회 결과 (최대 size + 1 건)
+     * @param size 페이지 크기
+     * @param cursorOf 행 -> 커서 변환 함수 (마지막 행에 적용)
+     * @return 커서 페이지
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorPage<>(content, size, hasNext, nextCursor);
+    }
+
+    /**
+     * 내용만 변환한 페이지 (커서 정보 유지)
+     * @param mapper 변환 함수
+     * @return 변환된 커서 페이지
+     */
+    public <R> CursorPage<R> map(Function<List<T>, List<R>> mapper) {
+        return new CursorPage<>(mapper.apply(content), size, hasNext, nextCursor);
+    }
+}
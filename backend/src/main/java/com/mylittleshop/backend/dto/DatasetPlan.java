@@ -0,0 +1,38 @@
+package com.mylittleshop.backend.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 대용량 데이터 생성 계획 (테이블별 생성 규모와 분포)
+ */
+@Value
+@Builder
+public class DatasetPlan {
+
+    int categories;
+    int products;
+    // 상품당 이미지/속성 값 수
+    int imagesPerProduct;
+    int attributes;
+    int attributesPerProduct;
+    int users;
+    // 생성 사용자 공통 비밀번호 (한 번만 해시해 모든 사용자에 사용)
+    String userPassword;
+    long orders;
+    // 주문당 최대 항목 수 (실제 항목 수는 1 ~ 최대값에서 적은 쪽으로 치우침)
+    int maxItemsPerOrder;
+    // 사용자당 평균 찜/리뷰 수 (지수 분포로 치우침)
+    double wishlistsPerUser;
+    double reviewsPerUser;
+    // 장바구니를 가진 사용자 비율과 장바구니당 최대 항목 수
+    double cartRatio;
+    int maxItemsPerCart;
+    int subscriptionPlans;
+    int subscriptions;
+    // Zipf 치우침 정도 (상품 인기도/사용자 활동량)
+    double zipfExponent;
+    long seed;
+    int threads;
+    int batchSize;
+}
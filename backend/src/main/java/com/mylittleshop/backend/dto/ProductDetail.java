@@ -0,0 +1,46 @@
+package com.mylittleshop.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 상세 응답 (불변)
+ * - 목록 항목(ProductSummary)의 필드를 같은 JSON 객체에 펼치고 상세 필드와 전체 이미지를 추가합니다.
+ */
+@Value
+public class ProductDetail {
+    @JsonUnwrapped
+    ProductSummary summary;
+    String manufacturer;
+    String barcode;
+    Integer minimumOrderQuantity;
+    Integer maximumOrderQuantity;
+    Boolean subscriptionAvailable;
+    BigDecimal shippingFee;
+    String countryOfOrigin;
+    BigDecimal weight;
+    LocalDateTime updatedAt;
+    List<ProductSummary.Image> images;
+
+    public static ProductDetail from(ProductSnapshot snapshot) {
+        return new ProductDetail(
+                ProductSummary.from(snapshot),
+                snapshot.getManufacturer(),
+                snapshot.getBarcode(),
+                snapshot.getMinimumOrderQuantity(),
+                snapshot.getMaximumOrderQuantity(),
+                snapshot.getSubscriptionAvailable(),
+                snapshot.getShippingFee(),
+                snapshot.getCountryOfOrigin(),
+                snapshot.getWeight(),
+                snapshot.getUpdatedAt(),
+                snapshot.getImages().stream()
+                        .map(ProductSummary.Image::from)
+                        .collect(Collectors.toUnmodifiableList()));
+    }
+}
@@ -0,0 +1,28 @@
+package com.mylittleshop.backend.dto;
+
+import com.mylittleshop.backend.model.ProductImage;
+import lombok.Builder;
+import lombok.Value;
+
+import java.io.Serializable;
+
+/**
+ * 상품 이미지 스냅샷 (카탈로그 캐시용 불변 객체)
+ */
+@Value
+@Builder
+public class ProductImageSnapshot implements Serializable {
+    Long id;
+    String url;
+    Boolean isMain;
+    Integer sortOrder;
+
+    public static ProductImageSnapshot from(ProductImage image) {
+        return ProductImageSnapshot.builder()
+                .id(image.getId())
+                .url(image.getUrl())
+                .isMain(image.getIsMain())
+                .sortOrder(image.getSortOrder())
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.mylittleshop.backend.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+
+/**
+ * 인메모리 상품 검색 색인 조회 조건 DTO
+ * - null 인 조건은 적용하지 않습니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductSearchQuery {
+    private String keyword;
+    private String brand;
+    private Long categoryId;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private Boolean featured;
+    private Boolean bestseller;
+    private Boolean newArrival;
+    private Boolean subscriptionAvailable;
+    private boolean inStockOnly;
+    @Builder.Default
+    private int offset = 0;
+    @Builder.Default
+    private int limit = 20;
+}
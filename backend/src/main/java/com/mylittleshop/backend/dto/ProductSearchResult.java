@@ -0,0 +1,27 @@
+package com.mylittleshop.backend.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인메모리 상품 검색 색인 조회 결과 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductSearchResult {
+    // 현재 페이지의 상품 ID (관련도 순)
+    private List<Long> productIds;
+    // 조건에 일치하는 전체 상품 수
+    private int totalHits;
+    // 패싯명(brand, category, priceRange, flags) -> 값 -> 상품 수
+    private Map<String, Map<String, Integer>> facets;
+}
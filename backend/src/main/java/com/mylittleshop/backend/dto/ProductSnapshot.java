@@ -0,0 +1,116 @@
+package com.mylittleshop.backend.dto;
+
+import com.mylittleshop.backend.model.Product;
+import com.mylittleshop.backend.model.ProductCategory;
+import com.mylittleshop.backend.model.ProductImage;
+import com.mylittleshop.backend.model.ProductStatus;
+import lombok.Builder;
+import lombok.Value;
+import lombok.With;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 스냅샷 (카탈로그 캐시용 불변 객체)
+ * - 카테고리/이미지를 포함해 한 번에 만들어 두므로 응답 변환 시 지연 로딩이 발생하지 않습니다.
+ * - 재고 수량과 상태는 주문마다 바뀌므로 조회 시점에 재고 원장 값으로 덮어씁니다. (withStockQuantity/withStatus)
+ */
+@Value
+@Builder
+public class ProductSnapshot implements Serializable {
+    Long id;
+    String name;
+    String description;
+    BigDecimal gmPrice;
+    BigDecimal gbmPrice;
+    BigDecimal originalGmPrice;
+    @With
+    Integer stockQuantity;
+    @With
+    ProductStatus status;
+    Boolean isActive;
+    Boolean featured;
+    Boolean bestseller;
+    Boolean newArrival;
+    String brand;
+    String sku;
+    String manufacturer;
+    String barcode;
+    Integer minimumOrderQuantity;
+    Integer maximumOrderQuantity;
+    Boolean subscriptionAvailable;
+    BigDecimal shippingFee;
+    String countryOfOrigin;
+    BigDecimal weight;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+
+    // 카테고리 (없으면 null)
+    Long categoryId;
+    String categoryName;
+    Long parentCategoryId;
+    String parentCategoryName;
+
+    // 메인 이미지 (is_main 우선, 없으면 첫 번째 이미지)
+    ProductImageSnapshot mainImage;
+    List<ProductImageSnapshot> images;
+
+    /**
+     * 엔티티로부터 스냅샷 생성 (카테고리, 상위 카테고리, 이미지가 로딩된 상태여야 합니다)
+     * @param product 상품 엔티티
+     * @return 상품 스냅샷
+     */
+    public static ProductSnapshot from(Product product) {
+        List<ProductImageSnapshot> images = product.getImages().stream()
+                .sorted(Comparator.comparing(ProductImage::getSortOrder, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(ProductImageSnapshot::from)
+                .collect(Collectors.toUnmodifiableList());
+        ProductImageSnapshot mainImage = images.stream()
+                .filter(image -> Boolean.TRUE.equals(image.getIsMain()))
+                .findFirst()
+                .orElse(images.isEmpty() ? null : images.get(0));
+
+        ProductSnapshotBuilder builder = ProductSnapshot.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .description(product.getDescription())
+                .gmPrice(product.getGmPrice())
+                .gbmPrice(product.getGbmPrice())
+                .originalGmPrice(product.getOriginalGmPrice())
+                .stockQuantity(product.getStockQuantity())
+                .status(product.getStatus())
+                .isActive(product.getIsActive())
+                .featured(product.getFeatured())
+                .bestseller(product.getBestseller())
+                .newArrival(product.getNewArrival())
+                .brand(product.getBrand())
+                .sku(product.getSku())
+                .manufacturer(product.getManufacturer())
+                .barcode(product.getBarcode())
+                .minimumOrderQuantity(product.getMinimumOrderQuantity())
+                .maximumOrderQuantity(product.getMaximumOrderQuantity())
+                .subscriptionAvailable(product.getSubscriptionAvailable())
+                .shippingFee(product.getShippingFee())
+                .countryOfOrigin(product.getCountryOfOrigin())
+                .weight(product.getWeight())
+                .createdAt(product.getCreatedAt())
+                .updatedAt(product.getUpdatedAt())
+                .mainImage(mainImage)
+                .images(images);
+
+        ProductCategory category = product.getCategory();
+        if (category != null) {
+            builder.categoryId(category.getId()).categoryName(category.getName());
+            if (category.getParent() != null) {
+                builder.parentCategoryId(category.getParent().getId())
+                        .parentCategoryName(category.getParent().getName());
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,162 @@
+package com.mylittleshop.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.mylittleshop.backend.model.ProductStatus;
+import lombok.Builder;
+import lombok.Value;
+import lombok.With;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록 응답 항목 (불변)
+ * - 필드 이름이 곧 JSON 키이며, 카탈로그 캐시에 보관되어 요청마다 다시 만들지 않습니다.
+ * - 메인 이미지와 할인 정보는 생성 시 한 번만 계산합니다.
+ * - 재고 수량과 상태는 조회 시점에 재고 원장 값으로 덮어씁니다. (withStockQuantity/withStatus)
+ */
+@Value
+@Builder
+public class ProductSummary implements Serializable {
+    public static final String DEFAULT_IMAGE_ALT = "상품 이미지";
+
+    Long id;
+    String name;
+    String description;
+    BigDecimal price;
+    BigDecimal memberPrice;
+    BigDecimal originalPrice;
+    @With
+    Integer stockQuantity;
+    @With
+    ProductStatus status;
+    Boolean isActive;
+    Boolean featured;
+    Boolean bestseller;
+    Boolean newArrival;
+    String brand;
+    String sku;
+    LocalDateTime createdAt;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    CategoryRef category;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Image mainImage;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Discount discount;
+
+    /**
+     * 목록 프로젝션과 메인 이미지로 생성
+     * @param view 목록 프로젝션
+     * @param mainImage 메인 이미지 (없으면 null)
+     * @return 목록 응답 항목
+     */
+    public static ProductSummary of(ProductSummaryView view, ProductImageSnapshot mainImage) {
+        return ProductSummary.builder()
+                .id(view.getId())
+                .name(view.getName())
+                .description(view.getDescription())
+                .price(view.getGmPrice())
+                .memberPrice(view.getGbmPrice())
+                .originalPrice(view.getOriginalGmPrice())
+                .stockQuantity(view.getStockQuantity())
+                .status(view.getStatus())
+                .isActive(view.getIsActive())
+                .featured(view.getFeatured())
+                .bestseller(view.getBestseller())
+                .newArrival(view.getNewArrival())
+                .brand(view.getBrand())
+                .sku(view.getSku())
+                .createdAt(view.getCreatedAt())
+                .category(CategoryRef.of(view.getCategoryId(), view.getCategoryName(),
+                        view.getParentCategoryId(), view.getParentCategoryName()))
+                .mainImage(Image.from(mainImage))
+                .discount(Discount.of(view.getOriginalGmPrice(), view.getGmPrice()))
+                .build();
+    }
+
+    /**
+     * 상품 스냅샷으로 생성 (상세 응답용)
+     * @param snapshot 상품 스냅샷
+     * @return 목록 응답 항목
+     */
+    public static ProductSummary from(ProductSnapshot snapshot) {
+        return ProductSummary.builder()
+                .id(snapshot.getId())
+                .name(snapshot.getName())
+                .description(snapshot.getDescription())
+                .price(snapshot.getGmPrice())
+                .memberPrice(snapshot.getGbmPrice())
+                .originalPrice(snapshot.getOriginalGmPrice())
+                .stockQuantity(snapshot.getStockQuantity())
+                .status(snapshot.getStatus())
+                .isActive(snapshot.getIsActive())
+                .featured(snapshot.getFeatured())
+                .bestseller(snapshot.getBestseller())
+                .newArrival(snapshot.getNewArrival())
+                .brand(snapshot.getBrand())
+                .sku(snapshot.getSku())
+                .createdAt(snapshot.getCreatedAt())
+                .category(CategoryRef.of(snapshot.getCategoryId(), snapshot.getCategoryName(),
+                        snapshot.getParentCategoryId(), snapshot.getParentCategoryName()))
+                .mainImage(Image.from(snapshot.getMainImage()))
+                .discount(Discount.of(snapshot.getOriginalGmPrice(), snapshot.getGmPrice()))
+                .build();
+    }
+
+    /**
+     * 카테고리 정보 (상위 카테고리는 한 단계만 포함)
+     */
+    @Value
+    public static class CategoryRef implements Serializable {
+        Long id;
+        String name;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        CategoryRef parent;
+
+        static CategoryRef of(Long id, String name, Long parentId, String parentName) {
+            if (id == null) {
+                return null;
+            }
+            return new CategoryRef(id, name, parentId != null ? new CategoryRef(parentId, parentName, null) : null);
+        }
+    }
+
+    /**
+     * 이미지 정보
+     */
+    @Value
+    public static class Image implements Serializable {
+        Long id;
+        String url;
+        String alt;
+        Boolean isMain;
+        Integer sortOrder;
+
+        public static Image from(ProductImageSnapshot image) {
+            if (image == null) {
+                return null;
+            }
+            return new Image(image.getId(), image.getUrl(), DEFAULT_IMAGE_ALT, image.getIsMain(), image.getSortOrder());
+        }
+    }
+
+    /**
+     * 할인 정보 (할인 금액, 할인율 %)
+     */
+    @Value
+    public static class Discount implements Serializable {
+        BigDecimal amount;
+        Integer rate;
+
+        static Discount of(BigDecimal originalPrice, BigDecimal price) {
+            if (originalPrice == null || price == null || originalPrice.compareTo(price) <= 0) {
+                return null;
+            }
+            BigDecimal amount = originalPrice.subtract(price);
+            int rate = amount.divide(originalPrice, 4, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100)).intValue();
+            return new Discount(amount, rate);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.mylittleshop.backend.dto;
+
+import com.mylittleshop.backend.model.ProductStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록용 인터페이스 프로젝션
+ * - 목록 응답에 필요한 컬럼과 카테고리/상위 카테고리 이름만 조회합니다. (ProductRepository.findSummariesByIdIn)
+ */
+public interface ProductSummaryView {
+    Long getId();
+    String getName();
+    String getDescription();
+    BigDecimal getGmPrice();
+    BigDecimal getGbmPrice();
+    BigDecimal getOriginalGmPrice();
+    Integer getStockQuantity();
+    ProductStatus getStatus();
+    Boolean getIsActive();
+    Boolean getFeatured();
+    Boolean getBestseller();
+    Boolean getNewArrival();
+    String getBrand();
+    String getSku();
+    LocalDateTime getCreatedAt();
+    Long getCategoryId();
+    String getCategoryName();
+    Long getParentCategoryId();
+    String getParentCategoryName();
+}
@@ -0,0 +1,18 @@
+package com.mylittleshop.backend.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * 프로모션 계산 입력 항목 (장바구니/주문 항목 1건)
+ */
+@Value
+@Builder
+public class PromotionLine {
+    Long productId;
+    Long categoryId;
+    // 항목 금액 (단가 x 수량)
+    BigDecimal amount;
+}
@@ -0,0 +1,36 @@
+package com.mylittleshop.backend.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 프로모션 적용 결과 (장바구니/주문 전체 기준)
+ * - 상품 단위 프로모션은 항목마다 최대 하나, 주문 단위 프로모션은 최대 하나만 적용합니다.
+ */
+@Value
+@Builder
+public class PromotionQuote {
+    BigDecimal subtotal;
+    BigDecimal discountAmount;
+    BigDecimal finalAmount;
+    boolean freeShipping;
+    List<Applied> promotions;
+
+    /**
+     * 적용된 프로모션
+     */
+    @Value
+    @Builder
+    public static class Applied {
+        Long promotionId;
+        String name;
+        String code;
+        String discountType;
+        BigDecimal discountAmount;
+        // 할인이 적용된 상품 ID (주문 단위 프로모션이면 빈 목록)
+        List<Long> productIds;
+    }
+}
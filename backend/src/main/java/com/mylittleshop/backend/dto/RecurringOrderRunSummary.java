@@ -0,0 +1,25 @@
+package com.mylittleshop.backend.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * 정기 주문 일괄 처리 결과
+ */
+@Value
+@Builder
+public class RecurringOrderRunSummary {
+
+    LocalDate runDate;
+    // 주문이 생성된 정기 주문 수
+    int created;
+    // 이미 처리되었거나 더 이상 대상이 아니어서 건너뛴 수
+    int skipped;
+    // 실패해 실패 기록(dead letter)에 남긴 수
+    int failed;
+    // 최대 실행 시간에 걸려 남은 대상이 있는지 여부
+    boolean incomplete;
+    long elapsedMs;
+}
@@ -0,0 +1,23 @@
+package com.mylittleshop.backend.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+/**
+ * 상품 재고 현황 DTO
+ * - onHand: 실재고, reserved: 결제 대기 중 예약 수량, available: 판매 가능 수량
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockLevel {
+    private Long productId;
+    private int onHand;
+    private int reserved;
+    private int available;
+}
@@ -0,0 +1,27 @@
+package com.mylittleshop.backend.dto;
+
+import com.mylittleshop.backend.model.BillingRunStatus;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 구독 결제 일괄 처리 실행 결과 (actuator subscriptionbilling 엔드포인트 응답)
+ */
+@Value
+@Builder
+public class SubscriptionBillingRunSummary {
+
+    Long runId;
+    LocalDate runDate;
+    BillingRunStatus status;
+    int billed;
+    int expired;
+    int failed;
+    int partitions;
+    int completedPartitions;
+    LocalDateTime startedAt;
+    LocalDateTime finishedAt;
+}
@@ -0,0 +1,19 @@
+package com.mylittleshop.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * 액세스 토큰 재발급 / 로그아웃 요청 정보를 담는 DTO입니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRefreshRequest {
+    @NotBlank(message = "리프레시 토큰은 필수입니다.")
+    @Schema(description = "리프레시 토큰", required = true)
+    private String refreshToken;
+}
@@ -27,4 +27,6 @@ public class UserLoginResponse {
     private String username;
     @Schema(description = "이름", example = "홍길동")
     private String name;
+    @Schema(description = "리프레시 토큰 (액세스 토큰 재발급용)")
+    private String refreshToken;
 } 
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.mylittleshop.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 장바구니 방치 이벤트
+ * - 장바구니 정리 작업이 활성 장바구니를 방치(ABANDONED) 상태로 바꾼 뒤 발행되며 (app.cart.abandon.events-enabled=true 인 경우),
+ *   커밋 이후(AFTER_COMMIT) 리스너에서 리마케팅 알림 등에 사용합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CartAbandonedEvent {
+
+    private final Long cartId;
+    private final Long userId;
+}
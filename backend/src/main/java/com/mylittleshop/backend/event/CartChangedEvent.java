@@ -0,0 +1,15 @@
+package com.mylittleshop.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 장바구니 변경 이벤트
+ * - 장바구니 아이템 추가/수량 변경/삭제, 장바구니 비우기/상태 변경 후 발행되며, 커밋 이후(AFTER_COMMIT) 리스너에서 처리합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CartChangedEvent {
+
+    private final Long userId;
+}
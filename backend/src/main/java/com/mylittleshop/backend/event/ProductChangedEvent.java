@@ -0,0 +1,43 @@
+package com.mylittleshop.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 변경 이벤트
+ * - ProductService의 쓰기 작업 후 발행되며, 커밋 이후(AFTER_COMMIT) 리스너에서 처리합니다.
+ * - categoryOrActiveChanged: 카테고리나 활성 여부가 바뀌었을 수 있는 변경인지 (생성/삭제 포함, 카테고리별 상품 수 무효화 기준)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductChangedEvent {
+
+    private final Long productId;
+    private final ChangeType changeType;
+    private final boolean categoryOrActiveChanged;
+
+    /**
+     * 생성 또는 이전 값을 알 수 없는 수정 (카테고리/활성 여부가 바뀐 것으로 간주)
+     */
+    public static ProductChangedEvent upserted(Long productId) {
+        return new ProductChangedEvent(productId, ChangeType.UPSERTED, true);
+    }
+
+    /**
+     * 이전 값과 비교한 수정
+     * @param productId 상품 ID
+     * @param categoryOrActiveChanged 카테고리나 활성 여부가 바뀌었는지
+     */
+    public static ProductChangedEvent updated(Long productId, boolean categoryOrActiveChanged) {
+        return new ProductChangedEvent(productId, ChangeType.UPSERTED, categoryOrActiveChanged);
+    }
+
+    public static ProductChangedEvent deleted(Long productId) {
+        return new ProductChangedEvent(productId, ChangeType.DELETED, true);
+    }
+
+    public enum ChangeType {
+        UPSERTED,   // 생성 또는 수정
+        DELETED     // 삭제
+    }
+}
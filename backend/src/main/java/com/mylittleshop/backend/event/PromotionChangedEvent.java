@@ -0,0 +1,15 @@
+package com.mylittleshop.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 프로모션 변경 이벤트
+ * - PromotionService의 쓰기 작업(생성/수정/삭제/사용 횟수 변경) 후 발행되며, 커밋 이후(AFTER_COMMIT) 리스너에서 처리합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PromotionChangedEvent {
+
+    private final Long promotionId;
+}
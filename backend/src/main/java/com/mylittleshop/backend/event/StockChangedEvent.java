@@ -0,0 +1,18 @@
+package com.mylittleshop.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 재고 변경 이벤트
+ * - StockLedgerService 가 판매 가능 수량을 바꾼 트랜잭션이 커밋되고 재고 캐시를 비운 뒤 발행합니다.
+ * - 수량은 담지 않으며, 리스너는 StockLedgerService.getStockLevels 로 최신 값을 읽습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class StockChangedEvent {
+
+    private final List<Long> productIds;
+}
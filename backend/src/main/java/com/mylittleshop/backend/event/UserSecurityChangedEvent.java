@@ -0,0 +1,16 @@
+package com.mylittleshop.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 보안 상태 변경 이벤트
+ * - 계정 잠금/해제, 역할 제거, 비밀번호 변경으로 토큰 버전 또는 잠금 상태가 바뀐 뒤 발행되며,
+ *   커밋 이후(AFTER_COMMIT) 리스너에서 인증 상태 캐시를 무효화합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserSecurityChangedEvent {
+
+    private final Long userId;
+}
@@ -0,0 +1,19 @@
+package com.mylittleshop.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 위시리스트 변경 이벤트
+ * - WishlistService의 쓰기 작업(추가/제거/비우기) 후 발행되며, 커밋 이후(AFTER_COMMIT) 리스너에서 처리합니다.
+ * - productId 가 null 이면 여러 항목이 바뀐 경우(비우기 등)입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class WishlistChangedEvent {
+
+    private final Long userId;
+    private final Long productId;
+    // true: 추가, false: 제거 (productId 가 null 이면 의미 없음)
+    private final boolean added;
+}
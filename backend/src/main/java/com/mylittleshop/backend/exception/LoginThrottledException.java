@@ -0,0 +1,14 @@
+package com.mylittleshop.backend.exception;
+
+/**
+ * 비밀번호 검증 대기열이 가득 차 로그인 요청을 거절할 때 발생하는 예외입니다. (429 응답)
+ */
+public class LoginThrottledException extends RuntimeException {
+    /**
+     * 생성자: 메시지 전달
+     * @param message 예외 메시지
+     */
+    public LoginThrottledException(String message) {
+        super(message);
+    }
+}
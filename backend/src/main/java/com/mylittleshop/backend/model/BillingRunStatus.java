@@ -0,0 +1,6 @@
+package com.mylittleshop.backend.model;
+
+public enum BillingRunStatus {
+    RUNNING,
+    COMPLETED
+}
@@ -59,6 +59,11 @@ public class Cart {
     @Column(columnDefinition = "TEXT")
     private String notes;
     
+    // 낙관적 잠금 버전 (장바구니 변경마다 증가)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
     // 편의 메서드: 장바구니 아이템 추가
     public void addCartItem(CartItem cartItem) {
         cartItems.add(cartItem);
@@ -0,0 +1,42 @@
+package com.mylittleshop.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리된 장바구니 변경 요청의 멱등성 키 (사용자별 유일)
+ * - 같은 키로 다시 들어온 요청은 적용하지 않고 현재 장바구니를 반환합니다.
+ */
+@Entity
+@Table(name = "cart_mutation_keys",
+    uniqueConstraints = @UniqueConstraint(name = "uk_cart_mutation_keys_user_key", columnNames = {"user_id", "idempotency_key"}),
+    indexes = @Index(name = "idx_cart_mutation_keys_created", columnList = "created_at"))
+@Getter @Setter
+@NoArgsConstructor
+public class CartMutationKey {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 64)
+    private String idempotencyKey;
+
+    @Column(name = "cart_id", nullable = false)
+    private Long cartId;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public CartMutationKey(Long userId, String idempotencyKey, Long cartId) {
+        this.userId = userId;
+        this.idempotencyKey = idempotencyKey;
+        this.cartId = cartId;
+    }
+}
@@ -0,0 +1,56 @@
+package com.mylittleshop.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 이메일 (트랜잭션 아웃박스)
+ * - 요청 트랜잭션 안에서 행만 저장하고, 실제 발송은 EmailOutboxDispatcher 가 커밋된 행을 모아 처리합니다.
+ * - 본문은 저장하지 않고 템플릿 이름과 치환 값(JSON)만 저장해 발송 시점에 렌더링합니다.
+ */
+@Entity
+@Table(name = "email_outbox",
+    indexes = @Index(name = "idx_email_outbox_due", columnList = "status, next_attempt_at"))
+@Getter @Setter
+@NoArgsConstructor
+public class EmailOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 40)
+    private String template;
+
+    @Column(nullable = false, length = 100)
+    private String recipient;
+
+    @Column(nullable = false, length = 200)
+    private String subject;
+
+    // 템플릿 치환 값 (JSON 객체)
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String params;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EmailOutboxStatus status = EmailOutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
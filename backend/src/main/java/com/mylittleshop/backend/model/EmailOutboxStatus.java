@@ -0,0 +1,7 @@
+package com.mylittleshop.backend.model;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENT,
+    DEAD
+}
@@ -20,7 +20,7 @@ public class InventoryHistory {
     private Product product;
     
     @Column(name = "change_type", nullable = false, length = 30)
-    private String changeType; // IN, OUT, ADJUST
+    private String changeType; // IN, OUT, ADJUST, RESERVE, RELEASE
     
     @Column(nullable = false)
     private Integer quantity;
@@ -0,0 +1,30 @@
+package com.mylittleshop.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주기 작업 잠금 행 (작업 이름별 1행)
+ * - 여러 인스턴스 중 임대 기간(locked_until) 안에 행을 선점한 인스턴스만 작업을 실행합니다.
+ */
+@Entity
+@Table(name = "job_locks")
+@Getter @Setter
+@NoArgsConstructor
+public class JobLock {
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    // 잠금 보유 인스턴스 (호스트명:임의 ID)
+    @Column(name = "locked_by", nullable = false, length = 100)
+    private String lockedBy;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+}
@@ -20,7 +20,11 @@ import java.util.*;
 @NoArgsConstructor
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "orders_id_generator")
+    // 풀링 ID 할당 (IDENTITY 와 달리 INSERT 배치 가능) - 시작 값은 V6 마이그레이션 참고
+    @TableGenerator(name = "orders_id_generator", table = "id_generators",
+        pkColumnName = "sequence_name", valueColumnName = "next_val",
+        pkColumnValue = "orders", allocationSize = 50)
     private Long id;
 
     @Column(name = "order_number", nullable = false, updatable = false)
@@ -11,7 +11,11 @@ import java.math.BigDecimal;
 @NoArgsConstructor
 public class OrderItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_items_id_generator")
+    // 풀링 ID 할당 (IDENTITY 와 달리 INSERT 배치 가능) - 시작 값은 V6 마이그레이션 참고
+    @TableGenerator(name = "order_items_id_generator", table = "id_generators",
+        pkColumnName = "sequence_name", valueColumnName = "next_val",
+        pkColumnValue = "order_items", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -15,7 +15,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class OrderStatusHistory {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_status_history_id_generator")
+    // 풀링 ID 할당 (IDENTITY 와 달리 INSERT 배치 가능) - 시작 값은 V6 마이그레이션 참고
+    @TableGenerator(name = "order_status_history_id_generator", table = "id_generators",
+        pkColumnName = "sequence_name", valueColumnName = "next_val",
+        pkColumnValue = "order_status_history", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -48,11 +48,13 @@ public class Product {
     @Column(name = "original_gm_price", precision = 12, scale = 2)
     private BigDecimal originalGmPrice;
 
-    @Column(name = "stock_quantity", nullable = false)
+    // 판매 가능 재고 - 등록 이후에는 StockLedgerService 의 조건부 UPDATE로만 변경 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "stock_quantity", nullable = false, updatable = false)
     private Integer stockQuantity;
 
+    // 판매 상태 - 품절/판매중 전환이 재고와 함께 일어나므로 등록 이후에는 StockLedgerService 로만 변경
     @Enumerated(EnumType.STRING)
-    @Column(length = 20, nullable = false)
+    @Column(length = 20, nullable = false, updatable = false)
     private ProductStatus status = ProductStatus.ACTIVE;
 
     @Column(name = "is_active", nullable = false)
@@ -167,55 +169,6 @@ public class Product {
         };
     }
     
-    // 편의 메서드: 재고 감소
-    public void removeStock(int quantity) {
-        // Inventory를 통해 재고 관리하도록 수정
-        Inventory inventory = this.getMainInventory();
-        if (inventory != null) {
-            inventory.removeStock(quantity);
-            // Product의 stockQuantity도 함께 업데이트
-            this.stockQuantity = inventory.getQuantity();
-            if (this.stockQuantity == 0) {
-                this.status = ProductStatus.SOLD_OUT;
-            }
-        } else {
-            // 기존 로직 유지
-            int restStock = this.stockQuantity - quantity;
-            if (restStock < 0) {
-                throw new IllegalArgumentException("재고가 부족합니다.");
-            }
-            this.stockQuantity = restStock;
-            if (this.stockQuantity == 0) {
-                this.status = ProductStatus.SOLD_OUT;
-            }
-        }
-    }
-    
-    // 편의 메서드: 재고 증가
-    public void addStock(int quantity) {
-        // Inventory를 통해 재고 관리하도록 수정
-        Inventory inventory = this.getMainInventory();
-        if (inventory != null) {
-            inventory.addStock(quantity);
-            // Product의 stockQuantity도 함께 업데이트
-            this.stockQuantity = inventory.getQuantity();
-            if (this.stockQuantity > 0 && this.status == ProductStatus.SOLD_OUT) {
-                this.status = ProductStatus.ACTIVE;
-            }
-        } else {
-            // 기존 로직 유지
-            this.stockQuantity += quantity;
-            if (this.stockQuantity > 0 && this.status == ProductStatus.SOLD_OUT) {
-                this.status = ProductStatus.ACTIVE;
-            }
-        }
-    }
-
-    // 주 재고 항목 가져오기 메서드 추가
-    private Inventory getMainInventory() {
-        return this.inventories.stream().findFirst().orElse(null);
-    }
-    
     // 편의 메서드: 이미지 추가
     public void addImage(ProductImage image) {
         this.images.add(image);
@@ -15,7 +15,8 @@ import java.util.List;
     @Index(name = "idx_recurring_order_user_id", columnList = "user_id"),
     @Index(name = "idx_recurring_order_subscription_id", columnList = "subscription_id"),
     @Index(name = "idx_recurring_order_status", columnList = "status"),
-    @Index(name = "idx_recurring_order_next_order_date", columnList = "next_order_date")
+    @Index(name = "idx_recurring_order_next_order_date", columnList = "next_order_date"),
+    @Index(name = "idx_recurring_order_due", columnList = "status, next_order_date, id")
 })
 @Getter @Setter
 @NoArgsConstructor
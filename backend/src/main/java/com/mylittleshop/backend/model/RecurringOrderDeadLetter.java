@@ -0,0 +1,49 @@
+package com.mylittleshop.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 처리에 실패한 정기 주문 (정기 주문, 처리 기준일당 유일)
+ * - 실패할 때마다 시도 횟수와 마지막 오류를 갱신하고, 최대 시도 횟수에 도달하면 그 기준일에는 더 처리하지 않습니다.
+ */
+@Entity
+@Table(name = "recurring_order_dead_letters",
+    uniqueConstraints = @UniqueConstraint(name = "uk_recurring_order_dead_letters", columnNames = {"recurring_order_id", "run_date"}))
+@Getter @Setter
+@NoArgsConstructor
+public class RecurringOrderDeadLetter {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recurring_order_id", nullable = false)
+    private Long recurringOrderId;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public RecurringOrderDeadLetter(Long recurringOrderId, LocalDate runDate) {
+        this.recurringOrderId = recurringOrderId;
+        this.runDate = runDate;
+    }
+}
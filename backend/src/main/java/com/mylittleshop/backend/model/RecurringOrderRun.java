@@ -0,0 +1,42 @@
+package com.mylittleshop.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 정기 주문 처리 이력 (정기 주문, 처리 기준일당 유일)
+ * - 주문 생성과 같은 트랜잭션에서 먼저 저장하므로, 같은 기준일에 다시 실행되거나 두 인스턴스가 동시에 처리해도
+ *   유니크 제약에 걸린 쪽은 롤백되어 주문이 한 번만 생성됩니다.
+ */
+@Entity
+@Table(name = "recurring_order_runs",
+    uniqueConstraints = @UniqueConstraint(name = "uk_recurring_order_runs", columnNames = {"recurring_order_id", "run_date"}))
+@Getter @Setter
+@NoArgsConstructor
+public class RecurringOrderRun {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recurring_order_id", nullable = false)
+    private Long recurringOrderId;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public RecurringOrderRun(Long recurringOrderId, LocalDate runDate) {
+        this.recurringOrderId = recurringOrderId;
+        this.runDate = runDate;
+    }
+}
@@ -0,0 +1,65 @@
+package com.mylittleshop.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 (토큰 원문은 저장하지 않고 SHA-256 해시만 저장)
+ * - 사용할 때마다 새 토큰으로 교체하며, 교체된 토큰이 다시 사용되면 탈취로 보고 사용자의 토큰을 모두 폐기합니다.
+ *   로그아웃이나 토큰 버전 변경으로 폐기된 토큰은 거부만 하도록 폐기 사유를 함께 기록합니다.
+ * - 발급 시점의 사용자 토큰 버전을 함께 저장해, 잠금/비밀번호 변경 이후에는 재발급하지 않습니다.
+ */
+@Entity
+@Table(name = "refresh_tokens",
+    uniqueConstraints = @UniqueConstraint(name = "uk_refresh_tokens_hash", columnNames = "token_hash"),
+    indexes = {
+        @Index(name = "idx_refresh_tokens_user", columnList = "user_id"),
+        @Index(name = "idx_refresh_tokens_expires", columnList = "expires_at")
+    })
+@Getter @Setter
+@NoArgsConstructor
+public class RefreshToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 토큰 원문의 SHA-256 해시 (16진수)
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(name = "token_version", nullable = false)
+    private Long tokenVersion;
+
+    @Column(name = "issued_at", nullable = false)
+    private LocalDateTime issuedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 폐기 시각
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    // 폐기 사유 (V16 이전에 폐기된 행은 null)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "revoke_reason", length = 20)
+    private RefreshTokenRevokeReason revokeReason;
+
+    // 교체로 폐기된 경우 새로 발급한 토큰 ID
+    @Column(name = "replaced_by_id")
+    private Long replacedById;
+
+    public boolean isRevoked() {
+        return revokedAt != null;
+    }
+
+    public void revoke(LocalDateTime now, RefreshTokenRevokeReason reason) {
+        this.revokedAt = now;
+        this.revokeReason = reason;
+    }
+}
@@ -0,0 +1,8 @@
+package com.mylittleshop.backend.model;
+
+public enum RefreshTokenRevokeReason {
+    ROTATED,        // 재발급으로 새 토큰으로 교체됨 (다시 사용되면 탈취로 판단)
+    LOGOUT,         // 로그아웃
+    INVALIDATED,    // 잠금/비밀번호 변경 등으로 토큰 버전이 바뀜
+    REUSE_DETECTED  // 교체된 토큰 재사용이 감지되어 사용자 토큰 전체와 함께 폐기됨
+}
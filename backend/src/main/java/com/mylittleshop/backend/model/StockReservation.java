@@ -0,0 +1,45 @@
+package com.mylittleshop.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 단위 재고 예약 (상품별 1행)
+ * - 예약 시점에 products.stock_quantity 를 조건부 UPDATE 로 차감하고, 만료/취소 시 반환합니다.
+ */
+@Entity
+@Table(name = "stock_reservations", indexes = {
+    @Index(name = "idx_stock_reservations_key", columnList = "reservation_key"),
+    @Index(name = "idx_stock_reservations_status_expires", columnList = "status, expires_at")
+})
+@Getter @Setter
+@NoArgsConstructor
+public class StockReservation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 예약 묶음 키 (예: ORDER-{주문 ID})
+    @Column(name = "reservation_key", nullable = false, length = 64)
+    private String reservationKey;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StockReservationStatus status = StockReservationStatus.RESERVED;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,8 @@
+package com.mylittleshop.backend.model;
+
+public enum StockReservationStatus {
+    RESERVED,   // 재고 차감됨, 결제 대기 (만료 시 자동 반환)
+    CONFIRMED,  // 결제 완료로 확정
+    EXPIRED,    // 결제 전 TTL 만료로 재고 반환됨 (이후 결제 시 재차감 후 확정 가능)
+    RELEASED    // 주문 취소로 재고 반환됨 (다시 확정할 수 없음)
+}
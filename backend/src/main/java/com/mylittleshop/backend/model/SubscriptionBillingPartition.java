@@ -0,0 +1,62 @@
+package com.mylittleshop.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구독 결제 일괄 처리의 구독 ID 구간 (실행, 구간 번호당 유일)
+ * - lastId 는 마지막으로 커밋된 청크의 마지막 구독 ID 이며, 청크 처리와 같은 트랜잭션에서 갱신됩니다.
+ */
+@Entity
+@Table(name = "subscription_billing_partitions",
+    uniqueConstraints = @UniqueConstraint(name = "uk_subscription_billing_partitions", columnNames = {"run_id", "partition_no"}))
+@Getter @Setter
+@NoArgsConstructor
+public class SubscriptionBillingPartition {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "partition_no", nullable = false)
+    private Integer partitionNo;
+
+    // 구간 시작 ID (포함하지 않음)
+    @Column(name = "from_id", nullable = false)
+    private Long fromId;
+
+    // 구간 끝 ID (포함)
+    @Column(name = "to_id", nullable = false)
+    private Long toId;
+
+    @Column(name = "last_id", nullable = false)
+    private Long lastId;
+
+    @Column(nullable = false)
+    private Boolean completed = false;
+
+    @Column(nullable = false)
+    private Integer billed = 0;
+
+    @Column(nullable = false)
+    private Integer expired = 0;
+
+    @Column(nullable = false)
+    private Integer failed = 0;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public SubscriptionBillingPartition(Long runId, int partitionNo, long fromId, long toId) {
+        this.runId = runId;
+        this.partitionNo = partitionNo;
+        this.fromId = fromId;
+        this.toId = toId;
+        this.lastId = fromId;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
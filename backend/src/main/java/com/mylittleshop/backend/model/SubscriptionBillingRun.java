@@ -0,0 +1,49 @@
+package com.mylittleshop.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 구독 결제 일괄 처리 실행 (기준일당 유일)
+ * - 처리 건수는 구간(SubscriptionBillingPartition)별 건수의 합으로, 실행이 끝날 때 기록합니다.
+ */
+@Entity
+@Table(name = "subscription_billing_runs",
+    uniqueConstraints = @UniqueConstraint(name = "uk_subscription_billing_runs_date", columnNames = "run_date"))
+@Getter @Setter
+@NoArgsConstructor
+public class SubscriptionBillingRun {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BillingRunStatus status = BillingRunStatus.RUNNING;
+
+    @Column(nullable = false)
+    private Integer billed = 0;
+
+    @Column(nullable = false)
+    private Integer expired = 0;
+
+    @Column(nullable = false)
+    private Integer failed = 0;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public SubscriptionBillingRun(LocalDate runDate) {
+        this.runDate = runDate;
+        this.startedAt = LocalDateTime.now();
+    }
+}
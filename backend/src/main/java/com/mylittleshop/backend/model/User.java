@@ -73,6 +73,10 @@ public class User {
     @Column(name = "failed_login_attempts")
     private Integer failedLoginAttempts = 0;
 
+    // 토큰 버전 (잠금/역할 제거/비밀번호 변경 시 증가, 이전 버전으로 발급된 토큰은 거부)
+    @Column(name = "token_version", nullable = false)
+    private Long tokenVersion = 0L;
+
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(name = "user_roles",
         joinColumns = @JoinColumn(name = "user_id"),
@@ -111,6 +115,11 @@ public class User {
         role.getUsers().remove(this);
     }
 
+    // 편의 메서드: 토큰 버전 증가 (발급된 토큰 무효화)
+    public void increaseTokenVersion() {
+        this.tokenVersion = (this.tokenVersion != null ? this.tokenVersion : 0L) + 1;
+    }
+
     // 편의 메서드: 배송 주소 추가
     public void addDeliveryAddress(DeliveryAddress address) {
         addresses.add(address);
@@ -7,7 +7,8 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "wishlists")
+@Table(name = "wishlists",
+    uniqueConstraints = @UniqueConstraint(name = "uk_wishlists_user_product", columnNames = {"user_id", "product_id"}))
 @Getter @Setter
 @NoArgsConstructor
 public class Wishlist {
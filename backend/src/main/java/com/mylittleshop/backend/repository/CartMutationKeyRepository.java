@@ -0,0 +1,20 @@
+package com.mylittleshop.backend.repository;
+
+import com.mylittleshop.backend.model.CartMutationKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface CartMutationKeyRepository extends JpaRepository<CartMutationKey, Long> {
+
+    // 사용자별 멱등성 키 처리 여부
+    boolean existsByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    // 보관 기간이 지난 멱등성 키 삭제
+    @Modifying
+    @Query("DELETE FROM CartMutationKey k WHERE k.createdAt < :before")
+    int deleteByCreatedAtBefore(@Param("before") LocalDateTime before);
+}
@@ -3,13 +3,17 @@ package com.mylittleshop.backend.repository;
 import com.mylittleshop.backend.model.Cart;
 import com.mylittleshop.backend.model.CartStatus;
 import com.mylittleshop.backend.model.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.math.BigDecimal;
@@ -51,7 +55,53 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
     // 빈 장바구니 조회 (아이템이 없는 장바구니)
     @Query("SELECT c FROM Cart c LEFT JOIN CartItem ci ON ci.cart = c WHERE ci.id IS NULL AND c.status = :status")
     List<Cart> findEmptyCartsByStatus(@Param("status") CartStatus status);
+
+    // 장바구니 조회용 아이템 행 [장바구니 ID, 버전, 아이템 ID, 상품 ID, 수량, 단가, 적용 가격 유형, 추가 일시]
+    // 아이템이 없는 장바구니는 아이템 컬럼이 null 인 한 행으로 조회됩니다.
+    @Query("SELECT c.id, c.version, ci.id, p.id, ci.quantity, ci.unitPrice, ci.appliedPriceType, ci.addedAt " +
+           "FROM Cart c LEFT JOIN c.cartItems ci LEFT JOIN ci.product p " +
+           "WHERE c.user.id = :userId AND c.status = :status ORDER BY c.id, ci.id")
+    List<Object[]> findViewRowsByUserIdAndStatus(@Param("userId") Long userId, @Param("status") CartStatus status);
+    
+    // 장바구니 변경용 조회 (행 잠금, 같은 장바구니에 대한 변경을 순서대로 처리)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Cart c WHERE c.id = :id")
+    Optional<Cart> findByIdForUpdate(@Param("id") Long id);
+    
+    // 사용자 활성 장바구니 변경용 조회 (행 잠금, ID 순)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Cart c WHERE c.user.id = :userId AND c.status = :status ORDER BY c.id")
+    List<Cart> findByUserIdAndStatusForUpdate(@Param("userId") Long userId, @Param("status") CartStatus status);
+    
+    // 장바구니 변경 시각과 버전 갱신 (엔티티 전체 UPDATE 대신 단일 UPDATE 문)
+    @Modifying
+    @Query("UPDATE Cart c SET c.updatedAt = :now, c.version = c.version + 1 WHERE c.id = :id")
+    int touch(@Param("id") Long id, @Param("now") LocalDateTime now);
     
+    // 상태별 장바구니 ID 범위 [최소 ID, 최대 ID]
+    @Query("SELECT MIN(c.id), MAX(c.id) FROM Cart c WHERE c.status = :status")
+    List<Object[]> findIdRangeByStatus(@Param("status") CartStatus status);
+    
+    // ID 구간 내 마지막 변경이 기준 시각 이전인 장바구니 상태 일괄 변경
+    @Modifying
+    @Query("UPDATE Cart c SET c.status = :to, c.version = c.version + 1 " +
+           "WHERE c.id BETWEEN :fromId AND :toId AND c.status = :from AND c.updatedAt < :cutoff")
+    int updateStatusInIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                              @Param("from") CartStatus from, @Param("to") CartStatus to,
+                              @Param("cutoff") LocalDateTime cutoff);
+    
+    // ID 구간 내 방치 대상 활성 장바구니 잠금 조회 [장바구니 ID, 사용자 ID] (방치 이벤트 발행용)
+    @Query(value = "SELECT id, user_id FROM carts " +
+                   "WHERE id BETWEEN :fromId AND :toId AND status = 'ACTIVE' AND updated_at < :cutoff FOR UPDATE",
+           nativeQuery = true)
+    List<Object[]> findStaleActiveRowsForUpdate(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                                                @Param("cutoff") LocalDateTime cutoff);
+    
+    // 지정한 장바구니 상태 일괄 변경 (현재 상태 조건부)
+    @Modifying
+    @Query("UPDATE Cart c SET c.status = :to, c.version = c.version + 1 WHERE c.id IN :ids AND c.status = :from")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids, @Param("from") CartStatus from, @Param("to") CartStatus to);
+
     // 아이템 수 범위로 장바구니 조회
     @Query("SELECT c FROM Cart c JOIN CartItem ci ON ci.cart = c GROUP BY c HAVING COUNT(ci) BETWEEN :minItems AND :maxItems")
     List<Cart> findByItemCountBetween(
@@ -0,0 +1,29 @@
+package com.mylittleshop.backend.repository;
+
+import com.mylittleshop.backend.model.EmailOutbox;
+import com.mylittleshop.backend.model.EmailOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // 발송 시각이 된 대기 메일 조회 (오래된 순)
+    @Query("SELECT o FROM EmailOutbox o WHERE o.status = :status AND o.nextAttemptAt <= :now ORDER BY o.id")
+    List<EmailOutbox> findDue(@Param("status") EmailOutboxStatus status, @Param("now") LocalDateTime now,
+                              Pageable pageable);
+
+    // 상태별 메일 수
+    long countByStatus(EmailOutboxStatus status);
+
+    // 보관 기간이 지난 발송 완료 메일 삭제
+    @Modifying
+    @Query("DELETE FROM EmailOutbox o WHERE o.status = :status AND o.sentAt < :before")
+    int deleteByStatusAndSentAtBefore(@Param("status") EmailOutboxStatus status,
+                                      @Param("before") LocalDateTime before);
+}
@@ -1,9 +1,14 @@
 package com.mylittleshop.backend.repository;
 
 import com.mylittleshop.backend.model.InventoryHistory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface InventoryHistoryRepository extends JpaRepository<InventoryHistory, Long> {
+    
+    // 상품별 재고 이력 조회 (최신순)
+    Page<InventoryHistory> findByProductIdOrderByChangedAtDescIdDesc(Long productId, Pageable pageable);
 } 
\ No newline at end of file
@@ -107,4 +107,25 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
            "FROM Order o " +
            "GROUP BY o.status")
     List<Object[]> countOrdersByStatus();
-}
\ No newline at end of file
+    
+    // 키셋 페이지 조회 (전체, 주문일/ID 내림차순, 커서 위치 이후)
+    @Query("SELECT o FROM Order o " +
+           "WHERE o.orderDate <= :afterDate AND (o.orderDate < :afterDate OR o.id < :afterId) " +
+           "ORDER BY o.orderDate DESC, o.id DESC")
+    List<Order> findAllAfter(@Param("afterDate") LocalDateTime afterDate, @Param("afterId") Long afterId,
+                             Pageable pageable);
+    
+    // 사용자 ID별 키셋 페이지 조회 (주문일/ID 내림차순, 커서 위치 이후)
+    @Query("SELECT o FROM Order o WHERE o.user.id = :userId " +
+           "AND o.orderDate <= :afterDate AND (o.orderDate < :afterDate OR o.id < :afterId) " +
+           "ORDER BY o.orderDate DESC, o.id DESC")
+    List<Order> findByUserIdAfter(@Param("userId") Long userId, @Param("afterDate") LocalDateTime afterDate,
+                                  @Param("afterId") Long afterId, Pageable pageable);
+    
+    // 주문 상태별 키셋 페이지 조회 (주문일/ID 내림차순, 커서 위치 이후)
+    @Query("SELECT o FROM Order o WHERE o.status = :status " +
+           "AND o.orderDate <= :afterDate AND (o.orderDate < :afterDate OR o.id < :afterId) " +
+           "ORDER BY o.orderDate DESC, o.id DESC")
+    List<Order> findByStatusAfter(@Param("status") OrderStatus status, @Param("afterDate") LocalDateTime afterDate,
+                                  @Param("afterId") Long afterId, Pageable pageable);
+}
@@ -2,6 +2,18 @@ package com.mylittleshop.backend.repository;
 
 import com.mylittleshop.backend.model.ProductAttributeValue;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface ProductAttributeValueRepository extends JpaRepository<ProductAttributeValue, Long> {
-} 
\ No newline at end of file
+    
+    // 전체 상품의 (상품 ID, 속성 값) 목록 - 검색 색인 구성용
+    @Query("SELECT v.product.id, v.value FROM ProductAttributeValue v")
+    List<Object[]> findAllProductIdAndValue();
+    
+    // 상품별 속성 값 목록
+    @Query("SELECT v.value FROM ProductAttributeValue v WHERE v.product.id = :productId")
+    List<String> findValuesByProductId(@Param("productId") Long productId);
+}
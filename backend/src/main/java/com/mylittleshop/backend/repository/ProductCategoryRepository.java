@@ -2,6 +2,16 @@ package com.mylittleshop.backend.repository;
 
 import com.mylittleshop.backend.model.ProductCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface ProductCategoryRepository extends JpaRepository<ProductCategory, Long> {
-} 
\ No newline at end of file
+
+    // 카테고리 트리 구성용 조회 [카테고리 ID, 이름, 상위 카테고리 ID]
+    @Query("SELECT c.id, c.name, pc.id FROM ProductCategory c LEFT JOIN c.parent pc")
+    List<Object[]> findAllTreeRows();
+
+    // 카테고리 존재 여부 (LIMIT 1 조회, 전체 행을 읽지 않음)
+    boolean existsByIdIsNotNull();
+} 
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,6 +38,11 @@ public interface ProductImageRepository extends JpaRepository<ProductImage, Long
     @Query("UPDATE ProductImage pi SET pi.isMain = false WHERE pi.product.id = :productId AND pi.isMain = true")
     void unsetMainImageForProduct(@Param("productId") Long productId);
     
+    // 여러 상품의 이미지 요약 조회 [상품 ID, 이미지 ID, URL, 메인 여부, 정렬 순서] (상품별 메인 이미지가 먼저 오도록 정렬)
+    @Query("SELECT pi.product.id, pi.id, pi.url, pi.isMain, pi.sortOrder FROM ProductImage pi " +
+           "WHERE pi.product.id IN :productIds ORDER BY pi.product.id, pi.isMain DESC, pi.sortOrder ASC, pi.id ASC")
+    List<Object[]> findImageRowsByProductIdIn(@Param("productIds") Collection<Long> productIds);
+    
     // URL로 이미지 검색
     List<ProductImage> findByUrlContaining(String urlPart);
     
@@ -1,5 +1,6 @@
 package com.mylittleshop.backend.repository;
 
+import com.mylittleshop.backend.dto.ProductSummaryView;
 import com.mylittleshop.backend.model.Product;
 import com.mylittleshop.backend.model.ProductCategory;
 import com.mylittleshop.backend.model.ProductStatus;
@@ -10,6 +11,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -140,4 +143,146 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     
     @Query("SELECT p FROM Product p LEFT JOIN FETCH p.category LEFT JOIN FETCH p.images")
     List<Product> findAllWithCategoryAndImages();
-}
\ No newline at end of file
+    
+    // 검색 색인 구성용 조회 (판매 중/품절 상품 + 카테고리, 재고 필터는 색인 조회 시 적용)
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.category WHERE p.status IN ('ACTIVE', 'SOLD_OUT') AND p.isActive = true")
+    List<Product> findAllForSearchIndex();
+    
+    // 카테고리를 함께 조회
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.category WHERE p.id = :id")
+    Optional<Product> findByIdWithCategory(@Param("id") Long id);
+    
+    // 카탈로그 캐시 적재용 조회 (카테고리, 상위 카테고리, 이미지 함께 조회)
+    @Query("SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.category c LEFT JOIN FETCH c.parent " +
+           "LEFT JOIN FETCH p.images WHERE p.id IN :ids")
+    List<Product> findAllForCatalogByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 목록 응답용 프로젝션 조회 (필요한 컬럼과 카테고리/상위 카테고리 이름만 조회)
+    @Query("SELECT p.id AS id, p.name AS name, p.description AS description, p.gmPrice AS gmPrice, " +
+           "p.gbmPrice AS gbmPrice, p.originalGmPrice AS originalGmPrice, p.stockQuantity AS stockQuantity, " +
+           "p.status AS status, p.isActive AS isActive, p.featured AS featured, p.bestseller AS bestseller, " +
+           "p.newArrival AS newArrival, p.brand AS brand, p.sku AS sku, p.createdAt AS createdAt, " +
+           "c.id AS categoryId, c.name AS categoryName, pc.id AS parentCategoryId, pc.name AS parentCategoryName " +
+           "FROM Product p LEFT JOIN p.category c LEFT JOIN c.parent pc WHERE p.id IN :ids")
+    List<ProductSummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 카탈로그 목록 캐시용 ID 페이지 조회 (상태 및 활성화 여부 조건)
+    @Query(value = "SELECT p.id FROM Product p WHERE p.status = :status AND p.isActive = :isActive",
+           countQuery = "SELECT COUNT(p) FROM Product p WHERE p.status = :status AND p.isActive = :isActive")
+    Page<Long> findIdsByStatusAndIsActive(@Param("status") ProductStatus status, @Param("isActive") Boolean isActive,
+                                          Pageable pageable);
+    
+    // 상품 존재 여부 (LIMIT 1 조회, 전체 행을 읽지 않음)
+    boolean existsByIdIsNotNull();
+    
+    // 카탈로그 목록 캐시용 ID 페이지 조회 (전체)
+    @Query(value = "SELECT p.id FROM Product p", countQuery = "SELECT COUNT(p) FROM Product p")
+    Page<Long> findAllIds(Pageable pageable);
+    
+    // 키셋 페이지용 ID 조회 (상태 및 활성화 여부 조건, 등록일/ID 내림차순, 커서 위치 이후)
+    @Query("SELECT p.id FROM Product p WHERE p.status = :status AND p.isActive = :isActive " +
+           "AND p.createdAt <= :afterCreatedAt AND (p.createdAt < :afterCreatedAt OR p.id < :afterId) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Long> findIdsByStatusAndIsActiveAfter(@Param("status") ProductStatus status, @Param("isActive") Boolean isActive,
+                                               @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                               @Param("afterId") Long afterId, Pageable pageable);
+    
+    // 키셋 페이지용 ID 조회 (전체, 등록일/ID 내림차순, 커서 위치 이후)
+    @Query("SELECT p.id FROM Product p " +
+           "WHERE p.createdAt <= :afterCreatedAt AND (p.createdAt < :afterCreatedAt OR p.id < :afterId) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Long> findAllIdsAfter(@Param("afterCreatedAt") LocalDateTime afterCreatedAt, @Param("afterId") Long afterId,
+                               Pageable pageable);
+    
+    // 여러 카테고리의 상품 ID 페이지 조회 (하위 카테고리 포함 조회용)
+    @Query(value = "SELECT p.id FROM Product p WHERE p.category.id IN :categoryIds",
+           countQuery = "SELECT COUNT(p) FROM Product p WHERE p.category.id IN :categoryIds")
+    Page<Long> findIdsByCategoryIdIn(@Param("categoryIds") Collection<Long> categoryIds, Pageable pageable);
+    
+    // 카테고리별 상품 수 집계 [카테고리 ID, 상품 수]
+    @Query("SELECT p.category.id, COUNT(p) FROM Product p WHERE p.category IS NOT NULL GROUP BY p.category.id")
+    List<Object[]> countProductsByCategory();
+    
+    // 통합 검색 조건 (이름/설명/브랜드/SKU + 카테고리/가격/재고 필터)
+    String SEARCH_CONDITION = "p.status = 'ACTIVE' AND p.isActive = true " +
+            "AND (LOWER(p.name) LIKE :pattern ESCAPE '!' OR LOWER(p.description) LIKE :pattern ESCAPE '!' " +
+            "OR LOWER(p.brand) LIKE :pattern ESCAPE '!' OR LOWER(p.sku) LIKE :pattern ESCAPE '!') " +
+            "AND (:categoryId IS NULL OR p.category.id = :categoryId) " +
+            "AND (:minPrice IS NULL OR p.gmPrice >= :minPrice) " +
+            "AND (:maxPrice IS NULL OR p.gmPrice <= :maxPrice) " +
+            "AND (:inStockOnly = false OR p.stockQuantity > 0)";
+    
+    // 검색 관련도 (낮을수록 우선): SKU 일치 > 이름 접두어 > 이름 포함 > 브랜드 포함 > 설명/SKU 포함
+    String SEARCH_RANK = "(CASE WHEN LOWER(p.sku) = :keyword THEN 0 " +
+            "WHEN LOWER(p.name) LIKE :prefix ESCAPE '!' THEN 1 " +
+            "WHEN LOWER(p.name) LIKE :pattern ESCAPE '!' THEN 2 " +
+            "WHEN LOWER(p.brand) LIKE :pattern ESCAPE '!' THEN 3 ELSE 4 END)";
+    
+    // 통합 검색 (관련도 순, 오프셋 페이징)
+    @Query(value = "SELECT p FROM Product p WHERE " + SEARCH_CONDITION + " ORDER BY " + SEARCH_RANK + ", p.id DESC",
+           countQuery = "SELECT COUNT(p) FROM Product p WHERE " + SEARCH_CONDITION)
+    Page<Product> searchByKeyword(
+            @Param("keyword") String keyword,
+            @Param("pattern") String pattern,
+            @Param("prefix") String prefix,
+            @Param("categoryId") Long categoryId,
+            @Param("minPrice") BigDecimal minPrice,
+            @Param("maxPrice") BigDecimal maxPrice,
+            @Param("inStockOnly") boolean inStockOnly,
+            Pageable pageable);
+    
+    // 통합 검색 (관련도 순, 키셋 페이징: 직전 페이지 마지막 행의 (관련도, id) 이후부터 조회)
+    @Query("SELECT p FROM Product p WHERE " + SEARCH_CONDITION +
+           " AND (" + SEARCH_RANK + " > :afterRank OR (" + SEARCH_RANK + " = :afterRank AND p.id < :afterId))" +
+           " ORDER BY " + SEARCH_RANK + ", p.id DESC")
+    List<Product> searchByKeywordAfter(
+            @Param("keyword") String keyword,
+            @Param("pattern") String pattern,
+            @Param("prefix") String prefix,
+            @Param("categoryId") Long categoryId,
+            @Param("minPrice") BigDecimal minPrice,
+            @Param("maxPrice") BigDecimal maxPrice,
+            @Param("inStockOnly") boolean inStockOnly,
+            @Param("afterRank") int afterRank,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+    
+    // MySQL FULLTEXT(ngram) 검색 조건 - V4 마이그레이션의 ft_products_search 인덱스 사용
+    String FULLTEXT_CONDITION = "MATCH(p.name, p.description, p.brand, p.sku) AGAINST (:keyword IN BOOLEAN MODE) " +
+            "AND p.status = 'ACTIVE' AND p.is_active = true " +
+            "AND (:categoryId IS NULL OR p.category_id = :categoryId) " +
+            "AND (:minPrice IS NULL OR p.gm_price >= :minPrice) " +
+            "AND (:maxPrice IS NULL OR p.gm_price <= :maxPrice) " +
+            "AND (:inStockOnly = false OR p.stock_quantity > 0)";
+    
+    // 전문 검색 점수 (높을수록 우선)
+    String FULLTEXT_SCORE = "MATCH(p.name, p.description, p.brand, p.sku) AGAINST (:keyword IN BOOLEAN MODE)";
+    
+    // 전문 검색 (FULLTEXT 점수 순, 오프셋 페이징)
+    @Query(value = "SELECT p.* FROM products p WHERE " + FULLTEXT_CONDITION +
+                   " ORDER BY " + FULLTEXT_SCORE + " DESC, p.id DESC",
+           countQuery = "SELECT COUNT(*) FROM products p WHERE " + FULLTEXT_CONDITION,
+           nativeQuery = true)
+    Page<Product> searchByFullText(
+            @Param("keyword") String keyword,
+            @Param("categoryId") Long categoryId,
+            @Param("minPrice") BigDecimal minPrice,
+            @Param("maxPrice") BigDecimal maxPrice,
+            @Param("inStockOnly") boolean inStockOnly,
+            Pageable pageable);
+    
+    // 전문 검색 (FULLTEXT 점수 순, 키셋 페이징: 직전 페이지 마지막 행의 (점수, id) 이후의 [상품 ID, 점수] 조회)
+    @Query(value = "SELECT p.id, " + FULLTEXT_SCORE + " AS score FROM products p WHERE " + FULLTEXT_CONDITION +
+                   " AND (" + FULLTEXT_SCORE + " < :afterScore OR (" + FULLTEXT_SCORE + " = :afterScore AND p.id < :afterId))" +
+                   " ORDER BY score DESC, p.id DESC",
+           nativeQuery = true)
+    List<Object[]> searchIdsByFullTextAfter(
+            @Param("keyword") String keyword,
+            @Param("categoryId") Long categoryId,
+            @Param("minPrice") BigDecimal minPrice,
+            @Param("maxPrice") BigDecimal maxPrice,
+            @Param("inStockOnly") boolean inStockOnly,
+            @Param("afterScore") double afterScore,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.math.BigDecimal;
@@ -99,4 +100,20 @@ public interface PromotionRepository extends JpaRepository<Promotion, Long> {
     // 사용 횟수가 최대 사용 횟수의 n% 이상인 프로모션 조회
     @Query("SELECT p FROM Promotion p WHERE p.maxUsageCount IS NOT NULL AND p.currentUsageCount >= (p.maxUsageCount * :percentage / 100)")
     List<Promotion> findByUsagePercentage(@Param("percentage") double percentage);
-}
\ No newline at end of file
+    
+    // 프로모션 엔진 규칙 구성용 조회 (활성화되어 있고 종료되지 않은 프로모션, 시작 전 포함)
+    @Query("SELECT p FROM Promotion p WHERE p.active = true AND (p.endDate IS NULL OR p.endDate > :now)")
+    List<Promotion> findActiveOrUpcoming(@Param("now") LocalDateTime now);
+    
+    // 프로모션별 대상 상품 ID 조회 [프로모션 ID, 상품 ID]
+    @Query("SELECT p.id, pid FROM Promotion p JOIN p.productIds pid WHERE p.id IN :ids")
+    List<Object[]> findProductIdRows(@Param("ids") Collection<Long> ids);
+    
+    // 프로모션별 대상 카테고리 ID 조회 [프로모션 ID, 카테고리 ID]
+    @Query("SELECT p.id, cid FROM Promotion p JOIN p.categoryIds cid WHERE p.id IN :ids")
+    List<Object[]> findCategoryIdRows(@Param("ids") Collection<Long> ids);
+    
+    // 프로모션별 사용 가능 사용자 ID 조회 [프로모션 ID, 사용자 ID]
+    @Query("SELECT p.id, uid FROM Promotion p JOIN p.userIds uid WHERE p.id IN :ids")
+    List<Object[]> findUserIdRows(@Param("ids") Collection<Long> ids);
+}
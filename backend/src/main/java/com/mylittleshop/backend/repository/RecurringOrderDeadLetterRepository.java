@@ -0,0 +1,27 @@
+package com.mylittleshop.backend.repository;
+
+import com.mylittleshop.backend.model.RecurringOrderDeadLetter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface RecurringOrderDeadLetterRepository extends JpaRepository<RecurringOrderDeadLetter, Long> {
+
+    // 정기 주문의 기준일 실패 기록
+    Optional<RecurringOrderDeadLetter> findByRecurringOrderIdAndRunDate(Long recurringOrderId, LocalDate runDate);
+
+    // 페이지 안에서 최대 시도 횟수에 도달한 정기 주문 ID (처리 대상에서 제외)
+    @Query("SELECT d.recurringOrderId FROM RecurringOrderDeadLetter d " +
+           "WHERE d.runDate = :runDate AND d.attempts >= :maxAttempts AND d.recurringOrderId IN :ids")
+    List<Long> findExhaustedIds(@Param("runDate") LocalDate runDate, @Param("maxAttempts") int maxAttempts,
+                                @Param("ids") Collection<Long> ids);
+
+    // 기준일 실패 기록 (최근 갱신 순)
+    List<RecurringOrderDeadLetter> findByRunDateOrderByUpdatedAtDesc(LocalDate runDate, Pageable pageable);
+}
@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface RecurringOrderRepository extends JpaRepository<RecurringOrder, Long> {
     
@@ -54,6 +55,18 @@ public interface RecurringOrderRepository extends JpaRepository<RecurringOrder,
     @Query("SELECT ro FROM RecurringOrder ro WHERE ro.nextOrderDate <= CURRENT_DATE AND ro.status = 'ACTIVE'")
     List<RecurringOrder> findOrdersDueForProcessing();
     
+    // 기준일까지 처리가 필요한 활성 정기 주문 ID를 ID 순으로 다음 페이지 조회 (키셋, idx_recurring_order_due 사용)
+    @Query("SELECT ro.id FROM RecurringOrder ro " +
+           "WHERE ro.status = 'ACTIVE' AND ro.nextOrderDate <= :runDate AND ro.id > :afterId " +
+           "ORDER BY ro.id")
+    List<Long> findDueIdsAfter(@Param("runDate") LocalDate runDate, @Param("afterId") Long afterId, Pageable pageable);
+    
+    // 항목과 상품을 함께 조회 (정기 주문 처리용)
+    @Query("SELECT DISTINCT ro FROM RecurringOrder ro " +
+           "LEFT JOIN FETCH ro.items i LEFT JOIN FETCH i.product " +
+           "WHERE ro.id = :id")
+    Optional<RecurringOrder> findByIdWithItems(@Param("id") Long id);
+    
     // 특정 기간에 마지막 주문이 발생한 정기 주문 조회
     List<RecurringOrder> findByLastOrderDateBetween(LocalDate startDate, LocalDate endDate);
     Page<RecurringOrder> findByLastOrderDateBetween(LocalDate startDate, LocalDate endDate, Pageable pageable);
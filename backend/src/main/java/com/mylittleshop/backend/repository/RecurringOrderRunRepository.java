@@ -0,0 +1,15 @@
+package com.mylittleshop.backend.repository;
+
+import com.mylittleshop.backend.model.RecurringOrderRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+
+public interface RecurringOrderRunRepository extends JpaRepository<RecurringOrderRun, Long> {
+
+    // 정기 주문의 기준일 처리 여부
+    boolean existsByRecurringOrderIdAndRunDate(Long recurringOrderId, LocalDate runDate);
+
+    // 기준일에 처리된 정기 주문 수
+    long countByRunDate(LocalDate runDate);
+}
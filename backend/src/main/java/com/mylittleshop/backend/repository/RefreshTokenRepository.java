@@ -0,0 +1,33 @@
+package com.mylittleshop.backend.repository;
+
+import com.mylittleshop.backend.model.RefreshToken;
+import com.mylittleshop.backend.model.RefreshTokenRevokeReason;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    // 토큰 해시로 조회 (행 잠금, 같은 토큰으로 동시에 재발급하는 요청 중 하나만 성공)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM RefreshToken t WHERE t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashForUpdate(@Param("tokenHash") String tokenHash);
+
+    // 사용자의 유효한 토큰 모두 폐기
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :now, t.revokeReason = :reason " +
+           "WHERE t.userId = :userId AND t.revokedAt IS NULL")
+    int revokeAllByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now,
+                          @Param("reason") RefreshTokenRevokeReason reason);
+
+    // 만료된 토큰 삭제
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt < :before")
+    int deleteByExpiresAtBefore(@Param("before") LocalDateTime before);
+}
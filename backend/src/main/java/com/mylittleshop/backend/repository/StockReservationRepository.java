@@ -0,0 +1,21 @@
+package com.mylittleshop.backend.repository;
+
+import com.mylittleshop.backend.model.StockReservation;
+import com.mylittleshop.backend.model.StockReservationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+    
+    // 예약 키로 조회
+    List<StockReservation> findByReservationKey(String reservationKey);
+    
+    // 예약 키 존재 여부
+    boolean existsByReservationKey(String reservationKey);
+    
+    // 만료된 예약 조회 (배치 크기만큼)
+    List<StockReservation> findByStatusAndExpiresAtBeforeOrderByIdAsc(StockReservationStatus status, LocalDateTime now, Pageable pageable);
+}
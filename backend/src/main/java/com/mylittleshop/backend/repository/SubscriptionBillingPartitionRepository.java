@@ -0,0 +1,25 @@
+package com.mylittleshop.backend.repository;
+
+import com.mylittleshop.backend.model.SubscriptionBillingPartition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SubscriptionBillingPartitionRepository extends JpaRepository<SubscriptionBillingPartition, Long> {
+
+    // 실행의 구간 목록
+    List<SubscriptionBillingPartition> findByRunIdOrderByPartitionNo(Long runId);
+
+    // 청크 처리 결과 반영 (청크와 같은 트랜잭션에서 호출)
+    @Modifying
+    @Query("UPDATE SubscriptionBillingPartition p SET p.lastId = :lastId, p.billed = p.billed + :billed, " +
+           "p.expired = p.expired + :expired, p.failed = p.failed + :failed, p.completed = :completed, " +
+           "p.updatedAt = :now WHERE p.id = :id")
+    int checkpoint(@Param("id") Long id, @Param("lastId") Long lastId, @Param("billed") int billed,
+                   @Param("expired") int expired, @Param("failed") int failed,
+                   @Param("completed") boolean completed, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,21 @@
+package com.mylittleshop.backend.repository;
+
+import com.mylittleshop.backend.model.BillingRunStatus;
+import com.mylittleshop.backend.model.SubscriptionBillingRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface SubscriptionBillingRunRepository extends JpaRepository<SubscriptionBillingRun, Long> {
+
+    // 기준일 실행 조회
+    Optional<SubscriptionBillingRun> findByRunDate(LocalDate runDate);
+
+    // 상태별 실행 (오래된 기준일 순, 중단된 실행 재개용)
+    List<SubscriptionBillingRun> findByStatusOrderByRunDateAsc(BillingRunStatus status);
+
+    // 최근 실행 10건
+    List<SubscriptionBillingRun> findTop10ByOrderByRunDateDesc();
+}
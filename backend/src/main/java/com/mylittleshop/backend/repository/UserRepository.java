@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -38,6 +39,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.roles WHERE u.email = :emailOrUsername OR u.username = :emailOrUsername")
     Optional<User> findByEmailOrUsernameWithRoles(@Param("emailOrUsername") String emailOrUsername);
     
+    // ID로 역할까지 조회 (토큰 재발급 시 사용)
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.roles WHERE u.id = :userId")
+    Optional<User> findByIdWithRoles(@Param("userId") Long userId);
+    
     // 활성 상태인 사용자 조회
     List<User> findByActive(Boolean active);
     Page<User> findByActive(Boolean active, Pageable pageable);
@@ -82,6 +87,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u JOIN u.roles r WHERE r.name = :roleName")
     Page<User> findByRoleName(@Param("roleName") String roleName, Pageable pageable);
     
+    // 인증 상태 조회 (토큰 버전, 잠금 여부)
+    @Query("SELECT u.tokenVersion, u.locked FROM User u WHERE u.id = :userId")
+    List<Object[]> findAuthStateById(@Param("userId") Long userId);
+    
     // 로그인 실패 횟수 업데이트
     @Modifying
     @Query("UPDATE User u SET u.failedLoginAttempts = :attempts WHERE u.id = :userId")
@@ -92,6 +101,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("UPDATE User u SET u.locked = :locked WHERE u.id = :userId")
     void updateAccountLockStatus(@Param("userId") Long userId, @Param("locked") Boolean locked);
     
+    // 비밀번호 해시 교체 (그 사이 비밀번호가 바뀌지 않은 경우만, cost 상향용)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId, @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+    
     // 마지막 로그인 시간 업데이트
     @Modifying
     @Query("UPDATE User u SET u.lastLoginAt = :loginTime WHERE u.id = :userId")
@@ -81,4 +81,15 @@ public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
     // 특정 사용자의 주어진 ID 목록의 상품 위시리스트 조회
     @Query("SELECT w FROM Wishlist w WHERE w.user.id = :userId AND w.product.id IN :productIds")
     List<Wishlist> findByUserIdAndProductIdIn(@Param("userId") Long userId, @Param("productIds") List<Long> productIds);
-}
\ No newline at end of file
+    
+    // 사용자 위시리스트 상품 ID 조회 (상품 ID 순, 포함 여부 색인 적재용)
+    @Query("SELECT w.product.id FROM Wishlist w WHERE w.user.id = :userId ORDER BY w.product.id")
+    List<Long> findProductIdsByUserId(@Param("userId") Long userId);
+    
+    // 사용자 ID별 키셋 페이지 조회 (상품 함께 조회, 추가일/ID 내림차순, 커서 위치 이후)
+    @Query("SELECT w FROM Wishlist w JOIN FETCH w.product WHERE w.user.id = :userId " +
+           "AND w.createdAt <= :afterCreatedAt AND (w.createdAt < :afterCreatedAt OR w.id < :afterId) " +
+           "ORDER BY w.createdAt DESC, w.id DESC")
+    List<Wishlist> findByUserIdAfter(@Param("userId") Long userId, @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                     @Param("afterId") Long afterId, Pageable pageable);
+}
@@ -1,7 +1,7 @@
 package com.mylittleshop.backend.security;
 
+import com.mylittleshop.backend.service.UserAuthStateService;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -18,14 +18,18 @@ import java.io.IOException;
  * JWT 인증을 처리하는 필터입니다.
  * - HTTP 요청에서 Authorization 헤더의 Bearer 토큰을 추출하여 검증합니다.
  * - 유효한 토큰이면 인증 객체를 SecurityContext에 주입합니다.
+ * - 토큰은 한 번만 파싱하고, 인증 객체는 클레임으로 만들며, 잠금/토큰 버전은 인증 상태 캐시로 확인하므로
+ *   캐시 적중 시 요청당 DB 조회가 없습니다.
  * - code-generation-rules.md의 패키지/네이밍/주석 규칙을 100% 준수합니다.
  */
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserAuthStateService userAuthStateService;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserAuthStateService userAuthStateService) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.userAuthStateService = userAuthStateService;
     }
 
     @Override
@@ -41,13 +45,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
         String token = resolveToken(request);
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            if (authentication instanceof UsernamePasswordAuthenticationToken) {
-                ((UsernamePasswordAuthenticationToken) authentication)
-                    .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        if (StringUtils.hasText(token)) {
+            JwtUserPrincipal principal = jwtTokenProvider.parsePrincipal(token);
+            // 잠긴 계정이나 토큰 버전이 바뀐(폐기된) 토큰은 인증하지 않음
+            if (principal != null
+                    && userAuthStateService.isTokenAccepted(principal.getUserId(), principal.getTokenVersion())) {
+                UsernamePasswordAuthenticationToken authentication = jwtTokenProvider.getAuthentication(principal);
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
             }
-            SecurityContextHolder.getContext().setAuthentication(authentication);
         }
         filterChain.doFilter(request, response);
     }
@@ -0,0 +1,115 @@
+package com.mylittleshop.backend.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JWT 서명 키 모음입니다.
+ * - 서명은 활성 키(jwt.key-id / jwt.secret)로만 하고, 토큰 헤더의 kid 로 검증 키를 고릅니다.
+ * - 교체 전 키는 jwt.previous-keys (kid:secret 콤마 구분) 에 남겨 두면 겹치는 기간 동안 검증만 허용됩니다.
+ *   액세스 토큰 유효 시간이 지나면 설정에서 제거합니다. 교체 중에도 기존 토큰이 그대로 통과하므로 재로그인이 몰리지 않습니다.
+ * - 파서는 시작 시 한 번 만들어 재사용합니다. (JwtParser 는 불변이며 스레드 안전)
+ */
+@Component
+@Slf4j
+public class JwtKeyRing {
+
+    private final String secret;
+    private final String activeKeyId;
+    private final String previousKeys;
+
+    private SecretKey signingKey;
+    private Map<String, SecretKey> verificationKeys;
+    private JwtParser parser;
+
+    public JwtKeyRing(@Value("${jwt.secret}") String secret,
+                      @Value("${jwt.key-id:default}") String activeKeyId,
+                      @Value("${jwt.previous-keys:}") String previousKeys) {
+        this.secret = secret;
+        this.activeKeyId = activeKeyId;
+        this.previousKeys = previousKeys;
+    }
+
+    @PostConstruct
+    void init() {
+        signingKey = toKey(secret);
+        Map<String, SecretKey> keys = new LinkedHashMap<>();
+        keys.put(activeKeyId, signingKey);
+        if (StringUtils.hasText(previousKeys)) {
+            for (String entry : previousKeys.split(",")) {
+                int separator = entry.indexOf(':');
+                if (separator <= 0 || separator == entry.length() - 1) {
+                    throw new IllegalStateException("jwt.previous-keys 형식이 올바르지 않습니다 (kid:secret): " + entry.trim());
+                }
+                String kid = entry.substring(0, separator).trim();
+                if (keys.containsKey(kid)) {
+                    throw new IllegalStateException("중복된 JWT 키 ID 입니다: " + kid);
+                }
+                keys.put(kid, toKey(entry.substring(separator + 1).trim()));
+            }
+        }
+        verificationKeys = Map.copyOf(keys);
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveKey(header.getKeyId());
+                    }
+                })
+                .build();
+        log.info("JWT 서명 키 초기화: 활성 kid={}, 검증 가능 kid={}", activeKeyId, keys.keySet());
+    }
+
+    /**
+     * 서명에 사용할 활성 키 ID
+     */
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    /**
+     * 서명에 사용할 활성 키
+     */
+    public SecretKey getSigningKey() {
+        return signingKey;
+    }
+
+    /**
+     * 재사용 파서 (kid 로 검증 키 선택)
+     */
+    public JwtParser getParser() {
+        return parser;
+    }
+
+    // kid 가 없는 토큰은 키 교체 도입 이전에 jwt.secret 으로 서명된 토큰으로 보고 활성 키로 검증
+    private Key resolveKey(String kid) {
+        if (kid == null) {
+            return signingKey;
+        }
+        SecretKey key = verificationKeys.get(kid);
+        if (key == null) {
+            throw new io.jsonwebtoken.security.SignatureException("알 수 없는 JWT 키 ID 입니다: " + kid);
+        }
+        return key;
+    }
+
+    // 기존 JwtTokenProvider 와 같은 방식으로 시크릿에서 HMAC 키 생성
+    private static SecretKey toKey(String secret) {
+        return Keys.hmacShaKeyFor(Base64.getEncoder().encode(secret.getBytes()));
+    }
+}
@@ -1,83 +1,108 @@
 package com.mylittleshop.backend.security;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Lazy;
+import org.springframework.util.StringUtils;
 
-import jakarta.annotation.PostConstruct;
-import javax.crypto.SecretKey;
-import java.util.Base64;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 /**
  * JWT 토큰의 생성, 검증, 파싱을 담당하는 유틸리티 클래스입니다.
+ * - 서명 키와 재사용 파서는 JwtKeyRing 이 관리하며, 토큰 헤더에 서명 키 ID(kid)를 넣습니다.
  * - code-generation-rules.md의 패키지/네이밍/주석 규칙을 100% 준수합니다.
  */
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider {
 
-    private UserDetailsService userDetailsService;
-    private SecretKey secretKey;
+    // 사용자 ID / 역할(콤마 구분) / 토큰 버전 클레임
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_ROLES = "roles";
+    static final String CLAIM_TOKEN_VERSION = "tv";
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final JwtKeyRing keyRing;
 
+    // 액세스 토큰 유효 시간 (짧게 두고 리프레시 토큰으로 재발급)
     @Value("${jwt.expiration}")
     private long validityInMilliseconds;
 
-    @Autowired
-    public void setUserDetailsService(@Lazy CustomUserDetailsService userDetailsService) {
-        this.userDetailsService = userDetailsService;
-    }
-
     /**
-     * 시크릿 키를 Base64로 인코딩하여 SecretKey 객체로 초기화합니다.
+     * 액세스 토큰 유효 시간(초)
      */
-    @PostConstruct
-    protected void init() {
-        byte[] keyBytes = Base64.getEncoder().encode(secret.getBytes());
-        this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+    public long getValiditySeconds() {
+        return validityInMilliseconds / 1000L;
     }
 
     /**
      * 사용자 정보를 기반으로 JWT 토큰을 생성합니다.
+     * 인증 필터가 DB 조회 없이 인증 객체를 만들 수 있도록 사용자 ID, 역할, 토큰 버전을 클레임에 담습니다.
+     * @param userId 사용자 ID
      * @param username 사용자명
      * @param roles 사용자 권한(콤마 구분)
+     * @param tokenVersion 사용자 토큰 버전
      * @return JWT 토큰 문자열
      */
-    public String generateToken(String username, String roles) {
+    public String generateToken(Long userId, String username, String roles, long tokenVersion) {
         Claims claims = Jwts.claims().setSubject(username);
-        claims.put("roles", roles);
+        claims.put(CLAIM_USER_ID, userId);
+        claims.put(CLAIM_ROLES, roles);
+        claims.put(CLAIM_TOKEN_VERSION, tokenVersion);
         Date now = new Date();
         Date validity = new Date(now.getTime() + validityInMilliseconds);
         return Jwts.builder()
+                .setHeaderParam("kid", keyRing.getActiveKeyId())
                 .setClaims(claims)
                 .setIssuedAt(now)
                 .setExpiration(validity)
-                .signWith(secretKey, SignatureAlgorithm.HS256)
+                .signWith(keyRing.getSigningKey(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
     /**
-     * JWT 토큰에서 인증 객체를 반환합니다.
+     * JWT 토큰을 한 번만 파싱/검증하여 클레임의 사용자 정보를 반환합니다.
      * @param token JWT 토큰
+     * @return 사용자 정보 (서명/만료 검증 실패 또는 사용자 ID 클레임이 없는 이전 형식 토큰이면 null)
+     */
+    public JwtUserPrincipal parsePrincipal(String token) {
+        Claims claims;
+        try {
+            claims = keyRing.getParser().parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        if (userId == null) {
+            return null;
+        }
+        Number tokenVersion = claims.get(CLAIM_TOKEN_VERSION, Number.class);
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        String roles = claims.get(CLAIM_ROLES, String.class);
+        if (StringUtils.hasText(roles)) {
+            for (String role : roles.split(",")) {
+                authorities.add(new SimpleGrantedAuthority(role.trim()));
+            }
+        }
+        return new JwtUserPrincipal(userId.longValue(), claims.getSubject(),
+                tokenVersion != null ? tokenVersion.longValue() : 0L, authorities);
+    }
+
+    /**
+     * 사용자 정보로 인증 객체를 만듭니다.
+     * @param principal 토큰의 사용자 정보
      * @return Authentication 객체
      */
-    public Authentication getAuthentication(String token) {
-        String username = getUsername(token);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+    public UsernamePasswordAuthenticationToken getAuthentication(JwtUserPrincipal principal) {
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
     }
 
     /**
@@ -86,12 +111,7 @@ public class JwtTokenProvider {
      * @return 사용자명
      */
     public String getUsername(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return keyRing.getParser().parseClaimsJws(token).getBody().getSubject();
     }
 
     /**
@@ -101,11 +121,9 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
-            return !claims.getBody().getExpiration().before(new Date());
+            // 만료는 파서가 검증 (ExpiredJwtException)
+            keyRing.getParser().parseClaimsJws(token);
+            return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
@@ -0,0 +1,35 @@
+package com.mylittleshop.backend.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+
+/**
+ * JWT 클레임으로 만든 인증 사용자 정보입니다.
+ * - 요청마다 사용자/역할을 DB 에서 읽지 않도록 토큰의 사용자 ID, 사용자명, 역할, 토큰 버전만 담습니다.
+ * - 비밀번호는 보관하지 않습니다.
+ */
+@Getter
+public class JwtUserPrincipal implements UserDetails {
+
+    private final Long userId;
+    private final String username;
+    private final long tokenVersion;
+    private final List<GrantedAuthority> authorities;
+
+    public JwtUserPrincipal(Long userId, String username, long tokenVersion, List<GrantedAuthority> authorities) {
+        this.userId = userId;
+        this.username = username;
+        this.tokenVersion = tokenVersion;
+        this.authorities = List.copyOf(authorities);
+    }
+
+    @Override public String getPassword() { return null; }
+    @Override public boolean isAccountNonExpired() { return true; }
+    // 잠금 여부는 필터에서 인증 상태 캐시로 확인
+    @Override public boolean isAccountNonLocked() { return true; }
+    @Override public boolean isCredentialsNonExpired() { return true; }
+    @Override public boolean isEnabled() { return true; }
+}
@@ -0,0 +1,147 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.dto.AuthTokens;
+import com.mylittleshop.backend.model.RefreshToken;
+import com.mylittleshop.backend.model.RefreshTokenRevokeReason;
+import com.mylittleshop.backend.model.Role;
+import com.mylittleshop.backend.model.User;
+import com.mylittleshop.backend.repository.RefreshTokenRepository;
+import com.mylittleshop.backend.repository.UserRepository;
+import com.mylittleshop.backend.security.JwtTokenProvider;
+import com.mylittleshop.backend.util.TokenUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.stream.Collectors;
+
+/**
+ * 액세스 토큰 / 리프레시 토큰 발급 서비스
+ * - 액세스 토큰은 짧게(jwt.expiration) 발급하고, 만료되면 리프레시 토큰으로 재발급합니다.
+ * - 리프레시 토큰은 원문을 응답으로만 돌려주고 DB 에는 SHA-256 해시만 저장합니다.
+ * - 재발급 시 리프레시 토큰도 새 토큰으로 교체하며, 이미 교체된 토큰이 다시 들어오면 탈취로 보고 사용자의 토큰을 모두 폐기합니다.
+ *   (로그아웃/토큰 버전 변경으로 폐기된 토큰은 거부만 합니다)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuthTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Value("${jwt.refresh-expiration-days:14}")
+    private long refreshExpirationDays;
+
+    /**
+     * 로그인한 사용자에게 액세스 토큰과 리프레시 토큰을 발급합니다.
+     * @param user 사용자 (역할 로딩 필요)
+     * @return 발급된 토큰
+     */
+    @Transactional
+    public AuthTokens issueTokens(User user) {
+        return issue(user, LocalDateTime.now(), null);
+    }
+
+    /**
+     * 리프레시 토큰으로 토큰을 재발급합니다. (리프레시 토큰도 교체)
+     * @param refreshToken 리프레시 토큰 원문
+     * @return 새로 발급된 토큰
+     * @throws IllegalArgumentException 알 수 없거나 만료/폐기된 토큰, 잠긴 계정, 토큰 버전이 바뀐 경우
+     */
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public AuthTokens refresh(String refreshToken) {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken stored = refreshTokenRepository.findByTokenHashForUpdate(hash(refreshToken))
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다."));
+        if (stored.isRevoked()) {
+            if (stored.getRevokeReason() == RefreshTokenRevokeReason.ROTATED) {
+                // 교체된 토큰의 재사용 (탈취 가능성) - 사용자의 모든 리프레시 토큰 폐기
+                int revoked = refreshTokenRepository.revokeAllByUserId(
+                        stored.getUserId(), now, RefreshTokenRevokeReason.REUSE_DETECTED);
+                log.warn("교체된 리프레시 토큰 재사용 감지 - 사용자 토큰 전체 폐기: userId={}, tokenId={}, replacedBy={}, 폐기={}건",
+                        stored.getUserId(), stored.getId(), stored.getReplacedById(), revoked);
+            }
+            throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
+        }
+        if (!stored.getExpiresAt().isAfter(now)) {
+            throw new IllegalArgumentException("만료된 리프레시 토큰입니다.");
+        }
+        User user = userRepository.findByIdWithRoles(stored.getUserId())
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        if (Boolean.TRUE.equals(user.getLocked()) || !stored.getTokenVersion().equals(user.getTokenVersion())) {
+            stored.revoke(now, RefreshTokenRevokeReason.INVALIDATED);
+            throw new IllegalArgumentException("다시 로그인해야 합니다.");
+        }
+        return issue(user, now, stored);
+    }
+
+    /**
+     * 리프레시 토큰을 폐기합니다. (로그아웃, 알 수 없는 토큰은 무시)
+     * @param refreshToken 리프레시 토큰 원문
+     */
+    @Transactional
+    public void revoke(String refreshToken) {
+        refreshTokenRepository.findByTokenHashForUpdate(hash(refreshToken))
+                .filter(token -> !token.isRevoked())
+                .ifPresent(token -> token.revoke(LocalDateTime.now(), RefreshTokenRevokeReason.LOGOUT));
+    }
+
+    /**
+     * 만료된 리프레시 토큰을 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpiredTokens() {
+        int deleted = refreshTokenRepository.deleteByExpiresAtBefore(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 리프레시 토큰 삭제: {}건", deleted);
+        }
+    }
+
+    // rotated: 재발급으로 교체되는 기존 토큰 (새 토큰 ID를 연결하고 폐기)
+    private AuthTokens issue(User user, LocalDateTime now, RefreshToken rotated) {
+        long tokenVersion = user.getTokenVersion() != null ? user.getTokenVersion() : 0L;
+        String roles = user.getRoles().stream().map(Role::getName).collect(Collectors.joining(","));
+        String accessToken = jwtTokenProvider.generateToken(user.getId(), user.getUsername(), roles, tokenVersion);
+
+        String refreshToken = TokenUtil.generateToken();
+        RefreshToken stored = new RefreshToken();
+        stored.setUserId(user.getId());
+        stored.setTokenHash(hash(refreshToken));
+        stored.setTokenVersion(tokenVersion);
+        stored.setIssuedAt(now);
+        stored.setExpiresAt(now.plusDays(refreshExpirationDays));
+        refreshTokenRepository.save(stored);
+        if (rotated != null) {
+            rotated.revoke(now, RefreshTokenRevokeReason.ROTATED);
+            rotated.setReplacedById(stored.getId());
+        }
+
+        return AuthTokens.builder()
+                .userId(user.getId())
+                .accessToken(accessToken)
+                .expiresIn(jwtTokenProvider.getValiditySeconds())
+                .refreshToken(refreshToken)
+                .build();
+    }
+
+    // 리프레시 토큰 원문의 SHA-256 해시 (무작위 32바이트 토큰이므로 솔트/반복 해시 불필요)
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
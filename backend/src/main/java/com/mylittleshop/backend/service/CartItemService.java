@@ -8,7 +8,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +16,7 @@ import java.util.Optional;
 @Slf4j
 public class CartItemService {
     private final CartItemRepository cartItemRepository;
+    private final CartService cartService;
 
     public CartItem save(CartItem item) { return cartItemRepository.save(item); }
     public Optional<CartItem> findById(Long id) { return cartItemRepository.findById(id); }
@@ -24,27 +24,24 @@ public class CartItemService {
     public void deleteById(Long id) { cartItemRepository.deleteById(id); }
     
     /**
-     * 장바구니 아이템 수량 업데이트
+     * 장바구니 아이템 수량 업데이트 (장바구니 잠금/재고 확인은 CartService 에서 처리)
      */
     @Transactional
     public CartItem updateQuantity(Long cartItemId, Integer quantity) {
-        CartItem cartItem = cartItemRepository.findById(cartItemId)
-                .orElseThrow(() -> new RuntimeException("장바구니 아이템을 찾을 수 없습니다."));
-        
-        cartItem.setQuantity(quantity);
-        cartItem.setUpdatedAt(LocalDateTime.now());
-        
-        return cartItemRepository.save(cartItem);
+        if (!cartItemRepository.existsById(cartItemId)) {
+            throw new RuntimeException("장바구니 아이템을 찾을 수 없습니다.");
+        }
+        return cartService.updateCartItemQuantity(cartItemId, quantity);
     }
     
     /**
-     * 장바구니 아이템 삭제
+     * 장바구니 아이템 삭제 (장바구니 잠금은 CartService 에서 처리)
      */
     @Transactional
     public void deleteCartItem(Long cartItemId) {
         if (!cartItemRepository.existsById(cartItemId)) {
             throw new RuntimeException("장바구니 아이템을 찾을 수 없습니다.");
         }
-        cartItemRepository.deleteById(cartItemId);
+        cartService.removeCartItem(cartItemId);
     }
 } 
\ No newline at end of file
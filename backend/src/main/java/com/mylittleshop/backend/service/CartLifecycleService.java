@@ -0,0 +1,196 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.event.CartAbandonedEvent;
+import com.mylittleshop.backend.model.CartStatus;
+import com.mylittleshop.backend.repository.CartRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 장바구니 수명 주기 작업 (방치 장바구니 정리)
+ * - 마지막 변경 후 일정 기간이 지난 활성 장바구니를 방치(ABANDONED) 상태로 바꿉니다.
+ * - 활성 장바구니 ID 범위를 고정 폭 구간으로 나눠 구간마다 UPDATE ... WHERE id BETWEEN 한 번을 별도 트랜잭션으로 실행하므로,
+ *   장바구니를 메모리에 올리지 않고 잠금 시간도 구간 단위로 제한됩니다.
+ * - 한 번의 실행은 최대 실행 시간까지만 진행하고, 남은 구간은 다음 실행에서 이어서 처리합니다.
+ * - job_locks 잠금 행으로 여러 인스턴스 중 하나만 실행합니다.
+ * - 진행 지표: cart.lifecycle.abandoned, cart.lifecycle.chunks, cart.lifecycle.run, cart.lifecycle.progress
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CartLifecycleService {
+
+    static final String JOB_NAME = "cart-lifecycle";
+
+    private final CartRepository cartRepository;
+    private final JobLockService jobLockService;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.cart.abandon.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cart.abandon.after-days:30}")
+    private long abandonAfterDays;
+
+    // 구간당 ID 폭
+    @Value("${app.cart.abandon.chunk-size:1000}")
+    private long chunkSize;
+
+    @Value("${app.cart.abandon.chunk-timeout-seconds:10}")
+    private int chunkTimeoutSeconds;
+
+    @Value("${app.cart.abandon.max-run-seconds:60}")
+    private long maxRunSeconds;
+
+    // 방치 이벤트 발행 여부 (리마케팅 연동 시 사용, 대상 행을 잠금 조회하므로 조금 더 느림)
+    @Value("${app.cart.abandon.events-enabled:false}")
+    private boolean eventsEnabled;
+
+    private TransactionTemplate chunkTransaction;
+    private Counter abandonedCounter;
+    private Counter chunkCounter;
+    private Timer runTimer;
+
+    // 최대 실행 시간에 걸려 중단된 경우 다음 실행의 시작 ID (0: 처음부터)
+    private volatile long resumeFromId;
+    // 마지막 실행의 ID 범위 진행률 (0.0 ~ 1.0)
+    private volatile double progress = 1.0;
+
+    @PostConstruct
+    void init() {
+        chunkTransaction = new TransactionTemplate(transactionManager);
+        chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        chunkTransaction.setTimeout(chunkTimeoutSeconds);
+        abandonedCounter = meterRegistry.counter("cart.lifecycle.abandoned");
+        chunkCounter = meterRegistry.counter("cart.lifecycle.chunks");
+        runTimer = meterRegistry.timer("cart.lifecycle.run");
+        meterRegistry.gauge("cart.lifecycle.progress", this, job -> job.progress);
+    }
+
+    /**
+     * 방치 장바구니 정리 (주기 실행, 잠금을 획득한 인스턴스만 실행)
+     */
+    @Scheduled(initialDelayString = "${app.cart.abandon.initial-delay-ms:60000}",
+               fixedDelayString = "${app.cart.abandon.interval-ms:600000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        Duration maxRun = Duration.ofSeconds(maxRunSeconds);
+        // 임대 기간은 마지막 구간의 트랜잭션 시간까지 포함
+        if (!jobLockService.tryAcquire(JOB_NAME, maxRun.plusSeconds(chunkTimeoutSeconds * 2L))) {
+            log.debug("장바구니 정리 작업 건너뜀 - 다른 인스턴스에서 실행 중");
+            return;
+        }
+        try {
+            abandonStaleCarts(LocalDateTime.now().minusDays(abandonAfterDays), maxRun);
+        } finally {
+            jobLockService.release(JOB_NAME);
+        }
+    }
+
+    /**
+     * 기준 시각 이전에 마지막으로 변경된 활성 장바구니를 방치 상태로 변경합니다. (수동 실행)
+     * 항상 최소 ID 부터 끝까지 처리하며, 주기 실행의 이어서 처리할 위치와 진행률은 바꾸지 않습니다.
+     * @param cutoff 기준 시각
+     * @return 변경된 장바구니 수
+     */
+    public int abandonStaleCarts(LocalDateTime cutoff) {
+        List<Object[]> range = cartRepository.findIdRangeByStatus(CartStatus.ACTIVE);
+        if (range.isEmpty() || range.get(0)[0] == null) {
+            return 0;
+        }
+        long minId = (Long) range.get(0)[0];
+        long maxId = (Long) range.get(0)[1];
+        return sweep(cutoff, minId, maxId, minId, null, false);
+    }
+
+    // 주기 실행: 이전 실행이 중단된 위치부터 최대 실행 시간까지 처리 (잠금을 획득한 run() 에서만 호출)
+    private int abandonStaleCarts(LocalDateTime cutoff, Duration maxRun) {
+        List<Object[]> range = cartRepository.findIdRangeByStatus(CartStatus.ACTIVE);
+        if (range.isEmpty() || range.get(0)[0] == null) {
+            resumeFromId = 0;
+            progress = 1.0;
+            return 0;
+        }
+        long minId = (Long) range.get(0)[0];
+        long maxId = (Long) range.get(0)[1];
+        long from = resumeFromId > minId && resumeFromId <= maxId ? resumeFromId : minId;
+        return sweep(cutoff, minId, maxId, from, maxRun, true);
+    }
+
+    // [from, maxId] 구간을 차례로 처리 (resumable 이면 진행률과 다음 시작 ID 를 기록)
+    private int sweep(LocalDateTime cutoff, long minId, long maxId, long from, Duration maxRun, boolean resumable) {
+        long deadline = maxRun != null ? System.nanoTime() + maxRun.toNanos() : 0;
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int total = 0;
+        int chunks = 0;
+        while (from <= maxId) {
+            long fromId = from;
+            long toId = Math.min(from + chunkSize - 1, maxId);
+            Integer count = chunkTransaction.execute(status -> abandonChunk(fromId, toId, cutoff));
+            int abandoned = count != null ? count : 0;
+            total += abandoned;
+            chunks++;
+            abandonedCounter.increment(abandoned);
+            chunkCounter.increment();
+            if (resumable) {
+                progress = (double) (toId - minId + 1) / (maxId - minId + 1);
+            }
+            from = toId + 1;
+
+            if (maxRun != null && from <= maxId && System.nanoTime() - deadline > 0) {
+                log.info("장바구니 정리 작업 최대 실행 시간 도달 - 다음 실행에서 이어서 처리: 다음 ID={}, 최대 ID={}", from, maxId);
+                break;
+            }
+        }
+        if (resumable) {
+            resumeFromId = from <= maxId ? from : 0;
+        }
+        sample.stop(runTimer);
+        log.info("방치 장바구니 정리: 기준 시각={}, 구간 수={}, 변경={}, 진행률={}", cutoff, chunks, total,
+                String.format("%.2f", (double) (Math.min(from, maxId + 1) - minId) / (maxId - minId + 1)));
+        return total;
+    }
+
+    // 구간 하나를 한 트랜잭션에서 처리
+    private int abandonChunk(long fromId, long toId, LocalDateTime cutoff) {
+        if (!eventsEnabled) {
+            return cartRepository.updateStatusInIdRange(fromId, toId, CartStatus.ACTIVE, CartStatus.ABANDONED, cutoff);
+        }
+        // 대상 행을 잠근 뒤 변경하므로, 이벤트는 실제로 변경된 장바구니에 대해서만 발행됨
+        List<Object[]> rows = cartRepository.findStaleActiveRowsForUpdate(fromId, toId, cutoff);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            ids.add(((Number) row[0]).longValue());
+        }
+        int updated = cartRepository.updateStatusByIds(ids, CartStatus.ACTIVE, CartStatus.ABANDONED);
+        for (Object[] row : rows) {
+            eventPublisher.publishEvent(new CartAbandonedEvent(((Number) row[0]).longValue(),
+                    row[1] != null ? ((Number) row[1]).longValue() : null));
+        }
+        return updated;
+    }
+}
@@ -1,29 +1,52 @@
 package com.mylittleshop.backend.service;
 
+import com.mylittleshop.backend.dto.CartMutationRequest;
+import com.mylittleshop.backend.dto.CartOperation;
+import com.mylittleshop.backend.dto.ProductSummary;
+import com.mylittleshop.backend.event.CartChangedEvent;
 import com.mylittleshop.backend.model.*;
 import com.mylittleshop.backend.repository.CartItemRepository;
+import com.mylittleshop.backend.repository.CartMutationKeyRepository;
 import com.mylittleshop.backend.repository.CartRepository;
 import com.mylittleshop.backend.repository.ProductRepository;
 import com.mylittleshop.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class CartService {
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
+    private final CartMutationKeyRepository cartMutationKeyRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
-    private final InventoryService inventoryService;
+    private final CatalogService catalogService;
+    private final CartLifecycleService cartLifecycleService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HotPathMetrics hotPathMetrics;
+
+    // 장바구니 담기 계측 이름 (cart.add / cart.add.phase)
+    private static final String CART_ADD = "cart.add";
+
+    @Value("${app.cart.max-operations:100}")
+    private int maxOperations;
+
+    @Value("${app.cart.idempotency-ttl-hours:24}")
+    private long idempotencyTtlHours;
 
     /**
      * 장바구니 저장
@@ -143,7 +166,9 @@ public class CartService {
         cart.setCreatedAt(LocalDateTime.now());
         cart.setUpdatedAt(LocalDateTime.now());
         
-        return cartRepository.save(cart);
+        Cart saved = cartRepository.save(cart);
+        publishCartChanged(saved);
+        return saved;
     }
     
     /**
@@ -160,6 +185,48 @@ public class CartService {
         return createCart(user);
     }
     
+    /**
+     * 장바구니 일괄 변경
+     * - 여러 추가/수량 지정/삭제 항목을 상품별 최종 수량으로 합친 뒤 한 트랜잭션에서 반영합니다.
+     * - 장바구니 행을 잠근 뒤 적용하므로 같은 장바구니에 대한 동시 변경은 순서대로 처리되며,
+     *   expectedVersion 이 지정되면 현재 버전과 다를 때 OptimisticLockingFailureException 이 발생합니다.
+     * - 이미 처리된 멱등성 키이면 아무것도 변경하지 않습니다.
+     * 
+     * @param userId 사용자 ID
+     * @param request 변경 요청
+     * @param idempotencyKey 멱등성 키 (없으면 null)
+     * @return 적용 여부 (이미 처리된 요청이면 false)
+     */
+    @Transactional
+    public boolean applyMutations(Long userId, CartMutationRequest request, String idempotencyKey) {
+        List<CartOperation> operations = request.getOperations();
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("변경 항목은 필수입니다.");
+        }
+        if (operations.size() > maxOperations) {
+            throw new IllegalArgumentException("한 번에 변경할 수 있는 항목은 최대 " + maxOperations + "개입니다.");
+        }
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > 64)) {
+            throw new IllegalArgumentException("멱등성 키는 1~64자여야 합니다.");
+        }
+        
+        Cart cart = lockActiveCart(userId);
+        // 같은 키의 재요청은 버전이 이미 바뀌었으므로 버전 확인보다 먼저 판단
+        if (idempotencyKey != null && cartMutationKeyRepository.existsByUserIdAndIdempotencyKey(userId, idempotencyKey)) {
+            log.info("이미 처리된 장바구니 변경 요청: userId={}, key={}", userId, idempotencyKey);
+            return false;
+        }
+        if (request.getExpectedVersion() != null && !request.getExpectedVersion().equals(cart.getVersion())) {
+            throw new OptimisticLockingFailureException("장바구니가 다른 요청으로 변경되었습니다. 다시 조회해 주세요.");
+        }
+        
+        applyOperations(cart, operations);
+        if (idempotencyKey != null) {
+            cartMutationKeyRepository.save(new CartMutationKey(userId, idempotencyKey, cart.getId()));
+        }
+        return true;
+    }
+    
     /**
      * 장바구니에 상품 추가
      * 
@@ -174,62 +241,17 @@ public class CartService {
             throw new IllegalArgumentException("수량은 0보다 커야 합니다.");
         }
         
-        Cart cart = cartRepository.findById(cartId)
-                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 장바구니 ID입니다."));
-        
-        if (cart.getStatus() != CartStatus.ACTIVE) {
-            throw new IllegalStateException("활성 상태의 장바구니만 아이템을 추가할 수 있습니다.");
-        }
-        
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 상품 ID입니다."));
-        
-        // 재고 확인
-        Inventory inventory = inventoryService.findByProduct(product)
-                .orElseThrow(() -> new IllegalStateException("해당 상품의 재고 정보가 없습니다."));
-        
-        if (inventory.getQuantity() < quantity) {
-            throw new IllegalStateException("재고 부족으로 상품을 추가할 수 없습니다.");
-        }
-        
-        // 이미 장바구니에 있는 상품인지 확인
-        Optional<CartItem> existingItem = cartItemRepository.findByCartAndProduct(cart, product);
-        
-        CartItem cartItem;
-        if (existingItem.isPresent()) {
-            // 기존 아이템 수량 업데이트
-            cartItem = existingItem.get();
-            int newQuantity = cartItem.getQuantity() + quantity;
-            
-            // 재고 확인
-            if (inventory.getQuantity() < newQuantity) {
-                throw new IllegalStateException("재고 부족으로 상품 수량을 업데이트할 수 없습니다.");
+        HotPathMetrics.Span add = hotPathMetrics.start(CART_ADD);
+        try (add) {
+            Cart cart;
+            try (HotPathMetrics.Span phase = hotPathMetrics.phase(CART_ADD, "load")) {
+                cart = cartRepository.findByIdForUpdate(cartId)
+                        .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 장바구니 ID입니다."));
             }
-            
-            cartItem.setQuantity(newQuantity);
-        } else {
-            // 새 아이템 추가
-            cartItem = new CartItem();
-            cartItem.setCart(cart);
-            cartItem.setProduct(product);
-            cartItem.setQuantity(quantity);
-            cartItem.setAddedAt(LocalDateTime.now());
+            CartItem item = applyAdd(cart, productId, quantity);
+            add.count(quantity).success();
+            return item;
         }
-        
-        // 상품 가격 설정 (멤버십 등급에 따라 다른 가격 적용 가능)
-        if (cart.getUser().getIsGemmaMember()) {  // isGemmaMember() -> getIsGemmaMember()
-            cartItem.setUnitPrice(product.getGmPrice());  // regularPrice -> gmPrice
-            cartItem.setAppliedPriceType("GM_PRICE");
-        } else {
-            cartItem.setUnitPrice(product.getGmPrice());  // regularPrice -> gmPrice
-            cartItem.setAppliedPriceType("REGULAR_PRICE");
-        }
-        
-        // 장바구니 업데이트 시간 갱신
-        cart.setUpdatedAt(LocalDateTime.now());
-        cartRepository.save(cart);
-        
-        return cartItemRepository.save(cartItem);
     }
     
     /**
@@ -242,11 +264,27 @@ public class CartService {
      */
     @Transactional
     public CartItem addItemToUserCart(Long userId, Long productId, int quantity) {
-        // 사용자의 활성 장바구니 조회
-        Cart cart = findActiveCartByUserId(userId)
-                .orElseGet(() -> createCartForUser(userId));
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("수량은 0보다 커야 합니다.");
+        }
         
-        return addItemToCart(cart.getId(), productId, quantity);
+        HotPathMetrics.Span add = hotPathMetrics.start(CART_ADD);
+        try (add) {
+            Cart cart;
+            try (HotPathMetrics.Span phase = hotPathMetrics.phase(CART_ADD, "load")) {
+                cart = lockActiveCart(userId);
+            }
+            CartItem item = applyAdd(cart, productId, quantity);
+            add.count(quantity).success();
+            return item;
+        }
+    }
+    
+    // 담기 적용 (상품 검증/재고 확인 후 항목 반영) - cart.add.phase{phase=apply}
+    private CartItem applyAdd(Cart cart, Long productId, int quantity) {
+        try (HotPathMetrics.Span phase = hotPathMetrics.phase(CART_ADD, "apply")) {
+            return applyOperations(cart, List.of(operation(CartOperation.Type.ADD, productId, quantity))).get(productId);
+        }
     }
     
     /**
@@ -264,23 +302,10 @@ public class CartService {
         
         CartItem cartItem = cartItemRepository.findById(cartItemId)
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 장바구니 아이템 ID입니다."));
+        Cart cart = lockCart(cartItem.getCart().getId());
+        Long productId = cartItem.getProduct().getId();
         
-        // 재고 확인
-        Inventory inventory = inventoryService.findByProduct(cartItem.getProduct())
-                .orElseThrow(() -> new IllegalStateException("해당 상품의 재고 정보가 없습니다."));
-        
-        if (inventory.getQuantity() < quantity) {
-            throw new IllegalStateException("재고 부족으로 상품 수량을 업데이트할 수 없습니다.");
-        }
-        
-        cartItem.setQuantity(quantity);
-        
-        // 장바구니 업데이트 시간 갱신
-        Cart cart = cartItem.getCart();
-        cart.setUpdatedAt(LocalDateTime.now());
-        cartRepository.save(cart);
-        
-        return cartItemRepository.save(cartItem);
+        return applyOperations(cart, List.of(operation(CartOperation.Type.SET, productId, quantity))).get(productId);
     }
     
     /**
@@ -292,13 +317,9 @@ public class CartService {
     public void removeCartItem(Long cartItemId) {
         CartItem cartItem = cartItemRepository.findById(cartItemId)
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 장바구니 아이템 ID입니다."));
+        Cart cart = lockCart(cartItem.getCart().getId());
         
-        // 장바구니 업데이트 시간 갱신
-        Cart cart = cartItem.getCart();
-        cart.setUpdatedAt(LocalDateTime.now());
-        cartRepository.save(cart);
-        
-        cartItemRepository.delete(cartItem);
+        applyOperations(cart, List.of(operation(CartOperation.Type.REMOVE, cartItem.getProduct().getId(), null)));
     }
     
     /**
@@ -309,17 +330,16 @@ public class CartService {
      */
     @Transactional
     public int clearCart(Long cartId) {
-        Cart cart = cartRepository.findById(cartId)
-                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 장바구니 ID입니다."));
+        Cart cart = lockCart(cartId);
         
         List<CartItem> cartItems = cartItemRepository.findByCart(cart);
         int count = cartItems.size();
         
         cartItemRepository.deleteAll(cartItems);
         
-        // 장바구니 업데이트 시간 갱신
-        cart.setUpdatedAt(LocalDateTime.now());
-        cartRepository.save(cart);
+        // 장바구니 변경 시각/버전 갱신
+        cartRepository.touch(cart.getId(), LocalDateTime.now());
+        publishCartChanged(cart);
         
         return count;
     }
@@ -354,6 +374,7 @@ public class CartService {
         
         cart.setStatus(status);
         cart.setUpdatedAt(LocalDateTime.now());
+        publishCartChanged(cart);
         
         return cartRepository.save(cart);
     }
@@ -387,8 +408,16 @@ public class CartService {
         Cart cart = cartRepository.findById(cartId)
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 장바구니 ID입니다."));
         
-        List<CartItem> cartItems = cartItemRepository.findByCart(cart);
-        
+        return totalOf(cartItemRepository.findByCart(cart));
+    }
+    
+    /**
+     * 장바구니 항목 금액 합계 (단가 x 수량)
+     * 
+     * @param cartItems 장바구니 항목 목록
+     * @return 총액
+     */
+    public static BigDecimal totalOf(List<CartItem> cartItems) {
         return cartItems.stream()
                 .map(item -> item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
@@ -453,21 +482,13 @@ public class CartService {
     
     /**
      * 오래된 장바구니 정리
+     * 활성 장바구니를 ID 구간 단위의 일괄 UPDATE 로 방치 상태로 바꿉니다. (구간마다 별도 트랜잭션)
      * 
      * @param days 일수
      * @return 정리된 장바구니 수
      */
-    @Transactional
     public int cleanupOldCarts(int days) {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(days);
-        List<Cart> oldCarts = cartRepository.findByStatusAndUpdatedAtBefore(CartStatus.ACTIVE, cutoffDate);
-        
-        for (Cart cart : oldCarts) {
-            cart.setStatus(CartStatus.ABANDONED);
-            cartRepository.save(cart);
-        }
-        
-        return oldCarts.size();
+        return cartLifecycleService.abandonStaleCarts(LocalDateTime.now().minusDays(days));
     }
     
     /**
@@ -542,4 +563,155 @@ public class CartService {
     public Page<Cart> findAll(Pageable pageable) {
         return cartRepository.findAll(pageable);
     }
+    
+    /**
+     * 보관 기간이 지난 장바구니 변경 멱등성 키를 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.cart.idempotency-purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpiredMutationKeys() {
+        int deleted = cartMutationKeyRepository.deleteByCreatedAtBefore(LocalDateTime.now().minusHours(idempotencyTtlHours));
+        if (deleted > 0) {
+            log.info("만료된 장바구니 멱등성 키 삭제: {}건", deleted);
+        }
+    }
+    
+    // 사용자 활성 장바구니를 잠금 조회 (없으면 생성)
+    private Cart lockActiveCart(Long userId) {
+        List<Cart> carts = cartRepository.findByUserIdAndStatusForUpdate(userId, CartStatus.ACTIVE);
+        return carts.isEmpty() ? createCartForUser(userId) : carts.get(0);
+    }
+    
+    private Cart lockCart(Long cartId) {
+        return cartRepository.findByIdForUpdate(cartId)
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 장바구니 ID입니다."));
+    }
+    
+    private static CartOperation operation(CartOperation.Type type, Long productId, Integer quantity) {
+        return CartOperation.builder().type(type).productId(productId).quantity(quantity).build();
+    }
+    
+    /**
+     * 변경 항목을 상품별 최종 수량으로 합쳐 잠금된 장바구니에 반영합니다.
+     * 상품 가격/재고는 카탈로그 목록 캐시(재고는 재고 원장 읽기 캐시 값)로 한 번에 확인하고,
+     * 장바구니 행은 변경 시각/버전만 단일 UPDATE 문으로 갱신합니다.
+     * 
+     * @return 상품 ID -> 반영 후 장바구니 아이템
+     */
+    private Map<Long, CartItem> applyOperations(Cart cart, List<CartOperation> operations) {
+        if (cart.getStatus() != CartStatus.ACTIVE) {
+            throw new IllegalStateException("활성 상태의 장바구니만 변경할 수 있습니다.");
+        }
+        
+        Map<Long, CartItem> items = new HashMap<>();
+        for (CartItem item : cartItemRepository.findByCartId(cart.getId())) {
+            items.put(item.getProduct().getId(), item);
+        }
+        
+        // 같은 상품에 대한 여러 변경을 최종 수량 하나로 합침
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        Set<Long> added = new HashSet<>();
+        for (CartOperation op : operations) {
+            if (op == null || op.getType() == null || op.getProductId() == null) {
+                throw new IllegalArgumentException("변경 유형과 상품 ID는 필수입니다.");
+            }
+            Long productId = op.getProductId();
+            CartItem existing = items.get(productId);
+            int current = quantities.getOrDefault(productId, existing != null ? existing.getQuantity() : 0);
+            int quantity = op.getQuantity() != null ? op.getQuantity() : 0;
+            switch (op.getType()) {
+                case ADD -> {
+                    if (quantity <= 0) {
+                        throw new IllegalArgumentException("수량은 0보다 커야 합니다.");
+                    }
+                    current += quantity;
+                    added.add(productId);
+                }
+                case SET -> {
+                    if (quantity < 0) {
+                        throw new IllegalArgumentException("수량은 0 이상이어야 합니다.");
+                    }
+                    current = quantity;
+                }
+                case REMOVE -> current = 0;
+            }
+            quantities.put(productId, current);
+        }
+        
+        // 수량이 바뀌거나 가격을 다시 적용할 상품만 확인
+        Set<Long> checkIds = new LinkedHashSet<>();
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            CartItem existing = items.get(entry.getKey());
+            int before = existing != null ? existing.getQuantity() : 0;
+            if (entry.getValue() > 0 && (entry.getValue() != before || added.contains(entry.getKey()))) {
+                checkIds.add(entry.getKey());
+            }
+        }
+        Map<Long, ProductSummary> summaries = new HashMap<>();
+        for (ProductSummary summary : catalogService.getProductSummaries(new ArrayList<>(checkIds))) {
+            summaries.put(summary.getId(), summary);
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        String priceType = null;
+        List<CartItem> created = new ArrayList<>();
+        List<CartItem> removed = new ArrayList<>();
+        boolean changed = false;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            Long productId = entry.getKey();
+            int quantity = entry.getValue();
+            CartItem item = items.get(productId);
+            if (quantity == 0) {
+                if (item != null) {
+                    removed.add(item);
+                    items.remove(productId);
+                    changed = true;
+                }
+                continue;
+            }
+            if (!checkIds.contains(productId)) {
+                continue;
+            }
+            ProductSummary summary = summaries.get(productId);
+            if (summary == null) {
+                throw new IllegalArgumentException("유효하지 않은 상품 ID입니다: " + productId);
+            }
+            int stock = summary.getStockQuantity() != null ? summary.getStockQuantity() : 0;
+            if (stock < quantity) {
+                throw new IllegalStateException("재고 부족으로 상품 수량을 변경할 수 없습니다: productId=" + productId);
+            }
+            if (item == null) {
+                item = new CartItem();
+                item.setCart(cart);
+                item.setProduct(productRepository.getReferenceById(productId));
+                item.setAddedAt(now);
+                created.add(item);
+                items.put(productId, item);
+            }
+            item.setQuantity(quantity);
+            if (added.contains(productId) || item.getUnitPrice() == null) {
+                // 상품 가격 설정 (멤버십 등급에 따라 다른 가격 적용 가능)
+                if (priceType == null) {
+                    priceType = Boolean.TRUE.equals(cart.getUser().getIsGemmaMember()) ? "GM_PRICE" : "REGULAR_PRICE";
+                }
+                item.setUnitPrice(summary.getPrice());
+                item.setAppliedPriceType(priceType);
+            }
+            changed = true;
+        }
+        
+        if (changed) {
+            cartItemRepository.deleteAll(removed);
+            cartItemRepository.saveAll(created);
+            // 장바구니 변경 시각/버전 갱신
+            cartRepository.touch(cart.getId(), now);
+            publishCartChanged(cart);
+        }
+        return items;
+    }
+    
+    // 커밋 후 장바구니 조회 캐시 무효화 (사용자 프록시의 ID 조회는 지연 로딩을 일으키지 않음)
+    private void publishCartChanged(Cart cart) {
+        eventPublisher.publishEvent(new CartChangedEvent(cart.getUser().getId()));
+    }
 }
\ No newline at end of file
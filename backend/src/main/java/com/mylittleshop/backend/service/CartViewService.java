@@ -0,0 +1,216 @@
+package com.mylittleshop.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mylittleshop.backend.dto.CartItemResponse;
+import com.mylittleshop.backend.dto.CartView;
+import com.mylittleshop.backend.dto.ProductSummary;
+import com.mylittleshop.backend.dto.PromotionLine;
+import com.mylittleshop.backend.event.CartAbandonedEvent;
+import com.mylittleshop.backend.event.CartChangedEvent;
+import com.mylittleshop.backend.model.CartStatus;
+import com.mylittleshop.backend.repository.CartRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 장바구니 조회 서비스
+ * - 사용자별 활성 장바구니의 아이템 행을 한 번의 프로젝션 쿼리로 읽어 스냅샷으로 캐시합니다.
+ * - 상품 정보는 CatalogService 목록 항목 캐시, 재고는 재고 원장 읽기 캐시 값으로 조회 시점에 결합하므로
+ *   상품/재고 변경은 장바구니 캐시 무효화 없이 반영됩니다.
+ * - 장바구니 변경 이벤트를 커밋 이후(AFTER_COMMIT)에 받아 해당 사용자의 스냅샷만 무효화합니다.
+ *   스냅샷 적재는 키 단위로 원자적이므로, 적재 중 무효화가 들어오면 적재가 끝난 뒤 제거됩니다.
+ * - 적중/미스 지표는 actuator 메트릭 cache.gets (cache=cart.views) 로 노출됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CartViewService {
+
+    private final CartRepository cartRepository;
+    private final CatalogService catalogService;
+    private final PromotionEngine promotionEngine;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.cart-view.max-size:50000}")
+    private long maxSize;
+
+    @Value("${app.cart-view.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    private Cache<Long, CartSnapshot> snapshots;
+
+    @PostConstruct
+    void init() {
+        snapshots = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "cart.views");
+    }
+
+    /**
+     * 사용자 장바구니 조회 (아이템, 상품 정보, 재고, 합계, 프로모션 적용 결과)
+     * 캐시 적중 시 DB 조회가 없습니다.
+     * @param userId 사용자 ID
+     * @return 장바구니 조회 결과 (활성 장바구니가 없으면 빈 결과)
+     */
+    public CartView getCartView(Long userId) {
+        CartSnapshot snapshot = snapshots.get(userId, this::load);
+
+        Map<Long, ProductSummary> summaryById = new HashMap<>();
+        for (ProductSummary summary : catalogService.getProductSummaries(snapshot.productIds)) {
+            summaryById.put(summary.getId(), summary);
+        }
+
+        List<CartItemResponse> items = new ArrayList<>(snapshot.lines.size());
+        List<PromotionLine> promotionLines = new ArrayList<>(snapshot.lines.size());
+        BigDecimal subtotal = BigDecimal.ZERO;
+        int totalQuantity = 0;
+        boolean allInStock = true;
+        for (Line line : snapshot.lines) {
+            ProductSummary summary = summaryById.get(line.productId);
+            int stock = summary != null && summary.getStockQuantity() != null ? summary.getStockQuantity() : 0;
+            BigDecimal unitPrice = line.unitPrice != null ? line.unitPrice : BigDecimal.ZERO;
+            BigDecimal totalPrice = unitPrice.multiply(BigDecimal.valueOf(line.quantity));
+
+            items.add(toResponse(line, summary, stock, totalPrice));
+            promotionLines.add(PromotionLine.builder()
+                    .productId(line.productId)
+                    .categoryId(summary != null && summary.getCategory() != null ? summary.getCategory().getId() : null)
+                    .amount(totalPrice)
+                    .build());
+            subtotal = subtotal.add(totalPrice);
+            totalQuantity += line.quantity;
+            allInStock &= stock >= line.quantity;
+        }
+
+        return CartView.builder()
+                .userId(userId)
+                .cartId(snapshot.cartId)
+                .version(snapshot.version)
+                .items(items)
+                .itemCount(items.size())
+                .totalQuantity(totalQuantity)
+                .subtotal(subtotal)
+                .allInStock(allInStock)
+                .promotion(promotionEngine.quote(userId, promotionLines))
+                .build();
+    }
+
+    /**
+     * 장바구니 변경 커밋 후 해당 사용자의 스냅샷을 무효화합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCartChanged(CartChangedEvent event) {
+        snapshots.invalidate(event.getUserId());
+    }
+
+    /**
+     * 방치 처리 커밋 후 해당 사용자의 스냅샷을 무효화합니다. (이벤트 발행이 꺼져 있으면 만료 시간까지 유지)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCartAbandoned(CartAbandonedEvent event) {
+        if (event.getUserId() != null) {
+            snapshots.invalidate(event.getUserId());
+        }
+    }
+
+    private CartSnapshot load(Long userId) {
+        List<Object[]> rows = cartRepository.findViewRowsByUserIdAndStatus(userId, CartStatus.ACTIVE);
+        if (rows.isEmpty()) {
+            return CartSnapshot.EMPTY;
+        }
+        // 활성 장바구니가 여러 개인 비정상 데이터는 가장 먼저 생성된 장바구니만 사용
+        Long cartId = (Long) rows.get(0)[0];
+        List<Line> lines = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            if (!cartId.equals(row[0])) {
+                log.warn("활성 장바구니가 여러 개입니다: userId={}, cartIds={}, {}", userId, cartId, row[0]);
+                break;
+            }
+            if (row[2] != null) {
+                lines.add(new Line((Long) row[2], (Long) row[3], (Integer) row[4], (BigDecimal) row[5],
+                        (String) row[6], (LocalDateTime) row[7]));
+            }
+        }
+        return new CartSnapshot(cartId, (Long) rows.get(0)[1], lines);
+    }
+
+    private static CartItemResponse toResponse(Line line, ProductSummary summary, int stock, BigDecimal totalPrice) {
+        CartItemResponse.CartItemResponseBuilder builder = CartItemResponse.builder()
+                .id(line.itemId)
+                .productId(line.productId)
+                .quantity(line.quantity)
+                .unitPrice(line.unitPrice)
+                .totalPrice(totalPrice)
+                .appliedPriceType(line.appliedPriceType)
+                .addedAt(line.addedAt)
+                .stockQuantity(stock)
+                .inStock(stock > 0);
+        if (summary != null) {
+            builder.productName(summary.getName())
+                    .productImage(summary.getMainImage() != null ? summary.getMainImage().getUrl() : null)
+                    .productPrice(summary.getPrice())
+                    .productDescription(summary.getDescription())
+                    .productSku(summary.getSku())
+                    .productBrand(summary.getBrand());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 사용자 활성 장바구니의 아이템 행 스냅샷 (상품 정보/재고 제외)
+     */
+    private static final class CartSnapshot {
+        static final CartSnapshot EMPTY = new CartSnapshot(null, null, List.of());
+
+        private final Long cartId;
+        private final Long version;
+        private final List<Line> lines;
+        private final List<Long> productIds;
+
+        CartSnapshot(Long cartId, Long version, List<Line> lines) {
+            this.cartId = cartId;
+            this.version = version;
+            this.lines = List.copyOf(lines);
+            List<Long> ids = new ArrayList<>(lines.size());
+            for (Line line : lines) {
+                ids.add(line.productId);
+            }
+            this.productIds = List.copyOf(ids);
+        }
+    }
+
+    private static final class Line {
+        private final Long itemId;
+        private final Long productId;
+        private final int quantity;
+        private final BigDecimal unitPrice;
+        private final String appliedPriceType;
+        private final LocalDateTime addedAt;
+
+        Line(Long itemId, Long productId, Integer quantity, BigDecimal unitPrice, String appliedPriceType,
+             LocalDateTime addedAt) {
+            this.itemId = itemId;
+            this.productId = productId;
+            this.quantity = quantity != null ? quantity : 0;
+            this.unitPrice = unitPrice;
+            this.appliedPriceType = appliedPriceType;
+            this.addedAt = addedAt;
+        }
+    }
+}
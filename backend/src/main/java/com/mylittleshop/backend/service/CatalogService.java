@@ -0,0 +1,388 @@
+package com.mylittleshop.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mylittleshop.backend.cache.CatalogL2Cache;
+import com.mylittleshop.backend.dto.CursorPage;
+import com.mylittleshop.backend.dto.ProductImageSnapshot;
+import com.mylittleshop.backend.dto.ProductSnapshot;
+import com.mylittleshop.backend.dto.ProductSummary;
+import com.mylittleshop.backend.dto.ProductSummaryView;
+import com.mylittleshop.backend.dto.StockLevel;
+import com.mylittleshop.backend.event.CategoryChangedEvent;
+import com.mylittleshop.backend.event.ProductChangedEvent;
+import com.mylittleshop.backend.model.Product;
+import com.mylittleshop.backend.model.ProductStatus;
+import com.mylittleshop.backend.repository.ProductImageRepository;
+import com.mylittleshop.backend.repository.ProductRepository;
+import com.mylittleshop.backend.util.CursorUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 상품 카탈로그 캐시 서비스
+ * - L1: 인스턴스 로컬 Caffeine 캐시 (크기 제한, 쓰기 후 만료)
+ * - L2: CatalogL2Cache 빈이 등록된 경우에만 L1 미스 시 조회 (Redis 등 공유 캐시)
+ * - 상품/이미지/가격/카테고리 변경 이벤트를 커밋 이후(AFTER_COMMIT)에 받아 무효화합니다.
+ * - 상세 응답은 상품 스냅샷(카테고리/전체 이미지 포함), 목록 응답은 목록 프로젝션(ProductSummary)으로 캐시하며,
+ *   목록 항목은 직렬화된 JSON 바이트도 함께 캐시합니다.
+ * - 재고 수량과 품절 상태는 주문마다 바뀌므로 캐시 값 대신 재고 원장의 읽기 캐시 값으로 덮어씁니다.
+ * - 적중/미스/제거 지표는 actuator 메트릭 cache.gets, cache.evictions (cache=catalog.*) 와
+ *   catalog.cache.l2.requests 로 노출됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogService {
+
+    private static final String L2_PRODUCT_PREFIX = "catalog:product:";
+    private static final String L2_SUMMARY_PREFIX = "catalog:summary:";
+
+    private final ProductRepository productRepository;
+    private final ProductImageRepository productImageRepository;
+    private final StockLedgerService stockLedgerService;
+    private final ObjectProvider<CatalogL2Cache> l2CacheProvider;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.catalog-cache.product-max-size:20000}")
+    private long productMaxSize;
+
+    @Value("${app.catalog-cache.page-max-size:2000}")
+    private long pageMaxSize;
+
+    @Value("${app.catalog-cache.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    @Value("${app.catalog-cache.page-ttl-seconds:60}")
+    private long pageTtlSeconds;
+
+    private Cache<Long, ProductSnapshot> products;
+    private Cache<Long, ProductSummary> summaries;
+    private Cache<Long, SummaryJson> summaryJson;
+    private Cache<String, IdPage> productPages;
+    private CatalogL2Cache l2Cache;
+    private Counter l2Hits;
+    private Counter l2Misses;
+
+    // 무효화 세대: 적재 도중 무효화가 일어나면 이전 데이터를 캐시에 넣지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        products = Caffeine.newBuilder()
+                .maximumSize(productMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        summaries = Caffeine.newBuilder()
+                .maximumSize(productMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        summaryJson = Caffeine.newBuilder()
+                .maximumSize(productMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        productPages = Caffeine.newBuilder()
+                .maximumSize(pageMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(pageTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, products, "catalog.products");
+        CaffeineCacheMetrics.monitor(meterRegistry, summaries, "catalog.product-summaries");
+        CaffeineCacheMetrics.monitor(meterRegistry, summaryJson, "catalog.product-summary-json");
+        CaffeineCacheMetrics.monitor(meterRegistry, productPages, "catalog.product-pages");
+
+        l2Cache = l2CacheProvider.getIfAvailable();
+        l2Hits = meterRegistry.counter("catalog.cache.l2.requests", "result", "hit");
+        l2Misses = meterRegistry.counter("catalog.cache.l2.requests", "result", "miss");
+        log.info("카탈로그 캐시 초기화: L1 상품 최대 {}건, L2 {}", productMaxSize,
+                l2Cache != null ? l2Cache.getClass().getSimpleName() : "미사용");
+    }
+
+    /**
+     * 상품 스냅샷 조회 (상세 응답용)
+     * @param id 상품 ID
+     * @return 상품 스냅샷 (재고/상태는 현재 값)
+     */
+    public Optional<ProductSnapshot> getProduct(Long id) {
+        ProductSnapshot snapshot = getAll(List.of(id), products, L2_PRODUCT_PREFIX, ProductSnapshot.class,
+                this::loadSnapshots).get(id);
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+        StockLevel level = stockLedgerService.getStockLevel(id);
+        return Optional.of(snapshot.withStockQuantity(level.getAvailable())
+                .withStatus(currentStatus(snapshot.getStatus(), level.getAvailable())));
+    }
+
+    /**
+     * 여러 상품의 목록 항목을 ID 순서대로 조회합니다. 캐시에 없는 상품만 프로젝션 쿼리로 적재합니다.
+     * @param ids 상품 ID 목록
+     * @return 목록 항목 (존재하지 않는 상품은 제외, 재고/상태는 현재 값)
+     */
+    public List<ProductSummary> getProductSummaries(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ProductSummary> found = getAll(ids, summaries, L2_SUMMARY_PREFIX, ProductSummary.class,
+                this::loadSummaries);
+        Map<Long, StockLevel> stockLevels = stockLedgerService.getStockLevels(found.keySet());
+        List<ProductSummary> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            ProductSummary summary = found.get(id);
+            if (summary != null) {
+                int available = stockLevels.get(id).getAvailable();
+                result.add(summary.withStockQuantity(available).withStatus(currentStatus(summary.getStatus(), available)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 목록 항목의 JSON 바이트 조회
+     * 정적 필드는 상품 변경 이벤트로, 재고/상태는 값 비교로 갱신 여부를 판단하므로 변경이 없으면 직렬화하지 않습니다.
+     * @param summary 목록 항목 (getProductSummaries 결과)
+     * @return UTF-8 JSON 바이트
+     */
+    public byte[] getSummaryJson(ProductSummary summary) {
+        SummaryJson cached = summaryJson.getIfPresent(summary.getId());
+        if (cached != null && cached.matches(summary)) {
+            return cached.getJson();
+        }
+        long loadedGeneration = generation.get();
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(summary);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("상품 목록 항목 직렬화에 실패했습니다. id=" + summary.getId(), e);
+        }
+        if (generation.get() == loadedGeneration) {
+            summaryJson.put(summary.getId(), new SummaryJson(summary.getStockQuantity(), summary.getStatus(), json));
+        }
+        return json;
+    }
+
+    /**
+     * 상품 목록 페이지 조회 (목록 ID와 전체 건수를 캐시하고, 상품은 목록 항목 캐시에서 조회)
+     * @param activeOnly 판매 중인 상품만 조회할지 여부
+     * @param pageable 페이지 정보
+     * @return 목록 항목 페이지
+     */
+    public Page<ProductSummary> getProductPage(boolean activeOnly, Pageable pageable) {
+        String key = (activeOnly ? "active" : "all") + "|" + pageable.getPageNumber() + "|"
+                + pageable.getPageSize() + "|" + pageable.getSort();
+        IdPage idPage = productPages.getIfPresent(key);
+        if (idPage == null) {
+            long loadedGeneration = generation.get();
+            Page<Long> ids = activeOnly
+                    ? productRepository.findIdsByStatusAndIsActive(ProductStatus.ACTIVE, true, pageable)
+                    : productRepository.findAllIds(pageable);
+            idPage = new IdPage(List.copyOf(ids.getContent()), ids.getTotalElements());
+            if (generation.get() == loadedGeneration) {
+                productPages.put(key, idPage);
+            }
+        }
+        return new PageImpl<>(getProductSummaries(idPage.getIds()), pageable, idPage.getTotal());
+    }
+
+    /**
+     * 상품 목록 키셋(커서) 조회 - 등록일/ID 내림차순
+     * - 전체 건수를 세지 않으며, 깊은 페이지도 인덱스 범위 조회로 처리합니다.
+     * - ID 목록은 커서마다 달라 캐시하지 않고, 상품은 목록 항목 캐시에서 조회합니다.
+     * @param activeOnly 판매 중인 상품만 조회할지 여부
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 목록 항목 커서 페이지
+     * @throws IllegalArgumentException 커서 또는 페이지 크기가 올바르지 않은 경우
+     */
+    public CursorPage<ProductSummary> getProductSlice(boolean activeOnly, String cursor, int size) {
+        CursorPage.checkSize(size);
+        CursorUtil.TimeCursor after = CursorUtil.decodeTime(cursor);
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Long> ids = activeOnly
+                ? productRepository.findIdsByStatusAndIsActiveAfter(ProductStatus.ACTIVE, true,
+                        after.getDateTime(), after.getId(), limit)
+                : productRepository.findAllIdsAfter(after.getDateTime(), after.getId(), limit);
+        return CursorPage.of(getProductSummaries(ids), size,
+                summary -> CursorUtil.encodeTime(summary.getCreatedAt(), summary.getId()));
+    }
+
+    /**
+     * 여러 카테고리의 상품 목록 페이지 조회 (하위 카테고리 포함 조회용, 상품은 목록 항목 캐시에서 조회)
+     * @param categoryIds 카테고리 ID 목록
+     * @param pageable 페이지 정보
+     * @return 목록 항목 페이지
+     */
+    public Page<ProductSummary> getProductPageInCategories(Collection<Long> categoryIds, Pageable pageable) {
+        if (categoryIds.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        Page<Long> ids = productRepository.findIdsByCategoryIdIn(categoryIds, pageable);
+        return new PageImpl<>(getProductSummaries(ids.getContent()), pageable, ids.getTotalElements());
+    }
+
+    /**
+     * 상품 변경 시 해당 상품과 목록 캐시를 무효화합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        generation.incrementAndGet();
+        products.invalidate(event.getProductId());
+        summaries.invalidate(event.getProductId());
+        summaryJson.invalidate(event.getProductId());
+        productPages.invalidateAll();
+        if (l2Cache != null) {
+            l2Cache.evict(L2_PRODUCT_PREFIX + event.getProductId());
+            l2Cache.evict(L2_SUMMARY_PREFIX + event.getProductId());
+        }
+    }
+
+    /**
+     * 카테고리 변경 시 전체 상품 캐시를 무효화합니다. (상품 스냅샷에 카테고리 이름이 포함되어 있음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        generation.incrementAndGet();
+        products.invalidateAll();
+        summaries.invalidateAll();
+        summaryJson.invalidateAll();
+        productPages.invalidateAll();
+        if (l2Cache != null) {
+            l2Cache.clear();
+        }
+    }
+
+    // L1 -> L2 -> DB 순서로 조회하고, 적재 중 무효화가 없었던 경우에만 캐시에 저장
+    private <T extends Serializable> Map<Long, T> getAll(List<Long> ids, Cache<Long, T> l1, String l2Prefix,
+                                                        Class<T> type, Function<List<Long>, Map<Long, T>> dbLoader) {
+        Map<Long, T> found = new HashMap<>(l1.getAllPresent(ids));
+        if (found.size() == ids.size()) {
+            return found;
+        }
+        List<Long> misses = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            if (!found.containsKey(id)) {
+                misses.add(id);
+            }
+        }
+        if (misses.isEmpty()) {
+            return found;
+        }
+
+        long loadedGeneration = generation.get();
+        Map<Long, T> loaded = new HashMap<>();
+        List<Long> dbMisses = misses;
+        if (l2Cache != null) {
+            dbMisses = new ArrayList<>();
+            for (Long id : misses) {
+                Serializable value = l2Cache.get(l2Prefix + id);
+                if (type.isInstance(value)) {
+                    loaded.put(id, type.cast(value));
+                    l2Hits.increment();
+                } else {
+                    dbMisses.add(id);
+                    l2Misses.increment();
+                }
+            }
+        }
+
+        if (!dbMisses.isEmpty()) {
+            Map<Long, T> fromDb = dbLoader.apply(dbMisses);
+            loaded.putAll(fromDb);
+            if (l2Cache != null && generation.get() == loadedGeneration) {
+                fromDb.forEach((id, value) -> l2Cache.put(l2Prefix + id, value));
+            }
+        }
+
+        if (generation.get() == loadedGeneration) {
+            l1.putAll(loaded);
+        }
+        found.putAll(loaded);
+        return found;
+    }
+
+    private Map<Long, ProductSnapshot> loadSnapshots(List<Long> ids) {
+        Map<Long, ProductSnapshot> loaded = new HashMap<>();
+        for (Product product : productRepository.findAllForCatalogByIdIn(ids)) {
+            loaded.put(product.getId(), ProductSnapshot.from(product));
+        }
+        return loaded;
+    }
+
+    // 목록 컬럼 프로젝션 + 이미지 요약 행 (엔티티를 만들지 않고 두 번의 쿼리로 적재)
+    private Map<Long, ProductSummary> loadSummaries(List<Long> ids) {
+        Map<Long, ProductImageSnapshot> mainImages = new HashMap<>();
+        for (Object[] row : productImageRepository.findImageRowsByProductIdIn(ids)) {
+            Long productId = (Long) row[0];
+            // 상품별 첫 행이 메인 이미지 (메인 여부, 정렬 순서로 정렬됨)
+            if (!mainImages.containsKey(productId)) {
+                mainImages.put(productId, ProductImageSnapshot.builder()
+                        .id((Long) row[1])
+                        .url((String) row[2])
+                        .isMain((Boolean) row[3])
+                        .sortOrder((Integer) row[4])
+                        .build());
+            }
+        }
+        Map<Long, ProductSummary> loaded = new HashMap<>();
+        for (ProductSummaryView view : productRepository.findSummariesByIdIn(ids)) {
+            loaded.put(view.getId(), ProductSummary.of(view, mainImages.get(view.getId())));
+        }
+        return loaded;
+    }
+
+    // 재고 원장 값 기준의 품절/판매중 상태 (원장의 상태 전환 규칙과 동일)
+    private static ProductStatus currentStatus(ProductStatus status, int available) {
+        if (status == ProductStatus.ACTIVE || status == ProductStatus.SOLD_OUT) {
+            return available > 0 ? ProductStatus.ACTIVE : ProductStatus.SOLD_OUT;
+        }
+        return status;
+    }
+
+    // 목록 항목 JSON 캐시 값 (직렬화 시점의 재고/상태와 함께 보관)
+    @Getter
+    @AllArgsConstructor
+    private static class SummaryJson {
+        private final Integer stockQuantity;
+        private final ProductStatus status;
+        private final byte[] json;
+
+        boolean matches(ProductSummary summary) {
+            return Objects.equals(stockQuantity, summary.getStockQuantity()) && status == summary.getStatus();
+        }
+    }
+
+    // 목록 페이지 캐시 값 (상품 ID 목록 + 전체 건수)
+    @Getter
+    @AllArgsConstructor
+    private static class IdPage {
+        private final List<Long> ids;
+        private final long total;
+    }
+}
@@ -0,0 +1,324 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.dto.CategorySnapshot;
+import com.mylittleshop.backend.event.CategoryChangedEvent;
+import com.mylittleshop.backend.event.ProductChangedEvent;
+import com.mylittleshop.backend.repository.ProductCategoryRepository;
+import com.mylittleshop.backend.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 카테고리 트리 (인메모리 불변 스냅샷)
+ * - 전체 카테고리를 전위 순회 순서의 배열로 보관하고, 노드마다 부모 인덱스와 하위 트리 끝 인덱스를 둡니다.
+ *   노드 i 의 하위 카테고리(자신 포함)는 배열 구간 [i, subtreeEnds[i]) 이므로 하위 ID 목록을 복사 없이 조회합니다.
+ * - 카테고리 변경 커밋 후 새 트리를 별도로 구성해 참조만 교체하므로, 조회에는 잠금이 없습니다.
+ * - 카테고리별 상품 수는 상품 변경 시 무효화하고 다음 조회 때 다시 집계합니다. (트리 구조는 재사용)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryTreeService {
+
+    private final ProductCategoryRepository productCategoryRepository;
+    private final ProductRepository productRepository;
+
+    private volatile Tree tree;
+    // 변경 세대: 구성 도중 변경이 커밋되면 다음 조회 때 다시 구성
+    private final AtomicLong structureVersion = new AtomicLong();
+    private final AtomicLong countVersion = new AtomicLong();
+
+    /**
+     * 전체 카테고리 조회 (ID 순)
+     * @return 카테고리 스냅샷 목록
+     */
+    public List<CategorySnapshot> getCategories() {
+        return current().all;
+    }
+
+    /**
+     * 최상위 카테고리 조회 (ID 순)
+     * @return 최상위 카테고리 스냅샷 목록
+     */
+    public List<CategorySnapshot> getRootCategories() {
+        return current().roots;
+    }
+
+    /**
+     * 카테고리 조회
+     * @param id 카테고리 ID
+     * @return 카테고리 스냅샷
+     */
+    public Optional<CategorySnapshot> getCategory(Long id) {
+        Tree current = current();
+        Integer index = current.indexById.get(id);
+        return index != null ? Optional.of(current.snapshots[index]) : Optional.empty();
+    }
+
+    /**
+     * 하위 카테고리 조회 (한 단계, ID 순)
+     * @param id 카테고리 ID
+     * @return 하위 카테고리 스냅샷 목록 (카테고리가 없으면 빈 목록)
+     */
+    public List<CategorySnapshot> getChildren(Long id) {
+        Tree current = current();
+        Integer index = current.indexById.get(id);
+        if (index == null) {
+            return List.of();
+        }
+        List<CategorySnapshot> children = new ArrayList<>();
+        for (int child = index + 1; child < current.subtreeEnds[index]; child = current.subtreeEnds[child]) {
+            children.add(current.snapshots[child]);
+        }
+        return children;
+    }
+
+    /**
+     * 자신과 모든 하위 카테고리의 ID 조회 (전위 순서)
+     * @param id 카테고리 ID
+     * @return 카테고리 ID 목록 (카테고리가 없으면 빈 목록)
+     */
+    public List<Long> getDescendantIds(Long id) {
+        Tree current = current();
+        Integer index = current.indexById.get(id);
+        if (index == null) {
+            return List.of();
+        }
+        return new IdRange(current.ids, index, current.subtreeEnds[index]);
+    }
+
+    /**
+     * 카테고리 변경 커밋 후 트리를 다시 구성합니다.
+     * 트리를 사용하는 다른 리스너(프로모션 엔진 등)보다 먼저 실행됩니다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        structureVersion.incrementAndGet();
+        try {
+            current();
+        } catch (Exception e) {
+            // 다음 조회 때 다시 시도
+            log.warn("카테고리 트리 재구성 실패: categoryId={}, error={}", event.getCategoryId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 상품 생성/삭제, 카테고리나 활성 여부 변경 커밋 후 카테고리별 상품 수를 무효화합니다.
+     * (가격/재고/이미지만 바뀐 변경은 상품 수에 영향이 없으므로 다시 집계하지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.isCategoryOrActiveChanged()) {
+            countVersion.incrementAndGet();
+        }
+    }
+
+    private Tree current() {
+        Tree current = tree;
+        if (current != null && current.isCurrent(structureVersion.get(), countVersion.get())) {
+            return current;
+        }
+        return refresh();
+    }
+
+    private synchronized Tree refresh() {
+        Tree current = tree;
+        long structure = structureVersion.get();
+        long counts = countVersion.get();
+        if (current != null && current.isCurrent(structure, counts)) {
+            return current;
+        }
+
+        Map<Long, Long> productCounts = new HashMap<>();
+        for (Object[] row : productRepository.countProductsByCategory()) {
+            productCounts.put((Long) row[0], (Long) row[1]);
+        }
+        Tree fresh;
+        if (current != null && current.structureVersion == structure) {
+            fresh = current.withProductCounts(productCounts, counts);
+        } else {
+            fresh = Tree.build(productCategoryRepository.findAllTreeRows(), productCounts, structure, counts);
+            log.info("카테고리 트리 구성 완료: 카테고리 수={}, 최상위 수={}", fresh.ids.length, fresh.roots.size());
+        }
+        tree = fresh;
+        return fresh;
+    }
+
+    /**
+     * 전위 순서 카테고리 배열 (노드 = 배열 인덱스)
+     */
+    private static final class Tree {
+        private final long structureVersion;
+        private final long countVersion;
+
+        private final long[] ids;
+        private final String[] names;
+        // 부모 노드 인덱스 (-1: 최상위)
+        private final int[] parents;
+        // 하위 트리 끝 인덱스 (미포함)
+        private final int[] subtreeEnds;
+        private final Map<Long, Integer> indexById;
+
+        private final CategorySnapshot[] snapshots;
+        private final List<CategorySnapshot> all;
+        private final List<CategorySnapshot> roots;
+
+        private Tree(long structureVersion, long countVersion, long[] ids, String[] names, int[] parents,
+                     int[] subtreeEnds, Map<Long, Integer> indexById, Map<Long, Long> productCounts) {
+            this.structureVersion = structureVersion;
+            this.countVersion = countVersion;
+            this.ids = ids;
+            this.names = names;
+            this.parents = parents;
+            this.subtreeEnds = subtreeEnds;
+            this.indexById = indexById;
+
+            snapshots = new CategorySnapshot[ids.length];
+            List<CategorySnapshot> rootList = new ArrayList<>();
+            for (int i = 0; i < ids.length; i++) {
+                List<Long> childIds = new ArrayList<>();
+                for (int child = i + 1; child < subtreeEnds[i]; child = subtreeEnds[child]) {
+                    childIds.add(ids[child]);
+                }
+                int parent = parents[i];
+                snapshots[i] = CategorySnapshot.builder()
+                        .id(ids[i])
+                        .name(names[i])
+                        .parentId(parent >= 0 ? ids[parent] : null)
+                        .parentName(parent >= 0 ? names[parent] : null)
+                        .childIds(List.copyOf(childIds))
+                        .productCount(productCounts.getOrDefault(ids[i], 0L))
+                        .build();
+                if (parent < 0) {
+                    rootList.add(snapshots[i]);
+                }
+            }
+            List<CategorySnapshot> byId = new ArrayList<>(Arrays.asList(snapshots));
+            byId.sort(Comparator.comparing(CategorySnapshot::getId));
+            rootList.sort(Comparator.comparing(CategorySnapshot::getId));
+            all = Collections.unmodifiableList(byId);
+            roots = Collections.unmodifiableList(rootList);
+        }
+
+        /**
+         * [카테고리 ID, 이름, 상위 카테고리 ID] 행으로 트리를 구성합니다.
+         * 상위 카테고리가 없거나 순환 참조에 속한 카테고리는 최상위로 취급합니다.
+         */
+        static Tree build(List<Object[]> rows, Map<Long, Long> productCounts, long structureVersion, long countVersion) {
+            List<Object[]> sorted = new ArrayList<>(rows);
+            sorted.sort(Comparator.comparing(row -> (Long) row[0]));
+            Map<Long, String> nameById = new HashMap<>();
+            Map<Long, List<Long>> childIds = new HashMap<>();
+            List<Long> rootIds = new ArrayList<>();
+            for (Object[] row : sorted) {
+                nameById.put((Long) row[0], (String) row[1]);
+            }
+            for (Object[] row : sorted) {
+                Long id = (Long) row[0];
+                Long parentId = (Long) row[2];
+                if (parentId == null || !nameById.containsKey(parentId)) {
+                    rootIds.add(id);
+                } else {
+                    childIds.computeIfAbsent(parentId, key -> new ArrayList<>()).add(id);
+                }
+            }
+
+            int n = sorted.size();
+            long[] ids = new long[n];
+            String[] names = new String[n];
+            int[] parents = new int[n];
+            Map<Long, Integer> indexById = new HashMap<>(n * 2);
+            int next = 0;
+            // 최상위부터 순회하고, 도달하지 못한 카테고리(순환 참조)는 최상위로 떼어내 이어서 순회
+            List<Long> starts = new ArrayList<>(rootIds);
+            for (Object[] row : sorted) {
+                starts.add((Long) row[0]);
+            }
+            Deque<long[]> stack = new ArrayDeque<>();
+            for (int k = 0; k < starts.size(); k++) {
+                Long start = starts.get(k);
+                if (indexById.containsKey(start)) {
+                    continue;
+                }
+                if (k >= rootIds.size()) {
+                    log.warn("순환 참조 카테고리를 최상위로 처리합니다: categoryId={}", start);
+                }
+                stack.push(new long[]{start, -1});
+                while (!stack.isEmpty()) {
+                    long[] entry = stack.pop();
+                    Long id = entry[0];
+                    if (indexById.containsKey(id)) {
+                        continue;
+                    }
+                    int index = next++;
+                    ids[index] = id;
+                    names[index] = nameById.get(id);
+                    parents[index] = (int) entry[1];
+                    indexById.put(id, index);
+                    List<Long> children = childIds.getOrDefault(id, List.of());
+                    for (int i = children.size() - 1; i >= 0; i--) {
+                        stack.push(new long[]{children.get(i), index});
+                    }
+                }
+            }
+
+            // 역순으로 하위 트리 크기를 부모에 누적 (전위 순서에서 자식은 항상 부모 뒤)
+            int[] sizes = new int[n];
+            Arrays.fill(sizes, 1);
+            for (int i = n - 1; i > 0; i--) {
+                if (parents[i] >= 0) {
+                    sizes[parents[i]] += sizes[i];
+                }
+            }
+            int[] subtreeEnds = new int[n];
+            for (int i = 0; i < n; i++) {
+                subtreeEnds[i] = i + sizes[i];
+            }
+            return new Tree(structureVersion, countVersion, ids, names, parents, subtreeEnds,
+                    Collections.unmodifiableMap(indexById), productCounts);
+        }
+
+        Tree withProductCounts(Map<Long, Long> productCounts, long countVersion) {
+            return new Tree(structureVersion, countVersion, ids, names, parents, subtreeEnds, indexById, productCounts);
+        }
+
+        boolean isCurrent(long structureVersion, long countVersion) {
+            return this.structureVersion == structureVersion && this.countVersion == countVersion;
+        }
+    }
+
+    /**
+     * 카테고리 ID 배열 구간의 읽기 전용 목록 (복사 없음)
+     */
+    private static final class IdRange extends AbstractList<Long> implements RandomAccess {
+        private final long[] ids;
+        private final int from;
+        private final int to;
+
+        IdRange(long[] ids, int from, int to) {
+            this.ids = ids;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Long get(int index) {
+            Objects.checkIndex(index, to - from);
+            return ids[from + index];
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
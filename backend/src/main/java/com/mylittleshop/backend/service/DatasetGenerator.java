@@ -0,0 +1,518 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.dto.DatasetPlan;
+import com.mylittleshop.backend.util.ZipfSampler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 대용량 합성 데이터 생성기 (성능 환경용, dataset 프로필에서 DatasetInitializer 가 실행)
+ * - 운영과 비슷한 규모/분포의 데이터로 실행 계획과 메모리 문제를 재현하기 위해 사용합니다.
+ * - 엔티티를 거치지 않고 JdbcTemplate 배치 INSERT 로 적재하며, 구간(청크)마다 별도 트랜잭션으로 여러 스레드가 나눠 처리합니다.
+ *   rewriteBatchedStatements 는 쓰지 않습니다. (배치 행 수로 조건부 갱신 결과를 판단하는 재고 원장/구독 결제와 같은 데이터소스를 씁니다)
+ * - 상품 인기도와 사용자 활동량은 Zipf 분포를 따르므로 주문/찜/리뷰/장바구니가 일부 상품과 사용자에 몰립니다.
+ * - 다른 행이 참조하는 테이블(상품, 사용자, 주문 등)은 기존 최대 ID 다음부터 명시적 ID 로 넣고,
+ *   끝나면 ID 생성기(AUTO_INCREMENT / id_generators)를 새 최대값 뒤로 맞춥니다.
+ * - 청크마다 시드에서 파생한 난수를 쓰므로 스레드 수와 관계없이 같은 시드면 같은 데이터가 생성됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DatasetGenerator {
+
+    private static final String INSERT_CATEGORY_SQL =
+            "INSERT INTO product_categories (id, name, parent_id) VALUES (?, ?, ?)";
+    private static final String INSERT_ATTRIBUTE_SQL =
+            "INSERT INTO product_attributes (id, name, code, description, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_PLAN_SQL =
+            "INSERT INTO subscription_plans (id, name, price, duration, billing_frequency, description, discount_percentage, " +
+            "trial_period_days, max_pause_count, is_active, includes_recurring_order, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PRODUCT_SQL =
+            "INSERT INTO products (id, name, description, gm_price, gbm_price, shop_price, cost_price, stock_quantity, status, " +
+            "is_active, category_id, featured, bestseller, new_arrival, sku, brand, manufacturer, minimum_order_quantity, " +
+            "maximum_order_quantity, subscription_available, shipping_fee, free_shipping_threshold, country_of_origin, weight, " +
+            "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_IMAGE_SQL =
+            "INSERT INTO product_images (product_id, url, is_main, sort_order, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_ATTRIBUTE_VALUE_SQL =
+            "INSERT INTO product_attribute_values (product_id, attribute_id, value, created_at) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (id, username, password, email, phone, name, gender, is_gemma_member, active, email_verified, " +
+            "email_verified_at, locked, failed_login_attempts, token_version, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_DELIVERY_SQL =
+            "INSERT INTO deliveries (id, recipient_name, contact_number, address, status) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER_SQL =
+            "INSERT INTO orders (id, order_number, user_id, delivery_id, order_date, updated_at, status, total_amount, " +
+            "final_amount, discount_amount, payment_method, shipping_method, shipping_fee, tax_amount, is_gift, is_recurring) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER_ITEM_SQL =
+            "INSERT INTO order_items (id, order_id, product_id, unit_price, quantity) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_WISHLIST_SQL =
+            "INSERT INTO wishlists (user_id, product_id, created_at) VALUES (?, ?, ?)";
+    private static final String INSERT_CART_SQL =
+            "INSERT INTO carts (id, user_id, status, created_at, updated_at, expires_at, last_activity_date, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_CART_ITEM_SQL =
+            "INSERT INTO cart_items (cart_id, product_id, quantity, unit_price, applied_price_type, is_gift, added_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, 'REGULAR', FALSE, ?, ?)";
+    private static final String INSERT_REVIEW_SQL =
+            "INSERT INTO product_reviews (product_id, user_id, title, rating, content, helpful_votes, unhelpful_votes, " +
+            "verified_purchase, status, created_at, updated_at, approved_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SUBSCRIPTION_SQL =
+            "INSERT INTO subscriptions (user_id, product_id, plan_id, status, frequency, next_payment_date, next_billing_date, " +
+            "contract_start_date, payment_method, auto_renew, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String[] BRANDS = {"마이리틀", "그린랩", "데일리케어", "퓨어", "오가닉팜", "메디폼", "네이처원", "바이오랩"};
+    private static final String[] KINDS = {"크림", "세럼", "토너", "샴푸", "트리트먼트", "비타민", "유산균", "오메가3", "캔들", "디퓨저",
+            "마스크", "클렌저", "앰플", "오일", "캡슐"};
+    private static final String[] ADJECTIVES = {"하이드레이팅", "모이스처", "데일리", "프리미엄", "센시티브", "리페어", "내추럴", "인텐시브"};
+    private static final String[] CITIES = {"서울시", "부산시", "인천시", "대구시", "대전시", "광주시", "수원시", "성남시"};
+    // 주문 상태 분포 (대부분 완료/배송 완료, 일부 진행 중/취소)
+    private static final String[] ORDER_STATUSES = {"COMPLETED", "COMPLETED", "COMPLETED", "DELIVERED", "DELIVERED",
+            "SHIPPED", "PROCESSING", "PENDING", "CANCELLED", "REFUNDED"};
+    // 평점 분포 (5점 45%, 4점 30%, 3점 12%, 2점 6%, 1점 7%)
+    private static final int[] RATINGS = {5, 5, 5, 5, 5, 5, 5, 5, 5, 4, 4, 4, 4, 4, 4, 3, 3, 2, 1, 1};
+    private static final String[] PLAN_FREQUENCIES = {"WEEKLY", "BIWEEKLY", "MONTHLY", "MONTHLY", "QUARTERLY"};
+    private static final int HISTORY_DAYS = 730;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final PasswordEncoder passwordEncoder;
+
+    /**
+     * 계획에 따라 데이터를 생성합니다. 기존 데이터는 그대로 두고 그 뒤에 추가합니다.
+     * @return 테이블별 생성 행 수 (생성 순서)
+     */
+    public Map<String, Long> generate(DatasetPlan plan) {
+        if (plan.getProducts() <= 0 || plan.getUsers() <= 0 || plan.getCategories() <= 0) {
+            throw new IllegalArgumentException("상품/사용자/카테고리 수는 1 이상이어야 합니다.");
+        }
+        long started = System.nanoTime();
+        Generation generation = new Generation(plan);
+        try {
+            generation.run();
+        } finally {
+            generation.executor.shutdownNow();
+        }
+        Map<String, Long> counts = new LinkedHashMap<>();
+        generation.counts.forEach((table, count) -> counts.put(table, count.sum()));
+        log.info("대용량 데이터 생성 완료: {} ({}초)", counts, (System.nanoTime() - started) / 1_000_000_000L);
+        return counts;
+    }
+
+    // 청크 하나를 쓰는 작업 (from 이상 to 미만의 0부터 시작하는 순번)
+    @FunctionalInterface
+    private interface ChunkWriter {
+        void write(long from, long to, SplittableRandom random);
+    }
+
+    /**
+     * 생성 실행 1회의 상태 (기존 최대 ID, 분포, 스레드 풀, 테이블별 건수)
+     */
+    private final class Generation {
+
+        private final DatasetPlan plan;
+        private final TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        private final ExecutorService executor;
+        private final Map<String, LongAdder> counts = new LinkedHashMap<>();
+        private final LocalDateTime now = LocalDateTime.now();
+        private final ZipfSampler productPopularity;
+        private final ZipfSampler userActivity;
+        private final ZipfSampler categoryPopularity;
+        private final long categoryBase;
+        private final long attributeBase;
+        private final long planBase;
+        private final long productBase;
+        private final long userBase;
+        private final long deliveryBase;
+        private final long orderBase;
+        private final long orderItemBase;
+        private final long cartBase;
+        private int stage;
+
+        Generation(DatasetPlan plan) {
+            this.plan = plan;
+            AtomicInteger sequence = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(Math.max(1, plan.getThreads()), runnable -> {
+                Thread thread = new Thread(runnable, "dataset-generator-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.productPopularity = new ZipfSampler(plan.getProducts(), plan.getZipfExponent());
+            this.userActivity = new ZipfSampler(plan.getUsers(), plan.getZipfExponent());
+            this.categoryPopularity = new ZipfSampler(plan.getCategories(), plan.getZipfExponent());
+            this.categoryBase = maxId("product_categories");
+            this.attributeBase = maxId("product_attributes");
+            this.planBase = maxId("subscription_plans");
+            this.productBase = maxId("products");
+            this.userBase = maxId("users");
+            this.deliveryBase = maxId("deliveries");
+            this.orderBase = maxId("orders");
+            this.orderItemBase = maxId("order_items");
+            this.cartBase = maxId("carts");
+            for (String table : List.of("product_categories", "product_attributes", "subscription_plans", "products",
+                    "product_images", "product_attribute_values", "users", "deliveries", "orders", "order_items",
+                    "wishlists", "carts", "cart_items", "product_reviews", "subscriptions")) {
+                counts.put(table, new LongAdder());
+            }
+        }
+
+        void run() {
+            transaction.executeWithoutResult(status -> insertReferenceData());
+            parallel("products", plan.getProducts(), this::insertProducts);
+            String passwordHash = passwordEncoder.encode(plan.getUserPassword());
+            parallel("users", plan.getUsers(), (from, to, random) -> insertUsers(from, to, random, passwordHash));
+            parallel("orders", plan.getOrders(), this::insertOrders);
+            parallel("wishlists", plan.getUsers(), this::insertWishlists);
+            parallel("carts", plan.getUsers(), this::insertCarts);
+            parallel("reviews", plan.getUsers(), this::insertReviews);
+            if (plan.getSubscriptionPlans() > 0) {
+                parallel("subscriptions", plan.getSubscriptions(), this::insertSubscriptions);
+            }
+            realignIds();
+        }
+
+        // 카테고리(대분류 + 하위 분류), 속성, 구독 플랜
+        private void insertReferenceData() {
+            int roots = Math.max(1, plan.getCategories() / 10);
+            List<Object[]> categories = new ArrayList<>(plan.getCategories());
+            for (int i = 0; i < plan.getCategories(); i++) {
+                Long parentId = i < roots ? null : categoryBase + 1 + (i % roots);
+                String name = i < roots ? "대분류 " + (i + 1) : KINDS[i % KINDS.length] + " " + (i + 1);
+                categories.add(new Object[]{categoryBase + 1 + i, name, parentId});
+            }
+            batch("product_categories", INSERT_CATEGORY_SQL, categories);
+
+            List<Object[]> attributes = new ArrayList<>(plan.getAttributes());
+            for (int i = 0; i < plan.getAttributes(); i++) {
+                long id = attributeBase + 1 + i;
+                attributes.add(new Object[]{id, "속성 " + (i + 1), "DS_ATTR_" + id, "생성 데이터 속성", now});
+            }
+            batch("product_attributes", INSERT_ATTRIBUTE_SQL, attributes);
+
+            List<Object[]> plans = new ArrayList<>(plan.getSubscriptionPlans());
+            for (int i = 0; i < plan.getSubscriptionPlans(); i++) {
+                plans.add(new Object[]{planBase + 1 + i, "정기구독 플랜 " + (i + 1), BigDecimal.valueOf(9_900L + i * 5_000L),
+                        3 * (i + 1), PLAN_FREQUENCIES[i % PLAN_FREQUENCIES.length], "생성 데이터 구독 플랜",
+                        BigDecimal.valueOf(5 + i), 0, 3, true, i % 2 == 0, now, now});
+            }
+            batch("subscription_plans", INSERT_PLAN_SQL, plans);
+        }
+
+        // 상품 + 상품 이미지 + 속성 값
+        private void insertProducts(long from, long to, SplittableRandom random) {
+            List<Object[]> products = new ArrayList<>((int) (to - from));
+            List<Object[]> images = new ArrayList<>();
+            List<Object[]> values = new ArrayList<>();
+            for (long index = from; index < to; index++) {
+                long id = productBase + 1 + index;
+                BigDecimal price = priceOf(index);
+                LocalDateTime createdAt = pastTime(random);
+                String brand = BRANDS[random.nextInt(BRANDS.length)];
+                String kind = KINDS[random.nextInt(KINDS.length)];
+                String name = brand + " " + ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + kind + " " + id;
+                // 95% 판매 중, 나머지는 품절/단종/판매 중지
+                String status = random.nextInt(100) < 95 ? "ACTIVE" : (random.nextBoolean() ? "SOLD_OUT" : "DISCONTINUED");
+                products.add(new Object[]{id, name, name + " - 생성 데이터 상품 설명", price,
+                        price.multiply(BigDecimal.valueOf(0.9)), price.multiply(BigDecimal.valueOf(0.8)),
+                        price.multiply(BigDecimal.valueOf(0.6)), random.nextInt(1_000), status, "ACTIVE".equals(status),
+                        categoryBase + 1 + categoryPopularity.next(random), random.nextInt(100) == 0,
+                        random.nextInt(50) == 0, createdAt.isAfter(now.minusDays(30)), "DS-" + id, brand, brand + " Co.",
+                        1, 10, random.nextInt(10) == 0, BigDecimal.valueOf(3_000), BigDecimal.valueOf(50_000), "대한민국",
+                        BigDecimal.valueOf(1 + random.nextInt(30), 1), createdAt, createdAt});
+                for (int sort = 0; sort < plan.getImagesPerProduct(); sort++) {
+                    images.add(new Object[]{id, "https://cdn.mylittleshop.com/products/" + id + "/" + sort + ".jpg",
+                            sort == 0, sort, createdAt});
+                }
+                int attributes = Math.min(plan.getAttributesPerProduct(), plan.getAttributes());
+                int first = attributes == 0 ? 0 : random.nextInt(plan.getAttributes());
+                for (int a = 0; a < attributes; a++) {
+                    long attributeId = attributeBase + 1 + (first + a) % plan.getAttributes();
+                    values.add(new Object[]{id, attributeId, "값 " + random.nextInt(20), createdAt});
+                }
+            }
+            batch("products", INSERT_PRODUCT_SQL, products);
+            batch("product_images", INSERT_IMAGE_SQL, images);
+            batch("product_attribute_values", INSERT_ATTRIBUTE_VALUE_SQL, values);
+        }
+
+        private void insertUsers(long from, long to, SplittableRandom random, String passwordHash) {
+            List<Object[]> users = new ArrayList<>((int) (to - from));
+            for (long index = from; index < to; index++) {
+                long id = userBase + 1 + index;
+                LocalDateTime createdAt = pastTime(random);
+                boolean verified = random.nextInt(10) != 0;
+                users.add(new Object[]{id, "ds_user_" + id, passwordHash, "ds_user_" + id + "@example.com",
+                        "010-" + (1000 + random.nextInt(9000)) + "-" + (1000 + random.nextInt(9000)), "사용자" + id,
+                        random.nextBoolean() ? "F" : "M", random.nextInt(5) == 0, true, verified,
+                        verified ? createdAt : null, false, 0, 0L, createdAt, createdAt});
+            }
+            batch("users", INSERT_USER_SQL, users);
+        }
+
+        // 주문 + 배송 정보 + 주문 항목 (주문자는 활동량, 상품은 인기도 분포)
+        private void insertOrders(long from, long to, SplittableRandom random) {
+            List<Object[]> deliveries = new ArrayList<>((int) (to - from));
+            List<Object[]> orders = new ArrayList<>((int) (to - from));
+            List<Object[]> items = new ArrayList<>();
+            int maxItems = Math.max(1, plan.getMaxItemsPerOrder());
+            for (long index = from; index < to; index++) {
+                long orderId = orderBase + 1 + index;
+                long deliveryId = deliveryBase + 1 + index;
+                long userId = userBase + 1 + userActivity.next(random);
+                LocalDateTime orderDate = pastTime(random);
+                String status = ORDER_STATUSES[random.nextInt(ORDER_STATUSES.length)];
+                deliveries.add(new Object[]{deliveryId, "사용자" + userId, "010-0000-0000",
+                        CITIES[random.nextInt(CITIES.length)] + " 생성로 " + (1 + random.nextInt(500)), deliveryStatus(status)});
+
+                // 항목 수는 적은 쪽으로 치우침 (1개가 가장 많음), 항목 ID 는 주문마다 최대 항목 수만큼 예약한 구간에서 사용
+                int lines = Math.min(1 + (int) (Math.pow(random.nextDouble(), 2) * maxItems), maxItems);
+                Set<Long> productIds = new HashSet<>();
+                BigDecimal total = BigDecimal.ZERO;
+                for (int line = 0; line < lines; line++) {
+                    int productIndex = productPopularity.next(random);
+                    if (!productIds.add(productBase + 1 + productIndex)) {
+                        continue;
+                    }
+                    BigDecimal unitPrice = priceOf(productIndex);
+                    int quantity = 1 + (random.nextInt(10) == 0 ? random.nextInt(4) : 0);
+                    items.add(new Object[]{orderItemBase + 1 + index * maxItems + line, orderId,
+                            productBase + 1 + productIndex, unitPrice, quantity});
+                    total = total.add(unitPrice.multiply(BigDecimal.valueOf(quantity)));
+                }
+                BigDecimal shippingFee = total.compareTo(BigDecimal.valueOf(50_000)) >= 0 ? BigDecimal.ZERO : BigDecimal.valueOf(3_000);
+                orders.add(new Object[]{orderId, "DS-" + orderId, userId, deliveryId, orderDate, orderDate, status, total,
+                        total.add(shippingFee), BigDecimal.ZERO, random.nextInt(4) == 0 ? "BANK_TRANSFER" : "CARD",
+                        "STANDARD", shippingFee, BigDecimal.ZERO, random.nextInt(50) == 0, false});
+            }
+            batch("deliveries", INSERT_DELIVERY_SQL, deliveries);
+            batch("orders", INSERT_ORDER_SQL, orders);
+            batch("order_items", INSERT_ORDER_ITEM_SQL, items);
+        }
+
+        // 사용자별 찜 (사용자마다 평균을 중심으로 한 지수 분포 개수, 같은 상품 중복 없음)
+        private void insertWishlists(long from, long to, SplittableRandom random) {
+            List<Object[]> rows = new ArrayList<>();
+            for (long index = from; index < to; index++) {
+                long userId = userBase + 1 + index;
+                for (long productId : distinctProducts(random, skewedCount(random, plan.getWishlistsPerUser(), 200))) {
+                    rows.add(new Object[]{userId, productId, pastTime(random)});
+                }
+            }
+            batch("wishlists", INSERT_WISHLIST_SQL, rows);
+        }
+
+        // 장바구니는 cartRatio 비율의 사용자에게 1개씩, ID 는 사용자 순번으로 결정
+        private void insertCarts(long from, long to, SplittableRandom random) {
+            List<Object[]> carts = new ArrayList<>();
+            List<Object[]> items = new ArrayList<>();
+            for (long index = from; index < to; index++) {
+                if (random.nextDouble() >= plan.getCartRatio()) {
+                    continue;
+                }
+                long cartId = cartBase + 1 + index;
+                LocalDateTime lastActivity = now.minusMinutes(random.nextInt(60 * 24 * 30));
+                String status = lastActivity.isBefore(now.minusDays(14)) ? "ABANDONED" : "ACTIVE";
+                carts.add(new Object[]{cartId, userBase + 1 + index, status, lastActivity.minusDays(random.nextInt(7)),
+                        lastActivity, lastActivity.plusDays(30), lastActivity});
+                int lines = 1 + random.nextInt(Math.max(1, plan.getMaxItemsPerCart()));
+                for (long productId : distinctProducts(random, lines)) {
+                    items.add(new Object[]{cartId, productId, 1 + random.nextInt(3), priceOf(productId - productBase - 1),
+                            lastActivity, lastActivity});
+                }
+            }
+            batch("carts", INSERT_CART_SQL, carts);
+            batch("cart_items", INSERT_CART_ITEM_SQL, items);
+        }
+
+        private void insertReviews(long from, long to, SplittableRandom random) {
+            List<Object[]> rows = new ArrayList<>();
+            for (long index = from; index < to; index++) {
+                long userId = userBase + 1 + index;
+                for (long productId : distinctProducts(random, skewedCount(random, plan.getReviewsPerUser(), 100))) {
+                    LocalDateTime createdAt = pastTime(random);
+                    int rating = RATINGS[random.nextInt(RATINGS.length)];
+                    boolean approved = random.nextInt(10) != 0;
+                    rows.add(new Object[]{productId, userId, rating + "점 후기", rating,
+                            "생성 데이터 리뷰 내용입니다. 사용감과 배송 만족도에 대한 후기 " + productId, random.nextInt(20),
+                            random.nextInt(3), random.nextBoolean(), approved ? "APPROVED" : "PENDING", createdAt, createdAt,
+                            approved ? createdAt : null});
+                }
+            }
+            batch("product_reviews", INSERT_REVIEW_SQL, rows);
+        }
+
+        // 구독 (다음 결제일을 앞으로 30일에 고르게 분산해 청구 작업이 매일 일정량을 처리하도록)
+        private void insertSubscriptions(long from, long to, SplittableRandom random) {
+            List<Object[]> rows = new ArrayList<>((int) (to - from));
+            for (long index = from; index < to; index++) {
+                int planIndex = random.nextInt(plan.getSubscriptionPlans());
+                LocalDate nextBilling = now.toLocalDate().plusDays(random.nextInt(30));
+                LocalDateTime createdAt = pastTime(random);
+                rows.add(new Object[]{userBase + 1 + userActivity.next(random), productBase + 1 + productPopularity.next(random),
+                        planBase + 1 + planIndex, random.nextInt(10) == 0 ? "PAUSED" : "ACTIVE",
+                        PLAN_FREQUENCIES[planIndex % PLAN_FREQUENCIES.length], nextBilling.atStartOfDay(), nextBilling,
+                        createdAt.toLocalDate(), "CARD", true, createdAt, createdAt});
+            }
+            batch("subscriptions", INSERT_SUBSCRIPTION_SQL, rows);
+        }
+
+        // 구간을 batchSize 단위 청크로 나눠 스레드 풀에서 청크마다 별도 트랜잭션으로 실행
+        private void parallel(String name, long total, ChunkWriter writer) {
+            if (total <= 0) {
+                return;
+            }
+            int stageNo = ++stage;
+            long chunkSize = Math.max(1, plan.getBatchSize());
+            long chunks = (total + chunkSize - 1) / chunkSize;
+            AtomicLong done = new AtomicLong();
+            long started = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (long from = 0; from < total; from += chunkSize) {
+                long start = from;
+                long end = Math.min(from + chunkSize, total);
+                futures.add(executor.submit(() -> {
+                    SplittableRandom random = new SplittableRandom(mix(plan.getSeed() ^ mix(stageNo * 0x9E3779B97F4A7C15L + start)));
+                    transaction.executeWithoutResult(status -> writer.write(start, end, random));
+                    long completed = done.incrementAndGet();
+                    if (completed % Math.max(1, chunks / 10) == 0 || completed == chunks) {
+                        log.info("대용량 데이터 생성 진행: {} {}/{} 청크", name, completed, chunks);
+                    }
+                }));
+            }
+            try {
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(future -> future.cancel(true));
+                throw new IllegalStateException("대용량 데이터 생성이 중단되었습니다: " + name, e);
+            } catch (ExecutionException e) {
+                futures.forEach(future -> future.cancel(true));
+                throw new IllegalStateException("대용량 데이터 생성 실패: " + name, e.getCause());
+            }
+            log.info("대용량 데이터 생성 단계 완료: {} {}건 ({}ms)", name, total, (System.nanoTime() - started) / 1_000_000);
+        }
+
+        private void batch(String table, String sql, List<Object[]> rows) {
+            if (rows.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(sql, rows);
+            counts.get(table).add(rows.size());
+        }
+
+        // 명시적 ID 로 넣은 테이블의 ID 생성기를 새 최대값 뒤로 이동
+        private void realignIds() {
+            String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            // MySQL(InnoDB) 은 명시적 ID INSERT 시 AUTO_INCREMENT 가 자동으로 최대값 뒤로 이동하므로 H2 만 재시작 값 지정
+            if ("H2".equalsIgnoreCase(database)) {
+                for (String table : List.of("product_categories", "product_attributes", "subscription_plans", "products",
+                        "users", "deliveries", "carts")) {
+                    jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (maxId(table) + 1));
+                }
+            }
+            // 풀링 ID(id_generators)는 할당 크기(50)만큼 여유를 두고 이동 (V6 마이그레이션과 같은 규칙)
+            realignPooled("orders", "orders");
+            realignPooled("order_items", "order_items");
+        }
+
+        private void realignPooled(String sequence, String table) {
+            long next = maxId(table) + 51;
+            int updated = jdbcTemplate.update(
+                    "UPDATE id_generators SET next_val = ? WHERE sequence_name = ? AND next_val < ?", next, sequence, next);
+            if (updated == 0) {
+                Integer exists = jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM id_generators WHERE sequence_name = ?", Integer.class, sequence);
+                if (exists == null || exists == 0) {
+                    jdbcTemplate.update("INSERT INTO id_generators (sequence_name, next_val) VALUES (?, ?)", sequence, next);
+                }
+            }
+        }
+
+        // 인기도 분포로 서로 다른 상품 ID count 개 선택
+        private Set<Long> distinctProducts(SplittableRandom random, int count) {
+            int target = Math.min(count, plan.getProducts());
+            Set<Long> ids = new HashSet<>();
+            for (int attempts = 0; ids.size() < target && attempts < target * 4; attempts++) {
+                ids.add(productBase + 1 + productPopularity.next(random));
+            }
+            return ids;
+        }
+
+        // 상품 가격 (상품 순번으로 결정되므로 주문/장바구니 항목에서 다시 계산 가능, 저가 상품이 많은 분포)
+        private BigDecimal priceOf(long productIndex) {
+            double u = (mix(plan.getSeed() + productIndex) >>> 11) * 0x1.0p-53;
+            return BigDecimal.valueOf((10 + (long) (Math.pow(u, 3) * 1_990)) * 100);
+        }
+
+        // 최근일수록 많은 과거 시각 (최대 2년 전)
+        private LocalDateTime pastTime(SplittableRandom random) {
+            double recency = Math.pow(random.nextDouble(), 2);
+            return now.minusMinutes((long) (recency * HISTORY_DAYS * 24 * 60));
+        }
+    }
+
+    // 평균 mean 인 지수 분포 개수 (상한 max)
+    private static int skewedCount(SplittableRandom random, double mean, int max) {
+        if (mean <= 0) {
+            return 0;
+        }
+        return (int) Math.min(max, Math.floor(-Math.log(1 - random.nextDouble()) * mean));
+    }
+
+    private static String deliveryStatus(String orderStatus) {
+        switch (orderStatus) {
+            case "COMPLETED":
+            case "DELIVERED":
+                return "DELIVERED";
+            case "SHIPPED":
+                return "IN_TRANSIT";
+            case "PROCESSING":
+                return "PROCESSING";
+            default:
+                return "PENDING";
+        }
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return max == null ? 0 : max;
+    }
+
+    // SplitMix64 섞기 함수 (시드/순번에서 독립적인 난수 시드를 파생)
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
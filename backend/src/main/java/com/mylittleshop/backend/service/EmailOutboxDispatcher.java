@@ -0,0 +1,233 @@
+package com.mylittleshop.backend.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mylittleshop.backend.model.EmailOutbox;
+import com.mylittleshop.backend.model.EmailOutboxStatus;
+import com.mylittleshop.backend.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이메일 아웃박스 발송 작업
+ * - 발송 시각이 된 대기 메일을 배치 단위로 읽어 렌더링한 뒤 JavaMailSender.send(MimeMessage...) 한 번으로 보냅니다.
+ *   배치 하나는 SMTP 연결 하나로 전송되므로 메일마다 연결/인증을 반복하지 않습니다.
+ * - 실패한 메일은 지수 백오프로 재시도하고, 최대 횟수를 넘기면 DEAD 상태로 남깁니다.
+ * - job_locks 잠금 행으로 여러 인스턴스 중 하나만 발송합니다.
+ * - 지표: mail.outbox.sent, mail.outbox.retried, mail.outbox.dead, mail.outbox.batch, mail.outbox.pending
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxDispatcher {
+
+    static final String JOB_NAME = "email-outbox";
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final MailTemplateRenderer templateRenderer;
+    private final JobLockService jobLockService;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.mail.from-email:noreply@mylittleshop.com}")
+    private String fromEmail;
+
+    @Value("${app.mail.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    // 한 번의 실행에서 처리할 최대 배치 수
+    @Value("${app.mail.outbox.max-batches:20}")
+    private int maxBatches;
+
+    @Value("${app.mail.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.backoff-base-seconds:30}")
+    private long backoffBaseSeconds;
+
+    @Value("${app.mail.outbox.backoff-max-minutes:60}")
+    private long backoffMaxMinutes;
+
+    @Value("${app.mail.outbox.retention-days:7}")
+    private long retentionDays;
+
+    private TransactionTemplate transaction;
+    private Counter sentCounter;
+    private Counter retriedCounter;
+    private Counter deadCounter;
+    private Timer batchTimer;
+    private final AtomicLong pending = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        transaction = new TransactionTemplate(transactionManager);
+        sentCounter = meterRegistry.counter("mail.outbox.sent");
+        retriedCounter = meterRegistry.counter("mail.outbox.retried");
+        deadCounter = meterRegistry.counter("mail.outbox.dead");
+        batchTimer = meterRegistry.timer("mail.outbox.batch");
+        meterRegistry.gauge("mail.outbox.pending", pending);
+    }
+
+    /**
+     * 대기 메일 발송 (주기 실행, 잠금을 획득한 인스턴스만 실행)
+     */
+    @Scheduled(initialDelayString = "${app.mail.outbox.initial-delay-ms:5000}",
+               fixedDelayString = "${app.mail.outbox.interval-ms:2000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        if (!jobLockService.tryAcquire(JOB_NAME, Duration.ofMinutes(5))) {
+            return;
+        }
+        try {
+            dispatchPending();
+        } finally {
+            jobLockService.release(JOB_NAME);
+        }
+    }
+
+    /**
+     * 발송 시각이 된 대기 메일을 배치 단위로 발송합니다.
+     * @return 발송에 성공한 메일 수
+     */
+    public int dispatchPending() {
+        int sent = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            List<EmailOutbox> batch = emailOutboxRepository.findDue(EmailOutboxStatus.PENDING, LocalDateTime.now(),
+                    PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            Timer.Sample sample = Timer.start(meterRegistry);
+            sent += dispatch(batch);
+            sample.stop(batchTimer);
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        pending.set(emailOutboxRepository.countByStatus(EmailOutboxStatus.PENDING));
+        return sent;
+    }
+
+    /**
+     * 보관 기간이 지난 발송 완료 메일을 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.purge-interval-ms:3600000}")
+    public void purgeSent() {
+        Integer deleted = transaction.execute(status -> emailOutboxRepository.deleteByStatusAndSentAtBefore(
+                EmailOutboxStatus.SENT, LocalDateTime.now().minusDays(retentionDays)));
+        if (deleted != null && deleted > 0) {
+            log.info("보관 기간이 지난 발송 메일 삭제: {}건", deleted);
+        }
+    }
+
+    // 배치 하나를 한 SMTP 연결로 보내고 메일별 결과를 저장
+    private int dispatch(List<EmailOutbox> batch) {
+        Map<MimeMessage, EmailOutbox> byMessage = new IdentityHashMap<>();
+        Map<EmailOutbox, String> failures = new HashMap<>();
+        List<MimeMessage> messages = new ArrayList<>(batch.size());
+        for (EmailOutbox mail : batch) {
+            try {
+                MimeMessage message = toMessage(mail);
+                byMessage.put(message, mail);
+                messages.add(message);
+            } catch (Exception e) {
+                // 렌더링/주소 오류는 재시도해도 같으므로 바로 DEAD
+                mail.setAttempts(maxAttempts - 1);
+                failures.put(mail, e.getMessage());
+            }
+        }
+        if (!messages.isEmpty()) {
+            try {
+                mailSender.send(messages.toArray(new MimeMessage[0]));
+            } catch (MailSendException e) {
+                if (e.getFailedMessages().isEmpty()) {
+                    messages.forEach(message -> failures.put(byMessage.get(message), e.getMessage()));
+                }
+                e.getFailedMessages().forEach((message, cause) ->
+                        failures.put(byMessage.get(message), cause.getMessage()));
+            } catch (MailException e) {
+                // 연결/인증 실패: 배치 전체 재시도
+                messages.forEach(message -> failures.put(byMessage.get(message), e.getMessage()));
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int sent = 0;
+        for (EmailOutbox mail : batch) {
+            if (failures.containsKey(mail)) {
+                markFailed(mail, failures.get(mail), now);
+            } else {
+                mail.setStatus(EmailOutboxStatus.SENT);
+                mail.setSentAt(now);
+                mail.setAttempts(mail.getAttempts() + 1);
+                mail.setLastError(null);
+                sent++;
+            }
+        }
+        transaction.executeWithoutResult(status -> emailOutboxRepository.saveAll(batch));
+        sentCounter.increment(sent);
+        if (!failures.isEmpty()) {
+            log.warn("메일 발송 실패: 배치={}건, 실패={}건", batch.size(), failures.size());
+        }
+        return sent;
+    }
+
+    private void markFailed(EmailOutbox mail, String error, LocalDateTime now) {
+        int attempts = mail.getAttempts() + 1;
+        mail.setAttempts(attempts);
+        mail.setLastError(error != null && error.length() > 500 ? error.substring(0, 500) : error);
+        if (attempts >= maxAttempts) {
+            mail.setStatus(EmailOutboxStatus.DEAD);
+            deadCounter.increment();
+            log.error("메일 발송 포기: id={}, 수신자={}, 시도={}, 오류={}", mail.getId(), mail.getRecipient(), attempts, error);
+            return;
+        }
+        // 30초, 1분, 2분 ... 최대 60분
+        long delaySeconds = Math.min(backoffBaseSeconds << Math.min(attempts - 1, 20), backoffMaxMinutes * 60);
+        mail.setNextAttemptAt(now.plusSeconds(delaySeconds));
+        retriedCounter.increment();
+    }
+
+    private MimeMessage toMessage(EmailOutbox mail) throws MessagingException, java.io.IOException {
+        Map<String, String> params = objectMapper.readValue(mail.getParams(), new TypeReference<Map<String, String>>() {});
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom(fromEmail);
+        helper.setTo(mail.getRecipient());
+        helper.setSubject(mail.getSubject());
+        helper.setText(templateRenderer.render(mail.getTemplate(), params), true); // HTML 형식으로 발송
+        return message;
+    }
+}
@@ -0,0 +1,167 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.util.HotPathEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 핵심 경로(주문/장바구니/검색/로그인/배치 작업) 계측
+ * - 구간(Span)을 열고 닫으면 Micrometer 타이머와 JFR 이벤트(HotPathEvent)를 함께 기록합니다.
+ *   작업 전체: {operation} 타이머 (outcome 태그)
+ *   작업 단계: {operation}.phase 타이머 (phase 태그: load / validate / persist / stock 등)
+ *   배치 작업: batch.job 타이머 (job, outcome 태그), batch.job.items 카운터, batch.job.throughput 요약(건/초)
+ * - 건수 분포(주문 항목 수, 검색 결과 수)는 summary() 로 기록합니다.
+ * - 캐시 적중률은 각 캐시가 CaffeineCacheMetrics 로 cache.gets{result=hit|miss} 를 이미 내보냅니다.
+ * - 미터는 이름+태그 조합마다 처음 한 번만 등록하고 이후에는 캐시된 미터에 기록합니다. (태그 값은 종류가 정해진 값만 사용)
+ */
+@Service
+@RequiredArgsConstructor
+public class HotPathMetrics {
+
+    private static final String SUCCESS = "success";
+    private static final String ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+
+    // [이름, 태그 키, 태그 값, ...] -> 등록된 미터
+    private final Map<List<String>, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<List<String>, DistributionSummary> summaries = new ConcurrentHashMap<>();
+    private final Map<List<String>, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 작업 전체 구간 시작 (success() 를 호출하지 않고 닫으면 outcome=error)
+     * @param operation 작업 이름 (예: order.checkout)
+     */
+    public Span start(String operation) {
+        return new Span(Kind.OPERATION, operation, "total");
+    }
+
+    /**
+     * 작업 단계 구간 시작
+     * @param operation 작업 이름
+     * @param phase 단계 이름
+     */
+    public Span phase(String operation, String phase) {
+        return new Span(Kind.PHASE, operation, phase);
+    }
+
+    /**
+     * 배치 작업 실행 구간 시작 (count() 로 처리 건수를 넘기면 처리량을 함께 기록)
+     * @param job 작업 이름 (예: recurring-orders)
+     */
+    public Span batch(String job) {
+        return new Span(Kind.BATCH, job, "run");
+    }
+
+    /**
+     * 건수 분포 기록
+     * @param name 지표 이름
+     * @param amount 건수
+     * @param tags 태그 (키, 값 순)
+     */
+    public void summary(String name, double amount, String... tags) {
+        summaries.computeIfAbsent(key(name, tags), key -> DistributionSummary.builder(name)
+                        .tags(tags)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(amount);
+    }
+
+    private Timer timer(String name, String... tags) {
+        return timers.computeIfAbsent(key(name, tags), key -> Timer.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private static List<String> key(String name, String... tags) {
+        String[] key = new String[tags.length + 1];
+        key[0] = name;
+        System.arraycopy(tags, 0, key, 1, tags.length);
+        return Arrays.asList(key);
+    }
+
+    private enum Kind {
+        OPERATION, PHASE, BATCH
+    }
+
+    /**
+     * 계측 구간 (try-with-resources 로 닫음)
+     */
+    public final class Span implements AutoCloseable {
+
+        private final Kind kind;
+        private final String operation;
+        private final String phase;
+        private final long startedAt;
+        private final HotPathEvent event;
+        private String outcome = ERROR;
+        private long count;
+
+        private Span(Kind kind, String operation, String phase) {
+            this.kind = kind;
+            this.operation = operation;
+            this.phase = phase;
+            this.event = new HotPathEvent();
+            event.begin();
+            this.startedAt = System.nanoTime();
+        }
+
+        public Span success() {
+            return outcome(SUCCESS);
+        }
+
+        /**
+         * 결과 구분 (태그 값이므로 종류가 정해진 값만 사용)
+         */
+        public Span outcome(String outcome) {
+            this.outcome = outcome;
+            return this;
+        }
+
+        public Span count(long count) {
+            this.count = count;
+            return this;
+        }
+
+        @Override
+        public void close() {
+            long elapsed = System.nanoTime() - startedAt;
+            switch (kind) {
+                case OPERATION -> timer(operation, "outcome", outcome).record(elapsed, TimeUnit.NANOSECONDS);
+                case PHASE -> timer(operation + ".phase", "phase", phase).record(elapsed, TimeUnit.NANOSECONDS);
+                case BATCH -> recordBatch(elapsed);
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.set(operation, phase, kind == Kind.PHASE ? null : outcome, count);
+                event.commit();
+            }
+        }
+
+        private void recordBatch(long elapsed) {
+            timer("batch.job", "job", operation, "outcome", outcome).record(elapsed, TimeUnit.NANOSECONDS);
+            counters.computeIfAbsent(key("batch.job.items", "job", operation),
+                            key -> Counter.builder("batch.job.items").tag("job", operation).register(meterRegistry))
+                    .increment(count);
+            if (count > 0 && elapsed > 0) {
+                summaries.computeIfAbsent(key("batch.job.throughput", "job", operation),
+                                key -> DistributionSummary.builder("batch.job.throughput")
+                                        .tag("job", operation)
+                                        .baseUnit("items/s")
+                                        .register(meterRegistry))
+                        .record(count * 1_000_000_000.0 / elapsed);
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.mylittleshop.backend.service;
 import com.mylittleshop.backend.model.InventoryHistory;
 import com.mylittleshop.backend.repository.InventoryHistoryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -24,5 +26,10 @@ public class InventoryHistoryService {
         return inventoryHistoryRepository.save(inventoryHistory);
     }
 
+    // 상품별 재고 이력 조회 (최신순) - 이력은 StockLedgerService 에서만 기록됩니다.
+    public Page<InventoryHistory> findByProductId(Long productId, Pageable pageable) {
+        return inventoryHistoryRepository.findByProductIdOrderByChangedAtDescIdDesc(productId, pageable);
+    }
+
     // 필요에 따라 추가 메서드 구현
 } 
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.mylittleshop.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주기 작업 잠금 서비스 (job_locks 잠금 행 기반)
+ * - 여러 인스턴스가 같은 작업을 동시에 실행하지 않도록, 잠금 행을 조건부 UPDATE 로 선점합니다.
+ * - 임대 기간이 지나면 다른 인스턴스가 가져갈 수 있으므로, 보유 인스턴스가 비정상 종료되어도 작업이 멈추지 않습니다.
+ * - 잠금 변경은 호출자 트랜잭션과 무관하게 바로 커밋됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobLockService {
+
+    private static final String ACQUIRE_SQL =
+            "UPDATE job_locks SET locked_by = ?, locked_at = ?, locked_until = ? " +
+            "WHERE name = ? AND (locked_until <= ? OR locked_by = ?)";
+    private static final String INSERT_SQL =
+            "INSERT INTO job_locks (name, locked_by, locked_at, locked_until) VALUES (?, ?, ?, ?)";
+    private static final String RELEASE_SQL =
+            "UPDATE job_locks SET locked_until = ? WHERE name = ? AND locked_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final String owner = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+
+    /**
+     * 작업 잠금 획득 시도
+     * @param name 작업 이름
+     * @param lease 임대 기간 (작업 최대 실행 시간보다 길게)
+     * @return 획득 여부
+     */
+    public boolean tryAcquire(String name, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp nowTs = Timestamp.valueOf(now);
+        Timestamp until = Timestamp.valueOf(now.plus(lease));
+        if (jdbcTemplate.update(ACQUIRE_SQL, owner, nowTs, until, name, nowTs, owner) > 0) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_SQL, name, owner, nowTs, until) > 0;
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 보유 중
+            return false;
+        }
+    }
+
+    /**
+     * 작업 잠금 반환 (보유 중인 경우만)
+     * @param name 작업 이름
+     */
+    public void release(String name) {
+        jdbcTemplate.update(RELEASE_SQL, Timestamp.valueOf(LocalDateTime.now()), name, owner);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
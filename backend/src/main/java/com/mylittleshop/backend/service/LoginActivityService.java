@@ -0,0 +1,149 @@
+package com.mylittleshop.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mylittleshop.backend.event.UserSecurityChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그인 성공/실패 기록 서비스
+ * - 마지막 로그인 시각과 로그인 실패 횟수를 메모리(ConcurrentHashMap/Caffeine, 내부적으로 버킷 단위 잠금)에 모아 두고
+ *   주기적으로 batch UPDATE 로 users 테이블에 반영합니다. 로그인 폭주 시 같은 users 행에 UPDATE 가 몰리지 않습니다.
+ * - 실패 횟수는 사용자별 원자적 카운터로 관리하며, 카운터가 정확히 임계값에 도달한 요청 하나만 계정을 잠급니다.
+ *   카운터가 없으면 DB 의 실패 횟수에서 시작하므로 재시작/다른 인스턴스 이후에도 이어서 셉니다.
+ * - 잠금은 실패 횟수와 함께 즉시 반영합니다. (UserService.lockUser, 토큰 폐기 포함)
+ *   잠금/해제 등 보안 상태 변경 커밋 후에는 카운터를 버리고 다음 실패 때 DB 값에서 다시 시작합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LoginActivityService {
+
+    private final UserService userService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.auth.max-failed-attempts:5}")
+    private int maxFailedAttempts;
+
+    // 마지막 실패 이후 카운터를 메모리에 유지하는 시간
+    @Value("${app.auth.failure-window-minutes:30}")
+    private long failureWindowMinutes;
+
+    @Value("${app.auth.login-activity-batch-size:500}")
+    private int batchSize;
+
+    private Cache<Long, AtomicInteger> failures;
+    // 반영 대기 중인 마지막 로그인 시각
+    private final Map<Long, LocalDateTime> pendingLogins = new ConcurrentHashMap<>();
+    // 반영 대기 중인 실패 횟수 변경 사용자
+    private final Set<Long> pendingFailures = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        failures = Caffeine.newBuilder()
+                .maximumSize(1_000_000)
+                .expireAfterAccess(Duration.ofMinutes(failureWindowMinutes))
+                .build();
+    }
+
+    /**
+     * 로그인 성공 기록 (실패 카운터 초기화, 마지막 로그인 시각은 다음 반영 때 저장)
+     * @param userId 사용자 ID
+     */
+    public void recordSuccess(Long userId) {
+        failures.invalidate(userId);
+        pendingFailures.remove(userId);
+        pendingLogins.put(userId, LocalDateTime.now());
+    }
+
+    /**
+     * 로그인 실패 기록
+     * @param userId 사용자 ID
+     * @return 이번 실패로 계정이 잠겼는지 여부
+     */
+    public boolean recordFailure(Long userId) {
+        pendingLogins.remove(userId);
+        AtomicInteger counter = failures.get(userId, id -> new AtomicInteger(loadFailedAttempts(id)));
+        int attempts = counter.incrementAndGet();
+        pendingFailures.add(userId);
+        if (attempts == maxFailedAttempts) {
+            // 잠금 이벤트로 카운터가 버려진 뒤 다시 시작해도 임계값을 넘긴 상태가 되도록 실패 횟수를 먼저 저장
+            jdbcTemplate.update("UPDATE users SET failed_login_attempts = ? WHERE id = ?", attempts, userId);
+            userService.lockUser(userId);
+            log.warn("로그인 실패 횟수 초과로 계정 잠금: userId={}, 실패={}", userId, attempts);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 보안 상태 변경(잠금 해제 등) 커밋 후 해당 사용자의 실패 카운터를 버립니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityChangedEvent event) {
+        failures.invalidate(event.getUserId());
+    }
+
+    /**
+     * 모아 둔 로그인 기록을 batch UPDATE 로 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.auth.login-activity-flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> logins = new ArrayList<>();
+        for (Long userId : pendingLogins.keySet()) {
+            LocalDateTime loginAt = pendingLogins.remove(userId);
+            if (loginAt != null) {
+                logins.add(new Object[]{Timestamp.valueOf(loginAt), userId});
+            }
+        }
+        List<Object[]> failed = new ArrayList<>();
+        for (Long userId : pendingFailures) {
+            pendingFailures.remove(userId);
+            AtomicInteger counter = failures.getIfPresent(userId);
+            if (counter != null) {
+                failed.add(new Object[]{counter.get(), userId});
+            }
+        }
+        batchUpdate("UPDATE users SET last_login_at = ?, failed_login_attempts = 0 WHERE id = ?", logins);
+        batchUpdate("UPDATE users SET failed_login_attempts = ? WHERE id = ?", failed);
+        if (!logins.isEmpty() || !failed.isEmpty()) {
+            log.debug("로그인 기록 반영: 성공={}건, 실패={}건", logins.size(), failed.size());
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private int loadFailedAttempts(Long userId) {
+        List<Integer> rows = jdbcTemplate.queryForList(
+                "SELECT failed_login_attempts FROM users WHERE id = ?", Integer.class, userId);
+        return rows.isEmpty() || rows.get(0) == null ? 0 : rows.get(0);
+    }
+
+    private void batchUpdate(String sql, List<Object[]> args) {
+        for (int from = 0; from < args.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(sql, args.subList(from, Math.min(from + batchSize, args.size())));
+        }
+    }
+}
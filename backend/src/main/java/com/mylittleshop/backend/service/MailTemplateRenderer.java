@@ -0,0 +1,106 @@
+package com.mylittleshop.backend.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메일 HTML 템플릿 렌더러
+ * - classpath:templates/mail/{이름}.html 을 시작 시 한 번 읽어 고정 문자열과 {{치환자}} 조각으로 나눠 둡니다.
+ * - 렌더링은 조각을 순서대로 이어 붙이기만 하므로, 메일마다 큰 템플릿을 String.format 으로 파싱하지 않습니다.
+ * - 치환 값은 HTML 이스케이프합니다.
+ */
+@Component
+@Slf4j
+public class MailTemplateRenderer {
+
+    public static final String VERIFICATION = "verification";
+    public static final String WELCOME = "welcome";
+
+    private static final List<String> TEMPLATES = List.of(VERIFICATION, WELCOME);
+
+    private final Map<String, CompiledTemplate> templates = new HashMap<>();
+
+    @PostConstruct
+    void init() {
+        for (String name : TEMPLATES) {
+            templates.put(name, compile(load(name)));
+        }
+        log.info("메일 템플릿 로드: {}", templates.keySet());
+    }
+
+    /**
+     * 템플릿을 렌더링합니다.
+     * @param name 템플릿 이름
+     * @param params 치환 값 (없는 치환자는 빈 문자열)
+     * @return HTML 본문
+     */
+    public String render(String name, Map<String, String> params) {
+        CompiledTemplate template = templates.get(name);
+        if (template == null) {
+            throw new IllegalArgumentException("알 수 없는 메일 템플릿입니다: " + name);
+        }
+        StringBuilder html = new StringBuilder(template.length + 256);
+        for (int i = 0; i < template.literals.length; i++) {
+            html.append(template.literals[i]);
+            if (i < template.placeholders.length) {
+                String value = params.get(template.placeholders[i]);
+                if (value != null) {
+                    html.append(HtmlUtils.htmlEscape(value));
+                }
+            }
+        }
+        return html.toString();
+    }
+
+    private static String load(String name) {
+        ClassPathResource resource = new ClassPathResource("templates/mail/" + name + ".html");
+        try (InputStream in = resource.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("메일 템플릿을 읽을 수 없습니다: " + name, e);
+        }
+    }
+
+    // "고정 문자열 {{이름}} 고정 문자열 ..." 을 고정 문자열 n+1 개와 치환자 n 개로 분리
+    static CompiledTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        int from = 0;
+        while (true) {
+            int open = source.indexOf("{{", from);
+            int close = open < 0 ? -1 : source.indexOf("}}", open + 2);
+            if (close < 0) {
+                literals.add(source.substring(from));
+                break;
+            }
+            literals.add(source.substring(from, open));
+            placeholders.add(source.substring(open + 2, close).trim());
+            from = close + 2;
+        }
+        return new CompiledTemplate(literals.toArray(new String[0]), placeholders.toArray(new String[0]),
+                source.length());
+    }
+
+    static final class CompiledTemplate {
+        private final String[] literals;
+        private final String[] placeholders;
+        private final int length;
+
+        CompiledTemplate(String[] literals, String[] placeholders, int length) {
+            this.literals = literals;
+            this.placeholders = placeholders;
+            this.length = length;
+        }
+    }
+}
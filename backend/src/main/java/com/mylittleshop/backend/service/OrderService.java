@@ -1,16 +1,21 @@
 package com.mylittleshop.backend.service;
 
+import com.mylittleshop.backend.dto.CursorPage;
 import com.mylittleshop.backend.model.*;
 import com.mylittleshop.backend.repository.*;
+import com.mylittleshop.backend.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -26,6 +31,10 @@ public class OrderService {
     private final DeliveryRepository deliveryRepository;
     private final PaymentRepository paymentRepository;
     private final ShipmentRepository shipmentRepository;
+    private final StockReservationService stockReservationService;
+    private final HotPathMetrics hotPathMetrics;
+    
+    private static final String CHECKOUT = "order.checkout";
     
     // 기본 CRUD 작업
     @Transactional
@@ -79,6 +88,31 @@ public class OrderService {
         return orderRepository.findByStatus(status, pageable);
     }
     
+    // 키셋(커서) 조회 - 주문일/ID 내림차순, 전체 건수를 세지 않음
+    public CursorPage<Order> findAll(String cursor, int size) {
+        CursorPage.checkSize(size);
+        CursorUtil.TimeCursor after = CursorUtil.decodeTime(cursor);
+        return toCursorPage(orderRepository.findAllAfter(after.getDateTime(), after.getId(), PageRequest.of(0, size + 1)), size);
+    }
+    
+    public CursorPage<Order> findByUserId(Long userId, String cursor, int size) {
+        CursorPage.checkSize(size);
+        CursorUtil.TimeCursor after = CursorUtil.decodeTime(cursor);
+        return toCursorPage(orderRepository.findByUserIdAfter(userId, after.getDateTime(), after.getId(),
+                PageRequest.of(0, size + 1)), size);
+    }
+    
+    public CursorPage<Order> findByStatus(OrderStatus status, String cursor, int size) {
+        CursorPage.checkSize(size);
+        CursorUtil.TimeCursor after = CursorUtil.decodeTime(cursor);
+        return toCursorPage(orderRepository.findByStatusAfter(status, after.getDateTime(), after.getId(),
+                PageRequest.of(0, size + 1)), size);
+    }
+    
+    private static CursorPage<Order> toCursorPage(List<Order> rows, int size) {
+        return CursorPage.of(rows, size, order -> CursorUtil.encodeTime(order.getOrderDate(), order.getId()));
+    }
+    
     public List<Order> findByUserAndStatus(User user, OrderStatus status) {
         return orderRepository.findByUserAndStatus(user, status);
     }
@@ -124,75 +158,92 @@ public class OrderService {
     }
     
     // 비즈니스 로직
+    /**
+     * 주문 생성
+     * - 단계별 소요 시간(order.checkout.phase: load / validate / persist / stock)과 주문 항목 수(order.checkout.items)를 기록합니다.
+     *   persist 는 save 호출까지이며, 풀링 ID 라 실제 INSERT 배치는 커밋 시 flush 에서 실행됩니다.
+     */
     @Transactional
     public Order createOrder(Long userId, List<OrderItem> orderItems, String paymentMethod, String shippingMethod,
                              Delivery delivery, BigDecimal shippingFee, BigDecimal taxAmount,
                              BigDecimal discountAmount, String couponCode, Boolean isGift, String giftMessage) {
-        
-        // 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
-        
-        // 배송 정보 저장
-        Delivery savedDelivery = deliveryRepository.save(delivery);
-        
-        // 주문 생성
-        Order order = new Order();
-        order.setUser(user);
-        order.setDelivery(savedDelivery);
-        order.setStatus(OrderStatus.PENDING);
-        order.setPaymentMethod(paymentMethod);
-        order.setShippingMethod(shippingMethod);
-        order.setShippingFee(shippingFee);
-        order.setTaxAmount(taxAmount);
-        order.setDiscountAmount(discountAmount);
-        order.setCouponCode(couponCode);
-        order.setIsGift(isGift);
-        order.setGiftMessage(giftMessage);
-        order.setOrderDate(LocalDateTime.now());
-        
-        // 주문 저장
-        Order savedOrder = orderRepository.save(order);
-        
-        // 주문 항목 처리
-        for (OrderItem item : orderItems) {
-            // 상품 조회
-            Product product = productRepository.findById(item.getProduct().getId())
-                    .orElseThrow(() -> new RuntimeException("Product not found with id: " + item.getProduct().getId()));
+        HotPathMetrics.Span checkout = hotPathMetrics.start(CHECKOUT);
+        try (checkout) {
+            User user;
+            Map<Long, Integer> quantities;
+            Map<Long, Product> products;
+            try (HotPathMetrics.Span phase = hotPathMetrics.phase(CHECKOUT, "load")) {
+                // 사용자 조회
+                user = userRepository.findById(userId)
+                        .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+                
+                // 주문 상품 일괄 조회 (IN 쿼리 1회)
+                quantities = sumQuantitiesByProduct(orderItems);
+                products = productRepository.findAllById(quantities.keySet()).stream()
+                        .collect(Collectors.toMap(Product::getId, product -> product));
+            }
             
-            // 재고 확인
-            if (product.getStockQuantity() < item.getQuantity()) {
-                throw new RuntimeException("Insufficient stock for product: " + product.getName());
+            Order order = new Order();
+            try (HotPathMetrics.Span phase = hotPathMetrics.phase(CHECKOUT, "validate")) {
+                for (Long productId : quantities.keySet()) {
+                    if (!products.containsKey(productId)) {
+                        throw new RuntimeException("Product not found with id: " + productId);
+                    }
+                }
+                
+                // 주문 생성
+                order.setUser(user);
+                order.setStatus(OrderStatus.PENDING);
+                order.setPaymentMethod(paymentMethod);
+                order.setShippingMethod(shippingMethod);
+                order.setShippingFee(shippingFee);
+                order.setTaxAmount(taxAmount);
+                order.setDiscountAmount(discountAmount);
+                order.setCouponCode(couponCode);
+                order.setIsGift(isGift);
+                order.setGiftMessage(giftMessage);
+                order.setOrderDate(LocalDateTime.now());
+                
+                // 주문 항목 연결 및 주문 금액 갱신
+                for (OrderItem item : orderItems) {
+                    item.setProduct(products.get(item.getProduct().getId()));
+                    order.addOrderItem(item);
+                }
+                
+                // 최종 금액 계산
+                order.setFinalAmount(
+                        order.getTotalAmount()
+                                .subtract(order.getDiscountAmount())
+                                .add(order.getShippingFee())
+                                .add(order.getTaxAmount())
+                );
+                
+                // 주문 상태 이력 추가
+                OrderStatusHistory statusHistory = new OrderStatusHistory();
+                statusHistory.setOrder(order);
+                statusHistory.setNewStatus(OrderStatus.PENDING);
+                statusHistory.setChangedAt(LocalDateTime.now());
+                order.getStatusHistory().add(statusHistory);
             }
             
-            // 재고 감소
-            product.removeStock(item.getQuantity());
-            productRepository.save(product);
+            Order savedOrder;
+            try (HotPathMetrics.Span phase = hotPathMetrics.phase(CHECKOUT, "persist")) {
+                // 배송 정보 저장 (상품 검증을 통과한 뒤에만)
+                order.setDelivery(deliveryRepository.save(delivery));
+                
+                // 주문 저장 (항목/이력은 cascade) - 풀링 ID 라 INSERT 는 flush 시점에 배치로 실행되고, 주문번호는 @PrePersist 에서 생성
+                savedOrder = orderRepository.save(order);
+            }
             
-            // 주문 항목 저장
-            item.setOrder(savedOrder);
-            orderItemRepository.save(item);
+            try (HotPathMetrics.Span phase = hotPathMetrics.phase(CHECKOUT, "stock")) {
+                // 전체 주문 항목 재고 예약 (조건부 UPDATE 배치, 부족 시 전체 롤백)
+                stockReservationService.reserve(StockReservationService.orderKey(savedOrder.getId()), quantities);
+            }
             
-            // 주문 금액 갱신
-            savedOrder.addOrderItem(item);
+            hotPathMetrics.summary(CHECKOUT + ".items", orderItems.size());
+            checkout.count(orderItems.size()).success();
+            return savedOrder;
         }
-        
-        // 최종 금액 계산
-        savedOrder.setFinalAmount(
-                savedOrder.getTotalAmount()
-                        .subtract(savedOrder.getDiscountAmount())
-                        .add(savedOrder.getShippingFee())
-                        .add(savedOrder.getTaxAmount())
-        );
-        
-        // 주문 상태 이력 추가
-        OrderStatusHistory statusHistory = new OrderStatusHistory();
-        statusHistory.setOrder(savedOrder);
-        statusHistory.setNewStatus(OrderStatus.PENDING);
-        statusHistory.setChangedAt(LocalDateTime.now());
-        orderStatusHistoryRepository.save(statusHistory);
-        
-        return orderRepository.save(savedOrder);
     }
     
     @Transactional
@@ -208,6 +259,10 @@ public class OrderService {
     public Payment addPayment(Long orderId, BigDecimal amount, String paymentMethod, String transactionId) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("Order not found with id: " + orderId));
+        if (order.getStatus() == OrderStatus.CANCELLED) {
+            // 취소로 반환된 재고를 결제가 다시 차감하지 않도록 거부
+            throw new IllegalStateException("취소된 주문은 결제할 수 없습니다.");
+        }
         
         Payment payment = new Payment();
         payment.setOrder(order);
@@ -220,8 +275,9 @@ public class OrderService {
         
         Payment savedPayment = paymentRepository.save(payment);
         
-        // 결제 완료 시 주문 상태 변경
+        // 결제 완료 시 재고 예약 확정 및 주문 상태 변경
         if (order.isFullyPaid()) {
+            stockReservationService.confirm(StockReservationService.orderKey(orderId));
             order.changeStatus(OrderStatus.PROCESSING, "Payment completed", "SYSTEM");
         }
         
@@ -293,12 +349,12 @@ public class OrderService {
         // 주문 상태 변경
         order.changeStatus(OrderStatus.CANCELLED, reason, cancelledBy);
         
-        // 재고 복구
-        List<OrderItem> orderItems = orderItemRepository.findByOrder(order);
-        for (OrderItem item : orderItems) {
-            Product product = item.getProduct();
-            product.addStock(item.getQuantity());
-            productRepository.save(product);
+        // 재고 복구 (예약 기록이 없는 이전 주문은 주문 항목 기준으로 반환)
+        String reservationKey = StockReservationService.orderKey(orderId);
+        if (stockReservationService.hasReservations(reservationKey)) {
+            stockReservationService.release(reservationKey);
+        } else {
+            stockReservationService.restock(sumQuantitiesByProduct(orderItemRepository.findByOrder(order)));
         }
         
         return orderRepository.save(order);
@@ -334,6 +390,15 @@ public class OrderService {
         return orderRepository.sumFinalAmountBetweenDates(startDate, endDate);
     }
     
+    // 상품별 주문 수량 합계
+    private Map<Long, Integer> sumQuantitiesByProduct(List<OrderItem> orderItems) {
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (OrderItem item : orderItems) {
+            quantities.merge(item.getProduct().getId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+    
     @Transactional
     public Order createOrder(Order order) {
         // 필요한 검증/비즈니스 로직이 있다면 추가
@@ -0,0 +1,131 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.exception.LoginThrottledException;
+import com.mylittleshop.backend.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 검증 서비스
+ * - BCrypt 검증은 CPU 를 오래 쓰므로 크기가 고정된 전용 스레드 풀과 대기열에서만 실행합니다.
+ *   대기열이 가득 차면 즉시 LoginThrottledException 으로 거절(429)해, 로그인 폭주 시 Tomcat 스레드가 쌓이지 않게 합니다.
+ * - 로그인 성공 시 저장된 해시의 cost 가 현재 설정(app.auth.bcrypt-strength)보다 낮으면 같은 풀에서 다시 해시해 저장합니다.
+ * - 지표: auth.password.verify (타이머), auth.password.rejected (거절 수), auth.password.queue (대기열 길이)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 해시 스레드 수 (0: CPU 코어 수)
+    @Value("${app.auth.hashing-threads:0}")
+    private int threads;
+
+    @Value("${app.auth.hashing-queue-size:64}")
+    private int queueSize;
+
+    // 대기열에 들어간 요청의 최대 대기 시간
+    @Value("${app.auth.hashing-timeout-ms:3000}")
+    private long timeoutMs;
+
+    private ThreadPoolExecutor executor;
+    private Timer verifyTimer;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    void init() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        verifyTimer = meterRegistry.timer("auth.password.verify");
+        rejectedCounter = meterRegistry.counter("auth.password.rejected");
+        meterRegistry.gauge("auth.password.queue", executor, pool -> pool.getQueue().size());
+        log.info("비밀번호 해시 스레드 풀 초기화: 스레드={}, 대기열={}", poolSize, queueSize);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 비밀번호를 전용 스레드 풀에서 검증합니다.
+     * @param rawPassword 입력 비밀번호
+     * @param encodedPassword 저장된 해시
+     * @return 일치 여부
+     * @throws LoginThrottledException 대기열이 가득 찼거나 대기 시간이 지난 경우
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        Future<Boolean> result;
+        try {
+            result = executor.submit(() -> verifyTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new LoginThrottledException("로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        try {
+            return result.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            rejectedCounter.increment();
+            throw new LoginThrottledException("로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 검증이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 검증에 실패했습니다.", e.getCause());
+        }
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 설정보다 낮으면 백그라운드에서 다시 해시해 저장합니다.
+     * 풀이 바쁘면 다음 로그인으로 미룹니다.
+     * @param userId 사용자 ID
+     * @param rawPassword 검증이 끝난 입력 비밀번호
+     * @param encodedPassword 저장된 해시
+     */
+    public void upgradeIfNeeded(Long userId, String rawPassword, String encodedPassword) {
+        if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                int updated = userRepository.updatePasswordIfUnchanged(userId, encodedPassword,
+                        passwordEncoder.encode(rawPassword));
+                if (updated > 0) {
+                    log.debug("비밀번호 해시 cost 상향: userId={}", userId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("비밀번호 해시 cost 상향 건너뜀 - 스레드 풀 포화: userId={}", userId);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.mylittleshop.backend.service;
 
+import com.mylittleshop.backend.event.CategoryChangedEvent;
 import com.mylittleshop.backend.model.ProductCategory;
 import com.mylittleshop.backend.repository.ProductCategoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,9 +14,20 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ProductCategoryService {
     private final ProductCategoryRepository productCategoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ProductCategory save(ProductCategory category) { return productCategoryRepository.save(category); }
+    @Transactional
+    public ProductCategory save(ProductCategory category) {
+        ProductCategory savedCategory = productCategoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(savedCategory.getId()));
+        return savedCategory;
+    }
     public Optional<ProductCategory> findById(Long id) { return productCategoryRepository.findById(id); }
     public List<ProductCategory> findAll() { return productCategoryRepository.findAll(); }
-    public void deleteById(Long id) { productCategoryRepository.deleteById(id); }
-} 
\ No newline at end of file
+    public boolean hasAnyCategory() { return productCategoryRepository.existsByIdIsNotNull(); }
+    @Transactional
+    public void deleteById(Long id) {
+        productCategoryRepository.deleteById(id);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
+    }
+}
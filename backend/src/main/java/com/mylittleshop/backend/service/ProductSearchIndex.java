@@ -0,0 +1,730 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.dto.ProductSearchQuery;
+import com.mylittleshop.backend.dto.ProductSearchResult;
+import com.mylittleshop.backend.dto.StockLevel;
+import com.mylittleshop.backend.event.ProductChangedEvent;
+import com.mylittleshop.backend.event.StockChangedEvent;
+import com.mylittleshop.backend.model.Product;
+import com.mylittleshop.backend.model.ProductStatus;
+import com.mylittleshop.backend.repository.ProductAttributeValueRepository;
+import com.mylittleshop.backend.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 카탈로그 인메모리 검색 색인
+ * - 애플리케이션 기동 시 판매 중/품절 상품 전체로 색인을 구성하고, 이후 상품 변경 이벤트(커밋 후)로 증분 갱신합니다.
+ * - 주문/취소/예약 만료로 인한 재고 변경은 재고 변경 이벤트로 재고 배열만 갱신합니다.
+ *   품절 상품도 색인에 남겨 두고 재고 필터(inStockOnly)는 조회 시점에 재고 배열로 적용합니다.
+ * - 포스팅 리스트는 docId(int) 배열로 저장하며, 문서별 패싯 값도 원시 타입 배열로 보관합니다.
+ * - 검색어가 있으면 가장 짧은 포스팅 리스트부터 교집합을 구해 후보 문서만 검사합니다.
+ * - 한글은 2-gram, 영문/숫자는 단어 단위로 색인하고, 영문/숫자 단어는 편집거리 1까지 오타를 허용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSearchIndex {
+
+    private static final long[] PRICE_BUCKET_BOUNDS = {10_000L, 30_000L, 50_000L, 100_000L};
+    private static final String[] PRICE_BUCKET_LABELS = {"~1만원", "1만~3만원", "3만~5만원", "5만~10만원", "10만원~"};
+
+    private static final int FLAG_FEATURED = 1;
+    private static final int FLAG_BESTSELLER = 1 << 1;
+    private static final int FLAG_NEW_ARRIVAL = 1 << 2;
+    private static final int FLAG_SUBSCRIPTION = 1 << 3;
+    private static final String[] FLAG_NAMES = {"featured", "bestseller", "newArrival", "subscriptionAvailable"};
+
+    // 오타 허용 최소 단어 길이
+    private static final int FUZZY_MIN_LENGTH = 4;
+    // 삭제된 문서 비율이 이 값을 넘으면 docId 재배치(압축)
+    private static final double COMPACTION_RATIO = 0.2;
+
+    private final ProductRepository productRepository;
+    private final ProductAttributeValueRepository productAttributeValueRepository;
+    private final StockLedgerService stockLedgerService;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexData data = new IndexData();
+    private volatile boolean ready = false;
+    private volatile boolean rebuilding = false;
+    // 전체 재색인 중에 변경된 상품 ID (재색인 완료 후 다시 반영)
+    private final Set<Long> changedWhileRebuilding = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("상품 검색 색인 초기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 판매 중/품절 상품 전체로 색인을 다시 구성합니다.
+     * 구성은 기존 색인을 유지한 채 별도로 수행하고, 완료 후 교체합니다.
+     */
+    public void rebuild() {
+        rebuilding = true;
+        try {
+            Map<Long, List<String>> attributeValues = new HashMap<>();
+            for (Object[] row : productAttributeValueRepository.findAllProductIdAndValue()) {
+                attributeValues.computeIfAbsent((Long) row[0], key -> new ArrayList<>()).add((String) row[1]);
+            }
+
+            IndexData fresh = new IndexData();
+            List<Product> products = productRepository.findAllForSearchIndex();
+            for (Product product : products) {
+                fresh.add(product, attributeValues.getOrDefault(product.getId(), List.of()));
+            }
+
+            lock.writeLock().lock();
+            try {
+                data = fresh;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("상품 검색 색인 구성 완료: 상품 수={}, 단어 수={}", fresh.liveCount, fresh.postings.size());
+        } finally {
+            rebuilding = false;
+        }
+
+        // 재색인 중에 들어온 변경 사항 반영
+        for (Iterator<Long> it = changedWhileRebuilding.iterator(); it.hasNext(); ) {
+            Long productId = it.next();
+            it.remove();
+            reindex(productId);
+        }
+    }
+
+    /**
+     * 상품 변경 커밋 후 색인을 증분 갱신합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (rebuilding) {
+            changedWhileRebuilding.add(event.getProductId());
+            return;
+        }
+        if (!ready) {
+            return;
+        }
+        try {
+            if (event.getChangeType() == ProductChangedEvent.ChangeType.DELETED) {
+                remove(event.getProductId());
+            } else {
+                reindex(event.getProductId());
+            }
+        } catch (Exception e) {
+            log.warn("상품 검색 색인 갱신 실패: productId={}, error={}", event.getProductId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 재고 원장 변경 커밋 후 색인의 재고 값만 갱신합니다.
+     * 재고 원장은 판매 중/품절 상태만 서로 전환하고 두 상태 모두 색인되므로, 문서를 추가/제거할 일은 없습니다.
+     */
+    @EventListener
+    public void onStockChanged(StockChangedEvent event) {
+        if (rebuilding) {
+            changedWhileRebuilding.addAll(event.getProductIds());
+            return;
+        }
+        if (!ready) {
+            return;
+        }
+        try {
+            Map<Long, StockLevel> levels = stockLedgerService.getStockLevels(event.getProductIds());
+            lock.writeLock().lock();
+            try {
+                for (StockLevel level : levels.values()) {
+                    data.updateStock(level.getProductId(), level.getAvailable());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            log.warn("상품 검색 색인 재고 갱신 실패: productIds={}, error={}", event.getProductIds(), e.getMessage());
+        }
+    }
+
+    /**
+     * 상품 하나를 DB에서 다시 읽어 색인에 반영합니다. (판매 중/품절이 아니면 색인에서 제거)
+     * @param productId 상품 ID
+     */
+    public void reindex(Long productId) {
+        Optional<Product> productOpt = productRepository.findByIdWithCategory(productId);
+        if (productOpt.isEmpty()) {
+            remove(productId);
+            return;
+        }
+        List<String> attributeValues = productAttributeValueRepository.findValuesByProductId(productId);
+
+        lock.writeLock().lock();
+        try {
+            data.delete(productId);
+            data.add(productOpt.get(), attributeValues);
+            if (data.needsCompaction()) {
+                data.compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품을 색인에서 제거합니다.
+     * @param productId 상품 ID
+     */
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            data.delete(productId);
+            if (data.needsCompaction()) {
+                data.compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 사용 가능 여부
+     * @return 초기 구성이 끝났으면 true
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 검색어와 필터 조건으로 상품을 조회하고 패싯 집계를 함께 반환합니다.
+     * @param query 검색 조건
+     * @return 상품 ID 목록(관련도 순), 전체 건수, 패싯 집계
+     */
+    public ProductSearchResult search(ProductSearchQuery query) {
+        lock.readLock().lock();
+        try {
+            return data.search(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인용 토큰 분리: 소문자 변환 후 한글은 2-gram, 영문/숫자는 단어 단위로 분리합니다.
+     * @param text 원문
+     * @return 중복 제거된 토큰 목록 (등장 순서 유지)
+     */
+    static List<String> tokenize(String text) {
+        LinkedHashSet<String> tokens = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return new ArrayList<>(tokens);
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder run = new StringBuilder();
+        boolean hangulRun = false;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            boolean hangul = Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+            if (!Character.isLetterOrDigit(c) || (run.length() > 0 && hangul != hangulRun)) {
+                flushRun(run, hangulRun, tokens);
+            }
+            if (Character.isLetterOrDigit(c)) {
+                run.append(c);
+                hangulRun = hangul;
+            }
+        }
+        flushRun(run, hangulRun, tokens);
+        return new ArrayList<>(tokens);
+    }
+
+    private static void flushRun(StringBuilder run, boolean hangul, Set<String> tokens) {
+        if (run.length() == 0) {
+            return;
+        }
+        if (hangul && run.length() > 1) {
+            for (int i = 0; i + 1 < run.length(); i++) {
+                tokens.add(run.substring(i, i + 2));
+            }
+        } else {
+            tokens.add(run.toString());
+        }
+        run.setLength(0);
+    }
+
+    // 한 글자를 지운 변형들 (편집거리 1 오타 허용용)
+    private static List<String> deletions(String term) {
+        List<String> result = new ArrayList<>(term.length());
+        for (int i = 0; i < term.length(); i++) {
+            result.add(term.substring(0, i) + term.substring(i + 1));
+        }
+        return result;
+    }
+
+    private static boolean isFuzzyCandidate(String term) {
+        return term.length() >= FUZZY_MIN_LENGTH
+                && Character.UnicodeScript.of(term.charAt(0)) != Character.UnicodeScript.HANGUL;
+    }
+
+    private static int priceBucketOf(long price) {
+        for (int i = 0; i < PRICE_BUCKET_BOUNDS.length; i++) {
+            if (price < PRICE_BUCKET_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return PRICE_BUCKET_BOUNDS.length;
+    }
+
+    private static boolean isTrue(Boolean value) {
+        return value != null && value;
+    }
+
+    /**
+     * docId 오름차순 포스팅 리스트 (docId는 단조 증가하므로 추가만으로 정렬이 유지됩니다)
+     */
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int docId) {
+            if (size > 0 && docs[size - 1] == docId) {
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = docId;
+        }
+    }
+
+    /**
+     * 색인 데이터 (docId = 배열 인덱스)
+     */
+    private static final class IndexData {
+        private long[] productIds = new long[256];
+        private int[] brandOrds = new int[256];
+        private int[] categoryOrds = new int[256];
+        private long[] prices = new long[256];
+        private int[] stocks = new int[256];
+        private byte[] flags = new byte[256];
+        private final BitSet deleted = new BitSet();
+        private int docCount;
+        private int liveCount;
+
+        private final Map<Long, Integer> docIdByProductId = new HashMap<>();
+        private final Map<String, Postings> postings = new HashMap<>();
+        private final Map<String, Postings> namePostings = new HashMap<>();
+        // 한 글자를 지운 변형 -> 원래 단어들
+        private final Map<String, Set<String>> deletionIndex = new HashMap<>();
+
+        private final List<String> brandNames = new ArrayList<>();
+        private final Map<String, Integer> brandOrdByName = new HashMap<>();
+        private final List<Long> categoryIds = new ArrayList<>();
+        private final Map<Long, Integer> categoryOrdById = new HashMap<>();
+
+        void add(Product product, List<String> attributeValues) {
+            if ((product.getStatus() != ProductStatus.ACTIVE && product.getStatus() != ProductStatus.SOLD_OUT)
+                    || !isTrue(product.getIsActive())) {
+                return;
+            }
+            ensureCapacity(docCount + 1);
+            int docId = docCount++;
+            liveCount++;
+
+            productIds[docId] = product.getId();
+            brandOrds[docId] = ordinalOf(product.getBrand(), brandNames, brandOrdByName);
+            categoryOrds[docId] = product.getCategory() != null
+                    ? ordinalOf(product.getCategory().getId(), categoryIds, categoryOrdById) : -1;
+            prices[docId] = product.getGmPrice() != null ? product.getGmPrice().longValue() : 0L;
+            stocks[docId] = product.getStockQuantity() != null ? product.getStockQuantity() : 0;
+            int flagBits = 0;
+            if (isTrue(product.getFeatured())) flagBits |= FLAG_FEATURED;
+            if (isTrue(product.getBestseller())) flagBits |= FLAG_BESTSELLER;
+            if (isTrue(product.getNewArrival())) flagBits |= FLAG_NEW_ARRIVAL;
+            if (isTrue(product.getSubscriptionAvailable())) flagBits |= FLAG_SUBSCRIPTION;
+            flags[docId] = (byte) flagBits;
+            docIdByProductId.put(product.getId(), docId);
+
+            for (String term : tokenize(product.getName())) {
+                namePostings.computeIfAbsent(term, key -> new Postings()).add(docId);
+                addTerm(term, docId);
+            }
+            List<String> fields = new ArrayList<>(attributeValues);
+            fields.add(product.getDescription());
+            fields.add(product.getBrand());
+            fields.add(product.getSku());
+            if (product.getCategory() != null) {
+                fields.add(product.getCategory().getName());
+            }
+            for (String field : fields) {
+                for (String term : tokenize(field)) {
+                    addTerm(term, docId);
+                }
+            }
+        }
+
+        private void addTerm(String term, int docId) {
+            Postings list = postings.get(term);
+            if (list == null) {
+                list = new Postings();
+                postings.put(term, list);
+                if (isFuzzyCandidate(term)) {
+                    for (String deletion : deletions(term)) {
+                        deletionIndex.computeIfAbsent(deletion, key -> new HashSet<>()).add(term);
+                    }
+                }
+            }
+            list.add(docId);
+        }
+
+        private static <T> int ordinalOf(T value, List<T> values, Map<T, Integer> ordinals) {
+            if (value == null) {
+                return -1;
+            }
+            return ordinals.computeIfAbsent(value, key -> {
+                values.add(key);
+                return values.size() - 1;
+            });
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= productIds.length) {
+                return;
+            }
+            int newLength = Math.max(capacity, productIds.length * 2);
+            productIds = Arrays.copyOf(productIds, newLength);
+            brandOrds = Arrays.copyOf(brandOrds, newLength);
+            categoryOrds = Arrays.copyOf(categoryOrds, newLength);
+            prices = Arrays.copyOf(prices, newLength);
+            stocks = Arrays.copyOf(stocks, newLength);
+            flags = Arrays.copyOf(flags, newLength);
+        }
+
+        void delete(Long productId) {
+            Integer docId = docIdByProductId.remove(productId);
+            if (docId != null && !deleted.get(docId)) {
+                deleted.set(docId);
+                liveCount--;
+            }
+        }
+
+        /**
+         * 색인된 상품의 재고만 바꿉니다. (색인에 없는 상품은 무시)
+         */
+        void updateStock(Long productId, int stock) {
+            Integer docId = docIdByProductId.get(productId);
+            if (docId != null) {
+                stocks[docId] = stock;
+            }
+        }
+
+        boolean needsCompaction() {
+            int deletedCount = docCount - liveCount;
+            return deletedCount > 1000 && deletedCount > docCount * COMPACTION_RATIO;
+        }
+
+        /**
+         * 삭제된 문서를 제거하고 docId를 다시 채번합니다. (상대 순서가 유지되므로 포스팅 정렬도 유지)
+         */
+        void compact() {
+            int[] remap = new int[docCount];
+            int next = 0;
+            for (int docId = 0; docId < docCount; docId++) {
+                if (deleted.get(docId)) {
+                    remap[docId] = -1;
+                    continue;
+                }
+                remap[docId] = next;
+                productIds[next] = productIds[docId];
+                brandOrds[next] = brandOrds[docId];
+                categoryOrds[next] = categoryOrds[docId];
+                prices[next] = prices[docId];
+                stocks[next] = stocks[docId];
+                flags[next] = flags[docId];
+                next++;
+            }
+            compactPostings(postings, remap);
+            compactPostings(namePostings, remap);
+            deletionIndex.values().forEach(terms -> terms.retainAll(postings.keySet()));
+            deletionIndex.values().removeIf(Set::isEmpty);
+
+            docIdByProductId.clear();
+            for (int docId = 0; docId < next; docId++) {
+                docIdByProductId.put(productIds[docId], docId);
+            }
+            deleted.clear();
+            docCount = next;
+            liveCount = next;
+        }
+
+        private static void compactPostings(Map<String, Postings> target, int[] remap) {
+            for (Iterator<Postings> it = target.values().iterator(); it.hasNext(); ) {
+                Postings list = it.next();
+                int size = 0;
+                for (int i = 0; i < list.size; i++) {
+                    int mapped = remap[list.docs[i]];
+                    if (mapped >= 0) {
+                        list.docs[size++] = mapped;
+                    }
+                }
+                if (size == 0) {
+                    it.remove();
+                } else {
+                    list.size = size;
+                }
+            }
+        }
+
+        ProductSearchResult search(ProductSearchQuery query) {
+            List<String> terms = tokenize(query.getKeyword());
+            Collector collector = new Collector(query);
+
+            if (terms.isEmpty()) {
+                collector.allocate(liveCount);
+                for (int docId = 0; docId < docCount; docId++) {
+                    collector.collect(docId, 0);
+                }
+            } else {
+                collectMatches(terms, collector);
+            }
+
+            int hitCount = collector.hitCount;
+            long[] hits = collector.hits;
+            Arrays.sort(hits, 0, hitCount);
+            int from = Math.max(query.getOffset(), 0);
+            int to = Math.min(from + Math.max(query.getLimit(), 0), hitCount);
+            List<Long> pageIds = new ArrayList<>(Math.max(to - from, 0));
+            // 점수 내림차순, 동점이면 최근 색인된 문서 우선
+            for (int i = from; i < to; i++) {
+                int docId = (int) hits[hitCount - 1 - i];
+                pageIds.add(productIds[docId]);
+            }
+
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            facets.put("brand", toFacet(collector.brandCounts, brandNames));
+            facets.put("category", toFacet(collector.categoryCounts, categoryIds));
+            facets.put("priceRange", toFacet(collector.priceCounts, Arrays.asList(PRICE_BUCKET_LABELS)));
+            facets.put("flags", toFacet(collector.flagCounts, Arrays.asList(FLAG_NAMES)));
+
+            return ProductSearchResult.builder()
+                    .productIds(pageIds)
+                    .totalHits(hitCount)
+                    .facets(facets)
+                    .build();
+        }
+
+        /**
+         * 검색어 단어별 포스팅 리스트를 짧은 순으로 정렬해 후보 문서만 검사합니다.
+         * 3개 이상의 단어(2-gram)로 이루어진 검색어는 하나가 틀려도 일치로 간주하므로,
+         * 일치 문서는 가장 짧은 (단어 수 - 최소 일치 수 + 1)개 리스트 중 하나에는 반드시 포함됩니다.
+         * 후보 문서마다 나머지 리스트는 커서를 앞으로만 옮기며(갤로핑) 포함 여부를 확인합니다.
+         */
+        private void collectMatches(List<String> terms, Collector collector) {
+            int termCount = terms.size();
+            int minimumMatch = termCount >= 3 ? termCount - 1 : termCount;
+            Postings[] lists = new Postings[termCount];
+            Postings[] names = new Postings[termCount];
+            Integer[] order = new Integer[termCount];
+            for (int t = 0; t < termCount; t++) {
+                lists[t] = postingsOf(terms.get(t));
+                names[t] = namePostings.get(terms.get(t));
+                order[t] = t;
+            }
+            Arrays.sort(order, Comparator.comparingInt(t -> lists[t].size));
+
+            int sources = termCount - minimumMatch + 1;
+            int bound = 0;
+            for (int s = 0; s < sources; s++) {
+                bound += lists[order[s]].size;
+            }
+            collector.allocate(Math.min(bound, liveCount));
+
+            int[] cursors = new int[termCount];
+            while (true) {
+                // 후보: 가장 짧은 리스트들의 다음 docId 중 최솟값
+                int docId = Integer.MAX_VALUE;
+                for (int s = 0; s < sources; s++) {
+                    Postings list = lists[order[s]];
+                    int cursor = cursors[order[s]];
+                    if (cursor < list.size && list.docs[cursor] < docId) {
+                        docId = list.docs[cursor];
+                    }
+                }
+                if (docId == Integer.MAX_VALUE) {
+                    break;
+                }
+                int matched = 0;
+                int score = 0;
+                for (int t = 0; t < termCount; t++) {
+                    Postings list = lists[t];
+                    int cursor = advance(list, cursors[t], docId);
+                    cursors[t] = cursor;
+                    if (cursor < list.size && list.docs[cursor] == docId) {
+                        matched++;
+                        score += 2;
+                        // 상품명에 포함된 단어는 가중치 추가
+                        if (names[t] != null && Arrays.binarySearch(names[t].docs, 0, names[t].size, docId) >= 0) {
+                            score++;
+                        }
+                    }
+                }
+                if (matched >= minimumMatch) {
+                    collector.collect(docId, score);
+                }
+                for (int s = 0; s < sources; s++) {
+                    int t = order[s];
+                    if (cursors[t] < lists[t].size && lists[t].docs[cursors[t]] == docId) {
+                        cursors[t]++;
+                    }
+                }
+            }
+        }
+
+        // from 이후에서 target 이상인 첫 위치 (간격을 두 배씩 늘려 범위를 찾은 뒤 이진 탐색)
+        private static int advance(Postings list, int from, int target) {
+            if (from >= list.size || list.docs[from] >= target) {
+                return from;
+            }
+            int step = 1;
+            int low = from;
+            int high = from + 1;
+            while (high < list.size && list.docs[high] < target) {
+                low = high;
+                step <<= 1;
+                high = from + step;
+            }
+            high = Math.min(high, list.size);
+            int index = Arrays.binarySearch(list.docs, low + 1, high, target);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        // 검색어 단어에 해당하는 포스팅 (정확히 일치하는 단어가 없으면 편집거리 1 이내 단어들의 합집합)
+        private Postings postingsOf(String term) {
+            List<Postings> expanded = expand(term);
+            if (expanded.size() == 1) {
+                return expanded.get(0);
+            }
+            Postings union = new Postings();
+            int[] cursors = new int[expanded.size()];
+            while (true) {
+                int docId = Integer.MAX_VALUE;
+                for (int i = 0; i < expanded.size(); i++) {
+                    Postings list = expanded.get(i);
+                    if (cursors[i] < list.size && list.docs[cursors[i]] < docId) {
+                        docId = list.docs[cursors[i]];
+                    }
+                }
+                if (docId == Integer.MAX_VALUE) {
+                    return union;
+                }
+                union.add(docId);
+                for (int i = 0; i < expanded.size(); i++) {
+                    Postings list = expanded.get(i);
+                    if (cursors[i] < list.size && list.docs[cursors[i]] == docId) {
+                        cursors[i]++;
+                    }
+                }
+            }
+        }
+
+        // 검색어 단어에 해당하는 포스팅 목록 (정확히 일치하는 단어가 없으면 편집거리 1 이내 단어로 확장)
+        private List<Postings> expand(String term) {
+            Postings exact = postings.get(term);
+            if (exact != null || !isFuzzyCandidate(term)) {
+                return exact != null ? List.of(exact) : List.of();
+            }
+            Set<String> candidates = new HashSet<>(deletionIndex.getOrDefault(term, Set.of())); // 글자 누락
+            for (String deletion : deletions(term)) {
+                if (postings.containsKey(deletion)) {
+                    candidates.add(deletion); // 글자 추가
+                }
+                candidates.addAll(deletionIndex.getOrDefault(deletion, Set.of())); // 글자 치환/전치
+            }
+            List<Postings> result = new ArrayList<>(candidates.size());
+            for (String candidate : candidates) {
+                Postings list = postings.get(candidate);
+                if (list != null) {
+                    result.add(list);
+                }
+            }
+            return result;
+        }
+
+        private static <T> Map<String, Integer> toFacet(int[] counts, List<T> labels) {
+            Map<String, Integer> facet = new LinkedHashMap<>();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    facet.put(String.valueOf(labels.get(i)), counts[i]);
+                }
+            }
+            return facet;
+        }
+
+        /**
+         * 필터를 통과한 문서의 패싯 집계와 (점수 << 32 | docId) 정렬 키 수집
+         */
+        private final class Collector {
+            private final int brandOrd;
+            private final int categoryOrd;
+            private final long minPrice;
+            private final long maxPrice;
+            private final int requiredFlags;
+            private final boolean inStockOnly;
+
+            private final int[] brandCounts = new int[brandNames.size()];
+            private final int[] categoryCounts = new int[categoryIds.size()];
+            private final int[] priceCounts = new int[PRICE_BUCKET_LABELS.length];
+            private final int[] flagCounts = new int[FLAG_NAMES.length];
+            private long[] hits;
+            private int hitCount;
+
+            Collector(ProductSearchQuery query) {
+                brandOrd = query.getBrand() != null
+                        ? brandOrdByName.getOrDefault(query.getBrand(), Integer.MIN_VALUE) : -2;
+                categoryOrd = query.getCategoryId() != null
+                        ? categoryOrdById.getOrDefault(query.getCategoryId(), Integer.MIN_VALUE) : -2;
+                minPrice = query.getMinPrice() != null ? query.getMinPrice().longValue() : Long.MIN_VALUE;
+                maxPrice = query.getMaxPrice() != null ? query.getMaxPrice().longValue() : Long.MAX_VALUE;
+                int flagBits = 0;
+                if (isTrue(query.getFeatured())) flagBits |= FLAG_FEATURED;
+                if (isTrue(query.getBestseller())) flagBits |= FLAG_BESTSELLER;
+                if (isTrue(query.getNewArrival())) flagBits |= FLAG_NEW_ARRIVAL;
+                if (isTrue(query.getSubscriptionAvailable())) flagBits |= FLAG_SUBSCRIPTION;
+                requiredFlags = flagBits;
+                inStockOnly = query.isInStockOnly();
+            }
+
+            // 최대 후보 수만큼 정렬 키 배열 확보
+            void allocate(int capacity) {
+                hits = new long[Math.max(capacity, 0)];
+            }
+
+            void collect(int docId, int score) {
+                if (deleted.get(docId)) return;
+                if (brandOrd != -2 && brandOrds[docId] != brandOrd) return;
+                if (categoryOrd != -2 && categoryOrds[docId] != categoryOrd) return;
+                if (prices[docId] < minPrice || prices[docId] > maxPrice) return;
+                if ((flags[docId] & requiredFlags) != requiredFlags) return;
+                if (inStockOnly && stocks[docId] <= 0) return;
+
+                if (brandOrds[docId] >= 0) brandCounts[brandOrds[docId]]++;
+                if (categoryOrds[docId] >= 0) categoryCounts[categoryOrds[docId]]++;
+                priceCounts[priceBucketOf(prices[docId])]++;
+                for (int bit = 0; bit < FLAG_NAMES.length; bit++) {
+                    if ((flags[docId] & (1 << bit)) != 0) flagCounts[bit]++;
+                }
+                hits[hitCount++] = ((long) score << 32) | docId;
+            }
+        }
+    }
+}
@@ -1,43 +1,113 @@
 package com.mylittleshop.backend.service;
 
+import com.mylittleshop.backend.dto.CursorPage;
+import com.mylittleshop.backend.event.ProductChangedEvent;
 import com.mylittleshop.backend.model.*;
 import com.mylittleshop.backend.repository.ProductCategoryRepository;
 import com.mylittleshop.backend.repository.ProductContentRepository;
 import com.mylittleshop.backend.repository.ProductImageRepository;
 import com.mylittleshop.backend.repository.ProductRepository;
+import com.mylittleshop.backend.util.CursorUtil;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 @Transactional(readOnly = true)
 public class ProductService {
     private final ProductRepository productRepository;
     private final ProductImageRepository productImageRepository;
     private final ProductContentRepository productContentRepository;
     private final ProductCategoryRepository productCategoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StockLedgerService stockLedgerService;
+    private final JdbcTemplate jdbcTemplate;
+    
+    // MySQL FULLTEXT(ngram) 인덱스(V4 마이그레이션) 검색 사용 여부 설정
+    @Value("${app.search.fulltext-enabled:true}")
+    private boolean fullTextSearchConfigured;
+    // 실제 전문 검색 사용 여부 (MATCH ... AGAINST 를 지원하지 않는 DB(H2 등)는 LIKE 검색으로 대체)
+    private boolean fullTextSearchEnabled;
+    
+    @PostConstruct
+    void detectFullTextSearch() {
+        if (!fullTextSearchConfigured) {
+            return;
+        }
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        fullTextSearchEnabled = "MySQL".equalsIgnoreCase(database);
+        if (!fullTextSearchEnabled) {
+            log.info("전문 검색을 지원하지 않는 DB 이므로 LIKE 검색을 사용합니다: database={}", database);
+        }
+    }
+    
+    // 전문 검색(FULLTEXT) 경로 사용 여부
+    boolean isFullTextSearchEnabled() {
+        return fullTextSearchEnabled;
+    }
     
     // 기본 CRUD 작업
     @Transactional
     public Product save(Product product) {
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.upserted(savedProduct.getId()));
+        return savedProduct;
     }
     
     public Optional<Product> findById(Long id) {
         return productRepository.findById(id);
     }
     
+    // 여러 상품 저장 (한 트랜잭션, 상품마다 변경 이벤트 발행)
+    @Transactional
+    public List<Product> saveAll(List<Product> products) {
+        List<Product> savedProducts = productRepository.saveAll(products);
+        savedProducts.forEach(product -> eventPublisher.publishEvent(ProductChangedEvent.upserted(product.getId())));
+        return savedProducts;
+    }
+    
     public List<Product> findAll() {
         return productRepository.findAll();
     }
     
+    // 상품이 하나라도 있는지 여부 (시작 시 초기 데이터 생성 여부 판단용)
+    public boolean hasAnyProduct() {
+        return productRepository.existsByIdIsNotNull();
+    }
+    
+    // ID 목록 순서를 유지한 상품 조회 (검색 색인 결과 조회용)
+    public List<Product> findAllByIdsInOrder(List<Long> ids) {
+        Map<Long, Product> productsById = productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return ids.stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+    
     public Page<Product> findAll(Pageable pageable) {
         return productRepository.findAll(pageable);
     }
@@ -45,6 +115,7 @@ public class ProductService {
     @Transactional
     public void deleteById(Long id) {
         productRepository.deleteById(id);
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(id));
     }
     
     // 고급 조회 기능
@@ -145,6 +216,7 @@ public class ProductService {
             productContentRepository.save(content);
         }
         
+        eventPublisher.publishEvent(ProductChangedEvent.upserted(savedProduct.getId()));
         return savedProduct;
     }
     
@@ -152,6 +224,9 @@ public class ProductService {
     public Product updateProduct(Long id, Product productDetails) {
         return productRepository.findById(id)
                 .map(existingProduct -> {
+                    Long previousCategoryId = existingProduct.getCategory() != null ? existingProduct.getCategory().getId() : null;
+                    Boolean previousActive = existingProduct.getIsActive();
+                    
                     // 기본 필드 업데이트
                     existingProduct.setName(productDetails.getName());
                     existingProduct.setDescription(productDetails.getDescription());
@@ -159,8 +234,6 @@ public class ProductService {
                     existingProduct.setGbmPrice(productDetails.getGbmPrice());
                     existingProduct.setShopPrice(productDetails.getShopPrice());
                     existingProduct.setCostPrice(productDetails.getCostPrice());
-                    existingProduct.setStockQuantity(productDetails.getStockQuantity());
-                    existingProduct.setStatus(productDetails.getStatus());
                     existingProduct.setIsActive(productDetails.getIsActive());
                     existingProduct.setSku(productDetails.getSku());
                     existingProduct.setBarcode(productDetails.getBarcode());
@@ -184,67 +257,69 @@ public class ProductService {
                         existingProduct.setCategory(productDetails.getCategory());
                     }
                     
-                    return productRepository.save(existingProduct);
+                    Product savedProduct = productRepository.save(existingProduct);
+                    
+                    // 재고는 재고 원장을 통해서만 변경
+                    if (productDetails.getStockQuantity() != null
+                            && !productDetails.getStockQuantity().equals(existingProduct.getStockQuantity())) {
+                        stockLedgerService.adjust(id, productDetails.getStockQuantity(), "상품 정보 수정");
+                    }
+                    // 판매 상태도 재고 원장에서 변경 (재고 조정 후 적용해 품절 판정에 새 수량 사용)
+                    if (productDetails.getStatus() != null && productDetails.getStatus() != existingProduct.getStatus()) {
+                        savedProduct.setStatus(stockLedgerService.changeStatus(id, productDetails.getStatus()));
+                    }
+                    
+                    Long categoryId = savedProduct.getCategory() != null ? savedProduct.getCategory().getId() : null;
+                    eventPublisher.publishEvent(ProductChangedEvent.updated(id,
+                            !Objects.equals(previousCategoryId, categoryId) || !Objects.equals(previousActive, savedProduct.getIsActive())));
+                    return savedProduct;
                 })
                 .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
     }
     
     @Transactional
     public void updateProductStatus(Long id, ProductStatus status) {
-        productRepository.findById(id)
-                .map(product -> {
-                    product.setStatus(status);
-                    return productRepository.save(product);
-                })
-                .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
+        // 품절/판매중 전환이 재고와 어긋나지 않도록 재고 원장에서 변경
+        stockLedgerService.changeStatus(id, status);
+        eventPublisher.publishEvent(ProductChangedEvent.updated(id, false));
     }
     
     @Transactional
     public void updateProductActiveStatus(Long id, Boolean isActive) {
-        productRepository.findById(id)
+        boolean changed = productRepository.findById(id)
                 .map(product -> {
+                    boolean activeChanged = !Objects.equals(product.getIsActive(), isActive);
                     product.setIsActive(isActive);
-                    return productRepository.save(product);
+                    productRepository.save(product);
+                    return activeChanged;
                 })
                 .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
+        eventPublisher.publishEvent(ProductChangedEvent.updated(id, changed));
     }
     
     @Transactional
     public void updateProductStock(Long id, Integer quantity) {
-        productRepository.findById(id)
-                .map(product -> {
-                    product.setStockQuantity(quantity);
-                    
-                    // 재고에 따라 상태 자동 업데이트
-                    if (quantity == 0) {
-                        product.setStatus(ProductStatus.SOLD_OUT);
-                    } else if (product.getStatus() == ProductStatus.SOLD_OUT) {
-                        product.setStatus(ProductStatus.ACTIVE);
-                    }
-                    
-                    return productRepository.save(product);
-                })
-                .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
+        // 재고 원장에서 수량 설정과 품절/판매중 상태 전환을 함께 처리
+        stockLedgerService.adjust(id, quantity, "재고 수량 변경");
+        eventPublisher.publishEvent(ProductChangedEvent.updated(id, false));
     }
     
     @Transactional
     public void increaseProductStock(Long id, Integer quantity) {
-        productRepository.findById(id)
-                .map(product -> {
-                    product.addStock(quantity);
-                    return productRepository.save(product);
-                })
-                .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
+        if (!productRepository.existsById(id)) {
+            throw new RuntimeException("Product not found with id: " + id);
+        }
+        stockLedgerService.receive(Map.of(id, quantity), "재고 입고");
+        eventPublisher.publishEvent(ProductChangedEvent.updated(id, false));
     }
     
     @Transactional
     public void decreaseProductStock(Long id, Integer quantity) {
-        productRepository.findById(id)
-                .map(product -> {
-                    product.removeStock(quantity);
-                    return productRepository.save(product);
-                })
-                .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
+        if (!productRepository.existsById(id)) {
+            throw new RuntimeException("Product not found with id: " + id);
+        }
+        stockLedgerService.issue(Map.of(id, quantity), "재고 출고");
+        eventPublisher.publishEvent(ProductChangedEvent.updated(id, false));
     }
     
     @Transactional
@@ -255,6 +330,7 @@ public class ProductService {
                     return productRepository.save(product);
                 })
                 .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
+        eventPublisher.publishEvent(ProductChangedEvent.updated(id, false));
     }
     
     @Transactional
@@ -268,6 +344,7 @@ public class ProductService {
                     return productRepository.save(product);
                 })
                 .orElseThrow(() -> new RuntimeException("Product not found with id: " + id));
+        eventPublisher.publishEvent(ProductChangedEvent.updated(id, false));
     }
     
     // 상품 이미지 관련 기능
@@ -293,11 +370,12 @@ public class ProductService {
                     return productImageRepository.save(image);
                 })
                 .orElseThrow(() -> new RuntimeException("Product not found with id: " + productId));
+        eventPublisher.publishEvent(ProductChangedEvent.updated(productId, false));
     }
     
     @Transactional
     public void updateProductImage(Long imageId, String url, Boolean isMain, Integer sortOrder) {
-        productImageRepository.findById(imageId)
+        ProductImage updatedImage = productImageRepository.findById(imageId)
                 .map(image -> {
                     image.setUrl(url);
                     
@@ -313,11 +391,16 @@ public class ProductService {
                     return productImageRepository.save(image);
                 })
                 .orElseThrow(() -> new RuntimeException("Product image not found with id: " + imageId));
+        eventPublisher.publishEvent(ProductChangedEvent.updated(updatedImage.getProduct().getId(), false));
     }
     
     @Transactional
     public void deleteProductImage(Long imageId) {
-        productImageRepository.deleteById(imageId);
+        productImageRepository.findById(imageId).ifPresent(image -> {
+            Long productId = image.getProduct().getId();
+            productImageRepository.delete(image);
+            eventPublisher.publishEvent(ProductChangedEvent.updated(productId, false));
+        });
     }
     
     @Transactional
@@ -330,6 +413,7 @@ public class ProductService {
                     return productImageRepository.save(image);
                 })
                 .orElseThrow(() -> new RuntimeException("Product image not found with id: " + imageId));
+        eventPublisher.publishEvent(ProductChangedEvent.updated(productId, false));
     }
     
     // 상품 콘텐츠 관련 기능
@@ -371,6 +455,109 @@ public class ProductService {
         return productRepository.findByNameContainingIgnoreCase(keyword, pageable);
     }
     
+    /**
+     * 상품 통합 검색 (이름/설명/브랜드/SKU 대상, DB 페이징, 관련도 순)
+     * MySQL 에서는 FULLTEXT(ngram) 인덱스로, 그 밖의 DB 에서는 LIKE 로 검색합니다.
+     * @param keyword 검색어
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param minPrice 최소 소비자가 (null이면 제한 없음)
+     * @param maxPrice 최대 소비자가 (null이면 제한 없음)
+     * @param inStockOnly 재고 있는 상품만 조회할지 여부
+     * @param pageable 페이지 정보 (정렬은 관련도 순으로 고정)
+     * @return 검색 결과 페이지
+     */
+    public Page<Product> searchProducts(String keyword, Long categoryId, BigDecimal minPrice, BigDecimal maxPrice,
+                                        boolean inStockOnly, Pageable pageable) {
+        String normalized = normalizeKeyword(keyword);
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        
+        if (fullTextSearchEnabled) {
+            return productRepository.searchByFullText(toBooleanModeQuery(normalized),
+                    categoryId, minPrice, maxPrice, inStockOnly, unsorted);
+        }
+        
+        String escaped = escapeLikePattern(normalized);
+        return productRepository.searchByKeyword(normalized, "%" + escaped + "%", escaped + "%",
+                categoryId, minPrice, maxPrice, inStockOnly, unsorted);
+    }
+    
+    /**
+     * 상품 통합 검색 (키셋 페이징)
+     * 오프셋 없이 직전 페이지 마지막 행의 정렬 키 이후만 조회하므로 깊은 페이지에서도 비용이 일정합니다.
+     * 전문 검색은 (FULLTEXT 점수, id), LIKE 검색은 (관련도, id) 가 정렬 키입니다.
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null 또는 빈 문자열)
+     * @param size 페이지 크기
+     * @return 검색 결과 커서 페이지
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public CursorPage<Product> searchProducts(String keyword, Long categoryId, BigDecimal minPrice, BigDecimal maxPrice,
+                                              boolean inStockOnly, String cursor, int size) {
+        String normalized = normalizeKeyword(keyword);
+        long[] keys = cursor != null && !cursor.isBlank() ? CursorUtil.decode(cursor, 2) : null;
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest limit = PageRequest.of(0, size + 1);
+        
+        if (fullTextSearchEnabled) {
+            double afterScore = keys != null ? Double.longBitsToDouble(keys[0]) : Double.MAX_VALUE;
+            long afterId = keys != null ? keys[1] : Long.MAX_VALUE;
+            List<Object[]> rows = productRepository.searchIdsByFullTextAfter(toBooleanModeQuery(normalized),
+                    categoryId, minPrice, maxPrice, inStockOnly, afterScore, afterId, limit);
+            boolean hasNext = rows.size() > size;
+            List<Object[]> pageRows = hasNext ? rows.subList(0, size) : rows;
+            List<Long> ids = new ArrayList<>(pageRows.size());
+            for (Object[] row : pageRows) {
+                ids.add(((Number) row[0]).longValue());
+            }
+            String nextCursor = null;
+            if (hasNext) {
+                Object[] last = pageRows.get(pageRows.size() - 1);
+                nextCursor = CursorUtil.encode(Double.doubleToLongBits(((Number) last[1]).doubleValue()),
+                        ((Number) last[0]).longValue());
+            }
+            return new CursorPage<>(findAllByIdsInOrder(ids), size, hasNext, nextCursor);
+        }
+        
+        String escaped = escapeLikePattern(normalized);
+        int afterRank = keys != null ? (int) keys[0] : -1;
+        long afterId = keys != null ? keys[1] : Long.MAX_VALUE;
+        List<Product> rows = productRepository.searchByKeywordAfter(normalized, "%" + escaped + "%", escaped + "%",
+                categoryId, minPrice, maxPrice, inStockOnly, afterRank, afterId, limit);
+        return CursorPage.of(rows, size, last -> CursorUtil.encode(searchRank(last, normalized), last.getId()));
+    }
+    
+    // ProductRepository.SEARCH_RANK 와 동일한 관련도 규칙
+    private static int searchRank(Product product, String keyword) {
+        String sku = lower(product.getSku());
+        String name = lower(product.getName());
+        if (sku != null && sku.equals(keyword)) return 0;
+        if (name != null && name.startsWith(keyword)) return 1;
+        if (name != null && name.contains(keyword)) return 2;
+        String brand = lower(product.getBrand());
+        if (brand != null && brand.contains(keyword)) return 3;
+        return 4;
+    }
+    
+    private static String lower(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+    
+    private static String normalizeKeyword(String keyword) {
+        return keyword == null ? "" : keyword.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    // LIKE 와일드카드 이스케이프 (ESCAPE '!')
+    private static String escapeLikePattern(String keyword) {
+        return keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+    
+    // BOOLEAN MODE 연산자를 제거하고 각 단어를 필수 구문으로 변환 (예: 유기농 사과 -> +"유기농" +"사과")
+    private static String toBooleanModeQuery(String keyword) {
+        return Arrays.stream(keyword.replaceAll("[+\\-<>()~*\"@]", " ").split("\\s+"))
+                .filter(token -> !token.isBlank())
+                .map(token -> "+\"" + token + "\"")
+                .collect(Collectors.joining(" "));
+    }
+    
     // 특별 상품 조회 (페이징)
     public Page<Product> findFeaturedProducts(Pageable pageable) {
         return productRepository.findByFeaturedTrueAndStatusAndIsActive(ProductStatus.ACTIVE, true, pageable);
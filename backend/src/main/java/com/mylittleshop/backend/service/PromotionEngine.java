@@ -0,0 +1,549 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.dto.PromotionLine;
+import com.mylittleshop.backend.dto.PromotionQuote;
+import com.mylittleshop.backend.event.CategoryChangedEvent;
+import com.mylittleshop.backend.event.PromotionChangedEvent;
+import com.mylittleshop.backend.model.Promotion;
+import com.mylittleshop.backend.repository.PromotionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로모션 적용 엔진 (인메모리 규칙 색인)
+ * - 현재 적용 중인 프로모션을 규칙 배열로 컴파일하고, 상품 ID/카테고리 ID/사용자 ID 별 규칙 번호 색인을 원시 타입 배열로 보관합니다.
+ *   카테고리 대상 프로모션은 카테고리 트리의 하위 카테고리까지 펼쳐서 색인합니다.
+ * - 프로모션/카테고리 변경 커밋 후, 그리고 가장 가까운 시작/종료 시각이 지나면 새 규칙 집합을 구성해 참조만 교체합니다.
+ * - 조회/계산은 DB 접근 없이 색인만 사용하므로 장바구니/가격 화면에서 매번 호출해도 됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PromotionEngine {
+
+    public static final String DISCOUNT_PERCENT = "PERCENT";
+    public static final String DISCOUNT_FIXED = "FIXED";
+    public static final String DISCOUNT_FREE_SHIPPING = "FREE_SHIPPING";
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+    private static final long[] NO_IDS = new long[0];
+    private static final int[] NO_RULES = new int[0];
+
+    private final PromotionRepository promotionRepository;
+    private final CategoryTreeService categoryTreeService;
+
+    private volatile RuleSet rules;
+    // 변경 세대: 구성 도중 변경이 커밋되면 다음 조회 때 다시 구성
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 상품에 적용 가능한 프로모션 ID 조회 (대상 지정 없는 주문 단위 프로모션 포함, ID 순)
+     * @param productId 상품 ID
+     * @param categoryId 상품의 카테고리 ID (없으면 null)
+     * @return 프로모션 ID 목록
+     */
+    public List<Long> findIdsForProduct(Long productId, Long categoryId) {
+        RuleSet set = current();
+        BitSet matched = new BitSet(set.rules.length);
+        setAll(matched, set.orderLevel);
+        setAll(matched, set.byProduct.get(productId));
+        setAll(matched, set.byCategory.get(categoryId));
+        return set.idsOf(matched);
+    }
+
+    /**
+     * 사용자가 사용할 수 있는 프로모션 ID 조회 (사용자 제한 없는 프로모션 포함, ID 순)
+     * @param userId 사용자 ID
+     * @return 프로모션 ID 목록
+     */
+    public List<Long> findIdsForUser(Long userId) {
+        RuleSet set = current();
+        BitSet matched = new BitSet(set.rules.length);
+        setAll(matched, set.unrestricted);
+        setAll(matched, set.byUser.get(userId));
+        return set.idsOf(matched);
+    }
+
+    /**
+     * 장바구니/주문에 적용 가능한 프로모션 ID 조회 (ID 순)
+     * 사용자 제한, 최소 주문 금액, 대상 상품/카테고리 포함 여부를 모두 만족하는 프로모션입니다.
+     * @param userId 사용자 ID
+     * @param lines 장바구니/주문 항목
+     * @return 프로모션 ID 목록
+     */
+    public List<Long> findApplicableIds(Long userId, List<PromotionLine> lines) {
+        RuleSet set = current();
+        BigDecimal subtotal = subtotalOf(lines);
+        BitSet matched = new BitSet(set.rules.length);
+        setAll(matched, set.orderLevel);
+        for (PromotionLine line : lines) {
+            setAll(matched, set.byProduct.get(line.getProductId()));
+            setAll(matched, set.byCategory.get(line.getCategoryId()));
+        }
+        for (int r = matched.nextSetBit(0); r >= 0; r = matched.nextSetBit(r + 1)) {
+            if (!set.rules[r].isEligible(userId, subtotal)) {
+                matched.clear(r);
+            }
+        }
+        return set.idsOf(matched);
+    }
+
+    /**
+     * 프로모션 하나가 장바구니/주문에 적용 가능한지 해당 규칙만 평가합니다.
+     * 사용자 제한, 최소 주문 금액, 대상 상품/카테고리 포함 여부를 확인합니다.
+     * @param promotionId 프로모션 ID
+     * @param userId 사용자 ID
+     * @param lines 장바구니/주문 항목
+     * @return 적용 가능 여부 (현재 규칙 집합에 없는 프로모션이면 null)
+     */
+    public Boolean isApplicable(Long promotionId, Long userId, List<PromotionLine> lines) {
+        RuleSet set = current();
+        int r = set.indexOf(promotionId);
+        if (r < 0) {
+            return null;
+        }
+        if (!set.rules[r].isEligible(userId, subtotalOf(lines))) {
+            return false;
+        }
+        // 규칙 번호 배열은 모두 오름차순으로 구성됨
+        if (Arrays.binarySearch(set.orderLevel, r) >= 0) {
+            return true;
+        }
+        for (PromotionLine line : lines) {
+            if (Arrays.binarySearch(set.byProduct.get(line.getProductId()), r) >= 0
+                    || Arrays.binarySearch(set.byCategory.get(line.getCategoryId()), r) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 장바구니/주문 전체에 대해 가장 유리한 프로모션 조합을 계산합니다.
+     * - 상품 단위 프로모션: 할인액이 큰 순서로 적용하며, 이미 할인된 항목에는 다시 적용하지 않습니다.
+     * - 주문 단위 프로모션: 상품 할인 후 금액 기준으로 할인액이 가장 큰 하나만 적용합니다.
+     * - 무료 배송 프로모션: 조건을 만족하면 freeShipping 으로 표시합니다. (배송비는 주문 시점에 결정)
+     * @param userId 사용자 ID
+     * @param lines 장바구니/주문 항목
+     * @return 프로모션 적용 결과
+     */
+    public PromotionQuote quote(Long userId, List<PromotionLine> lines) {
+        RuleSet set = current();
+        BigDecimal subtotal = subtotalOf(lines);
+        List<PromotionQuote.Applied> applied = new ArrayList<>();
+        boolean freeShipping = false;
+
+        // 상품 단위 후보: 규칙 번호 -> 대상 항목 번호
+        Map<Integer, BitSet> targets = new TreeMap<>();
+        for (int i = 0; i < lines.size(); i++) {
+            PromotionLine line = lines.get(i);
+            for (int[] matched : new int[][]{set.byProduct.get(line.getProductId()), set.byCategory.get(line.getCategoryId())}) {
+                for (int r : matched) {
+                    if (set.rules[r].isEligible(userId, subtotal)) {
+                        targets.computeIfAbsent(r, key -> new BitSet(lines.size())).set(i);
+                    }
+                }
+            }
+        }
+        for (Iterator<Map.Entry<Integer, BitSet>> it = targets.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Integer, BitSet> entry = it.next();
+            Rule rule = set.rules[entry.getKey()];
+            if (rule.isFreeShipping()) {
+                freeShipping = true;
+                applied.add(rule.applied(BigDecimal.ZERO, productIdsOf(lines, entry.getValue())));
+                it.remove();
+            }
+        }
+
+        BigDecimal productDiscount = BigDecimal.ZERO;
+        BitSet claimed = new BitSet(lines.size());
+        while (!targets.isEmpty()) {
+            int best = -1;
+            BitSet bestLines = null;
+            BigDecimal bestAmount = BigDecimal.ZERO;
+            for (Map.Entry<Integer, BitSet> entry : targets.entrySet()) {
+                BitSet open = (BitSet) entry.getValue().clone();
+                open.andNot(claimed);
+                BigDecimal amount = set.rules[entry.getKey()].discountOn(amountOf(lines, open));
+                if (amount.compareTo(bestAmount) > 0) {
+                    best = entry.getKey();
+                    bestLines = open;
+                    bestAmount = amount;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            applied.add(set.rules[best].applied(bestAmount, productIdsOf(lines, bestLines)));
+            productDiscount = productDiscount.add(bestAmount);
+            claimed.or(bestLines);
+            targets.remove(best);
+        }
+
+        // 주문 단위: 상품 할인 후 금액 기준 최대 할인 하나
+        BigDecimal remaining = subtotal.subtract(productDiscount);
+        Rule bestOrderRule = null;
+        BigDecimal orderDiscount = BigDecimal.ZERO;
+        for (int r : set.orderLevel) {
+            Rule rule = set.rules[r];
+            if (!rule.isEligible(userId, subtotal)) {
+                continue;
+            }
+            if (rule.isFreeShipping()) {
+                freeShipping = true;
+                applied.add(rule.applied(BigDecimal.ZERO, List.of()));
+                continue;
+            }
+            BigDecimal amount = rule.discountOn(remaining);
+            if (amount.compareTo(orderDiscount) > 0) {
+                bestOrderRule = rule;
+                orderDiscount = amount;
+            }
+        }
+        if (bestOrderRule != null) {
+            applied.add(bestOrderRule.applied(orderDiscount, List.of()));
+        }
+
+        BigDecimal discount = productDiscount.add(orderDiscount);
+        return PromotionQuote.builder()
+                .subtotal(subtotal)
+                .discountAmount(discount)
+                .finalAmount(subtotal.subtract(discount))
+                .freeShipping(freeShipping)
+                .promotions(applied)
+                .build();
+    }
+
+    /**
+     * 프로모션 변경 커밋 후 규칙을 다시 구성합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPromotionChanged(PromotionChangedEvent event) {
+        rebuild("promotionId=" + event.getPromotionId());
+    }
+
+    /**
+     * 카테고리 변경 커밋 후 규칙을 다시 구성합니다. (카테고리 대상 프로모션의 하위 카테고리 범위가 바뀜)
+     * 카테고리 트리가 먼저 재구성되도록 CategoryTreeService 리스너보다 뒤에 실행됩니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        rebuild("categoryId=" + event.getCategoryId());
+    }
+
+    /**
+     * 가장 가까운 프로모션 시작/종료 시각이 지나면 규칙을 다시 구성합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.promotion.boundary-check-ms:1000}")
+    public void refreshAtBoundary() {
+        RuleSet current = rules;
+        if (current != null && current.nextChangeAt != null && !LocalDateTime.now().isBefore(current.nextChangeAt)) {
+            rebuild("시작/종료 시각 " + current.nextChangeAt);
+        }
+    }
+
+    private void rebuild(String reason) {
+        version.incrementAndGet();
+        try {
+            current();
+        } catch (Exception e) {
+            // 다음 조회 때 다시 시도
+            log.warn("프로모션 규칙 재구성 실패: {}, error={}", reason, e.getMessage());
+        }
+    }
+
+    private RuleSet current() {
+        RuleSet current = rules;
+        if (current != null && current.version == version.get()) {
+            return current;
+        }
+        return refresh();
+    }
+
+    private synchronized RuleSet refresh() {
+        RuleSet current = rules;
+        long loadingVersion = version.get();
+        if (current != null && current.version == loadingVersion) {
+            return current;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime nextChangeAt = null;
+        List<Promotion> live = new ArrayList<>();
+        for (Promotion promotion : promotionRepository.findActiveOrUpcoming(now)) {
+            if (promotion.getStartDate() != null && promotion.getStartDate().isAfter(now)) {
+                nextChangeAt = earlier(nextChangeAt, promotion.getStartDate());
+                continue;
+            }
+            if (promotion.getMaxUsageCount() != null && promotion.getCurrentUsageCount() != null
+                    && promotion.getCurrentUsageCount() >= promotion.getMaxUsageCount()) {
+                continue;
+            }
+            live.add(promotion);
+            if (promotion.getEndDate() != null) {
+                nextChangeAt = earlier(nextChangeAt, promotion.getEndDate());
+            }
+        }
+        live.sort(Comparator.comparing(Promotion::getId));
+
+        List<Long> ids = live.stream().map(Promotion::getId).toList();
+        Map<Long, long[]> productTargets = ids.isEmpty() ? Map.of() : targetIds(promotionRepository.findProductIdRows(ids));
+        Map<Long, long[]> categoryTargets = ids.isEmpty() ? Map.of() : targetIds(promotionRepository.findCategoryIdRows(ids));
+        Map<Long, long[]> userTargets = ids.isEmpty() ? Map.of() : targetIds(promotionRepository.findUserIdRows(ids));
+
+        Rule[] compiled = new Rule[live.size()];
+        Map<Long, List<Integer>> byProduct = new HashMap<>();
+        Map<Long, List<Integer>> byCategory = new HashMap<>();
+        Map<Long, List<Integer>> byUser = new HashMap<>();
+        List<Integer> orderLevel = new ArrayList<>();
+        List<Integer> unrestricted = new ArrayList<>();
+        for (int r = 0; r < compiled.length; r++) {
+            Promotion promotion = live.get(r);
+            long[] products = productTargets.getOrDefault(promotion.getId(), NO_IDS);
+            long[] categories = categoryTargets.getOrDefault(promotion.getId(), NO_IDS);
+            long[] users = userTargets.getOrDefault(promotion.getId(), NO_IDS);
+            compiled[r] = new Rule(promotion, users.length > 0 ? users : null);
+
+            if (products.length == 0 && categories.length == 0) {
+                orderLevel.add(r);
+            }
+            for (long productId : products) {
+                byProduct.computeIfAbsent(productId, key -> new ArrayList<>()).add(r);
+            }
+            Set<Long> expanded = new LinkedHashSet<>();
+            for (long categoryId : categories) {
+                List<Long> descendants = categoryTreeService.getDescendantIds(categoryId);
+                expanded.addAll(descendants.isEmpty() ? List.of(categoryId) : descendants);
+            }
+            for (Long categoryId : expanded) {
+                byCategory.computeIfAbsent(categoryId, key -> new ArrayList<>()).add(r);
+            }
+            if (users.length == 0) {
+                unrestricted.add(r);
+            }
+            for (long userId : users) {
+                byUser.computeIfAbsent(userId, key -> new ArrayList<>()).add(r);
+            }
+        }
+
+        RuleSet fresh = new RuleSet(loadingVersion, nextChangeAt, compiled, new LongIndex(byProduct),
+                new LongIndex(byCategory), new LongIndex(byUser), toArray(orderLevel), toArray(unrestricted));
+        rules = fresh;
+        log.info("프로모션 규칙 구성 완료: 적용 중={}, 다음 변경 시각={}", compiled.length, nextChangeAt);
+        return fresh;
+    }
+
+    // [프로모션 ID, 대상 ID 문자열] 행 -> 프로모션 ID 별 정렬된 대상 ID 배열
+    private static Map<Long, long[]> targetIds(List<Object[]> rows) {
+        Map<Long, Set<Long>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            String value = (String) row[1];
+            if (value == null || value.isBlank()) {
+                continue;
+            }
+            try {
+                grouped.computeIfAbsent((Long) row[0], key -> new TreeSet<>()).add(Long.parseLong(value.trim()));
+            } catch (NumberFormatException e) {
+                log.warn("프로모션 대상 ID 형식 오류로 제외합니다: promotionId={}, value={}", row[0], value);
+            }
+        }
+        Map<Long, long[]> result = new HashMap<>();
+        grouped.forEach((promotionId, ids) -> result.put(promotionId, ids.stream().mapToLong(Long::longValue).toArray()));
+        return result;
+    }
+
+    private static LocalDateTime earlier(LocalDateTime current, LocalDateTime candidate) {
+        return current == null || candidate.isBefore(current) ? candidate : current;
+    }
+
+    private static void setAll(BitSet bits, int[] ruleNumbers) {
+        for (int r : ruleNumbers) {
+            bits.set(r);
+        }
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static BigDecimal subtotalOf(List<PromotionLine> lines) {
+        BigDecimal subtotal = BigDecimal.ZERO;
+        for (PromotionLine line : lines) {
+            if (line.getAmount() != null) {
+                subtotal = subtotal.add(line.getAmount());
+            }
+        }
+        return subtotal;
+    }
+
+    private static BigDecimal amountOf(List<PromotionLine> lines, BitSet selected) {
+        BigDecimal amount = BigDecimal.ZERO;
+        for (int i = selected.nextSetBit(0); i >= 0; i = selected.nextSetBit(i + 1)) {
+            if (lines.get(i).getAmount() != null) {
+                amount = amount.add(lines.get(i).getAmount());
+            }
+        }
+        return amount;
+    }
+
+    private static List<Long> productIdsOf(List<PromotionLine> lines, BitSet selected) {
+        List<Long> productIds = new ArrayList<>(selected.cardinality());
+        for (int i = selected.nextSetBit(0); i >= 0; i = selected.nextSetBit(i + 1)) {
+            productIds.add(lines.get(i).getProductId());
+        }
+        return productIds;
+    }
+
+    /**
+     * 컴파일된 프로모션 규칙 집합 (규칙 번호 = 배열 인덱스, 프로모션 ID 순)
+     */
+    private static final class RuleSet {
+        private final long version;
+        // 가장 가까운 시작/종료 시각 (이 시각이 지나면 다시 구성)
+        private final LocalDateTime nextChangeAt;
+        private final Rule[] rules;
+        private final LongIndex byProduct;
+        private final LongIndex byCategory;
+        private final LongIndex byUser;
+        // 대상 상품/카테고리 지정이 없는 규칙
+        private final int[] orderLevel;
+        // 사용자 제한이 없는 규칙
+        private final int[] unrestricted;
+
+        private RuleSet(long version, LocalDateTime nextChangeAt, Rule[] rules, LongIndex byProduct,
+                        LongIndex byCategory, LongIndex byUser, int[] orderLevel, int[] unrestricted) {
+            this.version = version;
+            this.nextChangeAt = nextChangeAt;
+            this.rules = rules;
+            this.byProduct = byProduct;
+            this.byCategory = byCategory;
+            this.byUser = byUser;
+            this.orderLevel = orderLevel;
+            this.unrestricted = unrestricted;
+        }
+
+        // 프로모션 ID -> 규칙 번호 (규칙은 ID 순 정렬, 없으면 -1)
+        int indexOf(Long promotionId) {
+            if (promotionId == null) {
+                return -1;
+            }
+            int low = 0;
+            int high = rules.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = rules[mid].id.compareTo(promotionId);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+
+        List<Long> idsOf(BitSet matched) {
+            List<Long> ids = new ArrayList<>(matched.cardinality());
+            for (int r = matched.nextSetBit(0); r >= 0; r = matched.nextSetBit(r + 1)) {
+                ids.add(rules[r].id);
+            }
+            return ids;
+        }
+    }
+
+    /**
+     * 프로모션 1건의 적용 조건과 할인 계산
+     */
+    private static final class Rule {
+        private final Long id;
+        private final String name;
+        private final String code;
+        private final String discountType;
+        private final BigDecimal discountValue;
+        private final BigDecimal minimumOrderAmount;
+        // 사용 가능한 사용자 ID (정렬됨, null 이면 제한 없음)
+        private final long[] userIds;
+
+        private Rule(Promotion promotion, long[] userIds) {
+            this.id = promotion.getId();
+            this.name = promotion.getName();
+            this.code = promotion.getCode();
+            this.discountType = promotion.getDiscountType();
+            this.discountValue = promotion.getDiscountValue() != null ? promotion.getDiscountValue() : BigDecimal.ZERO;
+            this.minimumOrderAmount = promotion.getMinimumOrderAmount();
+            this.userIds = userIds;
+        }
+
+        boolean isEligible(Long userId, BigDecimal subtotal) {
+            if (minimumOrderAmount != null && subtotal.compareTo(minimumOrderAmount) < 0) {
+                return false;
+            }
+            return userIds == null || (userId != null && Arrays.binarySearch(userIds, userId) >= 0);
+        }
+
+        boolean isFreeShipping() {
+            return DISCOUNT_FREE_SHIPPING.equals(discountType);
+        }
+
+        BigDecimal discountOn(BigDecimal amount) {
+            if (amount.signum() <= 0) {
+                return BigDecimal.ZERO;
+            }
+            BigDecimal discount;
+            if (DISCOUNT_PERCENT.equals(discountType)) {
+                discount = amount.multiply(discountValue).divide(HUNDRED, 2, RoundingMode.DOWN);
+            } else if (DISCOUNT_FIXED.equals(discountType)) {
+                discount = discountValue;
+            } else {
+                return BigDecimal.ZERO;
+            }
+            return discount.min(amount);
+        }
+
+        PromotionQuote.Applied applied(BigDecimal amount, List<Long> productIds) {
+            return PromotionQuote.Applied.builder()
+                    .promotionId(id)
+                    .name(name)
+                    .code(code)
+                    .discountType(discountType)
+                    .discountAmount(amount)
+                    .productIds(productIds)
+                    .build();
+        }
+    }
+
+    /**
+     * long 키 -> 규칙 번호 배열 색인 (정렬된 키 배열 이진 탐색, 박싱 없음)
+     */
+    private static final class LongIndex {
+        private final long[] keys;
+        private final int[][] values;
+
+        LongIndex(Map<Long, List<Integer>> entries) {
+            keys = entries.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            values = new int[keys.length][];
+            for (int i = 0; i < keys.length; i++) {
+                values[i] = toArray(entries.get(keys[i]));
+            }
+        }
+
+        int[] get(Long key) {
+            if (key == null) {
+                return NO_RULES;
+            }
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? values[index] : NO_RULES;
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.mylittleshop.backend.service;
 
+import com.mylittleshop.backend.dto.PromotionLine;
+import com.mylittleshop.backend.event.PromotionChangedEvent;
 import com.mylittleshop.backend.model.Order;
 import com.mylittleshop.backend.model.Product;
 import com.mylittleshop.backend.model.Promotion;
 import com.mylittleshop.backend.model.User;
 import com.mylittleshop.backend.repository.PromotionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -13,14 +16,21 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * 프로모션 서비스
+ * - 적용 가능 여부 판단은 PromotionEngine 의 인메모리 규칙 색인으로 처리하고, 엔티티는 ID 목록으로 한 번에 조회합니다.
+ * - 쓰기 작업 후 PromotionChangedEvent 를 발행해 커밋 이후 규칙을 다시 구성합니다.
+ */
 @Service
 @RequiredArgsConstructor
 public class PromotionService {
     private final PromotionRepository promotionRepository;
+    private final PromotionEngine promotionEngine;
+    private final CategoryTreeService categoryTreeService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 프로모션 저장
@@ -30,7 +40,7 @@ public class PromotionService {
      */
     @Transactional
     public Promotion save(Promotion promotion) { 
-        return promotionRepository.save(promotion); 
+        return saveAndPublish(promotion); 
     }
     
     /**
@@ -62,6 +72,7 @@ public class PromotionService {
     @Transactional
     public void deleteById(Long id) { 
         promotionRepository.deleteById(id); 
+        eventPublisher.publishEvent(new PromotionChangedEvent(id));
     }
     
     /**
@@ -163,15 +174,7 @@ public class PromotionService {
      */
     @Transactional(readOnly = true)
     public List<Promotion> findByUserId(Long userId) {
-        LocalDateTime now = LocalDateTime.now();
-        
-        // 현재 활성화된 모든 프로모션 조회
-        List<Promotion> activePromotions = promotionRepository.findByStartDateBeforeAndEndDateAfterAndActive(now, now, true);
-        
-        // 사용자에게 적용 가능한 프로모션만 필터링
-        return activePromotions.stream()
-                .filter(promotion -> isPromotionApplicableToUser(promotion, userId))
-                .collect(Collectors.toList());
+        return findAllInOrder(promotionEngine.findIdsForUser(userId));
     }
     
     /**
@@ -182,12 +185,8 @@ public class PromotionService {
      */
     @Transactional(readOnly = true)
     public List<Promotion> findActiveByProduct(Product product) {
-        LocalDateTime now = LocalDateTime.now();
-        List<Promotion> activePromotions = promotionRepository.findByStartDateBeforeAndEndDateAfterAndActive(now, now, true);
-        
-        return activePromotions.stream()
-                .filter(promotion -> isPromotionApplicableToProduct(promotion, product))
-                .collect(Collectors.toList());
+        Long categoryId = product.getCategory() != null ? product.getCategory().getId() : null;
+        return findAllInOrder(promotionEngine.findIdsForProduct(product.getId(), categoryId));
     }
     
     /**
@@ -198,12 +197,7 @@ public class PromotionService {
      */
     @Transactional(readOnly = true)
     public List<Promotion> findActiveByOrder(Order order) {
-        LocalDateTime now = LocalDateTime.now();
-        List<Promotion> activePromotions = promotionRepository.findByStartDateBeforeAndEndDateAfterAndActive(now, now, true);
-        
-        return activePromotions.stream()
-                .filter(promotion -> isPromotionApplicableToOrder(promotion, order))
-                .collect(Collectors.toList());
+        return findAllInOrder(promotionEngine.findApplicableIds(order.getUser().getId(), linesOf(order)));
     }
     
     /**
@@ -218,7 +212,7 @@ public class PromotionService {
         return promotionRepository.findById(id)
                 .map(promotion -> {
                     promotion.setActive(active);
-                    return promotionRepository.save(promotion);
+                    return saveAndPublish(promotion);
                 });
     }
     
@@ -239,7 +233,7 @@ public class PromotionService {
                 .map(promotion -> {
                     promotion.setStartDate(startDate);
                     promotion.setEndDate(endDate);
-                    return promotionRepository.save(promotion);
+                    return saveAndPublish(promotion);
                 });
     }
     
@@ -257,7 +251,7 @@ public class PromotionService {
                 .map(promotion -> {
                     promotion.setDiscountType(discountType);
                     promotion.setDiscountValue(discountValue);
-                    return promotionRepository.save(promotion);
+                    return saveAndPublish(promotion);
                 });
     }
     
@@ -273,7 +267,7 @@ public class PromotionService {
         return promotionRepository.findById(id)
                 .map(promotion -> {
                     promotion.setMinimumOrderAmount(minimumOrderAmount);
-                    return promotionRepository.save(promotion);
+                    return saveAndPublish(promotion);
                 });
     }
     
@@ -289,7 +283,7 @@ public class PromotionService {
         return promotionRepository.findById(id)
                 .map(promotion -> {
                     promotion.setMaxUsageCount(maxUsageCount);
-                    return promotionRepository.save(promotion);
+                    return saveAndPublish(promotion);
                 });
     }
     
@@ -353,69 +347,137 @@ public class PromotionService {
         promotion.setMaxUsageCount(maxUsageCount);
         promotion.setCurrentUsageCount(0);
         promotion.setActive(true);
-        return promotionRepository.save(promotion);
+        return saveAndPublish(promotion);
     }
     
     /**
-     * 프로모션이 사용자에게 적용 가능한지 확인
+     * 주문 항목을 프로모션 계산 입력으로 변환
      * 
-     * @param promotion 프로모션
-     * @param userId 사용자 ID
-     * @return 적용 가능 여부
+     * @param order 주문
+     * @return 프로모션 계산 항목 목록
      */
-    private boolean isPromotionApplicableToUser(Promotion promotion, Long userId) {
-        if (promotion.getUserIds() == null || promotion.getUserIds().isEmpty()) {
-            return true;
+    private List<PromotionLine> linesOf(Order order) {
+        List<PromotionLine> lines = new ArrayList<>(order.getItems().size());
+        for (var item : order.getItems()) {
+            Product product = item.getProduct();
+            lines.add(PromotionLine.builder()
+                    .productId(product.getId())
+                    .categoryId(product.getCategory() != null ? product.getCategory().getId() : null)
+                    .amount(item.getTotalPrice())
+                    .build());
         }
-        return promotion.getUserIds().contains(userId.toString());
+        return lines;
     }
     
     /**
-     * 프로모션이 상품에 적용 가능한지 확인
+     * 프로모션이 주문에 적용 가능한지 확인
+     * 규칙 색인에서 해당 프로모션 규칙만 평가하고, 색인에 없는 프로모션(비활성/기간 외/사용 한도 소진,
+     * 또는 아직 규칙에 반영되기 전인 변경)은 엔티티 값으로 판단합니다.
      * 
      * @param promotion 프로모션
-     * @param product 상품
+     * @param userId 사용자 ID
+     * @param lines 주문 항목
      * @return 적용 가능 여부
      */
-    private boolean isPromotionApplicableToProduct(Promotion promotion, Product product) {
-        if ((promotion.getProductIds() == null || promotion.getProductIds().isEmpty()) &&
-            (promotion.getCategoryIds() == null || promotion.getCategoryIds().isEmpty())) {
+    private boolean isPromotionApplicableToOrder(Promotion promotion, Long userId, List<PromotionLine> lines) {
+        Boolean applicable = promotionEngine.isApplicable(promotion.getId(), userId, lines);
+        if (applicable != null) {
+            return applicable;
+        }
+        if (!promotion.isActiveNow()) {
+            return false;
+        }
+        if (promotion.getMaxUsageCount() != null && promotion.getCurrentUsageCount() != null
+                && promotion.getCurrentUsageCount() >= promotion.getMaxUsageCount()) {
+            return false;
+        }
+        if (promotion.getMinimumOrderAmount() != null && subtotalOf(lines).compareTo(promotion.getMinimumOrderAmount()) < 0) {
+            return false;
+        }
+        if (promotion.getUserIds() != null && !promotion.getUserIds().isEmpty()
+                && (userId == null || !targetIdsOf(promotion.getUserIds()).contains(userId))) {
+            return false;
+        }
+        Set<Long> productIds = targetIdsOf(promotion.getProductIds());
+        Set<Long> categoryIds = new HashSet<>();
+        for (Long categoryId : targetIdsOf(promotion.getCategoryIds())) {
+            List<Long> descendants = categoryTreeService.getDescendantIds(categoryId);
+            categoryIds.addAll(descendants.isEmpty() ? List.of(categoryId) : descendants);
+        }
+        if (productIds.isEmpty() && categoryIds.isEmpty()) {
             return true;
         }
-        if (promotion.getProductIds() != null && !promotion.getProductIds().isEmpty()) {
-            if (promotion.getProductIds().contains(product.getId().toString())) {
-                return true;
+        return lines.stream().anyMatch(line -> productIds.contains(line.getProductId())
+                || (line.getCategoryId() != null && categoryIds.contains(line.getCategoryId())));
+    }
+    
+    /**
+     * 주문 항목 금액 합계
+     * 
+     * @param lines 주문 항목
+     * @return 합계
+     */
+    private static BigDecimal subtotalOf(List<PromotionLine> lines) {
+        BigDecimal subtotal = BigDecimal.ZERO;
+        for (PromotionLine line : lines) {
+            if (line.getAmount() != null) {
+                subtotal = subtotal.add(line.getAmount());
             }
         }
-        if (promotion.getCategoryIds() != null && !promotion.getCategoryIds().isEmpty() &&
-            product.getCategory() != null) {
-            return promotion.getCategoryIds().contains(product.getCategory().getId().toString());
-        }
-        return false;
+        return subtotal;
     }
     
     /**
-     * 프로모션이 주문에 적용 가능한지 확인
+     * 엔티티의 대상 ID 문자열 목록을 ID 집합으로 변환 (형식이 틀린 값은 제외)
      * 
-     * @param promotion 프로모션
-     * @param order 주문
-     * @return 적용 가능 여부
+     * @param values 대상 ID 문자열 목록
+     * @return 대상 ID 집합
      */
-    private boolean isPromotionApplicableToOrder(Promotion promotion, Order order) {
-        // getTotal(), getItems() 등은 Order에 구현되어 있어야 함
-        if (promotion.getMinimumOrderAmount() != null && 
-            order.getTotal().compareTo(promotion.getMinimumOrderAmount()) < 0) {
-            return false;
+    private static Set<Long> targetIdsOf(List<String> values) {
+        Set<Long> ids = new HashSet<>();
+        if (values == null) {
+            return ids;
         }
-        if (!isPromotionApplicableToUser(promotion, order.getUser().getId())) {
-            return false;
+        for (String value : values) {
+            if (value == null || value.isBlank()) {
+                continue;
+            }
+            try {
+                ids.add(Long.parseLong(value.trim()));
+            } catch (NumberFormatException ignored) {
+                // PromotionEngine 규칙 구성과 같이 형식이 틀린 대상은 제외
+            }
         }
-        if ((promotion.getProductIds() != null && !promotion.getProductIds().isEmpty()) ||
-            (promotion.getCategoryIds() != null && !promotion.getCategoryIds().isEmpty())) {
-            return order.getItems().stream()
-                    .anyMatch(item -> isPromotionApplicableToProduct(promotion, item.getProduct()));
+        return ids;
+    }
+    
+    /**
+     * ID 순서대로 프로모션 엔티티 조회 (한 번의 IN 조회)
+     * 
+     * @param ids 프로모션 ID 목록
+     * @return 프로모션 목록
+     */
+    private List<Promotion> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Promotion> byId = new HashMap<>();
+        for (Promotion promotion : promotionRepository.findAllById(ids)) {
+            byId.put(promotion.getId(), promotion);
         }
-        return true;
+        return ids.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+    
+    /**
+     * 저장 후 프로모션 변경 이벤트 발행 (커밋 후 규칙 재구성)
+     * 
+     * @param promotion 프로모션
+     * @return 저장된 프로모션
+     */
+    private Promotion saveAndPublish(Promotion promotion) {
+        Promotion saved = promotionRepository.save(promotion);
+        eventPublisher.publishEvent(new PromotionChangedEvent(saved.getId()));
+        return saved;
     }
     
     /**
@@ -427,7 +489,7 @@ public class PromotionService {
      */
     @Transactional(readOnly = true)
     public BigDecimal calculateDiscount(Promotion promotion, Order order) {
-        if (!isPromotionApplicableToOrder(promotion, order)) {
+        if (!isPromotionApplicableToOrder(promotion, order.getUser().getId(), linesOf(order))) {
             return BigDecimal.ZERO;
         }
         BigDecimal discountAmount;
@@ -472,6 +534,8 @@ public class PromotionService {
                     if (promotion.getMaxUsageCount() != null && 
                         promotion.getCurrentUsageCount() >= promotion.getMaxUsageCount()) {
                         promotion.setActive(false);
+                        // 사용 횟수 소진 시에만 규칙 재구성 (일반 사용은 적용 조건에 영향 없음)
+                        return saveAndPublish(promotion);
                     }
                     return promotionRepository.save(promotion);
                 });
@@ -487,11 +551,11 @@ public class PromotionService {
     @Transactional(readOnly = true)
     public Page<Promotion> findAllActiveForUser(User user, Pageable pageable) {
         LocalDateTime now = LocalDateTime.now();
-        Long userId = user.getId();
+        Set<Long> allowed = new HashSet<>(promotionEngine.findIdsForUser(user.getId()));
         Page<Promotion> activePromotions = promotionRepository.findByStartDateBeforeAndEndDateAfterAndActive(
                 now, now, true, pageable);
         List<Promotion> filtered = activePromotions.getContent().stream()
-                .filter(promotion -> isPromotionApplicableToUser(promotion, userId))
+                .filter(promotion -> allowed.contains(promotion.getId()))
                 .toList();
         return new org.springframework.data.domain.PageImpl<>(filtered, pageable, filtered.size());
     }
@@ -0,0 +1,344 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.dto.RecurringOrderRunSummary;
+import com.mylittleshop.backend.model.Order;
+import com.mylittleshop.backend.model.OrderItem;
+import com.mylittleshop.backend.model.RecurringOrder;
+import com.mylittleshop.backend.model.RecurringOrderDeadLetter;
+import com.mylittleshop.backend.model.RecurringOrderItem;
+import com.mylittleshop.backend.model.RecurringOrderRun;
+import com.mylittleshop.backend.repository.RecurringOrderDeadLetterRepository;
+import com.mylittleshop.backend.repository.RecurringOrderRepository;
+import com.mylittleshop.backend.repository.RecurringOrderRunRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 정기 주문 일괄 처리 작업
+ * - 기준일까지 처리가 필요한 활성 정기 주문의 ID만 ID 순 키셋 페이지로 읽고, 페이지를 ID 기준으로 작업 스레드 수만큼 나눠 병렬 처리합니다.
+ * - 정기 주문 하나는 항목/상품을 함께 조회해 별도 트랜잭션(REQUIRES_NEW) 하나로 처리하므로, 한 건의 실패나 잠금이 다른 건에 영향을 주지 않습니다.
+ * - (정기 주문, 기준일)당 처리 이력(recurring_order_runs)을 주문과 같은 트랜잭션에 저장해 재실행해도 주문이 한 번만 생성됩니다.
+ * - 실패한 건은 실패 기록(recurring_order_dead_letters)에 남기고 다음 실행에서 다시 시도하며, 최대 시도 횟수에 도달하면 그 기준일에는 건너뜁니다.
+ * - job_locks 잠금 행으로 여러 인스턴스 중 하나만 실행합니다. 작업 스레드 수는 DB 커넥션 풀 크기보다 작게 설정합니다.
+ * - 지표: recurring.orders.created, recurring.orders.skipped, recurring.orders.failed, recurring.orders.order, recurring.orders.run
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecurringOrderProcessor {
+
+    static final String JOB_NAME = "recurring-orders";
+
+    private final RecurringOrderRepository recurringOrderRepository;
+    private final RecurringOrderRunRepository recurringOrderRunRepository;
+    private final RecurringOrderDeadLetterRepository deadLetterRepository;
+    private final OrderService orderService;
+    private final JobLockService jobLockService;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    private final HotPathMetrics hotPathMetrics;
+
+    @Value("${app.recurring-order.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.recurring-order.workers:6}")
+    private int workers;
+
+    // 한 번에 읽는 정기 주문 ID 수
+    @Value("${app.recurring-order.page-size:1000}")
+    private int pageSize;
+
+    @Value("${app.recurring-order.order-timeout-seconds:10}")
+    private int orderTimeoutSeconds;
+
+    @Value("${app.recurring-order.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.recurring-order.max-run-minutes:120}")
+    private long maxRunMinutes;
+
+    private ExecutorService executor;
+    private TransactionTemplate orderTransaction;
+    private TransactionTemplate deadLetterTransaction;
+    private Counter createdCounter;
+    private Counter skippedCounter;
+    private Counter failedCounter;
+    private Timer orderTimer;
+    private Timer runTimer;
+
+    private enum Outcome { CREATED, SKIPPED, FAILED }
+
+    @PostConstruct
+    void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "recurring-order-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        orderTransaction = new TransactionTemplate(transactionManager);
+        orderTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        orderTransaction.setTimeout(orderTimeoutSeconds);
+        deadLetterTransaction = new TransactionTemplate(transactionManager);
+        deadLetterTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        createdCounter = meterRegistry.counter("recurring.orders.created");
+        skippedCounter = meterRegistry.counter("recurring.orders.skipped");
+        failedCounter = meterRegistry.counter("recurring.orders.failed");
+        orderTimer = meterRegistry.timer("recurring.orders.order");
+        runTimer = meterRegistry.timer("recurring.orders.run");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 오늘 처리가 필요한 정기 주문 일괄 처리 (주기 실행, 잠금을 획득한 인스턴스만 실행)
+     * - 처리된 정기 주문은 다음 주문일이 미래로 바뀌므로, 남은 대상이 없으면 ID 조회 한 번으로 끝납니다.
+     */
+    @Scheduled(initialDelayString = "${app.recurring-order.initial-delay-ms:60000}",
+               fixedDelayString = "${app.recurring-order.interval-ms:600000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        Duration maxRun = Duration.ofMinutes(maxRunMinutes);
+        // 임대 기간은 마지막 페이지의 트랜잭션 시간까지 포함
+        if (!jobLockService.tryAcquire(JOB_NAME, maxRun.plusSeconds(orderTimeoutSeconds * 2L))) {
+            log.debug("정기 주문 처리 작업 건너뜀 - 다른 인스턴스에서 실행 중");
+            return;
+        }
+        try {
+            processDue(LocalDate.now(), maxRun);
+        } finally {
+            jobLockService.release(JOB_NAME);
+        }
+    }
+
+    /**
+     * 기준일까지 처리가 필요한 정기 주문을 모두 처리합니다.
+     * @param runDate 처리 기준일
+     * @param maxRun 최대 실행 시간 (null 이면 끝까지 실행)
+     * @return 처리 결과
+     */
+    public RecurringOrderRunSummary processDue(LocalDate runDate, Duration maxRun) {
+        long startedAt = System.nanoTime();
+        long deadline = maxRun != null ? startedAt + maxRun.toNanos() : 0;
+        int[] totals = new int[Outcome.values().length];
+        boolean incomplete = false;
+        long afterId = 0;
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        HotPathMetrics.Span batch = hotPathMetrics.batch("recurring-orders");
+        try (batch) {
+            while (true) {
+                List<Long> ids = recurringOrderRepository.findDueIdsAfter(runDate, afterId, PageRequest.of(0, pageSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                afterId = ids.get(ids.size() - 1);
+                Set<Long> exhausted = new HashSet<>(deadLetterRepository.findExhaustedIds(runDate, maxAttempts, ids));
+                int[] counts = processPage(ids, exhausted, runDate);
+                for (int i = 0; i < totals.length; i++) {
+                    totals[i] += counts[i];
+                }
+                totals[Outcome.SKIPPED.ordinal()] += exhausted.size();
+                skippedCounter.increment(exhausted.size());
+
+                if (ids.size() < pageSize) {
+                    break;
+                }
+                if (maxRun != null && System.nanoTime() - deadline > 0) {
+                    log.info("정기 주문 처리 작업 최대 실행 시간 도달 - 다음 실행에서 이어서 처리: 마지막 ID={}", afterId);
+                    incomplete = true;
+                    break;
+                }
+            }
+            sample.stop(runTimer);
+
+            RecurringOrderRunSummary summary = RecurringOrderRunSummary.builder()
+                    .runDate(runDate)
+                    .created(totals[Outcome.CREATED.ordinal()])
+                    .skipped(totals[Outcome.SKIPPED.ordinal()])
+                    .failed(totals[Outcome.FAILED.ordinal()])
+                    .incomplete(incomplete)
+                    .elapsedMs(Duration.ofNanos(System.nanoTime() - startedAt).toMillis())
+                    .build();
+            batch.count(summary.getCreated() + summary.getSkipped() + summary.getFailed()).success();
+            if (summary.getCreated() + summary.getFailed() > 0) {
+                log.info("정기 주문 처리: 기준일={}, 생성={}, 건너뜀={}, 실패={}, 소요={}ms", runDate, summary.getCreated(),
+                        summary.getSkipped(), summary.getFailed(), summary.getElapsedMs());
+            }
+            return summary;
+        }
+    }
+
+    /**
+     * 정기 주문 하나를 기준일 주문으로 처리합니다. (이미 처리된 경우 빈 값)
+     * @param recurringOrderId 정기 주문 ID
+     * @param runDate 처리 기준일
+     * @return 생성된 주문
+     */
+    public Optional<Order> processOrder(Long recurringOrderId, LocalDate runDate) {
+        return Optional.ofNullable(orderTransaction.execute(status -> createOrder(recurringOrderId, runDate, true)));
+    }
+
+    // 페이지를 작업 스레드 수만큼 나눠 병렬 처리하고 결과별 건수를 반환
+    private int[] processPage(List<Long> ids, Set<Long> exhausted, LocalDate runDate) {
+        int shardCount = Math.max(1, Math.min(workers, ids.size()));
+        List<List<Long>> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>(ids.size() / shardCount + 1));
+        }
+        for (Long id : ids) {
+            if (!exhausted.contains(id)) {
+                shards.get((int) Math.floorMod(id, (long) shardCount)).add(id);
+            }
+        }
+
+        List<Callable<int[]>> tasks = new ArrayList<>(shardCount);
+        for (List<Long> shard : shards) {
+            if (!shard.isEmpty()) {
+                tasks.add(() -> processShard(shard, runDate));
+            }
+        }
+        int[] counts = new int[Outcome.values().length];
+        try {
+            for (Future<int[]> result : executor.invokeAll(tasks)) {
+                int[] shardCounts = result.get();
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] += shardCounts[i];
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("정기 주문 처리가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("정기 주문 처리에 실패했습니다.", e.getCause());
+        }
+        return counts;
+    }
+
+    // 작업 스레드 하나에서 정기 주문을 순서대로 처리
+    private int[] processShard(List<Long> ids, LocalDate runDate) {
+        int[] counts = new int[Outcome.values().length];
+        for (Long id : ids) {
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            counts[orderTimer.record(() -> processOne(id, runDate)).ordinal()]++;
+        }
+        return counts;
+    }
+
+    private Outcome processOne(Long recurringOrderId, LocalDate runDate) {
+        try {
+            Order order = orderTransaction.execute(status -> createOrder(recurringOrderId, runDate, false));
+            if (order == null) {
+                skippedCounter.increment();
+                return Outcome.SKIPPED;
+            }
+            createdCounter.increment();
+            return Outcome.CREATED;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 실행이 먼저 처리 이력을 저장한 경우
+            if (recurringOrderRunRepository.existsByRecurringOrderIdAndRunDate(recurringOrderId, runDate)) {
+                skippedCounter.increment();
+                return Outcome.SKIPPED;
+            }
+            recordFailure(recurringOrderId, runDate, e);
+            return Outcome.FAILED;
+        } catch (RuntimeException e) {
+            recordFailure(recurringOrderId, runDate, e);
+            return Outcome.FAILED;
+        }
+    }
+
+    // 한 트랜잭션 안에서 처리 이력 저장 -> 주문 생성 -> 다음 주문일 갱신
+    private Order createOrder(Long recurringOrderId, LocalDate runDate, boolean requireActive) {
+        if (recurringOrderRunRepository.existsByRecurringOrderIdAndRunDate(recurringOrderId, runDate)) {
+            return null;
+        }
+        RecurringOrder recurringOrder = recurringOrderRepository.findByIdWithItems(recurringOrderId)
+                .orElseThrow(() -> new IllegalArgumentException("정기 주문을 찾을 수 없습니다: " + recurringOrderId));
+        if (!"ACTIVE".equals(recurringOrder.getStatus())) {
+            if (requireActive) {
+                throw new IllegalStateException("정기 주문이 활성 상태가 아닙니다.");
+            }
+            // 페이지 조회 이후 중지/취소된 경우
+            return null;
+        }
+        if (recurringOrder.getItems().isEmpty()) {
+            throw new IllegalStateException("정기 주문 항목이 없습니다.");
+        }
+
+        // 유니크 제약으로 동시 처리를 막기 위해 주문보다 먼저 반영
+        RecurringOrderRun run = recurringOrderRunRepository.saveAndFlush(new RecurringOrderRun(recurringOrderId, runDate));
+
+        Order order = new Order();
+        order.setUser(recurringOrder.getUser());
+        order.setRecurringOrder(recurringOrder);
+        for (RecurringOrderItem recurringItem : recurringOrder.getItems()) {
+            OrderItem orderItem = new OrderItem();
+            orderItem.setProduct(recurringItem.getProduct());
+            orderItem.setQuantity(recurringItem.getQuantity());
+            orderItem.setUnitPrice(recurringItem.getUnitPrice());
+            order.addOrderItem(orderItem);
+        }
+        Order savedOrder = orderService.createOrder(order);
+        run.setOrderId(savedOrder.getId());
+
+        recurringOrder.setLastOrderDate(runDate);
+        recurringOrder.calculateNextOrderDate();
+        return savedOrder;
+    }
+
+    // 실패 기록은 주문 트랜잭션이 롤백된 뒤 별도 트랜잭션으로 저장
+    private void recordFailure(Long recurringOrderId, LocalDate runDate, Exception cause) {
+        failedCounter.increment();
+        String error = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getName();
+        String lastError = error.length() > 500 ? error.substring(0, 500) : error;
+        try {
+            RecurringOrderDeadLetter deadLetter = deadLetterTransaction.execute(status -> {
+                RecurringOrderDeadLetter entry = deadLetterRepository
+                        .findByRecurringOrderIdAndRunDate(recurringOrderId, runDate)
+                        .orElseGet(() -> new RecurringOrderDeadLetter(recurringOrderId, runDate));
+                entry.setAttempts(entry.getAttempts() + 1);
+                entry.setLastError(lastError);
+                return deadLetterRepository.save(entry);
+            });
+            log.warn("정기 주문 처리 실패: id={}, 기준일={}, 시도={}, 오류={}", recurringOrderId, runDate,
+                    deadLetter != null ? deadLetter.getAttempts() : null, lastError);
+        } catch (RuntimeException e) {
+            log.error("정기 주문 실패 기록 저장 실패: id={}, 기준일={}", recurringOrderId, runDate, e);
+        }
+    }
+}
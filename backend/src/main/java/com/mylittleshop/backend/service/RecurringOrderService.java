@@ -1,5 +1,6 @@
 package com.mylittleshop.backend.service;
 
+import com.mylittleshop.backend.dto.RecurringOrderRunSummary;
 import com.mylittleshop.backend.model.*;
 import com.mylittleshop.backend.repository.RecurringOrderItemRepository;
 import com.mylittleshop.backend.repository.RecurringOrderRepository;
@@ -11,8 +12,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,7 +21,7 @@ public class RecurringOrderService {
 
     private final RecurringOrderRepository recurringOrderRepository;
     private final RecurringOrderItemRepository recurringOrderItemRepository;
-    private final OrderService orderService;
+    private final RecurringOrderProcessor recurringOrderProcessor;
 
     /**
      * 정기 주문 조회
@@ -263,64 +262,23 @@ public class RecurringOrderService {
     }
 
     /**
-     * 정기 주문에서 실제 주문 생성
+     * 정기 주문에서 실제 주문 생성 (오늘 기준일로 처리, 이미 처리된 경우 빈 값)
      * 
      * @param recurringOrderId 정기 주문 ID
      * @return 생성된 주문
      */
-    @Transactional
     public Optional<Order> processRecurringOrder(Long recurringOrderId) {
-        return recurringOrderRepository.findById(recurringOrderId).map(recurringOrder -> {
-            if (!"ACTIVE".equals(recurringOrder.getStatus())) {
-                throw new IllegalStateException("정기 주문이 활성 상태가 아닙니다.");
-            }
-
-            // 주문 생성
-            Order order = new Order();
-            order.setUser(recurringOrder.getUser());
-            // 배송지, 결제 정보 등 설정
-            
-            // 주문 아이템 추가
-            for (RecurringOrderItem recurringItem : recurringOrder.getItems()) {
-                OrderItem orderItem = new OrderItem();
-                orderItem.setOrder(order);
-                orderItem.setProduct(recurringItem.getProduct());
-                orderItem.setQuantity(recurringItem.getQuantity());
-                orderItem.setUnitPrice(recurringItem.getUnitPrice());
-                order.addOrderItem(orderItem);
-            }
-            
-            // 주문 저장
-            Order savedOrder = orderService.createOrder(order);
-            
-            // 정기 주문 다음 주문일 업데이트
-            recurringOrder.setLastOrderDate(LocalDate.now());
-            recurringOrder.calculateNextOrderDate();
-            recurringOrderRepository.save(recurringOrder);
-            
-            return savedOrder;
-        });
+        return recurringOrderProcessor.processOrder(recurringOrderId, LocalDate.now());
     }
 
     /**
      * 오늘 처리해야 할 모든 정기 주문 일괄 처리
+     * - 정기 주문마다 별도 트랜잭션으로 병렬 처리합니다. (RecurringOrderProcessor 참고)
      * 
-     * @return 생성된 주문 목록
+     * @return 처리 결과
      */
-    @Transactional
-    public List<Order> processDueRecurringOrders() {
-        List<RecurringOrder> dueOrders = getRecurringOrdersDueForProcessing();
-        List<Order> processedOrders = new ArrayList<>();
-        
-        for (RecurringOrder recurringOrder : dueOrders) {
-            try {
-                processRecurringOrder(recurringOrder.getId()).ifPresent(processedOrders::add);
-            } catch (Exception e) {
-                // 로깅 및 예외 처리
-            }
-        }
-        
-        return processedOrders;
+    public RecurringOrderRunSummary processDueRecurringOrders() {
+        return recurringOrderProcessor.processDue(LocalDate.now(), null);
     }
 
     /**
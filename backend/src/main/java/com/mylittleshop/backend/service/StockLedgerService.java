@@ -0,0 +1,308 @@
+package com.mylittleshop.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mylittleshop.backend.dto.StockLevel;
+import com.mylittleshop.backend.event.StockChangedEvent;
+import com.mylittleshop.backend.model.ProductStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 재고 원장 서비스
+ * - 상품 재고와 판매 상태의 유일한 변경 경로입니다. (products.stock_quantity / status 는 엔티티 저장으로 변경되지 않습니다)
+ * - 판매 가능 수량(available)은 products.stock_quantity, 실재고(onHand)는 inventory.quantity 로 관리하며
+ *   예약 수량(reserved)은 두 값의 차이입니다.
+ * - 모든 변경은 상품 수와 관계없이 products / inventory / inventory_history 각각 한 번의 JDBC 배치로 반영됩니다.
+ * - 조회는 짧은 TTL의 읽기 캐시를 거치며, 변경 시 커밋 후 해당 상품 캐시를 무효화하고 StockChangedEvent 를 발행합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StockLedgerService {
+
+    // 상태 변경을 먼저 기술해 MySQL(좌→우 평가)과 표준 SQL 모두 차감 전 재고로 판정
+    private static final String DECREASE_AVAILABLE_SQL =
+            "UPDATE products SET status = CASE WHEN stock_quantity = ? THEN 'SOLD_OUT' ELSE status END, " +
+            "stock_quantity = stock_quantity - ? WHERE id = ? AND stock_quantity >= ?";
+    private static final String INCREASE_AVAILABLE_SQL =
+            "UPDATE products SET status = CASE WHEN status = 'SOLD_OUT' THEN 'ACTIVE' ELSE status END, " +
+            "stock_quantity = stock_quantity + ? WHERE id = ?";
+    private static final String SET_AVAILABLE_SQL =
+            "UPDATE products SET status = CASE WHEN ? = 0 THEN 'SOLD_OUT' WHEN status = 'SOLD_OUT' THEN 'ACTIVE' ELSE status END, " +
+            "stock_quantity = ? WHERE id = ?";
+    // 재고가 없는 상품은 판매중으로 바꿔도 품절로 유지
+    private static final String SET_STATUS_SQL =
+            "UPDATE products SET status = CASE WHEN ? = 'ACTIVE' AND stock_quantity = 0 THEN 'SOLD_OUT' ELSE ? END WHERE id = ?";
+    private static final String SELECT_STATUS_SQL = "SELECT status FROM products WHERE id = ?";
+    private static final String UPDATE_INVENTORY_SQL =
+            "UPDATE inventory SET quantity = quantity + ?, available_stock = GREATEST(available_stock + ?, 0), updated_at = ? " +
+            "WHERE product_id = ?";
+    private static final String SET_INVENTORY_AVAILABLE_SQL =
+            "UPDATE inventory SET quantity = quantity + (? - available_stock), available_stock = ?, updated_at = ? " +
+            "WHERE product_id = ?";
+    private static final String INSERT_HISTORY_SQL =
+            "INSERT INTO inventory_history (product_id, change_type, quantity, changed_at, note) VALUES (?, ?, ?, ?, ?)";
+    private static final String SELECT_LEVELS_SQL =
+            "SELECT p.id, p.stock_quantity, i.quantity FROM products p " +
+            "LEFT JOIN inventory i ON i.product_id = p.id WHERE p.id IN (:ids)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.stock.cache-ttl-ms:2000}")
+    private long cacheTtlMillis;
+
+    @Value("${app.stock.cache-max-size:10000}")
+    private int cacheMaxSize;
+
+    private Cache<Long, StockLevel> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(cacheTtlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "stock.levels");
+    }
+
+    /**
+     * 재고 이동 유형 (판매 가능 수량 / 실재고 증감 방향, 이력 유형)
+     */
+    private enum Movement {
+        RESERVE("RESERVE", -1, 0),  // 주문 예약: 판매 가능 수량만 차감
+        RELEASE("RELEASE", 1, 0),   // 예약 해제: 판매 가능 수량 복구
+        COMMIT("OUT", 0, -1),       // 예약 확정 출고: 실재고만 차감
+        RECEIVE("IN", 1, 1),        // 입고/반품: 실재고와 판매 가능 수량 증가
+        ISSUE("OUT", -1, -1);       // 예약 없는 출고: 실재고와 판매 가능 수량 차감
+
+        private final String changeType;
+        private final int availableSign;
+        private final int onHandSign;
+
+        Movement(String changeType, int availableSign, int onHandSign) {
+            this.changeType = changeType;
+            this.availableSign = availableSign;
+            this.onHandSign = onHandSign;
+        }
+    }
+
+    /**
+     * 주문 예약: 판매 가능 수량을 조건부로 차감합니다.
+     * @param quantities 상품 ID -> 수량
+     * @param note 이력 메모 (예약 키 등)
+     * @throws IllegalStateException 재고가 부족한 상품이 있는 경우 (전체 롤백)
+     */
+    @Transactional
+    public void reserve(Map<Long, Integer> quantities, String note) {
+        apply(quantities, Movement.RESERVE, note);
+    }
+
+    /**
+     * 예약 해제: 판매 가능 수량을 복구합니다.
+     */
+    @Transactional
+    public void release(Map<Long, Integer> quantities, String note) {
+        apply(quantities, Movement.RELEASE, note);
+    }
+
+    /**
+     * 예약 확정 출고: 예약된 수량만큼 실재고를 차감합니다.
+     */
+    @Transactional
+    public void commitReserved(Map<Long, Integer> quantities, String note) {
+        apply(quantities, Movement.COMMIT, note);
+    }
+
+    /**
+     * 입고/반품: 실재고와 판매 가능 수량을 함께 늘립니다.
+     */
+    @Transactional
+    public void receive(Map<Long, Integer> quantities, String note) {
+        apply(quantities, Movement.RECEIVE, note);
+    }
+
+    /**
+     * 예약 없는 출고: 실재고와 판매 가능 수량을 함께 차감합니다.
+     * @throws IllegalStateException 재고가 부족한 상품이 있는 경우
+     */
+    @Transactional
+    public void issue(Map<Long, Integer> quantities, String note) {
+        apply(quantities, Movement.ISSUE, note);
+    }
+
+    /**
+     * 재고 조정: 판매 가능 수량을 지정한 값으로 설정하고 실재고도 같은 차이만큼 맞춥니다.
+     * @param productId 상품 ID
+     * @param available 설정할 판매 가능 수량
+     * @param note 이력 메모
+     */
+    @Transactional
+    public void adjust(Long productId, int available, String note) {
+        if (available < 0) {
+            throw new IllegalArgumentException("재고 수량은 0 이상이어야 합니다.");
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int updated = jdbcTemplate.update(SET_AVAILABLE_SQL, available, available, productId);
+        if (updated == 0) {
+            throw new RuntimeException("Product not found with id: " + productId);
+        }
+        jdbcTemplate.update(SET_INVENTORY_AVAILABLE_SQL, available, available, now, productId);
+        jdbcTemplate.update(INSERT_HISTORY_SQL, productId, "ADJUST", available, now, note);
+        evictAndPublishAfterCommit(List.of(productId));
+    }
+
+    /**
+     * 판매 상태 변경 (재고가 0 인 상품을 판매중으로 바꾸면 품절로 유지)
+     * @param productId 상품 ID
+     * @param status 설정할 판매 상태
+     * @return 실제로 적용된 판매 상태
+     */
+    @Transactional
+    public ProductStatus changeStatus(Long productId, ProductStatus status) {
+        int updated = jdbcTemplate.update(SET_STATUS_SQL, status.name(), status.name(), productId);
+        if (updated == 0) {
+            throw new RuntimeException("Product not found with id: " + productId);
+        }
+        return ProductStatus.valueOf(jdbcTemplate.queryForObject(SELECT_STATUS_SQL, String.class, productId));
+    }
+
+    /**
+     * 상품 재고 현황 조회 (읽기 캐시)
+     * @param productId 상품 ID
+     * @return 재고 현황 (상품이 없으면 모두 0)
+     */
+    public StockLevel getStockLevel(Long productId) {
+        return getStockLevels(List.of(productId)).get(productId);
+    }
+
+    /**
+     * 판매 가능 수량 조회 (읽기 캐시)
+     * @param productId 상품 ID
+     * @return 판매 가능 수량
+     */
+    public int getAvailableStock(Long productId) {
+        return getStockLevel(productId).getAvailable();
+    }
+
+    /**
+     * 여러 상품의 재고 현황을 한 번에 조회합니다. 캐시에 없는 상품만 한 번의 쿼리로 읽습니다.
+     * @param productIds 상품 ID 목록
+     * @return 상품 ID -> 재고 현황
+     */
+    public Map<Long, StockLevel> getStockLevels(Collection<Long> productIds) {
+        Map<Long, StockLevel> result = new HashMap<>(cache.getAllPresent(productIds));
+        List<Long> misses = new ArrayList<>();
+        for (Long productId : productIds) {
+            if (!result.containsKey(productId)) {
+                misses.add(productId);
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        namedParameterJdbcTemplate.query(SELECT_LEVELS_SQL, new MapSqlParameterSource("ids", misses), rs -> {
+            long productId = rs.getLong(1);
+            int available = rs.getInt(2);
+            int onHand = rs.getObject(3) != null ? rs.getInt(3) : available;
+            StockLevel level = StockLevel.builder()
+                    .productId(productId)
+                    .onHand(onHand)
+                    .reserved(Math.max(onHand - available, 0))
+                    .available(available)
+                    .build();
+            result.put(productId, level);
+            cache.put(productId, level);
+        });
+        for (Long productId : misses) {
+            result.putIfAbsent(productId, StockLevel.builder().productId(productId).build());
+        }
+        return result;
+    }
+
+    private void apply(Map<Long, Integer> quantities, Movement movement, String note) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        // 상품 ID 순으로 잠금을 획득해 교착 상태 방지
+        List<Map.Entry<Long, Integer>> lines = new ArrayList<>(new TreeMap<>(quantities).entrySet());
+        for (Map.Entry<Long, Integer> line : lines) {
+            if (line.getValue() == null || line.getValue() <= 0) {
+                throw new IllegalArgumentException("재고 변경 수량은 1 이상이어야 합니다. productId=" + line.getKey());
+            }
+        }
+
+        if (movement.availableSign < 0) {
+            List<Object[]> args = new ArrayList<>(lines.size());
+            for (Map.Entry<Long, Integer> line : lines) {
+                int quantity = line.getValue();
+                args.add(new Object[]{quantity, quantity, line.getKey(), quantity});
+            }
+            // 드라이버가 행 수를 돌려주지 않는 배치 재작성(rewriteBatchedStatements) 환경에서는 사용 불가
+            int[] counts = jdbcTemplate.batchUpdate(DECREASE_AVAILABLE_SQL, args);
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    throw new IllegalStateException("재고가 부족합니다. productId=" + lines.get(i).getKey());
+                }
+            }
+        } else if (movement.availableSign > 0) {
+            List<Object[]> args = new ArrayList<>(lines.size());
+            for (Map.Entry<Long, Integer> line : lines) {
+                args.add(new Object[]{line.getValue(), line.getKey()});
+            }
+            jdbcTemplate.batchUpdate(INCREASE_AVAILABLE_SQL, args);
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> inventoryArgs = new ArrayList<>(lines.size());
+        List<Object[]> historyArgs = new ArrayList<>(lines.size());
+        for (Map.Entry<Long, Integer> line : lines) {
+            int quantity = line.getValue();
+            inventoryArgs.add(new Object[]{movement.onHandSign * quantity, movement.availableSign * quantity, now, line.getKey()});
+            historyArgs.add(new Object[]{line.getKey(), movement.changeType, quantity, now, note});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_INVENTORY_SQL, inventoryArgs);
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, historyArgs);
+
+        evictAndPublishAfterCommit(new ArrayList<>(quantities.keySet()));
+    }
+
+    // 커밋 이후 캐시 무효화 후 재고 변경 이벤트 발행 (트랜잭션 밖이면 즉시)
+    // 리스너가 getStockLevels 로 새 값을 읽도록 무효화가 끝난 뒤에 발행합니다.
+    private void evictAndPublishAfterCommit(List<Long> productIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidateAll(productIds);
+            eventPublisher.publishEvent(new StockChangedEvent(productIds));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cache.invalidateAll(productIds);
+                if (status == STATUS_COMMITTED) {
+                    eventPublisher.publishEvent(new StockChangedEvent(productIds));
+                }
+            }
+        });
+    }
+}
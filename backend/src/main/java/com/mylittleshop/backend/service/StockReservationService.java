@@ -0,0 +1,199 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.model.StockReservation;
+import com.mylittleshop.backend.model.StockReservationStatus;
+import com.mylittleshop.backend.repository.StockReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 재고 예약 서비스
+ * - 상품 재고를 엔티티 조회/저장 없이 재고 원장(StockLedgerService)의 조건부 UPDATE로 원자적으로 차감합니다.
+ * - 주문의 모든 항목을 하나의 JDBC 배치로 차감하며, 하나라도 실패하면 트랜잭션 전체가 롤백됩니다.
+ * - 결제되지 않은 예약은 TTL 경과 후 주기 작업으로 재고를 반환합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationService {
+
+    private static final String INSERT_RESERVATION_SQL =
+            "INSERT INTO stock_reservations (reservation_key, product_id, quantity, status, expires_at, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String CHANGE_STATUS_SQL =
+            "UPDATE stock_reservations SET status = ? WHERE id = ? AND status = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StockReservationRepository stockReservationRepository;
+    private final StockLedgerService stockLedgerService;
+
+    @Value("${app.stock.reservation-ttl-minutes:15}")
+    private long reservationTtlMinutes;
+
+    @Value("${app.stock.release-batch-size:500}")
+    private int releaseBatchSize;
+
+    /**
+     * 주문의 재고 예약 키
+     * @param orderId 주문 ID
+     * @return 예약 키
+     */
+    public static String orderKey(Long orderId) {
+        return "ORDER-" + orderId;
+    }
+
+    /**
+     * 여러 상품의 재고를 한 번의 배치로 예약(차감)합니다.
+     * @param reservationKey 예약 묶음 키
+     * @param quantities 상품 ID -> 수량 (같은 상품은 합산해서 전달)
+     * @throws IllegalStateException 재고가 부족한 상품이 있는 경우 (전체 롤백)
+     */
+    @Transactional
+    public void reserve(String reservationKey, Map<Long, Integer> quantities) {
+        Map<Long, Integer> sorted = new TreeMap<>(quantities);
+        stockLedgerService.reserve(sorted, reservationKey);
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp createdAt = Timestamp.valueOf(now);
+        Timestamp expiresAt = Timestamp.valueOf(now.plusMinutes(reservationTtlMinutes));
+        List<Object[]> rows = new ArrayList<>(sorted.size());
+        sorted.forEach((productId, quantity) -> rows.add(new Object[]{
+                reservationKey, productId, quantity, StockReservationStatus.RESERVED.name(), expiresAt, createdAt}));
+        jdbcTemplate.batchUpdate(INSERT_RESERVATION_SQL, rows);
+    }
+
+    /**
+     * 예약을 확정합니다. (결제 완료 시)
+     * TTL 이 지나 반환(EXPIRED)된 항목은 먼저 확정으로 바꾼 뒤, 실제로 바뀐 항목만 다시 차감합니다.
+     * 주문 취소로 반환(RELEASED)된 항목은 확정하지 않습니다.
+     * @param reservationKey 예약 묶음 키
+     * @throws IllegalStateException 만료 후 재차감 시 재고가 부족한 경우
+     */
+    @Transactional
+    public void confirm(String reservationKey) {
+        List<StockReservation> reservations = stockReservationRepository.findByReservationKey(reservationKey);
+        if (reservations.isEmpty()) {
+            return;
+        }
+
+        List<StockReservation> reserved = filterByStatus(reservations, StockReservationStatus.RESERVED);
+        List<StockReservation> confirmed = new ArrayList<>(
+                changeStatus(reserved, StockReservationStatus.RESERVED, StockReservationStatus.CONFIRMED));
+
+        // 만료된 항목(조회 후 동시에 만료된 항목 포함)은 상태를 먼저 바꿔, 동시에 확정하는 쪽과 중복 차감하지 않음
+        List<StockReservation> expired = new ArrayList<>(filterByStatus(reservations, StockReservationStatus.EXPIRED));
+        reserved.stream().filter(r -> !confirmed.contains(r)).forEach(expired::add);
+        List<StockReservation> revived = changeStatus(expired, StockReservationStatus.EXPIRED, StockReservationStatus.CONFIRMED);
+        if (!revived.isEmpty()) {
+            stockLedgerService.reserve(sumByProduct(revived), reservationKey);
+            confirmed.addAll(revived);
+        }
+
+        // 확정된 수량만큼 실재고 출고
+        stockLedgerService.commitReserved(sumByProduct(confirmed), reservationKey);
+    }
+
+    /**
+     * 예약(확정 포함)을 해제하고 재고를 반환합니다. (주문 취소 시)
+     * @param reservationKey 예약 묶음 키
+     * @return 반환된 예약 항목 수
+     */
+    @Transactional
+    public int release(String reservationKey) {
+        List<StockReservation> reservations = stockReservationRepository.findByReservationKey(reservationKey);
+        // 미확정 예약은 판매 가능 수량만, 확정(출고)된 예약은 실재고까지 반환
+        List<StockReservation> unconfirmed = changeStatus(filterByStatus(reservations, StockReservationStatus.RESERVED),
+                StockReservationStatus.RESERVED, StockReservationStatus.RELEASED);
+        List<StockReservation> confirmed = changeStatus(filterByStatus(reservations, StockReservationStatus.CONFIRMED),
+                StockReservationStatus.CONFIRMED, StockReservationStatus.RELEASED);
+        // 이미 만료로 반환된 예약은 재고 변동 없이 취소 상태로만 바꿔, 이후 결제로 되살아나지 않게 함
+        changeStatus(filterByStatus(reservations, StockReservationStatus.EXPIRED),
+                StockReservationStatus.EXPIRED, StockReservationStatus.RELEASED);
+        stockLedgerService.release(sumByProduct(unconfirmed), reservationKey);
+        stockLedgerService.receive(sumByProduct(confirmed), reservationKey + " 취소 반품");
+        return unconfirmed.size() + confirmed.size();
+    }
+
+    /**
+     * 예약 기록 존재 여부 (예약 기능 도입 이전 주문 구분용)
+     * @param reservationKey 예약 묶음 키
+     * @return 예약 기록이 있으면 true
+     */
+    @Transactional(readOnly = true)
+    public boolean hasReservations(String reservationKey) {
+        return stockReservationRepository.existsByReservationKey(reservationKey);
+    }
+
+    /**
+     * 예약 없이 재고를 반환합니다. (예약 기록이 없는 주문 취소 시)
+     * @param quantities 상품 ID -> 수량
+     */
+    @Transactional
+    public void restock(Map<Long, Integer> quantities) {
+        stockLedgerService.receive(quantities, "주문 취소 반품");
+    }
+
+    /**
+     * 만료된 예약의 재고를 반환합니다. (결제하지 않고 이탈한 주문)
+     */
+    @Scheduled(fixedDelayString = "${app.stock.release-interval-ms:60000}")
+    @Transactional
+    public void releaseExpiredReservations() {
+        List<StockReservation> expired = stockReservationRepository.findByStatusAndExpiresAtBeforeOrderByIdAsc(
+                StockReservationStatus.RESERVED, LocalDateTime.now(), PageRequest.of(0, releaseBatchSize));
+        if (expired.isEmpty()) {
+            return;
+        }
+        List<StockReservation> released = changeStatus(expired, StockReservationStatus.RESERVED, StockReservationStatus.EXPIRED);
+        stockLedgerService.release(sumByProduct(released), "예약 만료");
+        log.info("만료된 재고 예약 반환: 대상={}, 반환={}", expired.size(), released.size());
+    }
+
+    // 현재 상태 조건부로 상태를 변경하고, 실제로 변경된 항목만 반환 (동시 처리 시 중복 반환 방지)
+    private List<StockReservation> changeStatus(List<StockReservation> reservations,
+                                                StockReservationStatus from, StockReservationStatus to) {
+        if (reservations.isEmpty()) {
+            return List.of();
+        }
+        List<Object[]> args = new ArrayList<>(reservations.size());
+        for (StockReservation reservation : reservations) {
+            args.add(new Object[]{to.name(), reservation.getId(), from.name()});
+        }
+        int[] counts = jdbcTemplate.batchUpdate(CHANGE_STATUS_SQL, args);
+        List<StockReservation> changed = new ArrayList<>(reservations.size());
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                changed.add(reservations.get(i));
+            }
+        }
+        return changed;
+    }
+
+    private static List<StockReservation> filterByStatus(List<StockReservation> reservations, StockReservationStatus status) {
+        List<StockReservation> result = new ArrayList<>();
+        for (StockReservation reservation : reservations) {
+            if (reservation.getStatus() == status) {
+                result.add(reservation);
+            }
+        }
+        return result;
+    }
+
+    private static Map<Long, Integer> sumByProduct(List<StockReservation> reservations) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (StockReservation reservation : reservations) {
+            quantities.merge(reservation.getProductId(), reservation.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+}
@@ -0,0 +1,452 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.dto.SubscriptionBillingRunSummary;
+import com.mylittleshop.backend.model.BillingRunStatus;
+import com.mylittleshop.backend.model.SubscriptionBillingPartition;
+import com.mylittleshop.backend.model.SubscriptionBillingRun;
+import com.mylittleshop.backend.repository.SubscriptionBillingPartitionRepository;
+import com.mylittleshop.backend.repository.SubscriptionBillingRunRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 구독 결제 일괄 처리 작업 (billing run)
+ * - 기준일마다 실행 행 하나를 만들고, 활성 구독의 ID 범위를 고정 개수의 구간으로 나눠 작업 스레드 풀에서 구간별로 처리합니다.
+ * - 구간 안에서는 ID 순 키셋 청크로 구독/요금제를 JDBC 로 읽고, 만료 처리/다음 결제일 갱신/결제 행 INSERT 를 JDBC 배치로 씁니다.
+ *   청크의 쓰기와 구간 진행 위치(last_id) 갱신은 한 트랜잭션이므로, 중단되면 다음 실행이 마지막 커밋 다음 ID 부터 이어서 처리합니다.
+ * - 다음 결제일 갱신은 읽은 값과 같을 때만 적용되고 결제 행은 갱신된 구독에만 쓰므로, 같은 청크를 다시 처리해도 중복 결제되지 않습니다.
+ * - 청크 배치가 실패하면 그 청크만 구독 단위 트랜잭션으로 다시 처리하고, 실패한 구독은 건너뛰어 실패 건수에 남깁니다.
+ * - job_locks 잠금 행으로 여러 인스턴스 중 하나만 실행하며, 실행 결과는 actuator subscriptionbilling 엔드포인트로 조회합니다.
+ * - 지표: subscription.billing.billed, subscription.billing.expired, subscription.billing.failed, subscription.billing.chunk, subscription.billing.run
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SubscriptionBillingJob {
+
+    static final String JOB_NAME = "subscription-billing";
+
+    private static final String SELECT_ID_RANGE_SQL =
+            "SELECT MIN(id), MAX(id) FROM subscriptions WHERE status = 'ACTIVE'";
+    private static final String SELECT_CHUNK_SQL =
+            "SELECT s.id, s.contract_end_date, s.next_billing_date, s.payment_method, p.price " +
+            "FROM subscriptions s JOIN subscription_plans p ON p.id = s.plan_id " +
+            "WHERE s.status = 'ACTIVE' AND s.id > ? AND s.id <= ? ORDER BY s.id LIMIT ?";
+    private static final String EXPIRE_SQL =
+            "UPDATE subscriptions SET status = 'EXPIRED', updated_at = ? WHERE id = ? AND status = 'ACTIVE'";
+    private static final String ADVANCE_BILLING_DATE_SQL =
+            "UPDATE subscriptions SET next_billing_date = ?, updated_at = ? " +
+            "WHERE id = ? AND status = 'ACTIVE' AND next_billing_date = ?";
+    private static final String INSERT_PAYMENT_SQL =
+            "INSERT INTO subscription_payments (subscription_id, amount, original_amount, discount_amount, tax_amount, " +
+            "payment_date, status, payment_method, billing_period_start, billing_period_end, retry_count) " +
+            "VALUES (?, ?, ?, 0, 0, ?, 'COMPLETED', ?, ?, ?, 0)";
+
+    private final SubscriptionBillingRunRepository runRepository;
+    private final SubscriptionBillingPartitionRepository partitionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final JobLockService jobLockService;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    private final HotPathMetrics hotPathMetrics;
+
+    @Value("${app.subscription.billing.enabled:true}")
+    private boolean enabled;
+
+    // 실행당 구독 ID 구간 수
+    @Value("${app.subscription.billing.partitions:8}")
+    private int partitions;
+
+    // 동시에 처리하는 구간 수 (DB 커넥션 풀 크기보다 작게)
+    @Value("${app.subscription.billing.workers:4}")
+    private int workers;
+
+    @Value("${app.subscription.billing.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.subscription.billing.chunk-timeout-seconds:30}")
+    private int chunkTimeoutSeconds;
+
+    @Value("${app.subscription.billing.max-run-minutes:60}")
+    private long maxRunMinutes;
+
+    private ExecutorService executor;
+    private TransactionTemplate chunkTransaction;
+    private Counter billedCounter;
+    private Counter expiredCounter;
+    private Counter failedCounter;
+    private Timer chunkTimer;
+    private Timer runTimer;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "subscription-billing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        chunkTransaction = new TransactionTemplate(transactionManager);
+        chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        chunkTransaction.setTimeout(chunkTimeoutSeconds);
+        billedCounter = meterRegistry.counter("subscription.billing.billed");
+        expiredCounter = meterRegistry.counter("subscription.billing.expired");
+        failedCounter = meterRegistry.counter("subscription.billing.failed");
+        chunkTimer = meterRegistry.timer("subscription.billing.chunk");
+        runTimer = meterRegistry.timer("subscription.billing.run");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 구독 결제 일괄 처리 (주기 실행, 잠금을 획득한 인스턴스만 실행)
+     * - 중단된 이전 실행을 먼저 마친 뒤 오늘 실행을 처리합니다. 오늘 실행이 이미 끝났으면 조회 한 번으로 끝납니다.
+     */
+    @Scheduled(initialDelayString = "${app.subscription.billing.initial-delay-ms:120000}",
+               fixedDelayString = "${app.subscription.billing.interval-ms:1800000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        Duration maxRun = Duration.ofMinutes(maxRunMinutes);
+        // 임대 기간은 마지막 청크의 트랜잭션 시간까지 포함
+        if (!jobLockService.tryAcquire(JOB_NAME, maxRun.plusSeconds(chunkTimeoutSeconds * 2L))) {
+            log.debug("구독 결제 작업 건너뜀 - 다른 인스턴스에서 실행 중");
+            return;
+        }
+        try {
+            long deadline = System.nanoTime() + maxRun.toNanos();
+            for (SubscriptionBillingRun pending : runRepository.findByStatusOrderByRunDateAsc(BillingRunStatus.RUNNING)) {
+                if (pending.getRunDate().isBefore(LocalDate.now())) {
+                    execute(pending, deadline);
+                }
+            }
+            Duration remaining = Duration.ofNanos(deadline - System.nanoTime());
+            if (!remaining.isNegative()) {
+                billDue(LocalDate.now(), remaining);
+            }
+        } finally {
+            jobLockService.release(JOB_NAME);
+        }
+    }
+
+    /**
+     * 기준일 결제 일괄 처리를 시작하거나, 중단된 실행을 이어서 처리합니다.
+     * @param runDate 처리 기준일
+     * @param maxRun 최대 실행 시간 (null 이면 끝까지 실행)
+     * @return 실행 결과
+     */
+    public SubscriptionBillingRunSummary billDue(LocalDate runDate, Duration maxRun) {
+        SubscriptionBillingRun run = runRepository.findByRunDate(runDate).orElseGet(() -> startRun(runDate));
+        if (run.getStatus() == BillingRunStatus.COMPLETED) {
+            return summarize(run, partitionRepository.findByRunIdOrderByPartitionNo(run.getId()));
+        }
+        return execute(run, maxRun != null ? System.nanoTime() + maxRun.toNanos() : 0);
+    }
+
+    /**
+     * 최근 실행 결과 (최근 기준일 순)
+     * @return 실행 결과 목록
+     */
+    public List<SubscriptionBillingRunSummary> recentRuns() {
+        List<SubscriptionBillingRunSummary> summaries = new ArrayList<>();
+        for (SubscriptionBillingRun run : runRepository.findTop10ByOrderByRunDateDesc()) {
+            summaries.add(summarize(run, partitionRepository.findByRunIdOrderByPartitionNo(run.getId())));
+        }
+        return summaries;
+    }
+
+    // 실행 행과 구간 행을 한 트랜잭션에서 생성
+    private SubscriptionBillingRun startRun(LocalDate runDate) {
+        return chunkTransaction.execute(status -> {
+            SubscriptionBillingRun run = runRepository.save(new SubscriptionBillingRun(runDate));
+            List<Object[]> range = jdbcTemplate.query(SELECT_ID_RANGE_SQL,
+                    (rs, rowNum) -> new Object[]{rs.getObject(1), rs.getObject(2)});
+            if (range.isEmpty() || range.get(0)[0] == null) {
+                return run;
+            }
+            long minId = ((Number) range.get(0)[0]).longValue();
+            long maxId = ((Number) range.get(0)[1]).longValue();
+            long width = Math.max(1, (maxId - minId + partitions) / partitions);
+            List<SubscriptionBillingPartition> rows = new ArrayList<>(partitions);
+            long from = minId - 1;
+            for (int no = 0; from < maxId; no++) {
+                long to = Math.min(from + width, maxId);
+                rows.add(new SubscriptionBillingPartition(run.getId(), no, from, to));
+                from = to;
+            }
+            partitionRepository.saveAll(rows);
+            log.info("구독 결제 실행 생성: 기준일={}, 구간={}개, ID 범위={}~{}", runDate, rows.size(), minId, maxId);
+            return run;
+        });
+    }
+
+    // 남은 구간을 작업 스레드 풀에서 처리하고, 모두 끝났으면 실행을 완료로 기록
+    private SubscriptionBillingRunSummary execute(SubscriptionBillingRun run, long deadline) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        HotPathMetrics.Span batch = hotPathMetrics.batch("subscription-billing");
+        try (batch) {
+            List<SubscriptionBillingPartition> before = partitionRepository.findByRunIdOrderByPartitionNo(run.getId());
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (SubscriptionBillingPartition partition : before) {
+                if (!partition.getCompleted()) {
+                    tasks.add(() -> {
+                        processPartition(partition, run.getRunDate(), deadline);
+                        return null;
+                    });
+                }
+            }
+            try {
+                for (Future<Void> result : executor.invokeAll(tasks)) {
+                    result.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("구독 결제 처리가 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("구독 결제 처리에 실패했습니다.", e.getCause());
+            } finally {
+                sample.stop(runTimer);
+            }
+
+            List<SubscriptionBillingPartition> parts = partitionRepository.findByRunIdOrderByPartitionNo(run.getId());
+            if (parts.stream().allMatch(SubscriptionBillingPartition::getCompleted)) {
+                run.setStatus(BillingRunStatus.COMPLETED);
+                run.setFinishedAt(LocalDateTime.now());
+            }
+            run.setBilled(parts.stream().mapToInt(SubscriptionBillingPartition::getBilled).sum());
+            run.setExpired(parts.stream().mapToInt(SubscriptionBillingPartition::getExpired).sum());
+            run.setFailed(parts.stream().mapToInt(SubscriptionBillingPartition::getFailed).sum());
+            SubscriptionBillingRun saved = runRepository.save(run);
+            SubscriptionBillingRunSummary summary = summarize(saved, parts);
+            // 이어서 처리한 실행이면 이번 실행에서 처리한 건수만 처리량에 반영
+            batch.count(processedCount(parts) - processedCount(before)).success();
+            log.info("구독 결제 처리: 기준일={}, 상태={}, 결제={}, 만료={}, 실패={}, 완료 구간={}/{}", summary.getRunDate(),
+                    summary.getStatus(), summary.getBilled(), summary.getExpired(), summary.getFailed(),
+                    summary.getCompletedPartitions(), summary.getPartitions());
+            return summary;
+        }
+    }
+
+    private static long processedCount(List<SubscriptionBillingPartition> parts) {
+        return parts.stream().mapToLong(part -> part.getBilled() + part.getExpired() + part.getFailed()).sum();
+    }
+
+    // 구간 하나를 청크 단위로 끝까지(또는 최대 실행 시간까지) 처리
+    private void processPartition(SubscriptionBillingPartition partition, LocalDate runDate, long deadline) {
+        long lastId = partition.getLastId();
+        while (!Thread.currentThread().isInterrupted()) {
+            long afterId = lastId;
+            ChunkResult result;
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                result = chunkTransaction.execute(status -> processChunk(partition, afterId, runDate));
+            } catch (RuntimeException e) {
+                log.warn("구독 결제 청크 배치 실패 - 구독 단위로 다시 처리: 구간={}, 시작 ID={}, 오류={}",
+                        partition.getId(), afterId, e.getMessage());
+                result = processChunkOneByOne(partition, afterId, runDate);
+            } finally {
+                sample.stop(chunkTimer);
+            }
+            if (result == null) {
+                break;
+            }
+            billedCounter.increment(result.billed);
+            expiredCounter.increment(result.expired);
+            failedCounter.increment(result.failed);
+            if (result.completed) {
+                break;
+            }
+            lastId = result.lastId;
+            if (deadline != 0 && System.nanoTime() - deadline > 0) {
+                log.info("구독 결제 작업 최대 실행 시간 도달 - 다음 실행에서 이어서 처리: 구간={}, 마지막 ID={}",
+                        partition.getId(), lastId);
+                break;
+            }
+        }
+    }
+
+    // 청크 하나를 배치로 처리하고 같은 트랜잭션에서 구간 진행 위치를 갱신
+    private ChunkResult processChunk(SubscriptionBillingPartition partition, long afterId, LocalDate runDate) {
+        List<DueSubscription> rows = readChunk(partition, afterId);
+        boolean completed = rows.size() < chunkSize;
+        long lastId = rows.isEmpty() ? partition.getToId() : rows.get(rows.size() - 1).id;
+
+        int[] counts = apply(rows, runDate);
+        partitionRepository.checkpoint(partition.getId(), lastId, counts[0], counts[1], 0, completed, LocalDateTime.now());
+        return new ChunkResult(lastId, completed, counts[0], counts[1], 0);
+    }
+
+    // 배치가 실패한 청크는 구독마다 별도 트랜잭션으로 처리하고, 실패한 구독은 건너뜀
+    private ChunkResult processChunkOneByOne(SubscriptionBillingPartition partition, long afterId, LocalDate runDate) {
+        List<DueSubscription> rows = readChunk(partition, afterId);
+        boolean completed = rows.size() < chunkSize;
+        long lastId = rows.isEmpty() ? partition.getToId() : rows.get(rows.size() - 1).id;
+        int billed = 0;
+        int expired = 0;
+        int failed = 0;
+        for (DueSubscription row : rows) {
+            try {
+                int[] counts = chunkTransaction.execute(status -> apply(List.of(row), runDate));
+                billed += counts[0];
+                expired += counts[1];
+            } catch (RuntimeException e) {
+                failed++;
+                log.error("구독 결제 실패: 구독 ID={}, 기준일={}, 오류={}", row.id, runDate, e.getMessage());
+            }
+        }
+        int billedCount = billed;
+        int expiredCount = expired;
+        int failedCount = failed;
+        chunkTransaction.executeWithoutResult(status -> partitionRepository.checkpoint(partition.getId(), lastId,
+                billedCount, expiredCount, failedCount, completed, LocalDateTime.now()));
+        return new ChunkResult(lastId, completed, billed, expired, failed);
+    }
+
+    private List<DueSubscription> readChunk(SubscriptionBillingPartition partition, long afterId) {
+        return jdbcTemplate.query(SELECT_CHUNK_SQL, (rs, rowNum) -> {
+            DueSubscription row = new DueSubscription();
+            row.id = rs.getLong(1);
+            Date contractEnd = rs.getDate(2);
+            row.contractEndDate = contractEnd != null ? contractEnd.toLocalDate() : null;
+            Date nextBilling = rs.getDate(3);
+            row.nextBillingDate = nextBilling != null ? nextBilling.toLocalDate() : null;
+            row.paymentMethod = rs.getString(4);
+            row.price = rs.getBigDecimal(5);
+            return row;
+        }, afterId, partition.getToId(), chunkSize);
+    }
+
+    // 만료/결제 대상을 골라 JDBC 배치로 반영하고 [결제 수, 만료 수] 를 반환
+    private int[] apply(List<DueSubscription> rows, LocalDate runDate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        LocalDate nextBillingDate = runDate.plusMonths(1);
+        List<Object[]> expireArgs = new ArrayList<>();
+        List<DueSubscription> billing = new ArrayList<>();
+        List<Object[]> advanceArgs = new ArrayList<>();
+        for (DueSubscription row : rows) {
+            if (isExpired(row, runDate)) {
+                expireArgs.add(new Object[]{now, row.id});
+            } else if (row.nextBillingDate != null && !row.nextBillingDate.isAfter(runDate)) {
+                billing.add(row);
+                advanceArgs.add(new Object[]{Date.valueOf(nextBillingDate), now, row.id, Date.valueOf(row.nextBillingDate)});
+            }
+        }
+
+        int expired = 0;
+        if (!expireArgs.isEmpty()) {
+            for (int updated : jdbcTemplate.batchUpdate(EXPIRE_SQL, expireArgs)) {
+                expired += applied(updated) ? 1 : 0;
+            }
+        }
+
+        int billed = 0;
+        if (!advanceArgs.isEmpty()) {
+            int[] advanced = jdbcTemplate.batchUpdate(ADVANCE_BILLING_DATE_SQL, advanceArgs);
+            List<Object[]> paymentArgs = new ArrayList<>(billing.size());
+            for (int i = 0; i < advanced.length; i++) {
+                if (!applied(advanced[i])) {
+                    // 읽은 뒤 상태나 결제일이 바뀐 구독
+                    continue;
+                }
+                DueSubscription row = billing.get(i);
+                paymentArgs.add(new Object[]{row.id, row.price, row.price, now, row.paymentMethod,
+                        Date.valueOf(row.nextBillingDate), Date.valueOf(nextBillingDate.minusDays(1))});
+            }
+            if (!paymentArgs.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_PAYMENT_SQL, paymentArgs);
+            }
+            billed = paymentArgs.size();
+        }
+        return new int[]{billed, expired};
+    }
+
+    // SubscriptionService.checkAndUpdateSubscriptionStatus 와 같은 만료 기준
+    private static boolean isExpired(DueSubscription row, LocalDate runDate) {
+        LocalDate end = row.contractEndDate;
+        if (end == null) {
+            return false;
+        }
+        return end.isBefore(runDate) || (end.isAfter(runDate) && end.isBefore(runDate.plusDays(30)));
+    }
+
+    // 드라이버가 행 수를 돌려주지 않는 배치 재작성(rewriteBatchedStatements) 환경에서는 조건부 갱신 적용 여부를 알 수 없으므로
+    // 결제하지 않고 청크를 롤백합니다. (이후 구독 단위 재처리는 한 건짜리 배치라 드라이버가 행 수를 돌려줌)
+    private static boolean applied(int updateCount) {
+        if (updateCount == Statement.SUCCESS_NO_INFO) {
+            throw new IllegalStateException("배치 갱신 행 수를 알 수 없어 구독 결제를 진행하지 않습니다.");
+        }
+        return updateCount > 0;
+    }
+
+    private static SubscriptionBillingRunSummary summarize(SubscriptionBillingRun run,
+                                                           List<SubscriptionBillingPartition> parts) {
+        return SubscriptionBillingRunSummary.builder()
+                .runId(run.getId())
+                .runDate(run.getRunDate())
+                .status(run.getStatus())
+                .billed(run.getBilled())
+                .expired(run.getExpired())
+                .failed(run.getFailed())
+                .partitions(parts.size())
+                .completedPartitions((int) parts.stream().filter(SubscriptionBillingPartition::getCompleted).count())
+                .startedAt(run.getStartedAt())
+                .finishedAt(run.getFinishedAt())
+                .build();
+    }
+
+    private static class DueSubscription {
+        long id;
+        LocalDate contractEndDate;
+        LocalDate nextBillingDate;
+        String paymentMethod;
+        BigDecimal price;
+    }
+
+    private static class ChunkResult {
+        final long lastId;
+        final boolean completed;
+        final int billed;
+        final int expired;
+        final int failed;
+
+        ChunkResult(long lastId, boolean completed, int billed, int expired, int failed) {
+            this.lastId = lastId;
+            this.completed = completed;
+            this.billed = billed;
+            this.expired = expired;
+            this.failed = failed;
+        }
+    }
+}
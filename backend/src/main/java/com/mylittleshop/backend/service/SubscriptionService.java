@@ -1,5 +1,6 @@
 package com.mylittleshop.backend.service;
 
+import com.mylittleshop.backend.dto.SubscriptionBillingRunSummary;
 import com.mylittleshop.backend.model.*;
 import com.mylittleshop.backend.repository.SubscriptionRepository;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ public class SubscriptionService {
     private final SubscriptionPlanService subscriptionPlanService;
     private final SubscriptionPaymentService subscriptionPaymentService;
     private final RecurringOrderService recurringOrderService;
+    private final SubscriptionBillingJob subscriptionBillingJob;
 
     /**
      * 구독 생성
@@ -423,8 +425,7 @@ public class SubscriptionService {
         
         // 다음 결제일이 도래한 경우 결제 처리
         if (subscription.getNextBillingDate() != null && 
-            subscription.getNextBillingDate().isBefore(today) || 
-            subscription.getNextBillingDate().isEqual(today)) {
+            !subscription.getNextBillingDate().isAfter(today)) {
             processSubscriptionPayment(subscription);
             
             // 다음 결제일 업데이트
@@ -437,17 +438,12 @@ public class SubscriptionService {
     
     /**
      * 모든 활성 구독의 상태 일괄 확인 및 업데이트
+     * - 구독 결제 일괄 처리 작업으로 오늘 기준일 실행을 시작하거나 이어서 처리합니다. (SubscriptionBillingJob 참고)
+     * 
+     * @return 실행 결과
      */
-    @Transactional
-    public void checkAndUpdateAllSubscriptionsStatus() {
-        List<Subscription> activeSubscriptions = subscriptionRepository.findByStatus(SubscriptionStatus.ACTIVE);
-        for (Subscription subscription : activeSubscriptions) {
-            try {
-                checkAndUpdateSubscriptionStatus(subscription.getId());
-            } catch (Exception e) {
-                // 로깅 및 예외 처리
-            }
-        }
+    public SubscriptionBillingRunSummary checkAndUpdateAllSubscriptionsStatus() {
+        return subscriptionBillingJob.billDue(LocalDate.now(), null);
     }
     
     /**
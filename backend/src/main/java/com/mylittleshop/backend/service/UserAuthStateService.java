@@ -0,0 +1,95 @@
+package com.mylittleshop.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mylittleshop.backend.event.UserSecurityChangedEvent;
+import com.mylittleshop.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 사용자 인증 상태 캐시 (토큰 버전, 잠금 여부)
+ * - JWT 인증 필터가 요청마다 사용자/역할을 조회하지 않도록, 토큰 폐기 판단에 필요한 값만 사용자 ID 별로 캐시합니다.
+ * - 잠금/해제, 역할 제거, 비밀번호 변경 커밋 후(AFTER_COMMIT) 해당 사용자 항목을 무효화하고,
+ *   이벤트를 받지 못한 다른 인스턴스를 위해 짧은 만료 시간을 둡니다.
+ * - 적중/미스 지표는 actuator 메트릭 cache.gets (cache=user.auth-states) 로 노출됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserAuthStateService {
+
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.auth-state.max-size:100000}")
+    private long maxSize;
+
+    @Value("${app.auth-state.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private Cache<Long, AuthState> states;
+
+    @PostConstruct
+    void init() {
+        states = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, states, "user.auth-states");
+    }
+
+    /**
+     * 토큰을 받아들일 수 있는지 확인합니다.
+     * 사용자가 없거나, 잠겨 있거나, 토큰 버전이 현재 버전과 다르면 거부합니다.
+     * @param userId 토큰의 사용자 ID
+     * @param tokenVersion 토큰의 토큰 버전
+     * @return 허용 여부
+     */
+    public boolean isTokenAccepted(Long userId, long tokenVersion) {
+        AuthState state = states.get(userId, this::load);
+        return state != AuthState.MISSING && !state.locked && state.tokenVersion == tokenVersion;
+    }
+
+    /**
+     * 보안 상태 변경 커밋 후 해당 사용자 항목을 무효화합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityChangedEvent event) {
+        states.invalidate(event.getUserId());
+    }
+
+    private AuthState load(Long userId) {
+        List<Object[]> rows = userRepository.findAuthStateById(userId);
+        if (rows.isEmpty()) {
+            return AuthState.MISSING;
+        }
+        Object[] row = rows.get(0);
+        long tokenVersion = row[0] != null ? ((Number) row[0]).longValue() : 0L;
+        return new AuthState(tokenVersion, Boolean.TRUE.equals(row[1]));
+    }
+
+    private static final class AuthState {
+        // 존재하지 않는(삭제된) 사용자 (부재도 캐시해 같은 토큰의 반복 조회를 막음)
+        static final AuthState MISSING = new AuthState(-1L, true);
+
+        private final long tokenVersion;
+        private final boolean locked;
+
+        AuthState(long tokenVersion, boolean locked) {
+            this.tokenVersion = tokenVersion;
+            this.locked = locked;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.mylittleshop.backend.service;
 
+import com.mylittleshop.backend.event.UserSecurityChangedEvent;
 import com.mylittleshop.backend.model.Role;
 import com.mylittleshop.backend.model.User;
 import com.mylittleshop.backend.model.UserProfile;
@@ -11,6 +12,7 @@ import com.mylittleshop.backend.repository.UserRepository;
 import com.mylittleshop.backend.repository.PasswordResetTokenRepository;
 import com.mylittleshop.backend.repository.EmailVerificationTokenRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -35,6 +37,7 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final PasswordResetTokenRepository passwordResetTokenRepository;
     private final EmailVerificationTokenRepository emailVerificationTokenRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     // 기본 CRUD 작업
     @Transactional
@@ -57,6 +60,7 @@ public class UserService {
     @Transactional
     public void deleteById(Long id) {
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(new UserSecurityChangedEvent(id));
     }
     
     // 사용자 조회 기능
@@ -170,9 +174,11 @@ public class UserService {
             throw new RuntimeException("Current password is incorrect");
         }
         
-        // 새 비밀번호 설정
+        // 새 비밀번호 설정 (이전에 발급된 토큰 무효화)
         user.setPassword(passwordEncoder.encode(newPassword));
+        user.increaseTokenVersion();
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserSecurityChangedEvent(id));
     }
     
     @Transactional
@@ -181,7 +187,9 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
         
         user.setPassword(passwordEncoder.encode(newPassword));
+        user.increaseTokenVersion();
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserSecurityChangedEvent(id));
     }
     
     @Transactional
@@ -220,9 +228,11 @@ public class UserService {
         userRepository.findById(id)
                 .map(user -> {
                     user.setLocked(true);
+                    user.increaseTokenVersion();
                     return userRepository.save(user);
                 })
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
+        eventPublisher.publishEvent(new UserSecurityChangedEvent(id));
     }
     
     @Transactional
@@ -234,6 +244,7 @@ public class UserService {
                     return userRepository.save(user);
                 })
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
+        eventPublisher.publishEvent(new UserSecurityChangedEvent(id));
     }
     
     @Transactional
@@ -261,8 +272,11 @@ public class UserService {
         Role role = roleRepository.findByName(roleName)
                 .orElseThrow(() -> new RuntimeException("Role not found: " + roleName));
         
+        // 제거된 역할이 담긴 토큰 무효화
         user.removeRole(role);
+        user.increaseTokenVersion();
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserSecurityChangedEvent(userId));
     }
     
     @Transactional
@@ -301,6 +315,7 @@ public class UserService {
                 });
     }
     
+    // 로그인 API 는 LoginActivityService 로 모아서 반영 (이 메서드는 즉시 반영)
     @Transactional
     public void recordLogin(Long userId) {
         userRepository.findById(userId)
@@ -320,8 +335,10 @@ public class UserService {
                     user.setFailedLoginAttempts(attempts + 1);
                     
                     // 로그인 실패 횟수에 따른 계정 잠금 처리
-                    if (user.getFailedLoginAttempts() >= 5) {
+                    if (user.getFailedLoginAttempts() >= 5 && !Boolean.TRUE.equals(user.getLocked())) {
                         user.setLocked(true);
+                        user.increaseTokenVersion();
+                        eventPublisher.publishEvent(new UserSecurityChangedEvent(userId));
                     }
                     
                     return userRepository.save(user);
@@ -0,0 +1,148 @@
+package com.mylittleshop.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mylittleshop.backend.event.WishlistChangedEvent;
+import com.mylittleshop.backend.repository.WishlistRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 사용자별 위시리스트 포함 여부 색인
+ * - 사용자의 위시리스트 상품 ID를 정렬된 long 배열로 캐시하고, 포함 여부는 이진 탐색으로 판단합니다.
+ *   상품 목록 화면의 찜 표시와 위시리스트 개수 조회에 DB 조회가 필요 없습니다.
+ * - 추가/제거 커밋 후(AFTER_COMMIT) 캐시된 배열을 새 배열로 교체해 반영하고, 비우기 등 일괄 변경은 무효화합니다.
+ *   배열 적재와 반영은 사용자 키 단위로 원자적이므로, 적재 중 들어온 변경도 적재가 끝난 뒤 반영됩니다.
+ * - 변경 이벤트는 같은 인스턴스에서 커밋된 것만 받으므로, 여러 인스턴스로 운영하면 다른 인스턴스의 변경은
+ *   적재(또는 마지막 반영) 후 TTL(app.wishlist-index.ttl-minutes)이 지나야 보입니다. 자주 조회해도 만료되도록 쓰기 기준으로 만료합니다.
+ * - 캐시 크기는 보관 중인 상품 ID 총 개수로 제한합니다. 지표: cache.gets (cache=wishlist.membership)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WishlistIndexService {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final WishlistRepository wishlistRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 캐시에 보관할 상품 ID 총 개수 (ID 하나당 8바이트)
+    @Value("${app.wishlist-index.max-ids:5000000}")
+    private long maxIds;
+
+    @Value("${app.wishlist-index.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    private Cache<Long, long[]> memberships;
+
+    @PostConstruct
+    void init() {
+        memberships = Caffeine.newBuilder()
+                .maximumWeight(maxIds)
+                .weigher((Long userId, long[] productIds) -> productIds.length + 1)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memberships, "wishlist.membership");
+    }
+
+    /**
+     * 상품이 사용자 위시리스트에 있는지 확인
+     * @param userId 사용자 ID
+     * @param productId 상품 ID
+     * @return 포함 여부
+     */
+    public boolean contains(Long userId, Long productId) {
+        return productId != null && Arrays.binarySearch(productIdsOf(userId), productId) >= 0;
+    }
+
+    /**
+     * 여러 상품의 위시리스트 포함 여부를 한 번에 확인 (요청 순서 유지)
+     * @param userId 사용자 ID
+     * @param productIds 상품 ID 목록
+     * @return 상품 ID -> 포함 여부
+     */
+    public Map<Long, Boolean> containsAll(Long userId, Collection<Long> productIds) {
+        long[] ids = productIdsOf(userId);
+        Map<Long, Boolean> result = new LinkedHashMap<>();
+        for (Long productId : productIds) {
+            if (productId != null) {
+                result.put(productId, Arrays.binarySearch(ids, productId) >= 0);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 사용자 위시리스트 항목 수
+     * @param userId 사용자 ID
+     * @return 항목 수
+     */
+    public int count(Long userId) {
+        return productIdsOf(userId).length;
+    }
+
+    /**
+     * 위시리스트 변경 커밋 후 캐시된 색인에 반영합니다. (캐시에 없는 사용자는 다음 조회 때 적재)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWishlistChanged(WishlistChangedEvent event) {
+        if (event.getProductId() == null) {
+            memberships.invalidate(event.getUserId());
+            return;
+        }
+        long productId = event.getProductId();
+        memberships.asMap().computeIfPresent(event.getUserId(),
+                (userId, ids) -> event.isAdded() ? withAdded(ids, productId) : withRemoved(ids, productId));
+    }
+
+    private long[] productIdsOf(Long userId) {
+        return memberships.get(userId, this::load);
+    }
+
+    private long[] load(Long userId) {
+        List<Long> rows = wishlistRepository.findProductIdsByUserId(userId);
+        if (rows.isEmpty()) {
+            return EMPTY;
+        }
+        // (user_id, product_id) 유일 제약(V17)으로 정렬된 결과에 중복이 없음
+        return rows.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // 정렬을 유지한 새 배열 (이미 있으면 그대로)
+    static long[] withAdded(long[] ids, long productId) {
+        int index = Arrays.binarySearch(ids, productId);
+        if (index >= 0) {
+            return ids;
+        }
+        int insertAt = -index - 1;
+        long[] next = new long[ids.length + 1];
+        System.arraycopy(ids, 0, next, 0, insertAt);
+        next[insertAt] = productId;
+        System.arraycopy(ids, insertAt, next, insertAt + 1, ids.length - insertAt);
+        return next;
+    }
+
+    // 해당 ID를 뺀 새 배열 (없으면 그대로)
+    static long[] withRemoved(long[] ids, long productId) {
+        int index = Arrays.binarySearch(ids, productId);
+        if (index < 0) {
+            return ids;
+        }
+        long[] next = new long[ids.length - 1];
+        System.arraycopy(ids, 0, next, 0, index);
+        System.arraycopy(ids, index + 1, next, index, ids.length - index - 1);
+        return next;
+    }
+}
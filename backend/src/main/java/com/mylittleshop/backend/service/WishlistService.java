@@ -1,19 +1,26 @@
 package com.mylittleshop.backend.service;
 
+import com.mylittleshop.backend.dto.CursorPage;
+import com.mylittleshop.backend.event.WishlistChangedEvent;
 import com.mylittleshop.backend.model.Product;
 import com.mylittleshop.backend.model.User;
 import com.mylittleshop.backend.model.Wishlist;
 import com.mylittleshop.backend.repository.ProductRepository;
 import com.mylittleshop.backend.repository.UserRepository;
 import com.mylittleshop.backend.repository.WishlistRepository;
+import com.mylittleshop.backend.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -22,6 +29,8 @@ public class WishlistService {
     private final WishlistRepository wishlistRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final WishlistIndexService wishlistIndexService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 위시리스트 저장
@@ -31,7 +40,9 @@ public class WishlistService {
      */
     @Transactional
     public Wishlist save(Wishlist wishlist) { 
-        return wishlistRepository.save(wishlist); 
+        Wishlist saved = wishlistRepository.save(wishlist);
+        eventPublisher.publishEvent(new WishlistChangedEvent(saved.getUser().getId(), null, true));
+        return saved;
     }
     
     /**
@@ -62,7 +73,10 @@ public class WishlistService {
      */
     @Transactional
     public void deleteById(Long id) { 
-        wishlistRepository.deleteById(id); 
+        wishlistRepository.findById(id).ifPresent(wishlist -> {
+            wishlistRepository.delete(wishlist);
+            eventPublisher.publishEvent(new WishlistChangedEvent(wishlist.getUser().getId(), null, false));
+        });
     }
     
     /**
@@ -207,7 +221,9 @@ public class WishlistService {
         wishlist.setProduct(product);
         wishlist.setCreatedAt(LocalDateTime.now());
         
-        return wishlistRepository.save(wishlist);
+        Wishlist saved = wishlistRepository.save(wishlist);
+        eventPublisher.publishEvent(new WishlistChangedEvent(userId, productId, true));
+        return saved;
     }
     
     /**
@@ -222,6 +238,7 @@ public class WishlistService {
         Optional<Wishlist> existingWishlist = wishlistRepository.findByUserIdAndProductId(userId, productId);
         if (existingWishlist.isPresent()) {
             wishlistRepository.delete(existingWishlist.get());
+            eventPublisher.publishEvent(new WishlistChangedEvent(userId, productId, false));
             return true;
         }
         return false;
@@ -238,30 +255,40 @@ public class WishlistService {
         List<Wishlist> userWishlist = wishlistRepository.findByUserId(userId);
         int count = userWishlist.size();
         wishlistRepository.deleteAll(userWishlist);
+        eventPublisher.publishEvent(new WishlistChangedEvent(userId, null, false));
         return count;
     }
     
     /**
-     * 상품이 위시리스트에 있는지 확인
+     * 상품이 위시리스트에 있는지 확인 (포함 여부 색인 조회)
      * 
      * @param userId 사용자 ID
      * @param productId 상품 ID
      * @return 존재 여부
      */
-    @Transactional(readOnly = true)
     public boolean isProductInWishlist(Long userId, Long productId) {
-        return wishlistRepository.findByUserIdAndProductId(userId, productId).isPresent();
+        return wishlistIndexService.contains(userId, productId);
+    }
+    
+    /**
+     * 여러 상품의 위시리스트 포함 여부 확인 (포함 여부 색인 조회, 요청 순서 유지)
+     * 
+     * @param userId 사용자 ID
+     * @param productIds 상품 ID 목록
+     * @return 상품 ID -> 포함 여부
+     */
+    public Map<Long, Boolean> checkProducts(Long userId, Collection<Long> productIds) {
+        return wishlistIndexService.containsAll(userId, productIds);
     }
     
     /**
-     * 사용자의 위시리스트 항목 수 조회
+     * 사용자의 위시리스트 항목 수 조회 (포함 여부 색인 조회)
      * 
      * @param userId 사용자 ID
      * @return 위시리스트 항목 수
      */
-    @Transactional(readOnly = true)
     public long countUserWishlistItems(Long userId) {
-        return wishlistRepository.countByUserId(userId);
+        return wishlistIndexService.count(userId);
     }
     
     /**
@@ -326,7 +353,6 @@ public class WishlistService {
      * @param userId 사용자 ID
      * @return 위시리스트 항목 수
      */
-    @Transactional(readOnly = true)
     public long countByUserId(Long userId) {
         return countUserWishlistItems(userId);
     }
@@ -342,4 +368,23 @@ public class WishlistService {
     public Page<Wishlist> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable) {
         return wishlistRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
     }
-}
\ No newline at end of file
+    
+    /**
+     * 사용자 ID의 최근 위시리스트 키셋(커서) 조회
+     * - 추가일/ID 내림차순이며, 전체 건수를 세지 않습니다.
+     * 
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 커서 페이지
+     * @throws IllegalArgumentException 커서 또는 페이지 크기가 올바르지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Wishlist> findByUserIdOrderByCreatedAtDesc(Long userId, String cursor, int size) {
+        CursorPage.checkSize(size);
+        CursorUtil.TimeCursor after = CursorUtil.decodeTime(cursor);
+        List<Wishlist> rows = wishlistRepository.findByUserIdAfter(userId, after.getDateTime(), after.getId(),
+                PageRequest.of(0, size + 1));
+        return CursorPage.of(rows, size, wishlist -> CursorUtil.encodeTime(wishlist.getCreatedAt(), wishlist.getId()));
+    }
+}
@@ -0,0 +1,125 @@
+package com.mylittleshop.backend.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.StringJoiner;
+
+/**
+ * 키셋(커서) 페이지네이션용 불투명 커서 인코딩/디코딩 유틸리티
+ */
+public class CursorUtil {
+    private static final Base64.Encoder base64Encoder = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder base64Decoder = Base64.getUrlDecoder();
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    // 첫 페이지 조회용 시작 위치 (모든 행보다 뒤)
+    private static final TimeCursor FIRST_PAGE = new TimeCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+    // 커서로 받을 수 있는 가장 이른 시각 (MySQL DATETIME 하한)
+    private static final LocalDateTime MIN_DATE_TIME = LocalDateTime.of(1000, 1, 1, 0, 0);
+
+    /**
+     * 마지막 행의 정렬 키 값들을 커서 문자열로 인코딩
+     * @param keys 정렬 키 값 (정렬 순서대로)
+     * @return URL-safe 커서 문자열
+     */
+    public static String encode(long... keys) {
+        StringJoiner joiner = new StringJoiner(":");
+        for (long key : keys) {
+            joiner.add(Long.toString(key));
+        }
+        return base64Encoder.encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 정렬 키 값들로 디코딩
+     * @param cursor 커서 문자열
+     * @param expectedLength 기대하는 키 개수
+     * @return 정렬 키 값 배열
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public static long[] decode(String cursor, int expectedLength) {
+        try {
+            String decoded = new String(base64Decoder.decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(":");
+            if (parts.length != expectedLength) {
+                throw new IllegalArgumentException("잘못된 커서 형식입니다.");
+            }
+            long[] keys = new long[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                keys[i] = Long.parseLong(parts[i]);
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 및 Base64 디코딩 오류 포함
+            throw new IllegalArgumentException("잘못된 커서 형식입니다.", e);
+        }
+    }
+
+    /**
+     * 시각 정렬 키를 커서용 정수로 변환 (UTC 기준 마이크로초)
+     * @param dateTime 정렬 키 시각
+     * @return 마이크로초 값
+     */
+    public static long toKey(LocalDateTime dateTime) {
+        return ChronoUnit.MICROS.between(EPOCH, dateTime);
+    }
+
+    /**
+     * 커서용 정수를 시각 정렬 키로 변환
+     * @param key 마이크로초 값
+     * @return 정렬 키 시각
+     */
+    public static LocalDateTime toDateTime(long key) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(key, 1_000_000L),
+                (int) Math.floorMod(key, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * (시각, ID) 내림차순 키셋 커서 인코딩
+     * @param dateTime 마지막 행의 정렬 시각
+     * @param id 마지막 행의 ID
+     * @return 커서 문자열
+     */
+    public static String encodeTime(LocalDateTime dateTime, Long id) {
+        return encode(toKey(dateTime), id);
+    }
+
+    /**
+     * (시각, ID) 내림차순 키셋 커서 디코딩
+     * @param cursor 커서 문자열 (null 또는 빈 문자열이면 첫 페이지)
+     * @return 조회 시작 위치 (이 위치보다 뒤의 행을 조회)
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public static TimeCursor decodeTime(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST_PAGE;
+        }
+        long[] keys = decode(cursor, 2);
+        try {
+            LocalDateTime dateTime = toDateTime(keys[0]);
+            // DB 시각 범위를 벗어난 값은 조회 중 오류가 나므로 커서 오류로 처리
+            if (dateTime.isBefore(MIN_DATE_TIME) || dateTime.isAfter(FIRST_PAGE.getDateTime())) {
+                throw new IllegalArgumentException("잘못된 커서 형식입니다.");
+            }
+            return new TimeCursor(dateTime, keys[1]);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다.", e);
+        }
+    }
+
+    /**
+     * (시각, ID) 키셋 조회 시작 위치
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class TimeCursor {
+        private final LocalDateTime dateTime;
+        private final long id;
+    }
+}
@@ -0,0 +1,43 @@
+package com.mylittleshop.backend.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 핵심 경로(주문/장바구니/검색/로그인/배치 작업) 구간 실행 JFR 이벤트
+ * - HotPathMetrics 의 구간(Span)이 Micrometer 타이머와 함께 기록합니다.
+ * - 녹화 중이 아니거나 이벤트가 꺼져 있으면 shouldCommit() 이 false 라 필드 설정/커밋 비용이 없습니다.
+ * - 운영 환경 녹화 예: jcmd &lt;pid&gt; JFR.start name=shop settings=profile
+ *   (임계값 지정: +com.mylittleshop.HotPath#threshold=10 ms)
+ */
+@Name("com.mylittleshop.HotPath")
+@Label("Hot Path")
+@Category({"MyLittleShop", "Hot Path"})
+@Description("주문/장바구니/검색/로그인/배치 작업의 구간별 실행 시간")
+@StackTrace(false)
+public class HotPathEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Count")
+    @Description("구간에서 처리한 건수 (주문 항목 수, 검색 결과 수, 배치 처리 건수 등)")
+    long count;
+
+    public void set(String operation, String phase, String outcome, long count) {
+        this.operation = operation;
+        this.phase = phase;
+        this.outcome = outcome;
+        this.count = count;
+    }
+}
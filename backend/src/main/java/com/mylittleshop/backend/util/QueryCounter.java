@@ -0,0 +1,147 @@
+package com.mylittleshop.backend.util;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 스레드별 SQL 실행/엔티티 로딩/컬렉션 조회 횟수 집계
+ * - open() 으로 연 구간(HTTP 요청, 트랜잭션, 테스트 메서드) 안에서 실행된 Hibernate SQL 을 셉니다.
+ *   구간은 중첩될 수 있으며 기록은 열려 있는 모든 구간에 함께 더해집니다 (요청 구간에 트랜잭션 구간 포함).
+ * - 같은 SQL 문이 여러 번 실행되면 N+1 조회 후보로 보고 문장별 실행 횟수를 남깁니다.
+ * - 기록은 QueryStatementInspector(SQL)와 Hibernate 이벤트 리스너(엔티티/컬렉션)가 호출합니다.
+ * - 구간이 하나도 없으면 기록하지 않으므로 집계 대상이 아닌 스레드(배치 작업 등)에는 비용이 거의 없습니다.
+ */
+public final class QueryCounter {
+
+    // 구간별로 기억하는 서로 다른 SQL 문 수 상한 (메모리 보호)
+    private static final int MAX_DISTINCT_STATEMENTS = 500;
+    private static final ThreadLocal<Deque<Scope>> SCOPES = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * 집계 구간 시작 (try-with-resources 로 닫아야 함)
+     * @param name 구간 이름 (엔드포인트, 트랜잭션 이름 등)
+     */
+    public static Scope open(String name) {
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+        Scope scope = new Scope(name);
+        scopes.push(scope);
+        return scope;
+    }
+
+    public static void recordStatement(String sql) {
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes != null) {
+            scopes.forEach(scope -> scope.statement(sql));
+        }
+    }
+
+    public static void recordEntityLoad() {
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes != null) {
+            scopes.forEach(scope -> scope.entityLoads++);
+        }
+    }
+
+    public static void recordCollectionFetch() {
+        Deque<Scope> scopes = SCOPES.get();
+        if (scopes != null) {
+            scopes.forEach(scope -> scope.collectionFetches++);
+        }
+    }
+
+    /**
+     * 집계 구간 하나의 결과
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final String name;
+        private final Map<String, Integer> statementCounts = new LinkedHashMap<>();
+        private int statements;
+        private int entityLoads;
+        private int collectionFetches;
+
+        private Scope(String name) {
+            this.name = name;
+        }
+
+        private void statement(String sql) {
+            statements++;
+            if (statementCounts.size() < MAX_DISTINCT_STATEMENTS || statementCounts.containsKey(sql)) {
+                statementCounts.merge(sql, 1, Integer::sum);
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public int getEntityLoads() {
+            return entityLoads;
+        }
+
+        public int getCollectionFetches() {
+            return collectionFetches;
+        }
+
+        /**
+         * 반복 실행된 횟수 합계 (같은 문장이 n 번이면 n-1 로 계산)
+         */
+        public int getRepeatedStatements() {
+            return statementCounts.values().stream().mapToInt(count -> count - 1).sum();
+        }
+
+        /**
+         * 같은 문장이 가장 많이 실행된 횟수
+         */
+        public int getMaxRepeats() {
+            return statementCounts.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        }
+
+        /**
+         * minCount 번 이상 실행된 문장과 실행 횟수 (많은 순)
+         */
+        public Map<String, Integer> getStatementsRepeatedAtLeast(int minCount) {
+            List<Map.Entry<String, Integer>> repeated = statementCounts.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= minCount)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                    .collect(Collectors.toList());
+            Map<String, Integer> result = new LinkedHashMap<>();
+            repeated.forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+            return result;
+        }
+
+        @Override
+        public void close() {
+            Deque<Scope> scopes = SCOPES.get();
+            if (scopes == null) {
+                return;
+            }
+            scopes.remove(this);
+            if (scopes.isEmpty()) {
+                SCOPES.remove();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name + "[statements=" + statements + ", entityLoads=" + entityLoads
+                    + ", collectionFetches=" + collectionFetches + ", maxRepeats=" + getMaxRepeats() + "]";
+        }
+    }
+}
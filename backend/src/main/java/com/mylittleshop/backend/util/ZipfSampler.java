@@ -0,0 +1,75 @@
+package com.mylittleshop.backend.util;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Zipf 분포 표본 추출기 (대용량 데이터 생성용)
+ * - 순위 k(1부터)가 뽑힐 확률이 1/k^s 에 비례합니다. 인기 상품/활동 사용자처럼 소수에 몰리는 분포를 만듭니다.
+ * - 누적 분포를 미리 계산해 두고 이진 탐색하므로 표본 1개당 O(log n) 이며, 여러 스레드에서 함께 써도 안전합니다.
+ * - 인기 순위를 그대로 인덱스로 쓰면 ID 가 작은 행만 뜨거워지므로, n 과 서로소인 보폭으로 곱해 인덱스를 흩어 놓습니다.
+ */
+public final class ZipfSampler {
+
+    private final int size;
+    private final double[] cumulative;
+    private final long stride;
+
+    /**
+     * @param size 대상 개수 (0 보다 커야 함)
+     * @param exponent 치우침 정도 s (0 이면 균등, 1 내외가 일반적인 인기도 분포)
+     */
+    public ZipfSampler(int size, double exponent) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Zipf 표본 대상 개수는 1 이상이어야 합니다: " + size);
+        }
+        this.size = size;
+        this.cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+        this.stride = coprimeStride(size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 0부터 시작하는 인기 순위 (0 이 가장 인기)
+     */
+    public int nextRank(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, size - 1);
+    }
+
+    /**
+     * 0 ~ size-1 범위의 인덱스 (순위를 흩어 놓은 값)
+     */
+    public int next(SplittableRandom random) {
+        return (int) (nextRank(random) * stride % size);
+    }
+
+    // 황금비 근처에서 size 와 서로소인 보폭 선택 (순위 → 인덱스가 일대일 대응이 되도록)
+    private static long coprimeStride(int size) {
+        long stride = Math.max(1, (long) (size * 0.618_033_988_7));
+        while (gcd(stride, size) != 1) {
+            stride++;
+        }
+        return stride;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
@@ -0,0 +1,7 @@
+/*
+ * V10__wishlist_membership_index.sql
+ * 사용자별 위시리스트 상품 ID 조회용 복합 인덱스를 추가합니다.
+ * - 위시리스트 포함 여부 색인 적재(user_id 조건, product_id 정렬)와 사용자/상품 단건 확인을 인덱스만으로 처리합니다.
+ */
+
+CREATE INDEX idx_wishlists_user_product ON wishlists(user_id, product_id);
@@ -0,0 +1,7 @@
+/*
+ * V11__user_token_version.sql
+ * 사용자 토큰 버전 컬럼을 추가합니다.
+ * - 액세스 토큰에 발급 시점의 토큰 버전을 담고, 잠금/역할 제거/비밀번호 변경 시 버전을 올려 이전 토큰을 무효화합니다.
+ */
+
+ALTER TABLE users ADD COLUMN token_version BIGINT NOT NULL DEFAULT 0;
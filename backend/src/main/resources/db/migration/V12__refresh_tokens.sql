@@ -0,0 +1,20 @@
+/*
+ * V12__refresh_tokens.sql
+ * 리프레시 토큰 테이블을 추가합니다.
+ * - 토큰 원문은 저장하지 않고 SHA-256 해시(16진수 64자)만 저장합니다.
+ * - 사용 시 새 토큰으로 교체하고 이전 토큰은 revoked_at 을 기록합니다. 만료된 행은 정리 작업이 삭제합니다.
+ */
+
+CREATE TABLE refresh_tokens (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    token_hash VARCHAR(64) NOT NULL,
+    token_version BIGINT NOT NULL,
+    issued_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NULL,
+    CONSTRAINT uk_refresh_tokens_hash UNIQUE (token_hash)
+);
+
+CREATE INDEX idx_refresh_tokens_user ON refresh_tokens(user_id);
+CREATE INDEX idx_refresh_tokens_expires ON refresh_tokens(expires_at);
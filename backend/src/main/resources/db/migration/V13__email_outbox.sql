@@ -0,0 +1,22 @@
+/*
+ * V13__email_outbox.sql
+ * 이메일 발송 아웃박스 테이블을 추가합니다.
+ * - 회원가입/인증 요청은 이 테이블에 행만 저장하고, 백그라운드 발송 작업이 모아서 SMTP 로 보냅니다.
+ * - 실패하면 attempts 를 늘리고 next_attempt_at 을 지수적으로 미루며, 최대 횟수를 넘기면 DEAD 로 남깁니다.
+ */
+
+CREATE TABLE email_outbox (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    template VARCHAR(40) NOT NULL,
+    recipient VARCHAR(100) NOT NULL,
+    subject VARCHAR(200) NOT NULL,
+    params TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    sent_at TIMESTAMP NULL
+);
+
+CREATE INDEX idx_email_outbox_due ON email_outbox(status, next_attempt_at);
@@ -0,0 +1,29 @@
+/*
+ * V14__recurring_order_runs.sql
+ * 정기 주문 일괄 처리용 테이블과 인덱스를 추가합니다.
+ * - recurring_order_runs: (정기 주문, 처리 기준일)당 1행. 유니크 제약으로 재실행/다중 인스턴스에서도 주문이 한 번만 생성됩니다.
+ * - recurring_order_dead_letters: 처리에 실패한 정기 주문과 마지막 오류. 최대 시도 횟수를 넘기면 그 기준일에는 더 처리하지 않습니다.
+ * - 처리 대상 조회(status, next_order_date, id 순 페이지 조회)용 복합 인덱스
+ */
+
+CREATE TABLE recurring_order_runs (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    recurring_order_id BIGINT NOT NULL,
+    run_date DATE NOT NULL,
+    order_id BIGINT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_recurring_order_runs UNIQUE (recurring_order_id, run_date)
+);
+
+CREATE TABLE recurring_order_dead_letters (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    recurring_order_id BIGINT NOT NULL,
+    run_date DATE NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_recurring_order_dead_letters UNIQUE (recurring_order_id, run_date)
+);
+
+CREATE INDEX idx_recurring_order_due ON recurring_orders(status, next_order_date, id);
@@ -0,0 +1,36 @@
+/*
+ * V15__subscription_billing_runs.sql
+ * 구독 결제 일괄 처리(billing run)의 진행 상태 테이블을 추가합니다.
+ * - subscription_billing_runs: 기준일당 1행. 모든 구간이 끝나면 COMPLETED 로 바뀝니다.
+ * - subscription_billing_partitions: 실행마다 구독 ID 범위를 나눈 구간. 청크를 커밋할 때 같은 트랜잭션에서 last_id 를 갱신하므로,
+ *   중단된 실행은 다음 실행에서 마지막으로 커밋된 ID 다음부터 이어서 처리합니다.
+ * - 구간 조회(status = 'ACTIVE' AND id 범위, id 순)는 기존 idx_subscription_status 인덱스(보조 인덱스에 PK 포함)를 사용합니다.
+ */
+
+CREATE TABLE subscription_billing_runs (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    run_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    billed INT NOT NULL DEFAULT 0,
+    expired INT NOT NULL DEFAULT 0,
+    failed INT NOT NULL DEFAULT 0,
+    started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP NULL,
+    CONSTRAINT uk_subscription_billing_runs_date UNIQUE (run_date)
+);
+
+CREATE TABLE subscription_billing_partitions (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    run_id BIGINT NOT NULL,
+    partition_no INT NOT NULL,
+    from_id BIGINT NOT NULL,
+    to_id BIGINT NOT NULL,
+    last_id BIGINT NOT NULL,
+    completed BOOLEAN NOT NULL DEFAULT FALSE,
+    billed INT NOT NULL DEFAULT 0,
+    expired INT NOT NULL DEFAULT 0,
+    failed INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_subscription_billing_partitions UNIQUE (run_id, partition_no),
+    FOREIGN KEY (run_id) REFERENCES subscription_billing_runs(id)
+);
@@ -0,0 +1,9 @@
+/*
+ * V16__refresh_token_revoke_reason.sql
+ * 리프레시 토큰 폐기 사유와 교체한 토큰 ID 컬럼을 추가합니다.
+ * - 교체(ROTATED)된 토큰이 다시 사용될 때만 사용자 토큰 전체를 폐기하고, 로그아웃/버전 무효화 토큰은 거부만 합니다.
+ * - 기존에 폐기된 행은 사유를 알 수 없으므로 NULL 로 두며, 재사용 시 거부만 합니다.
+ */
+
+ALTER TABLE refresh_tokens ADD COLUMN revoke_reason VARCHAR(20) NULL;
+ALTER TABLE refresh_tokens ADD COLUMN replaced_by_id BIGINT NULL;
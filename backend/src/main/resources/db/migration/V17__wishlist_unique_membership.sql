@@ -0,0 +1,18 @@
+/*
+ * V17__wishlist_unique_membership.sql
+ * 위시리스트의 사용자/상품 조합을 유일하게 만듭니다.
+ * - 기존 중복 행은 가장 먼저 추가된 행(가장 작은 id)만 남기고 삭제합니다.
+ * - 유일 인덱스가 V10 의 (user_id, product_id) 인덱스를 대신하므로 V10 인덱스는 제거합니다.
+ *   (유일 인덱스를 먼저 만들어 user_id 외래 키가 쓸 인덱스가 항상 있도록 함)
+ * - 이후 사용자별 위시리스트 행 수와 상품 수가 같으므로 개수 조회는 행 수 기준을 그대로 씁니다.
+ */
+
+DELETE w1 FROM wishlists w1
+JOIN wishlists w2
+  ON w1.user_id = w2.user_id
+ AND w1.product_id = w2.product_id
+ AND w1.id > w2.id;
+
+ALTER TABLE wishlists ADD CONSTRAINT uk_wishlists_user_product UNIQUE (user_id, product_id);
+
+DROP INDEX idx_wishlists_user_product ON wishlists;
@@ -0,0 +1,9 @@
+/*
+ * V4__product_search_index.sql
+ * 상품 통합 검색을 위한 전문 검색 인덱스를 추가합니다.
+ * - 이름/설명/브랜드/SKU 대상 FULLTEXT 인덱스 (한국어 부분 일치를 위해 ngram 파서 사용)
+ * - app.search.fulltext-enabled=true 설정 시 ProductRepository.searchByFullText 에서 사용
+ * - ngram 토큰 크기는 서버 변수 ngram_token_size(기본값 2)를 따릅니다.
+ */
+
+CREATE FULLTEXT INDEX ft_products_search ON products(name, description, brand, sku) WITH PARSER ngram;
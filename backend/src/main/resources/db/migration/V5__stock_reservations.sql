@@ -0,0 +1,20 @@
+/*
+ * V5__stock_reservations.sql
+ * 주문 재고 예약 테이블을 추가합니다.
+ * - 주문 생성 시 상품별로 1행씩 예약(RESERVED)하고, 결제 시 확정(CONFIRMED), 만료/취소 시 반환(RELEASED)합니다.
+ * - 만료 예약 반환 작업은 (status, expires_at) 인덱스로 조회합니다.
+ */
+
+CREATE TABLE stock_reservations (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    reservation_key VARCHAR(64) NOT NULL,
+    product_id BIGINT NOT NULL,
+    quantity INT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (product_id) REFERENCES products(id)
+);
+
+CREATE INDEX idx_stock_reservations_key ON stock_reservations(reservation_key);
+CREATE INDEX idx_stock_reservations_status_expires ON stock_reservations(status, expires_at);
@@ -0,0 +1,16 @@
+/*
+ * V6__order_id_generators.sql
+ * 주문/주문 항목/주문 상태 이력의 ID 할당을 IDENTITY 에서 테이블 기반 풀링 할당으로 변경합니다.
+ * - IDENTITY 는 INSERT 마다 생성 키를 받아야 해서 JDBC 배치가 불가능합니다.
+ * - 엔티티의 allocationSize(50)만큼 한 번에 할당하므로, 시작 값은 기존 최대 ID + 51 로 지정해 충돌을 막습니다.
+ * - 기존 AUTO_INCREMENT 컬럼 정의는 그대로 두며, 명시적 ID INSERT 만 사용합니다.
+ */
+
+CREATE TABLE id_generators (
+    sequence_name VARCHAR(64) PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'orders', COALESCE(MAX(id), 0) + 51 FROM orders;
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'order_items', COALESCE(MAX(id), 0) + 51 FROM order_items;
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'order_status_history', COALESCE(MAX(id), 0) + 51 FROM order_status_history;
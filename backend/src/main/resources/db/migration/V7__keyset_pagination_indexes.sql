@@ -0,0 +1,15 @@
+/*
+ * V7__keyset_pagination_indexes.sql
+ * 상품/주문/위시리스트 키셋(커서) 페이징용 복합 인덱스를 추가합니다.
+ * - 조회 조건은 (정렬 시각, ID) 내림차순 범위 조건이며, 필터 컬럼을 앞에 두어 인덱스 범위 조회로 처리합니다.
+ * - 주문 테이블의 사용자 컬럼은 엔티티 매핑(user_id)을 따릅니다.
+ */
+
+CREATE INDEX idx_products_status_active_created ON products(status, is_active, created_at, id);
+CREATE INDEX idx_products_created ON products(created_at, id);
+
+CREATE INDEX idx_orders_user_date ON orders(user_id, order_date, id);
+CREATE INDEX idx_orders_status_date ON orders(status, order_date, id);
+CREATE INDEX idx_orders_date ON orders(order_date, id);
+
+CREATE INDEX idx_wishlists_user_created ON wishlists(user_id, created_at, id);
@@ -0,0 +1,19 @@
+/*
+ * V8__cart_versioning.sql
+ * 장바구니 낙관적 잠금 버전 컬럼과 장바구니 변경 멱등성 키 테이블을 추가합니다.
+ * - 장바구니 변경은 carts 행을 잠근 뒤 적용하고, 변경 시각/버전은 단일 UPDATE 문으로 갱신합니다.
+ * - 멱등성 키는 (user_id, idempotency_key) 로 유일하며, 보관 기간이 지나면 정리 작업이 삭제합니다.
+ */
+
+ALTER TABLE carts ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE cart_mutation_keys (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    idempotency_key VARCHAR(64) NOT NULL,
+    cart_id BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_cart_mutation_keys_user_key UNIQUE (user_id, idempotency_key)
+);
+
+CREATE INDEX idx_cart_mutation_keys_created ON cart_mutation_keys(created_at);
@@ -0,0 +1,12 @@
+/*
+ * V9__job_locks.sql
+ * 주기 작업 잠금 테이블을 추가합니다. (여러 인스턴스 중 하나만 방치 장바구니 정리 등 주기 작업 실행)
+ * - 작업 이름별 1행이며, 인스턴스는 임대 기간(locked_until)이 지난 행만 조건부 UPDATE 로 선점합니다.
+ */
+
+CREATE TABLE job_locks (
+    name VARCHAR(64) PRIMARY KEY,
+    locked_by VARCHAR(100) NOT NULL,
+    locked_at TIMESTAMP NOT NULL,
+    locked_until TIMESTAMP NOT NULL
+);
@@ -0,0 +1,124 @@
+package com.mylittleshop.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReadWriteRoutingDataSource 테스트
+ * - 주 DB 는 내장 H2(routing), replica-1 은 같은 H2 를 별도 풀로 연 복제 지연 없는 복제본,
+ *   replica-2 는 접속할 수 없는 H2 서버로 두고 라우팅/고정/장애 전환을 검증합니다.
+ * - 복제본이 하나도 없는 라우팅 데이터소스는 별도로 만들어 주 DB 로 보내는지 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.generate-unique-name=false",
+        "spring.datasource.name=routing",
+        "app.datasource.replicas.urls=jdbc:h2:mem:routing;DB_CLOSE_DELAY=-1,jdbc:h2:tcp://127.0.0.1:1/~/unreachable",
+        "app.datasource.replicas.connection-timeout-ms=250",
+        "app.datasource.replicas.sticky-seconds=30",
+        "app.datasource.replicas.health-check-ms=600000",
+        "app.mail.outbox.enabled=false",
+        "app.cart.abandon.enabled=false",
+        "app.recurring-order.enabled=false",
+        "app.subscription.billing.enabled=false"
+})
+class ReadWriteRoutingDataSourceTest {
+
+    @Autowired
+    private ReadWriteRoutingDataSource routingDataSource;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 살아 있는 복제본으로, 쓰기 트랜잭션은 주 DB 로 보내고 죽은 복제본은 제외")
+    void readOnlyToHealthyReplica_writeToPrimary() {
+        double replicaReads = routed("replica-1", "read");
+        double writes = routed("primary", "write");
+
+        for (int i = 0; i < 4; i++) {
+            query(true);
+        }
+        query(false);
+
+        assertThat(routed("replica-1", "read") - replicaReads).isGreaterThanOrEqualTo(4);
+        assertThat(routed("primary", "write") - writes).isGreaterThanOrEqualTo(1);
+        assertThat(routingDataSource.replicaHealth()).containsEntry("replica-1", true).containsEntry("replica-2", false);
+        assertThat(meterRegistry.get("datasource.replica.healthy").tag("pool", "replica-2").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 사용자의 읽기는 sticky 시간 동안 주 DB, 다른 사용자는 복제본")
+    void readAfterWrite_sticksToPrimaryForWriter() {
+        authenticate("routing-writer");
+        query(false);
+
+        double sticky = routed("primary", "sticky");
+        query(true);
+        assertThat(routed("primary", "sticky") - sticky).isEqualTo(1);
+
+        authenticate("routing-reader");
+        double replicaReads = routed("replica-1", "read");
+        query(true);
+        assertThat(routed("primary", "sticky") - sticky).isEqualTo(1);
+        assertThat(routed("replica-1", "read") - replicaReads).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복제본 주소가 비어 있으면 읽기 전용 연결도 주 DB 로")
+    void noReplicas_readsFromPrimary() throws Exception {
+        HikariDataSource primary = new HikariDataSource();
+        primary.setJdbcUrl("jdbc:h2:mem:routing-no-replica;DB_CLOSE_DELAY=-1");
+        try (ReadWriteRoutingDataSource noReplicas = new ReadWriteRoutingDataSource(primary, List.of(),
+                Duration.ofSeconds(30), Duration.ofMinutes(10), new SimpleMeterRegistry())) {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            try (Connection connection = noReplicas.getConnection()) {
+                assertThat(connection.isValid(1)).isTrue();
+            } finally {
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            }
+        }
+    }
+
+    private void query(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        transaction.executeWithoutResult(status -> jdbcTemplate.queryForObject("SELECT 1", Integer.class));
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    private double routed(String target, String reason) {
+        Counter counter = meterRegistry.find("datasource.routing").tags("target", target, "reason", reason).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
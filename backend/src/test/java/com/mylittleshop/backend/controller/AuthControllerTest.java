@@ -185,7 +185,7 @@ class AuthControllerTest {
         user.setLocked(false);
         userRepository.save(user);
 
-        String token = jwtTokenProvider.generateToken(user.getUsername(), "ROLE_USER");
+        String token = jwtTokenProvider.generateToken(user.getId(), user.getUsername(), "ROLE_USER", 0L);
 
         ChangePasswordRequest req = new ChangePasswordRequest("oldPassword123!", "newPassword456!");
 
@@ -209,7 +209,7 @@ class AuthControllerTest {
         user.setLocked(false);
         userRepository.save(user);
 
-        String token = jwtTokenProvider.generateToken(user.getUsername(), "ROLE_USER");
+        String token = jwtTokenProvider.generateToken(user.getId(), user.getUsername(), "ROLE_USER", 0L);
 
         // 1. 비밀번호 재설정 요청
         PasswordResetRequest resetReq = new PasswordResetRequest("resetpw@example.com");
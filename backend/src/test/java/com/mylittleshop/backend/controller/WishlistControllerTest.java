@@ -0,0 +1,128 @@
+package com.mylittleshop.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mylittleshop.backend.model.User;
+import com.mylittleshop.backend.repository.ProductRepository;
+import com.mylittleshop.backend.repository.UserRepository;
+import com.mylittleshop.backend.support.TestProducts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * WishlistController 키셋(커서) 조회 API 테스트
+ * - 추가 시각이 같은 항목이 페이지 경계에 걸쳐도 ID 로 이어서 빠짐/중복 없이 조회되는지,
+ *   잘못된 커서는 400 으로 응답하는지 검증합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class WishlistControllerTest {
+
+    private static final LocalDateTime SAME_TIME = LocalDateTime.of(2024, 3, 1, 12, 0, 0, 123_456_000);
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private final List<Long> productIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("wishlist-cursor-test");
+        user.setPassword("password");
+        user.setEmail("wishlist-cursor-test@example.com");
+        userId = userRepository.save(user).getId();
+        for (int i = 0; i < 5; i++) {
+            productIds.add(productRepository.save(TestProducts.product("커서 테스트 상품 " + i, "WISHLIST-CURSOR-" + i)).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM wishlists WHERE user_id = ?", userId);
+        productRepository.deleteAllById(productIds);
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    @DisplayName("추가 시각이 같은 항목이 페이지 경계에 걸쳐도 (시각, ID) 내림차순으로 빠짐없이 이어서 조회")
+    void getUserWishlistItems_walksPagesAcrossEqualCreatedAt() throws Exception {
+        List<Long> expected = new ArrayList<>();
+        expected.add(insertWishlist(productIds.get(4), SAME_TIME.plusSeconds(1)));
+        List<Long> sameTimeIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            sameTimeIds.add(insertWishlist(productIds.get(i), SAME_TIME));
+        }
+        sameTimeIds.sort((a, b) -> Long.compare(b, a));
+        expected.addAll(sameTimeIds);
+
+        List<Long> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MockHttpServletRequestBuilder request = get("/api/wishlist/{userId}/items", userId).param("size", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+            JsonNode page = objectMapper.readTree(body);
+            for (JsonNode item : page.get("content")) {
+                walked.add(item.get("id").asLong());
+            }
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+            pages++;
+        } while (cursor != null);
+
+        assertThat(walked).containsExactlyElementsOf(expected);
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("형식이 틀리거나 시각 범위를 벗어난 커서는 400")
+    void getUserWishlistItems_rejectsInvalidCursor() throws Exception {
+        String outOfRange = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((Long.MAX_VALUE + ":1").getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(get("/api/wishlist/{userId}/items", userId).param("cursor", outOfRange))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/wishlist/{userId}/items", userId).param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Long insertWishlist(Long productId, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO wishlists (user_id, product_id, created_at) VALUES (?, ?, ?)",
+                userId, productId, Timestamp.valueOf(createdAt));
+        return jdbcTemplate.queryForObject("SELECT id FROM wishlists WHERE user_id = ? AND product_id = ?",
+                Long.class, userId, productId);
+    }
+}
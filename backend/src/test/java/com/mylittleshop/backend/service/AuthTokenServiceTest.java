@@ -0,0 +1,89 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.dto.AuthTokens;
+import com.mylittleshop.backend.model.User;
+import com.mylittleshop.backend.repository.UserRepository;
+import com.mylittleshop.backend.security.JwtTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AuthTokenService 테스트
+ * - 리프레시 토큰 교체, 교체된 토큰 재사용 시 전체 폐기, 로그아웃한 토큰 재사용 시 거부만 하는지,
+ *   비밀번호 변경 후 재발급 거부를 검증합니다.
+ */
+@SpringBootTest
+class AuthTokenServiceTest {
+
+    @Autowired
+    private AuthTokenService authTokenService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("auth-token-test");
+        user.setPassword("password");
+        user.setEmail("auth-token-test@example.com");
+        userId = userRepository.save(user).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    @DisplayName("재발급 시 리프레시 토큰이 교체되고, 교체된 토큰을 다시 쓰면 사용자 토큰이 모두 폐기")
+    void refresh_rotatesAndDetectsReuse() {
+        AuthTokens issued = authTokenService.issueTokens(userRepository.findByIdWithRoles(userId).orElseThrow());
+        assertThat(jwtTokenProvider.parsePrincipal(issued.getAccessToken()).getUserId()).isEqualTo(userId);
+
+        AuthTokens refreshed = authTokenService.refresh(issued.getRefreshToken());
+        assertThat(refreshed.getRefreshToken()).isNotEqualTo(issued.getRefreshToken());
+
+        assertThatThrownBy(() -> authTokenService.refresh(issued.getRefreshToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> authTokenService.refresh(refreshed.getRefreshToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰을 다시 쓰면 거부만 하고 다른 기기의 토큰은 유지")
+    void refresh_logoutTokenReuseDoesNotRevokeOthers() {
+        User user = userRepository.findByIdWithRoles(userId).orElseThrow();
+        AuthTokens loggedOut = authTokenService.issueTokens(user);
+        AuthTokens otherDevice = authTokenService.issueTokens(user);
+
+        authTokenService.revoke(loggedOut.getRefreshToken());
+
+        assertThatThrownBy(() -> authTokenService.refresh(loggedOut.getRefreshToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(authTokenService.refresh(otherDevice.getRefreshToken()).getUserId()).isEqualTo(userId);
+    }
+
+    @Test
+    @DisplayName("비밀번호 재설정 이후에는 이전 리프레시 토큰으로 재발급 불가")
+    void refresh_rejectedAfterPasswordReset() {
+        AuthTokens issued = authTokenService.issueTokens(userRepository.findByIdWithRoles(userId).orElseThrow());
+
+        userService.resetPassword(userId, "new-password");
+
+        assertThatThrownBy(() -> authTokenService.refresh(issued.getRefreshToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,113 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.model.Cart;
+import com.mylittleshop.backend.model.CartStatus;
+import com.mylittleshop.backend.model.User;
+import com.mylittleshop.backend.repository.CartRepository;
+import com.mylittleshop.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CartLifecycleService 테스트
+ * - ID 구간 단위 일괄 변경으로 오래된 활성 장바구니만 방치 상태가 되는지, 수동 정리가 처음부터 처리되는지,
+ *   작업 잠금이 한 인스턴스만 허용하는지 검증합니다.
+ */
+@SpringBootTest(properties = "app.cart.abandon.chunk-size=1")
+class CartLifecycleServiceTest {
+
+    @Autowired
+    private CartLifecycleService cartLifecycleService;
+    @Autowired
+    private JobLockService jobLockService;
+    @Autowired
+    private CartService cartService;
+    @Autowired
+    private CartRepository cartRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long staleUserId;
+    private Long activeUserId;
+
+    @BeforeEach
+    void setUp() {
+        staleUserId = saveUser("cart-lifecycle-stale");
+        activeUserId = saveUser("cart-lifecycle-active");
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long userId : new Long[]{staleUserId, activeUserId}) {
+            cartService.findByUserId(userId).forEach(cart -> cartService.deleteById(cart.getId()));
+            userRepository.deleteById(userId);
+        }
+        jdbcTemplate.update("DELETE FROM job_locks WHERE name = ?", "cart-lifecycle-test");
+    }
+
+    @Test
+    @DisplayName("마지막 변경이 기준 시각 이전인 활성 장바구니만 방치 상태로 변경")
+    void abandonStaleCarts_onlyStaleCarts() {
+        Cart stale = cartService.createCartForUser(staleUserId);
+        Cart active = cartService.createCartForUser(activeUserId);
+        jdbcTemplate.update("UPDATE carts SET updated_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(40)), stale.getId());
+
+        int abandoned = cartLifecycleService.abandonStaleCarts(LocalDateTime.now().minusDays(30));
+
+        assertThat(abandoned).isGreaterThanOrEqualTo(1);
+        assertThat(cartRepository.findById(stale.getId()).orElseThrow().getStatus()).isEqualTo(CartStatus.ABANDONED);
+        assertThat(cartRepository.findById(active.getId()).orElseThrow().getStatus()).isEqualTo(CartStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("수동 정리는 주기 실행의 이어서 처리할 위치와 관계없이 최소 ID 부터 처리하고 그 위치를 바꾸지 않음")
+    void cleanupOldCarts_startsFromMinId() {
+        Cart stale = cartService.createCartForUser(staleUserId);
+        Cart active = cartService.createCartForUser(activeUserId);
+        jdbcTemplate.update("UPDATE carts SET updated_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(40)), stale.getId());
+        // 주기 실행이 오래된 장바구니 뒤에서 중단된 상태
+        ReflectionTestUtils.setField(cartLifecycleService, "resumeFromId", active.getId());
+
+        cartService.cleanupOldCarts(30);
+
+        assertThat(cartRepository.findById(stale.getId()).orElseThrow().getStatus()).isEqualTo(CartStatus.ABANDONED);
+        assertThat(ReflectionTestUtils.getField(cartLifecycleService, "resumeFromId")).isEqualTo(active.getId());
+        ReflectionTestUtils.setField(cartLifecycleService, "resumeFromId", 0L);
+    }
+
+    @Test
+    @DisplayName("임대 기간 안에는 다른 인스턴스가 작업 잠금을 획득할 수 없음")
+    void jobLock_singleOwner() {
+        JobLockService otherInstance = new JobLockService(jdbcTemplate);
+
+        assertThat(jobLockService.tryAcquire("cart-lifecycle-test", Duration.ofMinutes(1))).isTrue();
+        assertThat(otherInstance.tryAcquire("cart-lifecycle-test", Duration.ofMinutes(1))).isFalse();
+
+        jobLockService.release("cart-lifecycle-test");
+        assertThat(otherInstance.tryAcquire("cart-lifecycle-test", Duration.ofMinutes(1))).isTrue();
+    }
+
+    private Long saveUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("password");
+        user.setEmail(username + "@example.com");
+        return userRepository.save(user).getId();
+    }
+}
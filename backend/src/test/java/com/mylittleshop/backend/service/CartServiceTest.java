@@ -0,0 +1,117 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.dto.CartMutationRequest;
+import com.mylittleshop.backend.dto.CartOperation;
+import com.mylittleshop.backend.dto.CartView;
+import com.mylittleshop.backend.model.User;
+import com.mylittleshop.backend.repository.ProductRepository;
+import com.mylittleshop.backend.repository.UserRepository;
+import com.mylittleshop.backend.support.TestProducts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CartService 일괄 변경 테스트
+ * - 같은 상품에 대한 여러 변경이 최종 수량으로 합쳐지고, 멱등성 키와 버전 확인이 동작하는지 검증합니다.
+ */
+@SpringBootTest
+class CartServiceTest {
+
+    @Autowired
+    private CartService cartService;
+    @Autowired
+    private CartViewService cartViewService;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+    private Long productA;
+    private Long productB;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("cart-mutation-test");
+        user.setPassword("password");
+        user.setEmail("cart-mutation-test@example.com");
+        userId = userRepository.save(user).getId();
+        productA = saveProduct("CART-MUTATION-A", 10000);
+        productB = saveProduct("CART-MUTATION-B", 3000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cartService.findByUserId(userId).forEach(cart -> cartService.deleteById(cart.getId()));
+        productService.deleteById(productA);
+        productService.deleteById(productB);
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    @DisplayName("같은 상품에 대한 여러 변경은 최종 수량 하나로 반영")
+    void applyMutations_coalescesOperations() {
+        cartService.applyMutations(userId, request(null,
+                op(CartOperation.Type.ADD, productA, 1),
+                op(CartOperation.Type.ADD, productA, 1),
+                op(CartOperation.Type.ADD, productB, 2),
+                op(CartOperation.Type.SET, productA, 3),
+                op(CartOperation.Type.REMOVE, productB, null)), null);
+
+        CartView view = cartViewService.getCartView(userId);
+        assertThat(view.getItems()).hasSize(1);
+        assertThat(view.getItems().get(0).getProductId()).isEqualTo(productA);
+        assertThat(view.getTotalQuantity()).isEqualTo(3);
+        assertThat(view.getSubtotal()).isEqualByComparingTo("30000");
+    }
+
+    @Test
+    @DisplayName("같은 멱등성 키의 재요청은 다시 적용하지 않음")
+    void applyMutations_idempotencyKey() {
+        CartMutationRequest request = request(null, op(CartOperation.Type.ADD, productA, 1));
+
+        assertThat(cartService.applyMutations(userId, request, "add-a-1")).isTrue();
+        assertThat(cartService.applyMutations(userId, request, "add-a-1")).isFalse();
+
+        assertThat(cartViewService.getCartView(userId).getTotalQuantity()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("expectedVersion 이 현재 버전과 다르면 거부")
+    void applyMutations_versionConflict() {
+        cartService.applyMutations(userId, request(null, op(CartOperation.Type.ADD, productA, 1)), null);
+        Long version = cartViewService.getCartView(userId).getVersion();
+
+        cartService.applyMutations(userId, request(version, op(CartOperation.Type.ADD, productB, 1)), null);
+
+        assertThatThrownBy(() -> cartService.applyMutations(userId,
+                request(version, op(CartOperation.Type.REMOVE, productA, null)), null))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(cartViewService.getCartView(userId).getItems()).hasSize(2);
+    }
+
+    private Long saveProduct(String sku, int price) {
+        return productRepository.save(TestProducts.product("장바구니 변경 테스트 상품 " + sku, sku, price)).getId();
+    }
+
+    private static CartMutationRequest request(Long expectedVersion, CartOperation... operations) {
+        return CartMutationRequest.builder().expectedVersion(expectedVersion).operations(List.of(operations)).build();
+    }
+
+    private static CartOperation op(CartOperation.Type type, Long productId, Integer quantity) {
+        return CartOperation.builder().type(type).productId(productId).quantity(quantity).build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.dto.CartView;
+import com.mylittleshop.backend.model.CartItem;
+import com.mylittleshop.backend.model.Product;
+import com.mylittleshop.backend.model.User;
+import com.mylittleshop.backend.repository.ProductRepository;
+import com.mylittleshop.backend.repository.UserRepository;
+import com.mylittleshop.backend.support.TestProducts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CartViewService 테스트
+ * - 장바구니 조회 결과의 합계/재고와, 아이템 추가/수량 변경/삭제 커밋 후 스냅샷 무효화를 검증합니다.
+ */
+@SpringBootTest
+class CartViewServiceTest {
+
+    @Autowired
+    private CartViewService cartViewService;
+    @Autowired
+    private CartService cartService;
+    @Autowired
+    private CartItemService cartItemService;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("cart-view-test");
+        user.setPassword("password");
+        user.setEmail("cart-view-test@example.com");
+        userId = userRepository.save(user).getId();
+
+        Product product = TestProducts.product("장바구니 테스트 상품", "CART-VIEW-001");
+        product.setStockQuantity(5);
+        productId = productRepository.save(product).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cartService.findByUserId(userId).forEach(cart -> cartService.deleteById(cart.getId()));
+        productService.deleteById(productId);
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    @DisplayName("장바구니가 없으면 빈 결과")
+    void getCartView_emptyWithoutCart() {
+        CartView view = cartViewService.getCartView(userId);
+
+        assertThat(view.getCartId()).isNull();
+        assertThat(view.getItems()).isEmpty();
+        assertThat(view.getSubtotal()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("추가/수량 변경/삭제 커밋 후 캐시된 스냅샷이 무효화되어 합계와 버전에 반영")
+    void getCartView_invalidatedOnChange() {
+        assertThat(cartViewService.getCartView(userId).getItems()).isEmpty();
+
+        CartItem item = cartService.addItem(userId, productId, 2);
+        CartView added = cartViewService.getCartView(userId);
+        assertThat(added.getItemCount()).isEqualTo(1);
+        assertThat(added.getTotalQuantity()).isEqualTo(2);
+        assertThat(added.getSubtotal()).isEqualByComparingTo("20000");
+        assertThat(added.getItems().get(0).getProductName()).isEqualTo("장바구니 테스트 상품");
+        assertThat(added.isAllInStock()).isTrue();
+
+        cartItemService.updateQuantity(item.getId(), 4);
+        CartView updated = cartViewService.getCartView(userId);
+        assertThat(updated.getSubtotal()).isEqualByComparingTo("40000");
+        assertThat(updated.getVersion()).isGreaterThan(added.getVersion());
+
+        // 재고(5개)를 넘는 수량 변경은 거부되고 장바구니는 그대로
+        assertThatThrownBy(() -> cartItemService.updateQuantity(item.getId(), 6))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(cartViewService.getCartView(userId).getTotalQuantity()).isEqualTo(4);
+
+        cartItemService.deleteCartItem(item.getId());
+        assertThat(cartViewService.getCartView(userId).getItems()).isEmpty();
+    }
+}
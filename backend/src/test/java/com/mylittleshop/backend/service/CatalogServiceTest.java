@@ -0,0 +1,99 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.cache.CatalogL2Cache;
+import com.mylittleshop.backend.dto.ProductSnapshot;
+import com.mylittleshop.backend.dto.ProductSummary;
+import com.mylittleshop.backend.model.Product;
+import com.mylittleshop.backend.model.ProductStatus;
+import com.mylittleshop.backend.repository.ProductRepository;
+import com.mylittleshop.backend.support.TestProducts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CatalogService 캐시 테스트
+ * - 프로세스 내 L2 캐시(app.catalog-cache.l2=memory)를 사용해 적재와 커밋 후 무효화를 검증합니다.
+ */
+@SpringBootTest(properties = "app.catalog-cache.l2=memory")
+class CatalogServiceTest {
+
+    @Autowired
+    private CatalogService catalogService;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private CatalogL2Cache l2Cache;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        productId = productRepository.save(TestProducts.product("캐시 테스트 상품", "CACHE-TEST-001")).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productService.deleteById(productId);
+    }
+
+    @Test
+    @DisplayName("첫 조회 시 L1/L2에 적재되고, 상품 수정 커밋 후 무효화")
+    void getProduct_invalidatedAfterCommit() {
+        ProductSnapshot first = catalogService.getProduct(productId).orElseThrow();
+        assertThat(first.getGmPrice()).isEqualByComparingTo("10000");
+        assertThat(l2Cache.get("catalog:product:" + productId)).isNotNull();
+
+        // 캐시를 거치지 않은 변경은 반영되지 않음
+        Product product = productRepository.findById(productId).orElseThrow();
+        product.setGmPrice(BigDecimal.valueOf(12000));
+        productRepository.save(product);
+        assertThat(catalogService.getProduct(productId).orElseThrow().getGmPrice()).isEqualByComparingTo("10000");
+
+        // 서비스를 통한 변경은 커밋 후 무효화
+        productService.applyDiscount(productId, BigDecimal.valueOf(10));
+        assertThat(l2Cache.get("catalog:product:" + productId)).isNull();
+        ProductSnapshot updated = catalogService.getProduct(productId).orElseThrow();
+        assertThat(updated.getGmPrice()).isEqualByComparingTo(productRepository.findById(productId).orElseThrow().getGmPrice());
+        assertThat(catalogService.getProductSummaries(List.of(productId)).get(0).getDiscount()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("목록 항목 JSON은 변경이 없으면 재사용하고, 재고가 바뀌면 다시 직렬화")
+    void getSummaryJson_reusedUntilStockChanges() {
+        ProductSummary summary = catalogService.getProductSummaries(List.of(productId)).get(0);
+        byte[] first = catalogService.getSummaryJson(summary);
+        assertThat(catalogService.getSummaryJson(catalogService.getProductSummaries(List.of(productId)).get(0)))
+                .isSameAs(first);
+        assertThat(new String(first, StandardCharsets.UTF_8))
+                .contains("\"price\":10000", "\"stockQuantity\":10", "\"isActive\":true");
+
+        productService.updateProductStock(productId, 3);
+
+        byte[] changed = catalogService.getSummaryJson(catalogService.getProductSummaries(List.of(productId)).get(0));
+        assertThat(new String(changed, StandardCharsets.UTF_8)).contains("\"stockQuantity\":3");
+    }
+
+    @Test
+    @DisplayName("재고는 캐시 값 대신 재고 원장 값으로 덮어씀")
+    void getProduct_overlaysCurrentStock() {
+        catalogService.getProduct(productId).orElseThrow();
+
+        productService.updateProductStock(productId, 0);
+
+        ProductSnapshot snapshot = catalogService.getProduct(productId).orElseThrow();
+        assertThat(snapshot.getStockQuantity()).isZero();
+        assertThat(snapshot.getStatus()).isEqualTo(ProductStatus.SOLD_OUT);
+    }
+}
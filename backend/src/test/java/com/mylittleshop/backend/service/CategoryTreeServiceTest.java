@@ -0,0 +1,122 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.dto.CategorySnapshot;
+import com.mylittleshop.backend.model.Product;
+import com.mylittleshop.backend.model.ProductCategory;
+import com.mylittleshop.backend.support.TestProducts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CategoryTreeService 테스트
+ * - 카테고리 저장/삭제 커밋 후 트리가 재구성되고, 하위 카테고리 ID 구간이 올바른지 검증합니다.
+ * - 카테고리별 상품 수는 상품의 카테고리/활성 여부가 바뀔 때만 다시 집계되는지 검증합니다.
+ */
+@SpringBootTest
+class CategoryTreeServiceTest {
+
+    @Autowired
+    private CategoryTreeService categoryTreeService;
+    @Autowired
+    private ProductCategoryService productCategoryService;
+    @Autowired
+    private ProductService productService;
+
+    private ProductCategory root;
+    private ProductCategory child;
+    private ProductCategory grandchild;
+    private ProductCategory sibling;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        root = productCategoryService.save(new ProductCategory("트리 테스트 최상위"));
+        child = saveChild(root, "트리 테스트 하위");
+        grandchild = saveChild(child, "트리 테스트 손자");
+        sibling = saveChild(root, "트리 테스트 형제");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (productId != null) {
+            productService.deleteById(productId);
+        }
+        productCategoryService.deleteById(grandchild.getId());
+        productCategoryService.deleteById(child.getId());
+        productCategoryService.deleteById(sibling.getId());
+        productCategoryService.deleteById(root.getId());
+    }
+
+    @Test
+    @DisplayName("하위 카테고리 ID는 자신을 포함한 전위 순서 구간")
+    void getDescendantIds_returnsSubtree() {
+        assertThat(categoryTreeService.getDescendantIds(root.getId()))
+                .containsExactly(root.getId(), child.getId(), grandchild.getId(), sibling.getId());
+        assertThat(categoryTreeService.getDescendantIds(child.getId()))
+                .containsExactly(child.getId(), grandchild.getId());
+        assertThat(categoryTreeService.getDescendantIds(sibling.getId())).containsExactly(sibling.getId());
+        assertThat(categoryTreeService.getDescendantIds(-1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최상위/하위 카테고리와 부모 정보 조회")
+    void rootsAndChildren() {
+        assertThat(categoryTreeService.getRootCategories())
+                .extracting(CategorySnapshot::getId).contains(root.getId()).doesNotContain(child.getId());
+        assertThat(categoryTreeService.getChildren(root.getId()))
+                .extracting(CategorySnapshot::getId).containsExactly(child.getId(), sibling.getId());
+
+        CategorySnapshot snapshot = categoryTreeService.getCategory(grandchild.getId()).orElseThrow();
+        assertThat(snapshot.getParentId()).isEqualTo(child.getId());
+        assertThat(snapshot.getParentName()).isEqualTo("트리 테스트 하위");
+    }
+
+    @Test
+    @DisplayName("카테고리 삭제 커밋 후 트리에서 제외")
+    void deleteCategory_rebuildsTree() {
+        assertThat(categoryTreeService.getCategory(sibling.getId())).isPresent();
+
+        productCategoryService.deleteById(sibling.getId());
+        sibling = productCategoryService.save(new ProductCategory("트리 테스트 형제 (재생성)"));
+
+        assertThat(categoryTreeService.getDescendantIds(root.getId()))
+                .containsExactly(root.getId(), child.getId(), grandchild.getId());
+        assertThat(categoryTreeService.getRootCategories())
+                .extracting(CategorySnapshot::getId).contains(sibling.getId());
+    }
+
+    @Test
+    @DisplayName("상품 수는 카테고리/활성 여부 변경 커밋 후에만 다시 집계하고, 가격 변경은 기존 트리를 그대로 사용")
+    void productCounts_refreshOnlyOnCategoryOrActiveChange() {
+        productId = productService.save(product(sibling)).getId();
+        assertThat(categoryTreeService.getCategory(sibling.getId()).orElseThrow().getProductCount()).isEqualTo(1);
+
+        CategorySnapshot before = categoryTreeService.getCategory(sibling.getId()).orElseThrow();
+        productService.applyDiscount(productId, BigDecimal.TEN);
+        assertThat(categoryTreeService.getCategory(sibling.getId()).orElseThrow()).isSameAs(before);
+
+        productService.updateProduct(productId, product(child));
+        assertThat(categoryTreeService.getCategory(sibling.getId()).orElseThrow().getProductCount()).isZero();
+        assertThat(categoryTreeService.getCategory(child.getId()).orElseThrow().getProductCount()).isEqualTo(1);
+    }
+
+    private ProductCategory saveChild(ProductCategory parent, String name) {
+        ProductCategory category = new ProductCategory(name);
+        category.setParent(parent);
+        return productCategoryService.save(category);
+    }
+
+    private static Product product(ProductCategory category) {
+        Product product = TestProducts.product("트리 테스트 상품", "CATEGORY-TREE-COUNT");
+        product.setCategory(category);
+        return product;
+    }
+}
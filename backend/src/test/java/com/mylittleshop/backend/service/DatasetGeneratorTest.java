@@ -0,0 +1,80 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.dto.DatasetPlan;
+import com.mylittleshop.backend.repository.ProductRepository;
+import com.mylittleshop.backend.support.TestProducts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DatasetGenerator 테스트
+ * - 작은 규모로 생성해 테이블별 건수, 참조 무결성, 인기도 치우침, ID 생성기 재정렬을 검증합니다.
+ * - 다른 테스트와 데이터가 섞이지 않도록 별도 컨텍스트(별도 내장 DB)에서 실행합니다.
+ */
+@SpringBootTest(properties = "app.dataset.test-context=true")
+class DatasetGeneratorTest {
+
+    @Autowired
+    private DatasetGenerator datasetGenerator;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("계획한 규모로 생성되고 주문이 인기 상품에 몰리며 생성 후 새 행 저장이 가능")
+    void generate_smallPlan() {
+        Map<String, Long> counts = datasetGenerator.generate(DatasetPlan.builder()
+                .categories(20)
+                .products(500)
+                .imagesPerProduct(2)
+                .attributes(5)
+                .attributesPerProduct(2)
+                .users(200)
+                .userPassword("dataset1234")
+                .orders(2_000)
+                .maxItemsPerOrder(4)
+                .wishlistsPerUser(3)
+                .reviewsPerUser(1)
+                .cartRatio(0.5)
+                .maxItemsPerCart(3)
+                .subscriptionPlans(2)
+                .subscriptions(50)
+                .zipfExponent(1.1)
+                .seed(7)
+                .threads(3)
+                .batchSize(64)
+                .build());
+
+        assertThat(counts).containsEntry("products", 500L).containsEntry("product_images", 1_000L)
+                .containsEntry("users", 200L).containsEntry("orders", 2_000L).containsEntry("subscriptions", 50L);
+        assertThat(counts.get("order_items")).isGreaterThanOrEqualTo(2_000L);
+
+        // 같은 사용자가 같은 상품을 두 번 찜하지 않음
+        Integer duplicateWishlists = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT user_id, product_id FROM wishlists GROUP BY user_id, product_id HAVING COUNT(*) > 1) d",
+                Integer.class);
+        assertThat(duplicateWishlists).isZero();
+
+        // 주문 항목은 모두 생성된 주문을 참조
+        Integer orphanItems = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM order_items i LEFT JOIN orders o ON o.id = i.order_id WHERE o.id IS NULL", Integer.class);
+        assertThat(orphanItems).isZero();
+
+        // 가장 많이 팔린 상품 하나가 전체 주문 항목의 상당 부분을 차지 (균등 분포면 약 0.2%)
+        List<Long> perProduct = jdbcTemplate.queryForList(
+                "SELECT COUNT(*) FROM order_items GROUP BY product_id ORDER BY COUNT(*) DESC", Long.class);
+        assertThat(perProduct.get(0)).isGreaterThan(counts.get("order_items") / 50);
+
+        // IDENTITY 재시작 값이 맞춰져 있어 이후 저장이 충돌하지 않음
+        assertThat(productRepository.save(TestProducts.product("생성 후 저장 상품", null)).getId()).isNotNull();
+    }
+}
@@ -0,0 +1,75 @@
+package com.mylittleshop.backend.service;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.mylittleshop.backend.model.EmailOutbox;
+import com.mylittleshop.backend.model.EmailOutboxStatus;
+import com.mylittleshop.backend.repository.EmailOutboxRepository;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EmailOutboxDispatcher 테스트
+ * - 프로세스 내 SMTP 서버(GreenMail)로 아웃박스 메일이 배치 발송되고 발송 완료로 기록되는지 검증합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "app.mail.smtp-auth=false",
+        "app.mail.starttls=false",
+        "app.mail.outbox.enabled=false"
+})
+class EmailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+
+    @Autowired
+    private EmailService emailService;
+    @Autowired
+    private EmailOutboxDispatcher emailOutboxDispatcher;
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+    @Autowired
+    private MailTemplateRenderer mailTemplateRenderer;
+
+    @AfterEach
+    void tearDown() {
+        emailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("템플릿 치환 값은 HTML 이스케이프되고 치환자가 남지 않음")
+    void render_escapesValues() {
+        String html = mailTemplateRenderer.render(MailTemplateRenderer.WELCOME, Map.of("displayName", "<홍길동>"));
+
+        assertThat(html).contains("<strong>&lt;홍길동&gt;</strong>").doesNotContain("{{");
+    }
+
+    @Test
+    @DisplayName("등록된 메일이 한 번의 발송 작업으로 모두 발송되고 발송 완료로 기록")
+    void dispatchPending_sendsBatch() throws Exception {
+        emailService.sendVerificationEmail("outbox-1@example.com", "token-1");
+        emailService.sendWelcomeEmail("outbox-2@example.com", "홍길동");
+
+        int sent = emailOutboxDispatcher.dispatchPending();
+
+        assertThat(sent).isEqualTo(2);
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(2);
+        assertThat(received[0].getAllRecipients()[0].toString()).isEqualTo("outbox-1@example.com");
+        assertThat(emailOutboxRepository.findAll()).extracting(EmailOutbox::getStatus)
+                .containsOnly(EmailOutboxStatus.SENT);
+    }
+}
@@ -0,0 +1,68 @@
+package com.mylittleshop.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * HotPathMetrics 테스트
+ * - 작업/단계/배치 구간이 정해진 이름과 태그의 지표로 기록되고, 반복 기록 시 미터를 재사용하는지 검증합니다.
+ */
+class HotPathMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final HotPathMetrics metrics = new HotPathMetrics(registry);
+
+    @Test
+    @DisplayName("성공 표시 없이 예외로 닫힌 작업은 outcome=error, 단계는 phase 태그로 기록")
+    void operationAndPhase_recordedWithTags() {
+        try (HotPathMetrics.Span span = metrics.start("order.checkout")) {
+            try (HotPathMetrics.Span phase = metrics.phase("order.checkout", "load")) {
+                phase.count(1);
+            }
+            span.count(3).success();
+        }
+        assertThatThrownBy(() -> {
+            try (HotPathMetrics.Span span = metrics.start("order.checkout")) {
+                throw new IllegalStateException("재고 부족");
+            }
+        }).isInstanceOf(IllegalStateException.class);
+
+        assertThat(registry.get("order.checkout").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get("order.checkout").tag("outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(registry.get("order.checkout.phase").tag("phase", "load").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치 구간은 처리 건수와 처리량을 작업 이름 태그로 기록")
+    void batch_recordsItemsAndThroughput() {
+        metrics.batch("recurring-orders").count(120).success().close();
+        metrics.summary("product.search.results", 7, "mode", "page");
+
+        assertThat(registry.get("batch.job").tags("job", "recurring-orders", "outcome", "success").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("batch.job.items").tag("job", "recurring-orders").counter().count()).isEqualTo(120);
+        assertThat(registry.get("batch.job.throughput").tag("job", "recurring-orders").summary().max()).isPositive();
+        assertThat(registry.get("product.search.results").tag("mode", "page").summary().totalAmount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("같은 이름과 태그로 반복 기록하면 미터를 다시 등록하지 않고 같은 미터에 누적")
+    void repeatedSpans_reuseMeters() {
+        metrics.batch("subscription-billing").count(10).success().close();
+        metrics.start("cart.view").success().close();
+        int meters = registry.getMeters().size();
+
+        for (int i = 0; i < 3; i++) {
+            metrics.batch("subscription-billing").count(10).success().close();
+            metrics.start("cart.view").success().close();
+        }
+
+        assertThat(registry.getMeters()).hasSize(meters);
+        assertThat(registry.get("batch.job.items").tag("job", "subscription-billing").counter().count()).isEqualTo(40);
+        assertThat(registry.get("cart.view").tag("outcome", "success").timer().count()).isEqualTo(4);
+    }
+}
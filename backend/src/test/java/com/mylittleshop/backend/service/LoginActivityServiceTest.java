@@ -0,0 +1,79 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.model.User;
+import com.mylittleshop.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LoginActivityService 테스트
+ * - 동시에 들어온 로그인 실패 중 한 요청만 계정을 잠그고, 로그인 성공 기록이 batch 반영되는지 검증합니다.
+ */
+@SpringBootTest
+class LoginActivityServiceTest {
+
+    @Autowired
+    private LoginActivityService loginActivityService;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("login-activity-test");
+        user.setPassword("password");
+        user.setEmail("login-activity-test@example.com");
+        userId = userRepository.save(user).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    @DisplayName("동시 로그인 실패 중 임계값에 도달한 한 요청만 계정을 잠금")
+    void recordFailure_locksOnce() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            results.add(pool.submit(() -> loginActivityService.recordFailure(userId)));
+        }
+        int locks = 0;
+        for (Future<Boolean> result : results) {
+            locks += result.get() ? 1 : 0;
+        }
+        pool.shutdown();
+
+        assertThat(locks).isEqualTo(1);
+        assertThat(userRepository.findById(userId).orElseThrow().getLocked()).isTrue();
+    }
+
+    @Test
+    @DisplayName("로그인 성공 기록은 반영 시 마지막 로그인 시각과 실패 횟수 초기화로 저장")
+    void recordSuccess_flushedInBatch() {
+        loginActivityService.recordFailure(userId);
+        loginActivityService.recordSuccess(userId);
+        assertThat(userRepository.findById(userId).orElseThrow().getLastLoginAt()).isNull();
+
+        loginActivityService.flush();
+
+        User user = userRepository.findById(userId).orElseThrow();
+        assertThat(user.getLastLoginAt()).isNotNull();
+        assertThat(user.getFailedLoginAttempts()).isZero();
+    }
+}
@@ -0,0 +1,158 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.model.Delivery;
+import com.mylittleshop.backend.model.Order;
+import com.mylittleshop.backend.model.OrderItem;
+import com.mylittleshop.backend.model.Product;
+import com.mylittleshop.backend.model.User;
+import com.mylittleshop.backend.repository.ProductRepository;
+import com.mylittleshop.backend.repository.UserRepository;
+import com.mylittleshop.backend.support.TestProducts;
+import com.mylittleshop.backend.util.QueryCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OrderService.createOrder 쿼리 테스트
+ * - 주문 항목 수와 관계없이 상품은 IN 쿼리 1회로 조회하고, 주문/항목/이력 INSERT 는 테이블마다 배치 1회로 실행되는지,
+ *   주문 항목 ID 가 행마다 id_generators 를 조회하지 않고 풀(allocationSize 50)에서 할당되는지 검증합니다.
+ * - 재고 예약은 JdbcTemplate 배치로 실행되므로 Hibernate SQL 집계에 포함되지 않습니다.
+ */
+@SpringBootTest
+class OrderServiceTest {
+
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private final List<Long> productIds = new ArrayList<>();
+    private final List<Order> orders = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("order-batch-test");
+        user.setPassword("password");
+        user.setEmail("order-batch-test@example.com");
+        userId = userRepository.save(user).getId();
+        for (int i = 0; i < 6; i++) {
+            productIds.add(productRepository.save(TestProducts.product("주문 배치 테스트 상품 " + i, "ORDER-BATCH-" + i)).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Order order : orders) {
+            jdbcTemplate.update("DELETE FROM stock_reservations WHERE reservation_key = ?",
+                    StockReservationService.orderKey(order.getId()));
+            jdbcTemplate.update("DELETE FROM order_status_history WHERE order_id = ?", order.getId());
+            jdbcTemplate.update("DELETE FROM order_items WHERE order_id = ?", order.getId());
+            jdbcTemplate.update("DELETE FROM orders WHERE id = ?", order.getId());
+            jdbcTemplate.update("DELETE FROM deliveries WHERE id = ?", order.getDelivery().getId());
+        }
+        for (Long productId : productIds) {
+            jdbcTemplate.update("DELETE FROM inventory_history WHERE product_id = ?", productId);
+            jdbcTemplate.update("DELETE FROM inventory WHERE product_id = ?", productId);
+        }
+        productRepository.deleteAllById(productIds);
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    @DisplayName("주문 항목이 늘어도 SQL 수는 같고, 상품 조회는 IN 1회, INSERT 는 테이블마다 배치 1회")
+    void createOrder_statementCountIndependentOfItems() {
+        QueryCounter.Scope twoItems = create(2);
+        QueryCounter.Scope sixItems = create(6);
+
+        assertThat(sixItems.getStatements()).isEqualTo(twoItems.getStatements());
+        assertThat(statementsMatching(sixItems, "select", "from products").values()).containsExactly(1);
+        assertThat(statementsMatching(sixItems, "select", "from products").keySet())
+                .allMatch(sql -> sql.matches("(?s).*\\bin\\s*\\(.*"));
+        assertThat(statementsMatching(sixItems, "insert into orders").values()).containsExactly(1);
+        assertThat(statementsMatching(sixItems, "insert into order_items").values()).containsExactly(1);
+        assertThat(statementsMatching(sixItems, "insert into order_status_history").values()).containsExactly(1);
+        assertThat(statementsMatching(sixItems, "id_generators")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주문 항목 ID 는 풀에서 할당되어 id_generators 는 항목 수가 아닌 할당 크기 단위로만 증가")
+    void createOrder_assignsItemIdsFromPool() {
+        long before = nextVal("order_items");
+        create(6);
+        long after = nextVal("order_items");
+
+        Order order = orders.get(orders.size() - 1);
+        List<Long> itemIds = order.getOrderItems().stream().map(OrderItem::getId).toList();
+        assertThat(itemIds).hasSize(6).doesNotHaveDuplicates().doesNotContainNull();
+        // 풀에 남은 ID 로 충분하면 0, 새 블록을 받았으면 할당 크기만큼 (행마다 조회했다면 6)
+        assertThat(after - before).isIn(0L, (long) ID_ALLOCATION_SIZE);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_items WHERE order_id = ?",
+                Integer.class, order.getId())).isEqualTo(6);
+    }
+
+    // 앞에서부터 itemCount 개 상품을 1개씩 주문하고 그동안 실행된 Hibernate SQL 집계를 반환
+    private QueryCounter.Scope create(int itemCount) {
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            Product product = new Product();
+            product.setId(productIds.get(i));
+            OrderItem item = new OrderItem();
+            item.setProduct(product);
+            item.setQuantity(1);
+            item.setUnitPrice(BigDecimal.valueOf(8000));
+            items.add(item);
+        }
+        Delivery delivery = new Delivery();
+        delivery.setRecipientName("배치 테스트");
+        delivery.setContactNumber("010-0000-0000");
+        delivery.setAddress("서울시 테스트구 1");
+
+        try (QueryCounter.Scope scope = QueryCounter.open("createOrder-" + itemCount)) {
+            orders.add(orderService.createOrder(userId, items, "CARD", "STANDARD", delivery,
+                    BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, null, false, null));
+            return scope;
+        }
+    }
+
+    // 모든 조각을 포함하는 SQL 문과 실행 횟수 (대소문자 무시)
+    private static Map<String, Integer> statementsMatching(QueryCounter.Scope scope, String... fragments) {
+        Map<String, Integer> matching = new LinkedHashMap<>();
+        scope.getStatementsRepeatedAtLeast(1).forEach((sql, count) -> {
+            String lower = sql.toLowerCase(Locale.ROOT);
+            for (String fragment : fragments) {
+                if (!lower.contains(fragment)) {
+                    return;
+                }
+            }
+            matching.put(sql, count);
+        });
+        return matching;
+    }
+
+    private long nextVal(String sequence) {
+        return jdbcTemplate.queryForObject("SELECT next_val FROM id_generators WHERE sequence_name = ?",
+                Long.class, sequence);
+    }
+}
@@ -0,0 +1,154 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.dto.ProductSearchQuery;
+import com.mylittleshop.backend.dto.ProductSearchResult;
+import com.mylittleshop.backend.model.Product;
+import com.mylittleshop.backend.repository.ProductRepository;
+import com.mylittleshop.backend.support.TestProducts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ProductSearchIndex 테스트
+ * - 테스트마다 고유한 브랜드의 상품 3개를 등록하고, 브랜드 필터로 다른 상품과 분리해
+ *   한글 2-gram 일치, 오타 허용, 변경/삭제 후 패싯, docId 압축, 재고 원장 변경 반영을 검증합니다.
+ * - 품절 상품은 색인에 남아 재고 필터를 켠 조회에서만 빠집니다.
+ */
+@SpringBootTest
+class ProductSearchIndexTest {
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private StockLedgerService stockLedgerService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String brand;
+    private Long earphoneId;
+    private Long headphoneId;
+    private Long cableId;
+
+    @BeforeEach
+    void setUp() {
+        brand = "IDXTEST" + System.nanoTime();
+        earphoneId = productService.save(product("무선 블루투스 이어폰", 40000, true)).getId();
+        headphoneId = productService.save(product("Wireless Headphone 프로", 40000, false)).getId();
+        cableId = productService.save(product("유선 이어폰 케이블", 8000, false)).getId();
+        assertThat(productSearchIndex.isReady()).isTrue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long productId : List.of(earphoneId, headphoneId, cableId)) {
+            jdbcTemplate.update("DELETE FROM inventory_history WHERE product_id = ?", productId);
+            if (productRepository.existsById(productId)) {
+                productService.deleteById(productId);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("한글은 2-gram 으로 색인되어 단어 일부와 여러 상품에 걸친 단어로도 검색")
+    void koreanBigramMatches() {
+        assertThat(search("블루투스").getProductIds()).containsExactly(earphoneId);
+        assertThat(search("루투").getProductIds()).containsExactly(earphoneId);
+        assertThat(search("이어폰").getProductIds()).containsExactlyInAnyOrder(earphoneId, cableId);
+        assertThat(search("스피커").getTotalHits()).isZero();
+    }
+
+    @Test
+    @DisplayName("영문 단어는 글자 치환/누락/추가 한 번까지 일치")
+    void typoTolerantHits() {
+        assertThat(search("headphane").getProductIds()).containsExactly(headphoneId);
+        assertThat(search("wireles").getProductIds()).containsExactly(headphoneId);
+        assertThat(search("headphones").getProductIds()).containsExactly(headphoneId);
+        assertThat(search("hdphn").getTotalHits()).isZero();
+    }
+
+    @Test
+    @DisplayName("가격 변경과 삭제 커밋 후 패싯 집계가 갱신")
+    void facetCountsAfterUpdateAndDelete() {
+        Map<String, Map<String, Integer>> facets = search(null).getFacets();
+        assertThat(facets.get("brand")).containsExactly(Map.entry(brand, 3));
+        assertThat(facets.get("priceRange")).containsOnly(Map.entry("~1만원", 1), Map.entry("3만~5만원", 2));
+        assertThat(facets.get("flags")).containsOnly(Map.entry("featured", 1));
+
+        productService.applyDiscount(earphoneId, BigDecimal.valueOf(50));
+        facets = search(null).getFacets();
+        assertThat(facets.get("priceRange"))
+                .containsOnly(Map.entry("~1만원", 1), Map.entry("1만~3만원", 1), Map.entry("3만~5만원", 1));
+
+        productService.deleteById(cableId);
+        ProductSearchResult result = search(null);
+        assertThat(result.getTotalHits()).isEqualTo(2);
+        assertThat(result.getFacets().get("brand")).containsExactly(Map.entry(brand, 2));
+        assertThat(result.getFacets().get("priceRange"))
+                .containsOnly(Map.entry("1만~3만원", 1), Map.entry("3만~5만원", 1));
+    }
+
+    @Test
+    @DisplayName("삭제 문서가 쌓여 docId 를 압축한 뒤에도 상품 ID, 포스팅, 패싯이 일치")
+    void compactionKeepsDocIdsAndPostingsConsistent() {
+        // 재색인은 기존 문서를 삭제 표시 후 새 docId 로 추가하므로 반복하면 압축 조건을 넘김
+        for (int i = 0; i < 1100; i++) {
+            productSearchIndex.reindex(i % 2 == 0 ? earphoneId : headphoneId);
+        }
+
+        assertThat(search("블루투스").getProductIds()).containsExactly(earphoneId);
+        assertThat(search("headphane").getProductIds()).containsExactly(headphoneId);
+        assertThat(search("이어폰").getProductIds()).containsExactlyInAnyOrder(earphoneId, cableId);
+        ProductSearchResult result = search(null);
+        assertThat(result.getProductIds()).containsExactlyInAnyOrder(earphoneId, headphoneId, cableId);
+        assertThat(result.getFacets().get("brand")).containsExactly(Map.entry(brand, 3));
+        assertThat(result.getFacets().get("priceRange")).containsOnly(Map.entry("~1만원", 1), Map.entry("3만~5만원", 2));
+    }
+
+    @Test
+    @DisplayName("재고 원장으로 품절/재입고되면 상품 변경 이벤트 없이도 재고 필터에 반영, 품절 상품은 일반 검색/패싯에 유지")
+    void stockChangesFromLedgerAreIndexed() {
+        stockLedgerService.reserve(Map.of(earphoneId, 2), "search-index-test");
+        assertThat(inStock().getProductIds()).containsExactlyInAnyOrder(earphoneId, headphoneId, cableId);
+
+        stockLedgerService.reserve(Map.of(headphoneId, 5), "search-index-test");
+        assertThat(inStock().getProductIds()).containsExactlyInAnyOrder(earphoneId, cableId);
+        ProductSearchResult all = search(null);
+        assertThat(all.getProductIds()).containsExactlyInAnyOrder(earphoneId, headphoneId, cableId);
+        assertThat(all.getFacets().get("brand")).containsEntry(brand, 3);
+        assertThat(search("headphone").getProductIds()).containsExactly(headphoneId);
+
+        stockLedgerService.release(Map.of(headphoneId, 5), "search-index-test");
+        assertThat(inStock().getProductIds()).containsExactlyInAnyOrder(earphoneId, headphoneId, cableId);
+    }
+
+    private Product product(String name, long price, boolean featured) {
+        Product product = TestProducts.product(name, brand + "-" + name.hashCode(), price);
+        product.setBrand(brand);
+        product.setStockQuantity(5);
+        product.setFeatured(featured);
+        return product;
+    }
+
+    private ProductSearchResult search(String keyword) {
+        return productSearchIndex.search(ProductSearchQuery.builder().keyword(keyword).brand(brand).build());
+    }
+
+    private ProductSearchResult inStock() {
+        return productSearchIndex.search(ProductSearchQuery.builder().brand(brand).inStockOnly(true).build());
+    }
+}
@@ -0,0 +1,155 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.dto.CursorPage;
+import com.mylittleshop.backend.model.Product;
+import com.mylittleshop.backend.repository.ProductRepository;
+import com.mylittleshop.backend.support.TestProducts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * ProductService 통합 검색 테스트
+ * - LIKE 검색(FULLTEXT 미지원 DB): 관련도 순서(SKU 일치 > 이름 접두어 > 이름 포함 > 브랜드 > 설명),
+ *   검색어의 LIKE 특수 문자(%, _, !) 이스케이프, (관련도, ID) 키셋 커서 조회를 검증합니다.
+ * - 전문 검색(MySQL): BOOLEAN MODE 연산자 제거와 (점수, ID) 키셋 커서 조회를 검증합니다.
+ * - 실행 DB 가 지원하지 않는 경로의 테스트는 건너뜁니다.
+ * - 테스트마다 고유한 검색어를 써서 다른 상품과 섞이지 않게 합니다.
+ */
+@SpringBootTest
+class ProductSearchServiceTest {
+
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
+
+    private final List<Long> productIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllById(productIds);
+    }
+
+    @Test
+    @DisplayName("SKU 일치 > 이름 접두어 > 이름 포함 > 브랜드 포함 > 설명 포함 순, 같은 관련도는 최신 ID 우선")
+    void searchProducts_ordersByRank() {
+        assumeFalse(productService.isFullTextSearchEnabled());
+        String keyword = "srchrank" + System.nanoTime();
+        List<Long> expected = rankedProducts(keyword);
+
+        Page<Product> page = productService.searchProducts(keyword, null, null, null, false, PageRequest.of(0, 20));
+
+        assertThat(page.getContent()).extracting(Product::getId).containsExactlyElementsOf(expected);
+        assertThat(page.getTotalElements()).isEqualTo(expected.size());
+    }
+
+    @Test
+    @DisplayName("키셋 커서로 페이지를 넘겨도 오프셋 검색과 같은 순서로 빠짐/중복 없이 조회")
+    void searchProducts_walksPagesWithCursor() {
+        String keyword = "srchcursor" + System.nanoTime();
+        List<Long> expected = rankedProducts(keyword);
+        if (productService.isFullTextSearchEnabled()) {
+            // 전문 검색은 (점수, ID) 순이므로 오프셋 검색 결과를 기준으로 비교
+            expected = searchIds(keyword);
+            assertThat(expected).hasSize(6);
+        }
+
+        List<Long> walked = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+        do {
+            CursorPage<Product> page = productService.searchProducts(keyword, null, null, null, false, cursor, 2);
+            page.getContent().forEach(product -> walked.add(product.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(walked).containsExactlyElementsOf(expected);
+        assertThat(pages).isEqualTo(3);
+        assertThatThrownBy(() -> productService.searchProducts(keyword, null, null, null, false, "not-a-cursor", 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("검색어의 %, _, ! 는 와일드카드/이스케이프 문자가 아닌 글자 그대로 일치")
+    void searchProducts_escapesLikeCharacters() {
+        assumeFalse(productService.isFullTextSearchEnabled());
+        String prefix = "srchlike" + System.nanoTime();
+        Long percent = save(prefix + " 100%할인", null, null, null);
+        save(prefix + " 1000할인", null, null, null);
+        Long underscore = save(prefix + " a_b", null, null, null);
+        save(prefix + " axb", null, null, null);
+        Long bang = save(prefix + " x!y", null, null, null);
+        save(prefix + " xy", null, null, null);
+
+        assertThat(searchIds(prefix + " 100%")).containsExactly(percent);
+        assertThat(searchIds(prefix + " a_b")).containsExactly(underscore);
+        assertThat(searchIds(prefix + " x!y")).containsExactly(bang);
+    }
+
+    @Test
+    @DisplayName("전문 검색어의 BOOLEAN MODE 연산자는 제거되고 모든 단어가 포함된 상품만 일치")
+    void searchProducts_fullTextRequiresEachTerm() {
+        assumeTrue(productService.isFullTextSearchEnabled());
+        String prefix = "srchft" + System.nanoTime();
+        Long both = save(prefix + " 유기농 사과", null, null, null);
+        save(prefix + " 유기농 배", null, null, null);
+        save("일반 사과", null, null, null);
+
+        assertThat(searchIds(prefix + " 사과")).containsExactly(both);
+        // -, +, (, ), *, ~, @, " 는 제외/필수/가중치 연산자가 아닌 구분자로만 취급
+        assertThat(searchIds("-" + prefix + " +\"사과\"")).containsExactly(both);
+        assertThat(searchIds("(" + prefix + ")* ~사과@")).containsExactly(both);
+        assertThat(walkPages("(" + prefix + ")* ~사과@", 1)).containsExactly(both);
+    }
+
+    // 관련도 0~4 상품을 만들고 기대 순서(관련도 오름차순, 같은 관련도는 ID 내림차순)를 반환
+    private List<Long> rankedProducts(String keyword) {
+        Long description1 = save("설명 일치 상품 1", null, null, "상세 설명 " + keyword);
+        Long brand = save("브랜드 일치 상품", "브랜드" + keyword, null, null);
+        Long nameContains = save("최고의 " + keyword, null, null, null);
+        Long namePrefix = save(keyword + " 프리미엄", null, null, null);
+        Long sku = save("SKU 일치 상품", null, keyword.toUpperCase(), null);
+        Long description2 = save("설명 일치 상품 2", null, null, "상세 설명 " + keyword);
+        return List.of(sku, namePrefix, nameContains, brand, description2, description1);
+    }
+
+    // 키셋 커서로 마지막 페이지까지 이어 조회한 상품 ID
+    private List<Long> walkPages(String keyword, int size) {
+        List<Long> walked = new ArrayList<>();
+        String cursor = "";
+        do {
+            CursorPage<Product> page = productService.searchProducts(keyword, null, null, null, false, cursor, size);
+            page.getContent().forEach(product -> walked.add(product.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return walked;
+    }
+
+    private List<Long> searchIds(String keyword) {
+        return productService.searchProducts(keyword, null, null, null, false, PageRequest.of(0, 20))
+                .getContent().stream().map(Product::getId).toList();
+    }
+
+    private Long save(String name, String brand, String sku, String description) {
+        Product product = TestProducts.product(name, sku);
+        product.setBrand(brand);
+        product.setDescription(description);
+        Long id = productRepository.save(product).getId();
+        productIds.add(id);
+        return id;
+    }
+}
@@ -0,0 +1,113 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.dto.PromotionLine;
+import com.mylittleshop.backend.dto.PromotionQuote;
+import com.mylittleshop.backend.model.Promotion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PromotionEngine 테스트
+ * - 프로모션 저장 커밋 후 규칙이 재구성되고, 장바구니 전체 기준으로 할인 조합이 계산되는지,
+ *   프로모션 하나의 적용 여부를 규칙만으로 판단하는지 검증합니다.
+ */
+@SpringBootTest
+class PromotionEngineTest {
+
+    private static final long PRODUCT_A = 900_001L;
+    private static final long PRODUCT_B = 900_002L;
+    private static final long USER_ID = 800_001L;
+
+    @Autowired
+    private PromotionEngine promotionEngine;
+    @Autowired
+    private PromotionService promotionService;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        createdIds.forEach(promotionService::deleteById);
+    }
+
+    @Test
+    @DisplayName("상품 단위는 항목별 최대 할인, 주문 단위는 상품 할인 후 금액 기준 하나만 적용")
+    void quote_appliesBestCombination() {
+        create("A 10%", "PERCENT", "10", List.of(String.valueOf(PRODUCT_A)), null, null);
+        create("A 3000원", "FIXED", "3000", List.of(String.valueOf(PRODUCT_A)), null, null);
+        create("주문 1000원", "FIXED", "1000", null, null, null);
+        create("회원 전용 5000원", "FIXED", "5000", null, List.of("1"), null);
+
+        PromotionQuote quote = promotionEngine.quote(USER_ID, List.of(
+                line(PRODUCT_A, "50000"),
+                line(PRODUCT_B, "20000")));
+
+        // A: 10%(5000) > 3000원 -> 5000, 주문 단위: 1000 (회원 전용은 대상 아님)
+        assertThat(quote.getSubtotal()).isEqualByComparingTo("70000");
+        assertThat(quote.getDiscountAmount()).isEqualByComparingTo("6000");
+        assertThat(quote.getPromotions()).extracting(PromotionQuote.Applied::getName)
+                .containsExactlyInAnyOrder("A 10%", "주문 1000원");
+    }
+
+    @Test
+    @DisplayName("최소 주문 금액과 무료 배송 조건 반영")
+    void quote_minimumAmountAndFreeShipping() {
+        create("5만원 이상 무료 배송", "FREE_SHIPPING", "0", null, null, new BigDecimal("50000"));
+
+        assertThat(promotionEngine.quote(USER_ID, List.of(line(PRODUCT_A, "30000"))).isFreeShipping()).isFalse();
+        assertThat(promotionEngine.quote(USER_ID, List.of(line(PRODUCT_A, "60000"))).isFreeShipping()).isTrue();
+    }
+
+    @Test
+    @DisplayName("비활성화 커밋 후 규칙에서 제외")
+    void deactivate_rebuildsRules() {
+        Promotion promotion = create("B 20%", "PERCENT", "20", List.of(String.valueOf(PRODUCT_B)), null, null);
+        assertThat(promotionEngine.findIdsForProduct(PRODUCT_B, null)).contains(promotion.getId());
+
+        promotionService.updatePromotionActive(promotion.getId(), false);
+
+        assertThat(promotionEngine.findIdsForProduct(PRODUCT_B, null)).doesNotContain(promotion.getId());
+    }
+
+    @Test
+    @DisplayName("프로모션 하나만 평가: 대상 항목/최소 금액을 확인하고 규칙에 없는 ID 는 null")
+    void isApplicable_evaluatesSingleRule() {
+        Promotion promotion = create("A 5만원 이상 10%", "PERCENT", "10", List.of(String.valueOf(PRODUCT_A)), null,
+                new BigDecimal("50000"));
+
+        assertThat(promotionEngine.isApplicable(promotion.getId(), USER_ID, List.of(line(PRODUCT_A, "60000")))).isTrue();
+        assertThat(promotionEngine.isApplicable(promotion.getId(), USER_ID, List.of(line(PRODUCT_B, "60000")))).isFalse();
+        assertThat(promotionEngine.isApplicable(promotion.getId(), USER_ID, List.of(line(PRODUCT_A, "30000")))).isFalse();
+        assertThat(promotionEngine.isApplicable(-1L, USER_ID, List.of(line(PRODUCT_A, "60000")))).isNull();
+    }
+
+    private Promotion create(String name, String discountType, String value, List<String> productIds,
+                             List<String> userIds, BigDecimal minimumOrderAmount) {
+        Promotion promotion = new Promotion();
+        promotion.setName(name);
+        promotion.setDiscountType(discountType);
+        promotion.setDiscountValue(new BigDecimal(value));
+        promotion.setStartDate(LocalDateTime.now().minusDays(1));
+        promotion.setEndDate(LocalDateTime.now().plusDays(1));
+        promotion.setMinimumOrderAmount(minimumOrderAmount);
+        promotion.setProductIds(productIds);
+        promotion.setUserIds(userIds);
+        Promotion saved = promotionService.save(promotion);
+        createdIds.add(saved.getId());
+        return saved;
+    }
+
+    private static PromotionLine line(long productId, String amount) {
+        return PromotionLine.builder().productId(productId).amount(new BigDecimal(amount)).build();
+    }
+}
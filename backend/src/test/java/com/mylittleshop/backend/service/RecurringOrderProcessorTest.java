@@ -0,0 +1,141 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.dto.RecurringOrderRunSummary;
+import com.mylittleshop.backend.model.Order;
+import com.mylittleshop.backend.model.Product;
+import com.mylittleshop.backend.model.RecurringOrder;
+import com.mylittleshop.backend.model.RecurringOrderItem;
+import com.mylittleshop.backend.model.User;
+import com.mylittleshop.backend.repository.OrderRepository;
+import com.mylittleshop.backend.repository.ProductRepository;
+import com.mylittleshop.backend.repository.RecurringOrderDeadLetterRepository;
+import com.mylittleshop.backend.repository.RecurringOrderRepository;
+import com.mylittleshop.backend.repository.RecurringOrderRunRepository;
+import com.mylittleshop.backend.repository.UserRepository;
+import com.mylittleshop.backend.support.TestProducts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RecurringOrderProcessor 테스트
+ * - 기준일 처리 대상 정기 주문마다 주문이 한 번만 생성되고, 실패한 건은 실패 기록에 남는지 검증합니다.
+ */
+@SpringBootTest(properties = {
+        "app.recurring-order.enabled=false",
+        "app.recurring-order.workers=4",
+        "app.recurring-order.page-size=2"
+})
+class RecurringOrderProcessorTest {
+
+    @Autowired
+    private RecurringOrderProcessor recurringOrderProcessor;
+    @Autowired
+    private RecurringOrderRepository recurringOrderRepository;
+    @Autowired
+    private RecurringOrderRunRepository recurringOrderRunRepository;
+    @Autowired
+    private RecurringOrderDeadLetterRepository deadLetterRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private final LocalDate today = LocalDate.now();
+    private User user;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setUsername("recurring-order-test");
+        user.setPassword("password");
+        user.setEmail("recurring-order-test@example.com");
+        user = userRepository.save(user);
+
+        product = productRepository.save(TestProducts.product("정기 주문 테스트 상품", "RECURRING-ORDER-TEST", 5000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll(orderRepository.findByUserId(user.getId()));
+        recurringOrderRunRepository.deleteAll();
+        deadLetterRepository.deleteAll();
+        recurringOrderRepository.deleteAll(recurringOrderRepository.findByUserId(user.getId()));
+        productRepository.deleteById(product.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("처리 대상 정기 주문마다 주문이 한 번만 생성되고 다음 주문일이 갱신됨")
+    void processDue_createsOncePerDate() {
+        List<Long> ids = List.of(saveRecurringOrder(2), saveRecurringOrder(1), saveRecurringOrder(3),
+                saveRecurringOrder(1), saveRecurringOrder(2));
+
+        RecurringOrderRunSummary first = recurringOrderProcessor.processDue(today, null);
+
+        assertThat(first.getCreated()).isEqualTo(5);
+        assertThat(first.getFailed()).isZero();
+        List<Order> orders = orderRepository.findByUserId(user.getId());
+        assertThat(orders).hasSize(5);
+        assertThat(orders).extracting(Order::getTotalAmount)
+                .allSatisfy(amount -> assertThat(amount).isGreaterThan(BigDecimal.ZERO));
+        assertThat(recurringOrderRepository.findAllById(ids)).extracting(RecurringOrder::getNextOrderDate)
+                .containsOnly(today.plusWeeks(1));
+
+        // 같은 기준일에 다시 대상이 되어도 처리 이력 때문에 주문이 다시 생성되지 않음
+        RecurringOrder again = recurringOrderRepository.findById(ids.get(0)).orElseThrow();
+        again.setNextOrderDate(today);
+        recurringOrderRepository.save(again);
+
+        RecurringOrderRunSummary second = recurringOrderProcessor.processDue(today, null);
+
+        assertThat(second.getCreated()).isZero();
+        assertThat(second.getSkipped()).isEqualTo(1);
+        assertThat(orderRepository.findByUserId(user.getId())).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("실패한 정기 주문은 실패 기록에 남고 최대 시도 횟수 후에는 건너뜀")
+    void processDue_recordsDeadLetter() {
+        Long id = saveRecurringOrder(0);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(recurringOrderProcessor.processDue(today, null).getFailed()).isEqualTo(1);
+        }
+        RecurringOrderRunSummary exhausted = recurringOrderProcessor.processDue(today, null);
+
+        assertThat(exhausted.getFailed()).isZero();
+        assertThat(exhausted.getSkipped()).isEqualTo(1);
+        assertThat(deadLetterRepository.findByRecurringOrderIdAndRunDate(id, today).orElseThrow().getAttempts())
+                .isEqualTo(3);
+        assertThat(orderRepository.findByUserId(user.getId())).isEmpty();
+    }
+
+    private Long saveRecurringOrder(int quantity) {
+        RecurringOrder recurringOrder = new RecurringOrder();
+        recurringOrder.setUser(user);
+        recurringOrder.setFrequency("WEEKLY");
+        recurringOrder.setStatus("ACTIVE");
+        recurringOrder.setNextOrderDate(today);
+        if (quantity > 0) {
+            RecurringOrderItem item = new RecurringOrderItem();
+            item.setProduct(product);
+            item.setQuantity(quantity);
+            item.setUnitPrice(product.getShopPrice());
+            recurringOrder.addItem(item);
+        }
+        return recurringOrderRepository.save(recurringOrder).getId();
+    }
+}
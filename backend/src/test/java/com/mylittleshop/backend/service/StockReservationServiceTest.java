@@ -0,0 +1,136 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.model.Product;
+import com.mylittleshop.backend.model.ProductStatus;
+import com.mylittleshop.backend.model.StockReservation;
+import com.mylittleshop.backend.model.StockReservationStatus;
+import com.mylittleshop.backend.repository.ProductRepository;
+import com.mylittleshop.backend.repository.StockReservationRepository;
+import com.mylittleshop.backend.support.TestProducts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StockReservationService 동시성 테스트
+ * - 단일 상품에 1,000건의 주문이 동시에 들어와도 초과 판매가 발생하지 않는지 검증합니다.
+ */
+@SpringBootTest
+class StockReservationServiceTest {
+    private static final int INITIAL_STOCK = 100;
+    private static final int CONCURRENT_ORDERS = 1_000;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = TestProducts.product("한정 판매 상품", "FLASH-SALE-001");
+        product.setStockQuantity(INITIAL_STOCK);
+        productId = productRepository.save(product).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stockReservationRepository.deleteAll();
+        // 재고 원장이 남긴 이력/실재고 행이 상품을 참조하므로 먼저 삭제
+        jdbcTemplate.update("DELETE FROM inventory_history WHERE product_id = ?", productId);
+        jdbcTemplate.update("DELETE FROM inventory WHERE product_id = ?", productId);
+        productRepository.deleteById(productId);
+    }
+
+    @Test
+    @DisplayName("동시 주문 1,000건 - 재고 수량만큼만 예약 성공")
+    void reserve_concurrentOrders_noOversell() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(CONCURRENT_ORDERS);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        for (int i = 0; i < CONCURRENT_ORDERS; i++) {
+            String reservationKey = "TEST-" + i;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    stockReservationService.reserve(reservationKey, Map.of(productId, 1));
+                    succeeded.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    rejected.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        Product product = productRepository.findById(productId).orElseThrow();
+        assertThat(succeeded.get()).isEqualTo(INITIAL_STOCK);
+        assertThat(rejected.get()).isEqualTo(CONCURRENT_ORDERS - INITIAL_STOCK);
+        assertThat(product.getStockQuantity()).isZero();
+        assertThat(product.getStatus()).isEqualTo(ProductStatus.SOLD_OUT);
+        assertThat(stockReservationRepository.count()).isEqualTo(INITIAL_STOCK);
+    }
+
+    @Test
+    @DisplayName("예약 해제 시 재고 반환 및 판매 상태 복구")
+    void release_restoresStock() {
+        stockReservationService.reserve("TEST-RELEASE", Map.of(productId, INITIAL_STOCK));
+        assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isZero();
+
+        int released = stockReservationService.release("TEST-RELEASE");
+
+        Product product = productRepository.findById(productId).orElseThrow();
+        assertThat(released).isEqualTo(1);
+        assertThat(product.getStockQuantity()).isEqualTo(INITIAL_STOCK);
+        assertThat(product.getStatus()).isEqualTo(ProductStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("만료된 예약은 결제 시 재차감 후 확정, 취소된 예약은 결제로 다시 차감되지 않음")
+    void confirm_revivesExpiredButNotCancelled() {
+        stockReservationService.reserve("TEST-EXPIRED", Map.of(productId, 10));
+        stockReservationService.reserve("TEST-CANCELLED", Map.of(productId, 20));
+        jdbcTemplate.update("UPDATE stock_reservations SET expires_at = ? WHERE reservation_key = 'TEST-EXPIRED'",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)));
+        stockReservationService.releaseExpiredReservations();
+        stockReservationService.release("TEST-CANCELLED");
+        assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isEqualTo(INITIAL_STOCK);
+
+        stockReservationService.confirm("TEST-EXPIRED");
+        stockReservationService.confirm("TEST-CANCELLED");
+
+        assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isEqualTo(INITIAL_STOCK - 10);
+        assertThat(stockReservationRepository.findByReservationKey("TEST-EXPIRED"))
+                .extracting(StockReservation::getStatus).containsOnly(StockReservationStatus.CONFIRMED);
+        assertThat(stockReservationRepository.findByReservationKey("TEST-CANCELLED"))
+                .extracting(StockReservation::getStatus).containsOnly(StockReservationStatus.RELEASED);
+    }
+}
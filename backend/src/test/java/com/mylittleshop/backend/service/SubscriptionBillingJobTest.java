@@ -0,0 +1,155 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.dto.SubscriptionBillingRunSummary;
+import com.mylittleshop.backend.model.BillingRunStatus;
+import com.mylittleshop.backend.model.Product;
+import com.mylittleshop.backend.model.Subscription;
+import com.mylittleshop.backend.model.SubscriptionPayment;
+import com.mylittleshop.backend.model.SubscriptionPlan;
+import com.mylittleshop.backend.model.SubscriptionStatus;
+import com.mylittleshop.backend.model.User;
+import com.mylittleshop.backend.repository.ProductRepository;
+import com.mylittleshop.backend.repository.SubscriptionBillingPartitionRepository;
+import com.mylittleshop.backend.repository.SubscriptionBillingRunRepository;
+import com.mylittleshop.backend.repository.SubscriptionPaymentRepository;
+import com.mylittleshop.backend.repository.SubscriptionPlanRepository;
+import com.mylittleshop.backend.repository.SubscriptionRepository;
+import com.mylittleshop.backend.repository.UserRepository;
+import com.mylittleshop.backend.support.TestProducts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SubscriptionBillingJob 테스트
+ * - 결제일이 된 구독마다 결제가 한 번만 기록되고, 중단된 실행이 남은 구간부터 이어서 처리되는지 검증합니다.
+ */
+@SpringBootTest(properties = {
+        "app.subscription.billing.enabled=false",
+        "app.subscription.billing.partitions=3",
+        "app.subscription.billing.workers=2",
+        "app.subscription.billing.chunk-size=2"
+})
+class SubscriptionBillingJobTest {
+
+    @Autowired
+    private SubscriptionBillingJob subscriptionBillingJob;
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+    @Autowired
+    private SubscriptionPaymentRepository subscriptionPaymentRepository;
+    @Autowired
+    private SubscriptionPlanRepository subscriptionPlanRepository;
+    @Autowired
+    private SubscriptionBillingRunRepository runRepository;
+    @Autowired
+    private SubscriptionBillingPartitionRepository partitionRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private final LocalDate today = LocalDate.now();
+    private User user;
+    private Product product;
+    private SubscriptionPlan plan;
+    private final List<Long> dueIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setUsername("subscription-billing-test");
+        user.setPassword("password");
+        user.setEmail("subscription-billing-test@example.com");
+        user = userRepository.save(user);
+
+        product = productRepository.save(TestProducts.product("구독 결제 테스트 상품", "SUBSCRIPTION-BILLING-TEST", 9900));
+
+        plan = new SubscriptionPlan();
+        plan.setName("구독 결제 테스트 요금제");
+        plan.setPrice(BigDecimal.valueOf(9900));
+        plan.setDuration(12);
+        plan = subscriptionPlanRepository.save(plan);
+
+        for (int i = 0; i < 7; i++) {
+            dueIds.add(saveSubscription(today.minusDays(i % 2), null));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        subscriptionPaymentRepository.deleteAll(subscriptionPaymentRepository.findBySubscriptionUserId(user.getId()));
+        subscriptionRepository.deleteAll(subscriptionRepository.findByUserId(user.getId()));
+        partitionRepository.deleteAll();
+        runRepository.deleteAll();
+        subscriptionPlanRepository.deleteById(plan.getId());
+        productRepository.deleteById(product.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("결제일이 된 구독은 한 번만 결제되고, 계약이 끝난 구독은 만료되며 결제일 전 구독은 그대로")
+    void billDue_billsAndExpires() {
+        Long expiredId = saveSubscription(today, today.minusDays(1));
+        Long notDueId = saveSubscription(today.plusDays(3), null);
+
+        SubscriptionBillingRunSummary first = subscriptionBillingJob.billDue(today, null);
+        SubscriptionBillingRunSummary second = subscriptionBillingJob.billDue(today, null);
+
+        assertThat(first.getStatus()).isEqualTo(BillingRunStatus.COMPLETED);
+        assertThat(first.getCompletedPartitions()).isEqualTo(first.getPartitions());
+        assertThat(second.getRunId()).isEqualTo(first.getRunId());
+        for (Long id : dueIds) {
+            List<SubscriptionPayment> payments = subscriptionPaymentRepository.findBySubscriptionId(id);
+            assertThat(payments).hasSize(1);
+            assertThat(payments.get(0).getAmount()).isEqualByComparingTo("9900");
+            assertThat(subscriptionRepository.findById(id).orElseThrow().getNextBillingDate())
+                    .isEqualTo(today.plusMonths(1));
+        }
+        assertThat(subscriptionRepository.findById(expiredId).orElseThrow().getStatus())
+                .isEqualTo(SubscriptionStatus.EXPIRED);
+        assertThat(subscriptionPaymentRepository.findBySubscriptionId(expiredId)).isEmpty();
+        assertThat(subscriptionPaymentRepository.findBySubscriptionId(notDueId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 실행 시간에 걸려 중단된 실행은 마지막 청크 다음부터 이어서 처리")
+    void billDue_resumesFromCheckpoint() {
+        SubscriptionBillingRunSummary interrupted = subscriptionBillingJob.billDue(today, Duration.ZERO);
+
+        assertThat(interrupted.getStatus()).isEqualTo(BillingRunStatus.RUNNING);
+        assertThat(interrupted.getCompletedPartitions()).isLessThan(interrupted.getPartitions());
+
+        SubscriptionBillingRunSummary resumed = subscriptionBillingJob.billDue(today, null);
+
+        assertThat(resumed.getStatus()).isEqualTo(BillingRunStatus.COMPLETED);
+        assertThat(resumed.getFinishedAt()).isNotNull();
+        assertThat(dueIds).allSatisfy(id ->
+                assertThat(subscriptionPaymentRepository.findBySubscriptionId(id)).hasSize(1));
+    }
+
+    private Long saveSubscription(LocalDate nextBillingDate, LocalDate contractEndDate) {
+        Subscription subscription = new Subscription();
+        subscription.setUser(user);
+        subscription.setProduct(product);
+        subscription.setPlan(plan);
+        subscription.setFrequency("MONTHLY");
+        subscription.setNextPaymentDate(LocalDateTime.now());
+        subscription.setNextBillingDate(nextBillingDate);
+        subscription.setContractEndDate(contractEndDate);
+        subscription.setPaymentMethod("CARD");
+        return subscriptionRepository.save(subscription).getId();
+    }
+}
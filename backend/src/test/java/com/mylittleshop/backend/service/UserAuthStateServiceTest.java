@@ -0,0 +1,74 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.model.User;
+import com.mylittleshop.backend.repository.UserRepository;
+import com.mylittleshop.backend.security.JwtTokenProvider;
+import com.mylittleshop.backend.security.JwtUserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserAuthStateService 테스트
+ * - 토큰 클레임으로 만든 사용자 정보와, 잠금/해제 커밋 후 토큰 폐기 판단이 갱신되는지 검증합니다.
+ */
+@SpringBootTest
+class UserAuthStateServiceTest {
+
+    @Autowired
+    private UserAuthStateService userAuthStateService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("auth-state-test");
+        user.setPassword("password");
+        user.setEmail("auth-state-test@example.com");
+        userId = userRepository.save(user).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    @DisplayName("토큰 클레임으로 사용자 ID, 역할, 토큰 버전을 복원")
+    void parsePrincipal_fromClaims() {
+        String token = jwtTokenProvider.generateToken(userId, "auth-state-test", "ROLE_USER,ROLE_ADMIN", 0L);
+
+        JwtUserPrincipal principal = jwtTokenProvider.parsePrincipal(token);
+
+        assertThat(principal.getUserId()).isEqualTo(userId);
+        assertThat(principal.getUsername()).isEqualTo("auth-state-test");
+        assertThat(principal.getAuthorities()).extracting(Object::toString)
+                .containsExactly("ROLE_USER", "ROLE_ADMIN");
+        assertThat(jwtTokenProvider.parsePrincipal(token + "x")).isNull();
+    }
+
+    @Test
+    @DisplayName("잠금 후에는 토큰이 거부되고, 해제 후에도 잠금 이전 버전의 토큰은 거부")
+    void isTokenAccepted_revokedOnLock() {
+        assertThat(userAuthStateService.isTokenAccepted(userId, 0L)).isTrue();
+
+        userService.lockUser(userId);
+        assertThat(userAuthStateService.isTokenAccepted(userId, 0L)).isFalse();
+
+        userService.unlockUser(userId);
+        assertThat(userAuthStateService.isTokenAccepted(userId, 0L)).isFalse();
+        assertThat(userAuthStateService.isTokenAccepted(userId, 1L)).isTrue();
+    }
+}
@@ -0,0 +1,112 @@
+package com.mylittleshop.backend.service;
+
+import com.mylittleshop.backend.model.User;
+import com.mylittleshop.backend.repository.ProductRepository;
+import com.mylittleshop.backend.repository.UserRepository;
+import com.mylittleshop.backend.support.TestProducts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * WishlistIndexService 테스트
+ * - 포함 여부/개수 조회와, 추가/제거/비우기 커밋 후 캐시된 색인이 다시 적재되지 않고 반영되는지를 검증합니다.
+ * - 정렬 배열 갱신(withAdded/withRemoved)은 직접 호출해 확인합니다.
+ */
+@SpringBootTest
+class WishlistIndexServiceTest {
+
+    @Autowired
+    private WishlistIndexService wishlistIndexService;
+    @Autowired
+    private WishlistService wishlistService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private final List<Long> productIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("wishlist-index-test");
+        user.setPassword("password");
+        user.setEmail("wishlist-index-test@example.com");
+        userId = userRepository.save(user).getId();
+        for (int i = 0; i < 4; i++) {
+            productIds.add(productRepository.save(TestProducts.product("위시리스트 색인 상품 " + i, "WISHLIST-INDEX-" + i)).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM wishlists WHERE user_id = ?", userId);
+        productRepository.deleteAllById(productIds);
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    @DisplayName("적재한 위시리스트로 포함 여부와 개수를 조회")
+    void containsAndCount() {
+        wishlistService.addToWishlist(userId, productIds.get(1));
+        wishlistService.addToWishlist(userId, productIds.get(0));
+
+        assertThat(wishlistIndexService.count(userId)).isEqualTo(2);
+        assertThat(wishlistIndexService.contains(userId, productIds.get(0))).isTrue();
+        assertThat(wishlistIndexService.contains(userId, productIds.get(2))).isFalse();
+        assertThat(wishlistIndexService.contains(userId, null)).isFalse();
+        assertThat(wishlistIndexService.containsAll(userId, List.of(productIds.get(2), productIds.get(1))))
+                .containsExactly(Map.entry(productIds.get(2), false), Map.entry(productIds.get(1), true));
+    }
+
+    @Test
+    @DisplayName("추가/제거는 커밋 후 캐시된 배열에 반영되고, 비우기는 무효화 후 다시 적재")
+    void addAndRemoveAppliedAfterCommit() {
+        wishlistService.addToWishlist(userId, productIds.get(0));
+        assertThat(wishlistIndexService.count(userId)).isEqualTo(1);
+
+        // 이벤트 없이 넣은 행은 캐시에 보이지 않아야 서비스 변경이 재적재가 아닌 증분 반영임을 확인할 수 있음
+        jdbcTemplate.update("INSERT INTO wishlists (user_id, product_id, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)",
+                userId, productIds.get(3));
+
+        wishlistService.addToWishlist(userId, productIds.get(2));
+        assertThat(wishlistIndexService.count(userId)).isEqualTo(2);
+        assertThat(wishlistIndexService.contains(userId, productIds.get(2))).isTrue();
+        assertThat(wishlistIndexService.contains(userId, productIds.get(3))).isFalse();
+
+        wishlistService.removeFromWishlist(userId, productIds.get(0));
+        assertThat(wishlistIndexService.count(userId)).isEqualTo(1);
+        assertThat(wishlistIndexService.contains(userId, productIds.get(0))).isFalse();
+
+        wishlistService.clearWishlist(userId);
+        assertThat(wishlistIndexService.count(userId)).isZero();
+    }
+
+    @Test
+    @DisplayName("정렬 배열에 추가/제거해도 정렬이 유지되고, 중복 추가나 없는 ID 제거는 같은 배열을 반환")
+    void withAddedAndWithRemoved() {
+        long[] ids = {3L, 7L};
+
+        assertThat(WishlistIndexService.withAdded(ids, 5L)).containsExactly(3L, 5L, 7L);
+        assertThat(WishlistIndexService.withAdded(ids, 1L)).containsExactly(1L, 3L, 7L);
+        assertThat(WishlistIndexService.withAdded(ids, 9L)).containsExactly(3L, 7L, 9L);
+        assertThat(WishlistIndexService.withAdded(ids, 7L)).isSameAs(ids);
+        assertThat(WishlistIndexService.withRemoved(ids, 3L)).containsExactly(7L);
+        assertThat(WishlistIndexService.withRemoved(ids, 4L)).isSameAs(ids);
+        assertThat(ids).containsExactly(3L, 7L);
+    }
+}
@@ -0,0 +1,26 @@
+package com.mylittleshop.backend.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드(또는 클래스의 모든 테스트)의 SQL 실행 예산
+ * - 테스트 본문에서 실행된 Hibernate SQL 수가 value 를 넘거나, 같은 SQL 이 maxRepeats 번을 넘게 실행되면 실패합니다.
+ * - MockMvc 처럼 테스트 스레드에서 요청을 처리하는 경우에만 집계됩니다 (실제 서버 포트로 보내는 요청은 제외).
+ * - @BeforeEach / @AfterEach 의 데이터 준비/정리는 예산에 포함되지 않습니다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    // 최대 SQL 수
+    int value();
+
+    // 같은 SQL 의 최대 실행 횟수 (N+1 방지, 기본은 검사하지 않음)
+    int maxRepeats() default Integer.MAX_VALUE;
+}
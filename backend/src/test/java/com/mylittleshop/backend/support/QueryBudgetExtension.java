@@ -0,0 +1,62 @@
+package com.mylittleshop.backend.support;
+
+import com.mylittleshop.backend.util.QueryCounter;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * @QueryBudget 이 붙은 테스트의 SQL 실행 수를 집계해 예산을 넘으면 실패시키는 확장
+ * - 실패 메시지에 반복 실행된 SQL 과 횟수를 함께 보여 주어 N+1 위치를 찾기 쉽게 합니다.
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (budget(context).isPresent()) {
+            context.getStore(NAMESPACE).put(context.getUniqueId(), QueryCounter.open(context.getDisplayName()));
+        }
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryCounter.Scope scope = context.getStore(NAMESPACE).remove(context.getUniqueId(), QueryCounter.Scope.class);
+        if (scope == null) {
+            return;
+        }
+        scope.close();
+        // 테스트 본문이 이미 실패했으면 그 실패를 그대로 보고
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+        QueryBudget budget = budget(context).orElseThrow();
+        if (scope.getStatements() > budget.value() || scope.getMaxRepeats() > budget.maxRepeats()) {
+            StringBuilder message = new StringBuilder()
+                    .append("쿼리 예산 초과: ").append(scope)
+                    .append(" (예산: SQL ").append(budget.value()).append("개");
+            if (budget.maxRepeats() != Integer.MAX_VALUE) {
+                message.append(", 같은 SQL ").append(budget.maxRepeats()).append("회");
+            }
+            message.append(")");
+            Map<String, Integer> repeated = scope.getStatementsRepeatedAtLeast(2);
+            repeated.forEach((sql, count) -> message.append("\n  ").append(count).append("회: ").append(sql));
+            fail(message.toString());
+        }
+    }
+
+    // 메서드의 예산이 우선, 없으면 클래스의 예산
+    private static Optional<QueryBudget> budget(ExtensionContext context) {
+        Optional<QueryBudget> method = context.getTestMethod()
+                .flatMap(m -> AnnotationSupport.findAnnotation(m, QueryBudget.class));
+        return method.isPresent() ? method
+                : context.getTestClass().flatMap(c -> AnnotationSupport.findAnnotation(c, QueryBudget.class));
+    }
+}
@@ -0,0 +1,48 @@
+package com.mylittleshop.backend.support;
+
+import com.mylittleshop.backend.model.Product;
+import com.mylittleshop.backend.model.ProductStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * 테스트 상품 픽스처
+ * - 판매 중(ACTIVE), 재고 10개, 소비자가/회원가/판매가 10,000/9,000/8,000 원인 상품을 만듭니다. (저장하지 않음)
+ * - 테스트에 필요한 값(브랜드, 카테고리, 재고 등)은 반환된 상품에 직접 설정합니다.
+ */
+public final class TestProducts {
+
+    private TestProducts() {
+    }
+
+    /**
+     * 기본 가격/재고의 판매 중 상품
+     * @param name 상품명
+     * @param sku SKU (null 가능)
+     */
+    public static Product product(String name, String sku) {
+        Product product = new Product();
+        product.setName(name);
+        product.setSku(sku);
+        product.setGmPrice(BigDecimal.valueOf(10000));
+        product.setGbmPrice(BigDecimal.valueOf(9000));
+        product.setShopPrice(BigDecimal.valueOf(8000));
+        product.setStockQuantity(10);
+        product.setStatus(ProductStatus.ACTIVE);
+        return product;
+    }
+
+    /**
+     * 소비자가/회원가/판매가가 모두 price 인 판매 중 상품
+     * @param name 상품명
+     * @param sku SKU (null 가능)
+     * @param price 가격
+     */
+    public static Product product(String name, String sku, long price) {
+        Product product = product(name, sku);
+        product.setGmPrice(BigDecimal.valueOf(price));
+        product.setGbmPrice(BigDecimal.valueOf(price));
+        product.setShopPrice(BigDecimal.valueOf(price));
+        return product;
+    }
+}
@@ -0,0 +1,82 @@
+package com.mylittleshop.backend.util;
+
+import com.mylittleshop.backend.model.Product;
+import com.mylittleshop.backend.model.ProductImage;
+import com.mylittleshop.backend.repository.ProductRepository;
+import com.mylittleshop.backend.support.QueryBudget;
+import com.mylittleshop.backend.support.TestProducts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * QueryCounter / @QueryBudget 테스트
+ * - 지연 로딩 컬렉션을 상품마다 건드리면 같은 SQL 반복(N+1)으로 집계되는지, 엔드포인트 쿼리 예산이 적용되는지 검증합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class QueryCounterTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final List<Long> productIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            Product product = TestProducts.product("쿼리 집계 테스트 상품 " + i, null);
+            ProductImage image = new ProductImage();
+            image.setProduct(product);
+            image.setUrl("https://cdn.example.com/query-counter-" + i + ".jpg");
+            product.getImages().add(image);
+            productIds.add(productRepository.save(product).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllById(productIds);
+    }
+
+    @Test
+    @DisplayName("상품마다 이미지 컬렉션을 지연 로딩하면 같은 SQL 반복과 컬렉션 조회로 집계")
+    void lazyCollectionPerProduct_countedAsRepeatedStatement() {
+        QueryCounter.Scope scope = new TransactionTemplate(transactionManager).execute(status -> {
+            try (QueryCounter.Scope counting = QueryCounter.open("n+1")) {
+                productRepository.findAllById(productIds).forEach(product -> product.getImages().size());
+                return counting;
+            }
+        });
+
+        assertThat(scope.getCollectionFetches()).isEqualTo(3);
+        assertThat(scope.getEntityLoads()).isGreaterThanOrEqualTo(6);
+        assertThat(scope.getMaxRepeats()).isGreaterThanOrEqualTo(3);
+        assertThat(scope.getStatementsRepeatedAtLeast(3)).isNotEmpty();
+    }
+
+    @Test
+    @QueryBudget(2)
+    @DisplayName("카테고리 트리 조회는 캐시된 트리를 사용하므로 쿼리 예산 안에서 처리")
+    void categoryTree_withinBudget() throws Exception {
+        mockMvc.perform(get("/categories")).andExpect(status().isOk());
+    }
+}